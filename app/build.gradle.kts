@@ -197,4 +197,5 @@ dependencies {
     implementation(libs.expansion)
     implementation(projects.library.core)
     implementation(projects.library.common)
+    testImplementation(libs.junit)
 }
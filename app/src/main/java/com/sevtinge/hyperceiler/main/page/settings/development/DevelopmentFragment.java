@@ -21,6 +21,13 @@ package com.sevtinge.hyperceiler.main.page.settings.development;
 import static com.sevtinge.hyperceiler.hook.utils.log.LogManager.fixLSPosedLogService;
 import static com.sevtinge.hyperceiler.hook.utils.shell.ShellUtils.rootExecCmd;
 
+import android.app.PendingIntent;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.EditText;
@@ -33,15 +40,20 @@ import com.sevtinge.hyperceiler.common.utils.DialogHelper;
 import com.sevtinge.hyperceiler.core.R;
 import com.sevtinge.hyperceiler.dashboard.SettingsPreferenceFragment;
 import com.sevtinge.hyperceiler.hook.module.base.dexkit.DexKit;
+import com.sevtinge.hyperceiler.hook.utils.log.HookStats;
 
 import fan.appcompat.app.AlertDialog;
 
 public class DevelopmentFragment extends SettingsPreferenceFragment implements Preference.OnPreferenceClickListener {
 
+    // 等待各进程回传 Hook 统计的时间
+    private static final long HOOK_STATS_WAIT_MS = 1500;
+
     Preference mCmdR;
     Preference mDeleteAllDexKitCache;
     Preference mFixLsposedLog;
     Preference mClearAppProperties;
+    Preference mHookStatsDump;
 
     @Override
     public int getPreferenceScreenResId() {
@@ -54,11 +66,13 @@ public class DevelopmentFragment extends SettingsPreferenceFragment implements P
         mDeleteAllDexKitCache = findPreference("prefs_key_development_delete_all_dexkit_cache");
         mFixLsposedLog = findPreference("prefs_key_development_fix_lsposed_log");
         mClearAppProperties = findPreference("prefs_key_development_clear_app_properties");
+        mHookStatsDump = findPreference("prefs_key_development_hook_stats_dump");
 
         mCmdR.setOnPreferenceClickListener(this);
         mDeleteAllDexKitCache.setOnPreferenceClickListener(this);
         mFixLsposedLog.setOnPreferenceClickListener(this);
         mClearAppProperties.setOnPreferenceClickListener(this);
+        mHookStatsDump.setOnPreferenceClickListener(this);
     }
 
     @Override
@@ -87,10 +101,40 @@ public class DevelopmentFragment extends SettingsPreferenceFragment implements P
                     Toast.makeText(getActivity(), R.string.clear_app_properties_success, Toast.LENGTH_LONG).show();
                 });
             }
+            case "prefs_key_development_hook_stats_dump" -> dumpHookStats();
         }
         return true;
     }
 
+    private void dumpHookStats() {
+        Context context = requireContext().getApplicationContext();
+        StringBuilder stats = new StringBuilder();
+        BroadcastReceiver receiver = new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                String result = intent.getStringExtra(HookStats.EXTRA_STATS);
+                if (result != null) stats.append(result).append('\n');
+            }
+        };
+        // 各进程通过该 PendingIntent 以本应用的身份回传结果，接收方无需导出
+        Intent callback = new Intent(HookStats.ACTION_RESULT).setPackage(context.getPackageName());
+        PendingIntent pendingIntent = PendingIntent.getBroadcast(context, 0, callback,
+            PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_MUTABLE);
+        context.registerReceiver(receiver, new IntentFilter(HookStats.ACTION_RESULT), Context.RECEIVER_NOT_EXPORTED);
+        // 各进程的导出广播要求发送方持有 HookStats.PERMISSION，本应用在清单中已声明
+        context.sendBroadcast(new Intent(HookStats.ACTION_DUMP).putExtra(HookStats.EXTRA_CALLBACK, pendingIntent));
+
+        new Handler(Looper.getMainLooper()).postDelayed(() -> {
+            context.unregisterReceiver(receiver);
+            if (!isAdded()) return;
+            new AlertDialog.Builder(requireActivity())
+                .setTitle(R.string.development_hook_stats)
+                .setMessage(stats.length() > 0 ? stats.toString().trim() : getString(R.string.development_hook_stats_empty))
+                .setPositiveButton(android.R.string.ok, null)
+                .show();
+        }, HOOK_STATS_WAIT_MS);
+    }
+
     private void showInDialog(DevelopmentKillFragment.EditDialogCallback callback) {
         View view = LayoutInflater.from(getActivity()).inflate(R.layout.edit_dialog, null);
         EditText input = view.findViewById(R.id.title);
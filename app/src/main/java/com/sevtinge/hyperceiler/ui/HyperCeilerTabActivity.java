@@ -48,7 +48,6 @@ import com.sevtinge.hyperceiler.holiday.HolidayHelper;
 import com.sevtinge.hyperceiler.hook.callback.IResult;
 import com.sevtinge.hyperceiler.hook.safe.CrashData;
 import com.sevtinge.hyperceiler.hook.utils.BackupUtils;
-import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
 import com.sevtinge.hyperceiler.hook.utils.log.AndroidLogUtils;
 import com.sevtinge.hyperceiler.hook.utils.log.LogManager;
 import com.sevtinge.hyperceiler.hook.utils.pkg.CheckModifyUtils;
@@ -360,7 +359,6 @@ public class HyperCeilerTabActivity extends NaviBaseActivity
     public void onDestroy() {
         super.onDestroy();
         ShellInit.destroy();
-        ThreadPoolManager.shutdown();
         mUninstallApp.clear();
         mDisableOrHiddenApp.clear();
 
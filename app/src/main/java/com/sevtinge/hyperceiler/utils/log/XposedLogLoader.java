@@ -21,190 +21,139 @@ package com.sevtinge.hyperceiler.utils.log;
 import android.content.Context;
 import android.util.Log;
 
+import androidx.annotation.VisibleForTesting;
+
 import com.fan.common.logviewer.LogEntry;
 import com.fan.common.logviewer.LogManager;
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
 import com.sevtinge.hyperceiler.hook.utils.shell.ShellUtils;
 
-import java.io.BufferedReader;
-import java.io.StringReader;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+/**
+ * 增量读取 LSPosed 模块日志
+ * <p>
+ * 记录日志文件的标识（dev:inode）与已读取的字节偏移，每次刷新只读取新增的完整行并追加到 {@link LogManager}。
+ * 日志文件切换或被截断时重新完整读取。筛选仍由 shell 中的 grep 完成，输出逐行交给 {@link XposedLogParser}。
+ */
 public class XposedLogLoader {
 
     private static final String TAG = "XposedLogLoader";
+    private static final long TIMEOUT = 30_000L;
+
+    private static final String CURSOR_PREFIX = "__HC_CURSOR__ ";
+    private static final String NO_FILE = "__HC_NO_FILE__";
+    private static final String LOG_FILES = "/data/adb/lspd/log/modules_*.log";
 
-    private static final Pattern TIME_PATTERN = Pattern.compile("\\[\\s*(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3})");
-    private static final SimpleDateFormat TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS", Locale.US);
+    // 上次读取的日志文件标识与偏移
+    private static String sFileId = null;
+    private static long sOffset = 0;
+    // 当前 Xposed 日志列表中仅有提示信息
+    private static boolean sHasPlaceholder = false;
 
     public static void loadLogs(Context context, Runnable callback) {
         LogManager logManager = LogManager.getInstance(context);
-        logManager.clearXposedLogs();
-
-        new Thread(() -> {
-            try {
-                String logFileCmd = "ls -t /data/adb/lspd/log/modules_*.log 2>/dev/null | head -n 1";
-                String logFilePath = ShellUtils.rootExecCmd(logFileCmd).trim();
-
-                if (logFilePath.isEmpty() || logFilePath.contains("No such file") || logFilePath.contains("ls:")) {
-                    logManager.addXposedLog(new LogEntry("W", "Xposed",
-                            "No Xposed log file found.", "XposedLogLoader", true));
-                    if (callback != null) callback.run();
-                    return;
-                }
-
-                // 使用 grep 在 shell 层筛选，比 cat + Java 过滤更快
-                String safeLogFilePath = logFilePath.replace("'", "'\"'\"'");
-                String grepCmd = "grep 'HyperCeiler' '" + safeLogFilePath + "'";
-                String content = ShellUtils.rootExecCmd(grepCmd);
-                if (content == null || content.isEmpty()) {
-                    logManager.addXposedLog(new LogEntry("I", "Xposed",
-                            "No HyperCeiler logs found.", "XposedLogLoader", true));
-                    if (callback != null) callback.run();
-                    return;
-                }
-
-                BufferedReader reader = new BufferedReader(new StringReader(content));
-                String line;
-                List<LogEntry> entries = new ArrayList<>();
-
-                while ((line = reader.readLine()) != null) {
-                    LogEntry entry = parseXposedLogLine(line);
-                    if (entry != null) {
-                        entries.add(entry);
-                    }
-                }
-                reader.close();
-
-                if (!entries.isEmpty()) {
-                    logManager.addXposedLogs(entries);
-                    Log.i(TAG, "Loaded " + entries.size() + " Xposed log entries");
-                } else {
-                    logManager.addXposedLog(new LogEntry("I", "Xposed",
-                            "No HyperCeiler logs found.", "XposedLogLoader", true));
-                }
-
-            } catch (Exception e) {
-                Log.e(TAG, "Failed to load Xposed logs", e);
-                logManager.addXposedLog(new LogEntry("E", "Xposed",
-                        "Failed to load logs: " + e.getMessage(), "XposedLogLoader", true));
-            }
-
+        ThreadPoolManager.executeIo(() -> {
+            update(logManager);
             if (callback != null) callback.run();
-        }).start();
+        });
     }
 
     public static void loadLogsSync(Context context) {
-        LogManager logManager = LogManager.getInstance(context);
-        logManager.clearXposedLogs();
-
-        try {
-            String logFileCmd = "ls -t /data/adb/lspd/log/modules_*.log 2>/dev/null | head -n 1";
-            String logFilePath = ShellUtils.rootExecCmd(logFileCmd).trim();
-
-            if (logFilePath.isEmpty() || logFilePath.contains("No such file") || logFilePath.contains("ls:")) {
-                logManager.addXposedLog(new LogEntry("W", "Xposed",
-                        "No Xposed log file found.", "XposedLogLoader", true));
-                return;
-            }
-
-            String content = ShellUtils.rootExecCmd("grep 'HyperCeiler' " + logFilePath);
-            if (content == null || content.isEmpty()) {
-                logManager.addXposedLog(new LogEntry("I", "Xposed",
-                        "No HyperCeiler logs found.", "XposedLogLoader", true));
-                return;
-            }
-
-            BufferedReader reader = new BufferedReader(new StringReader(content));
-            String line;
-            List<LogEntry> entries = new ArrayList<>();
+        update(LogManager.getInstance(context));
+    }
 
-            while ((line = reader.readLine()) != null) {
-                LogEntry entry = parseXposedLogLine(line);
-                if (entry != null) {
-                    entries.add(entry);
+    private static synchronized void update(LogManager logManager) {
+        String[] cursor = new String[1];
+        List<LogEntry> entries = new ArrayList<>();
+        XposedLogParser parser = new XposedLogParser();
+
+        int exitCode = ShellUtils.execCommandStreaming(new String[]{buildCommand(sFileId, sOffset)}, true, TIMEOUT, 0,
+            (line, isError) -> {
+                if (isError) return true;
+                if (cursor[0] == null) {
+                    if (line.startsWith(CURSOR_PREFIX) || line.equals(NO_FILE)) cursor[0] = line;
+                    return true;
                 }
+                LogEntry entry = parser.parse(line);
+                if (entry != null) entries.add(entry);
+                return true;
+            });
+
+        // grep 无匹配时返回 1，仅 -1 表示执行失败
+        if (exitCode == -1 || cursor[0] == null) {
+            Log.e(TAG, "Failed to load Xposed logs, exit code: " + exitCode);
+            if (logManager.getXposedLogEntries().isEmpty() || sHasPlaceholder) {
+                showPlaceholder(logManager, new LogEntry("E", "Xposed",
+                    "Failed to load logs: exit code " + exitCode, "XposedLogLoader", true));
             }
-            reader.close();
-
-            if (!entries.isEmpty()) {
-                logManager.addXposedLogs(entries);
-            } else {
-                logManager.addXposedLog(new LogEntry("I", "Xposed",
-                        "No HyperCeiler logs found.", "XposedLogLoader", true));
-            }
-
-        } catch (Exception e) {
-            Log.e(TAG, "Failed to load Xposed logs", e);
-            logManager.addXposedLog(new LogEntry("E", "Xposed",
-                    "Failed to load logs: " + e.getMessage(), "XposedLogLoader", true));
+            return;
         }
-    }
 
-    private static LogEntry parseXposedLogLine(String line) {
-        // 解析时间戳
-        long timestamp = System.currentTimeMillis();
-        Matcher timeMatcher = TIME_PATTERN.matcher(line);
-        if (timeMatcher.find()) {
-            try {
-                timestamp = TIME_FORMAT.parse(timeMatcher.group(1)).getTime();
-            } catch (Exception ignored) {}
+        if (NO_FILE.equals(cursor[0])) {
+            sFileId = null;
+            sOffset = 0;
+            showPlaceholder(logManager, new LogEntry("W", "Xposed",
+                "No Xposed log file found.", "XposedLogLoader", true));
+            return;
         }
 
-        // 解析日志等级
-        String level = "V";
-        if (line.contains("[E]")) level = "E";
-        else if (line.contains("[W]")) level = "W";
-        else if (line.contains("[I]")) level = "I";
-        else if (line.contains("[D]")) level = "D";
-
-        // 提取消息部分
-        String message = line;
-        int tagIndex = line.indexOf("[HyperCeiler]");
-        if (tagIndex != -1) {
-            message = line.substring(tagIndex);
+        // __HC_CURSOR__ <dev:inode> <offset> <end>
+        String[] parts = cursor[0].substring(CURSOR_PREFIX.length()).trim().split(" ");
+        long offset;
+        long end;
+        try {
+            offset = Long.parseLong(parts[1]);
+            end = Long.parseLong(parts[2]);
+        } catch (RuntimeException e) {
+            Log.e(TAG, "Invalid cursor: " + cursor[0], e);
+            return;
         }
-
-        // 提取包名作为标签
-        String tag = "Other";
-        int levelEndIndex = -1;
-        for (String lvl : new String[]{"[I]", "[D]", "[W]", "[E]", "[V]"}) {
-            int idx = message.indexOf(lvl);
-            if (idx != -1) {
-                levelEndIndex = idx + lvl.length();
-                break;
-            }
+        if (offset == 0 || sHasPlaceholder) {
+            // 新文件、文件被截断或首次读取
+            logManager.clearXposedLogs();
+            sHasPlaceholder = false;
         }
+        sFileId = parts[0];
+        sOffset = end;
 
-        if (levelEndIndex != -1 && levelEndIndex < message.length() && message.charAt(levelEndIndex) == '[') {
-            int pkgEndIndex = message.indexOf("]", levelEndIndex + 1);
-            if (pkgEndIndex != -1) {
-                String candidate = message.substring(levelEndIndex + 1, pkgEndIndex);
-                if (isValidPackageName(candidate)) {
-                    tag = candidate;
-                }
-            }
+        if (!entries.isEmpty()) {
+            logManager.addXposedLogs(entries);
+            Log.i(TAG, "Loaded " + entries.size() + " Xposed log entries from offset " + offset);
+        }
+        if (logManager.getXposedLogEntries().isEmpty()) {
+            showPlaceholder(logManager, new LogEntry("I", "Xposed",
+                "No HyperCeiler logs found.", "XposedLogLoader", true));
         }
+    }
 
-        return new LogEntry(timestamp, level, "Xposed", message, tag, true);
+    private static void showPlaceholder(LogManager logManager, LogEntry entry) {
+        logManager.clearXposedLogs();
+        logManager.addXposedLog(entry);
+        sHasPlaceholder = true;
     }
 
-    private static boolean isValidPackageName(String name) {
-        if (name == null || name.isEmpty()) return false;
-        if ("android".equals(name)) return true;
-        if (!name.contains(".")) return false;
+    private static String buildCommand(String fileId, long offset) {
+        return "nsenter --mount=/proc/1/ns/mnt -- sh -c '" + buildScript(LOG_FILES, fileId, offset) + "'";
+    }
 
-        String[] parts = name.split("\\.");
-        for (String part : parts) {
-            if (part.isEmpty() || !Character.isLetter(part.charAt(0))) return false;
-            for (char c : part.toCharArray()) {
-                if (!Character.isLetterOrDigit(c) && c != '_') return false;
-            }
-        }
-        return true;
+    /*
+     * 在 init 的挂载命名空间中执行：找到最新的日志文件，与上次的标识比较决定起始偏移，
+     * 先输出游标行，再输出 [offset, end) 范围内包含 HyperCeiler 的行。
+     * 以 stat 得到的大小为读取上限，避免读到写入中的数据；若上限处不是换行符，
+     * end 回退到最后一个完整行之后，未写完的行留到下次读取。
+     */
+    @VisibleForTesting
+    static String buildScript(String logFiles, String fileId, long offset) {
+        return "f=$(ls -t " + logFiles + " 2>/dev/null | head -n 1); "
+            + "if [ -z \"$f\" ]; then echo " + NO_FILE + "; exit 0; fi; "
+            + "set -- $(stat -c \"%d:%i %s\" \"$f\"); id=$1; size=$2; off=" + offset + "; "
+            + "if [ \"$id\" != \"" + (fileId == null ? "" : fileId) + "\" ] || [ \"$size\" -lt \"$off\" ]; then off=0; fi; "
+            + "n=$((size - off)); "
+            + "if [ \"$n\" -gt 0 ] && [ $(($(tail -c +$size \"$f\" | head -c 1 | wc -l))) -eq 0 ]; then "
+            + "n=$((n - $(tail -c +$((off + 1)) \"$f\" | head -c $n | tail -n 1 | wc -c))); fi; "
+            + "echo \"" + CURSOR_PREFIX + "$id $off $((off + n))\"; "
+            + "tail -c +$((off + 1)) \"$f\" | head -c $n | grep -F HyperCeiler";
     }
 }
@@ -0,0 +1,196 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.utils.log;
+
+import androidx.annotation.Nullable;
+
+import com.fan.common.logviewer.LogEntry;
+
+import java.util.TimeZone;
+
+/**
+ * LSPosed 模块日志行解析
+ * <p>
+ * 手写扫描代替正则与 SimpleDateFormat，除 LogEntry 需要的子串外不产生额外对象。
+ * 非线程安全，每次加载使用单独的实例。
+ * <pre>
+ * [ 2025-01-01T12:00:00.000    1000:  1234:  1234 I/LSPosedBridge ] [HyperCeiler][I][com.android.systemui][Tag]: message
+ * </pre>
+ */
+final class XposedLogParser {
+    private static final String HYPER_CEILER_TAG = "[HyperCeiler]";
+    // 时间戳 yyyy-MM-ddTHH:mm:ss.SSS 的长度
+    private static final int TIME_LENGTH = 23;
+    // 标签解析时日志等级的查找顺序
+    private static final char[] TAG_LEVEL_ORDER = {'I', 'D', 'W', 'E', 'V'};
+
+    private final TimeZone mTimeZone = TimeZone.getDefault();
+
+    @Nullable
+    LogEntry parse(String line) {
+        if (line == null || line.isEmpty()) return null;
+        int length = line.length();
+
+        long timestamp = parseTimestamp(line);
+        if (timestamp < 0) timestamp = System.currentTimeMillis();
+
+        int messageStart = line.indexOf(HYPER_CEILER_TAG);
+        if (messageStart < 0) messageStart = 0;
+
+        // 一次扫描记录各等级标记 [X] 是否出现，以及在消息部分首次出现的位置
+        boolean hasE = false, hasW = false, hasI = false, hasD = false;
+        int firstI = -1, firstD = -1, firstW = -1, firstE = -1, firstV = -1;
+        for (int i = 0; i + 2 < length; i++) {
+            if (line.charAt(i) != '[' || line.charAt(i + 2) != ']') continue;
+            char c = line.charAt(i + 1);
+            boolean inMessage = i >= messageStart;
+            switch (c) {
+                case 'E' -> {
+                    hasE = true;
+                    if (inMessage && firstE < 0) firstE = i;
+                }
+                case 'W' -> {
+                    hasW = true;
+                    if (inMessage && firstW < 0) firstW = i;
+                }
+                case 'I' -> {
+                    hasI = true;
+                    if (inMessage && firstI < 0) firstI = i;
+                }
+                case 'D' -> {
+                    hasD = true;
+                    if (inMessage && firstD < 0) firstD = i;
+                }
+                case 'V' -> {
+                    if (inMessage && firstV < 0) firstV = i;
+                }
+                default -> {
+                }
+            }
+        }
+        String level = hasE ? "E" : hasW ? "W" : hasI ? "I" : hasD ? "D" : "V";
+
+        // 等级标记后紧跟的 [包名] 作为标签
+        String tag = "Other";
+        int levelIndex = -1;
+        for (char c : TAG_LEVEL_ORDER) {
+            int index = switch (c) {
+                case 'I' -> firstI;
+                case 'D' -> firstD;
+                case 'W' -> firstW;
+                case 'E' -> firstE;
+                default -> firstV;
+            };
+            if (index >= 0) {
+                levelIndex = index;
+                break;
+            }
+        }
+        int pkgStart = levelIndex + 3;
+        if (levelIndex >= 0 && pkgStart < length && line.charAt(pkgStart) == '[') {
+            int pkgEnd = line.indexOf(']', pkgStart + 1);
+            if (pkgEnd != -1 && isValidPackageName(line, pkgStart + 1, pkgEnd)) {
+                tag = line.substring(pkgStart + 1, pkgEnd);
+            }
+        }
+
+        String message = messageStart == 0 ? line : line.substring(messageStart);
+        return new LogEntry(timestamp, level, "Xposed", message, tag, true);
+    }
+
+    /**
+     * 查找第一个 "[ yyyy-MM-ddTHH:mm:ss.SSS" 并按本地时区转换，未找到时返回 -1
+     */
+    long parseTimestamp(String line) {
+        int length = line.length();
+        int bracket = line.indexOf('[');
+        while (bracket >= 0) {
+            int p = bracket + 1;
+            while (p < length && Character.isWhitespace(line.charAt(p))) p++;
+            if (p + TIME_LENGTH <= length && isTimestampAt(line, p)) {
+                int year = digits(line, p, 4);
+                int month = digits(line, p + 5, 2);
+                int day = digits(line, p + 8, 2);
+                int hour = digits(line, p + 11, 2);
+                int minute = digits(line, p + 14, 2);
+                int second = digits(line, p + 17, 2);
+                int millis = digits(line, p + 20, 3);
+                long local = epochDay(year, month, day) * 86_400_000L
+                    + hour * 3_600_000L + minute * 60_000L + second * 1000L + millis;
+                int offset = mTimeZone.getOffset(local - mTimeZone.getRawOffset());
+                return local - offset;
+            }
+            bracket = line.indexOf('[', bracket + 1);
+        }
+        return -1;
+    }
+
+    private static boolean isTimestampAt(String s, int p) {
+        // yyyy-MM-ddTHH:mm:ss.SSS
+        for (int i = 0; i < TIME_LENGTH; i++) {
+            char c = s.charAt(p + i);
+            boolean ok = switch (i) {
+                case 4, 7 -> c == '-';
+                case 10 -> c == 'T';
+                case 13, 16 -> c == ':';
+                case 19 -> c == '.';
+                default -> c >= '0' && c <= '9';
+            };
+            if (!ok) return false;
+        }
+        return true;
+    }
+
+    private static int digits(String s, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) value = value * 10 + (s.charAt(i) - '0');
+        return value;
+    }
+
+    // 公历日期到 1970-01-01 起的天数
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yoe = y - era * 400;
+        long doy = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private static boolean isValidPackageName(String s, int start, int end) {
+        if (start >= end) return false;
+        if (end - start == 7 && s.startsWith("android", start)) return true;
+        boolean hasDot = false;
+        boolean partStart = true;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '.') {
+                if (partStart) return false;
+                hasDot = true;
+                partStart = true;
+            } else if (partStart) {
+                if (!Character.isLetter(c)) return false;
+                partStart = false;
+            } else if (!Character.isLetterOrDigit(c) && c != '_') {
+                return false;
+            }
+        }
+        return hasDot && !partStart;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.utils.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 在本机 /bin/sh 上执行 {@link XposedLogLoader#buildScript} 生成的脚本，验证游标只推进到完整行
+ */
+public class XposedLogLoaderTest {
+    private static final String CURSOR_PREFIX = "__HC_CURSOR__ ";
+    private static final String FIRST = "[ 2025-03-14T09:26:53.123 ] [HyperCeiler][I][android][A]: first\n";
+    private static final String OTHER = "[ 2025-03-14T09:26:53.200 ] [OtherModule] other\n";
+    private static final String PARTIAL = "[ 2025-03-14T09:26:53.300 ] [HyperCeiler][I][android][A]: par";
+
+    private Path mDir;
+    private Path mLog;
+
+    @Before
+    public void setUp() throws IOException {
+        mDir = Files.createTempDirectory("xposed_log");
+        mLog = mDir.resolve("modules_1.log");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(mDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) Files.delete(path);
+        }
+    }
+
+    private void append(String text) throws IOException {
+        Files.writeString(mLog, text, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private List<String> run(String fileId, long offset) throws IOException, InterruptedException {
+        String script = XposedLogLoader.buildScript(mDir + "/modules_*.log", fileId, offset);
+        Process process = new ProcessBuilder("/bin/sh", "-c", script).start();
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) lines.add(line);
+        }
+        process.waitFor();
+        return lines;
+    }
+
+    // __HC_CURSOR__ <dev:inode> <offset> <end>
+    private static String[] cursor(List<String> lines) {
+        assertNotEquals(0, lines.size());
+        return lines.get(0).substring(CURSOR_PREFIX.length()).split(" ");
+    }
+
+    @Test
+    public void stopsAtLastCompleteLine() throws Exception {
+        append(FIRST + OTHER + PARTIAL);
+
+        List<String> lines = run(null, 0);
+        String[] cursor = cursor(lines);
+        assertEquals("0", cursor[1]);
+        assertEquals(String.valueOf(FIRST.length() + OTHER.length()), cursor[2]);
+        assertEquals(List.of(FIRST.trim()), lines.subList(1, lines.size()));
+
+        // 行写完后从上次的位置继续，只读到这一行一次
+        append("tial\n");
+        lines = run(cursor[0], Long.parseLong(cursor[2]));
+        String[] next = cursor(lines);
+        assertEquals(cursor[2], next[1]);
+        assertEquals(String.valueOf(Files.size(mLog)), next[2]);
+        assertEquals(List.of(PARTIAL + "tial"), lines.subList(1, lines.size()));
+
+        lines = run(next[0], Long.parseLong(next[2]));
+        assertEquals(next[2], cursor(lines)[2]);
+        assertEquals(1, lines.size());
+    }
+
+    @Test
+    public void waitsWhenOnlyPartialLineIsNew() throws Exception {
+        append(FIRST);
+        String[] cursor = cursor(run(null, 0));
+
+        append(PARTIAL);
+        List<String> lines = run(cursor[0], Long.parseLong(cursor[2]));
+        assertEquals(cursor[2], cursor(lines)[2]);
+        assertEquals(1, lines.size());
+    }
+
+    @Test
+    public void restartsWhenFileChangesOrShrinks() throws Exception {
+        append(FIRST + FIRST);
+        String[] cursor = cursor(run(null, 0));
+
+        // 标识不同视为新文件
+        assertEquals("0", cursor(run("0:0", Long.parseLong(cursor[2])))[1]);
+
+        // 文件被截断
+        Files.writeString(mLog, FIRST, StandardCharsets.UTF_8);
+        List<String> lines = run(cursor[0], Long.parseLong(cursor[2]));
+        assertEquals("0", cursor(lines)[1]);
+        assertEquals(String.valueOf(FIRST.length()), cursor(lines)[2]);
+        assertEquals(2, lines.size());
+    }
+
+    @Test
+    public void reportsMissingFile() throws Exception {
+        assertEquals(List.of("__HC_NO_FILE__"), run(null, 0));
+    }
+}
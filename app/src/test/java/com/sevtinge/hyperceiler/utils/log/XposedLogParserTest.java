@@ -0,0 +1,127 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.utils.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.fan.common.logviewer.LogEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 使用 LSPosed 模块日志样本验证 {@link XposedLogParser}
+ */
+public class XposedLogParserTest {
+    private static final String ZONE = "Europe/Berlin";
+
+    private TimeZone mDefaultZone;
+
+    @Before
+    public void setUp() {
+        mDefaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone(ZONE));
+    }
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(mDefaultZone);
+    }
+
+    // 与 XposedLogLoader 中的 grep -F HyperCeiler 一致
+    private static List<String> fixtureLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            XposedLogParserTest.class.getResourceAsStream("modules_sample.log"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains("HyperCeiler")) lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static long epochMillis(int year, int month, int day, int hour, int minute, int second, int millis) {
+        return LocalDateTime.of(year, month, day, hour, minute, second, millis * 1_000_000)
+            .atZone(ZoneId.of(ZONE)).toInstant().toEpochMilli();
+    }
+
+    @Test
+    public void parsesFixture() throws IOException {
+        XposedLogParser parser = new XposedLogParser();
+        List<LogEntry> entries = new ArrayList<>();
+        for (String line : fixtureLines()) entries.add(parser.parse(line));
+        assertEquals(5, entries.size());
+
+        LogEntry info = entries.get(0);
+        assertEquals("I", info.getLevel());
+        assertEquals("com.android.systemui", info.getTag());
+        assertEquals("[HyperCeiler][I][com.android.systemui][StatusBarClockNew]: hooked clock", info.getMessage());
+        assertEquals("Xposed", info.getModule());
+
+        LogEntry error = entries.get(1);
+        assertEquals("E", error.getLevel());
+        assertEquals("android", error.getTag());
+
+        // 等级取行内出现的最高等级，标签仍取第一个等级标记后的包名
+        LogEntry debug = entries.get(2);
+        assertEquals("W", debug.getLevel());
+        assertEquals("com.miui.home", debug.getTag());
+
+        LogEntry warn = entries.get(3);
+        assertEquals("W", warn.getLevel());
+        assertEquals("Other", warn.getTag());
+
+        // 没有行头的续行整体作为消息
+        LogEntry continuation = entries.get(4);
+        assertEquals("V", continuation.getLevel());
+        assertEquals("Other", continuation.getTag());
+        assertEquals("HyperCeiler continuation without header", continuation.getMessage());
+    }
+
+    @Test
+    public void convertsTimestampsInLocalZone() throws IOException {
+        XposedLogParser parser = new XposedLogParser();
+        List<String> lines = fixtureLines();
+
+        // 冬令时 UTC+1 与夏令时 UTC+2
+        assertEquals(epochMillis(2025, 3, 14, 9, 26, 53, 123), parser.parse(lines.get(0)).getTimestamp());
+        assertEquals(epochMillis(2025, 7, 1, 12, 0, 0, 0), parser.parse(lines.get(3)).getTimestamp());
+        assertEquals(-1, parser.parseTimestamp(lines.get(4)));
+    }
+
+    @Test
+    public void ignoresEmptyLines() {
+        XposedLogParser parser = new XposedLogParser();
+        assertNull(parser.parse(""));
+        assertNull(parser.parse(null));
+    }
+}
@@ -5,6 +5,8 @@ package com.fan.common.logviewer;
 import android.content.Context;
 import android.util.Log;
 
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
+
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
@@ -125,7 +127,7 @@ public class LogManager {
     // 获取系统日志
     public void captureSystemLogs() {
         checkInitialization();
-        new Thread(() -> {
+        ThreadPoolManager.executeIo(() -> {
             try {
                 Process process = Runtime.getRuntime().exec("logcat -d -v time");
                 BufferedReader bufferedReader = new BufferedReader(
@@ -143,7 +145,7 @@ public class LogManager {
             } catch (IOException e) {
                 Log.e("LogManager", "Error reading logcat", e);
             }
-        }).start();
+        });
     }
 
     private LogEntry parseLogcatLine(String line) {
@@ -208,7 +210,7 @@ public class LogManager {
     }
 
     private void saveLogToFile(LogEntry logEntry, String fileName) {
-        new Thread(() -> {
+        ThreadPoolManager.executeIo(() -> {
             try {
                 FileOutputStream outputStream = mApplicationContext.openFileOutput(
                         fileName, Context.MODE_APPEND);
@@ -224,11 +226,11 @@ public class LogManager {
             } catch (IOException e) {
                 Log.e("LogManager", "Save log failed", e);
             }
-        }).start();
+        });
     }
 
     private void saveSystemLogsToFile() {
-        new Thread(() -> {
+        ThreadPoolManager.executeIo(() -> {
             try {
                 FileOutputStream outputStream = mApplicationContext.openFileOutput(
                         sSystemLogFileName, Context.MODE_PRIVATE);
@@ -246,7 +248,7 @@ public class LogManager {
             } catch (IOException e) {
                 Log.e("LogManager", "Save system logs failed", e);
             }
-        }).start();
+        });
     }
 
     private void loadHistoryLogs() {
@@ -285,7 +287,7 @@ public class LogManager {
 
     // 批量保存日志到文件
     private void saveLogsToFile(List<LogEntry> logEntries, String fileName) {
-        new Thread(() -> {
+        ThreadPoolManager.executeIo(() -> {
             try {
                 FileOutputStream outputStream = mApplicationContext.openFileOutput(
                         fileName, Context.MODE_APPEND);
@@ -303,7 +305,7 @@ public class LogManager {
             } catch (IOException e) {
                 Log.e("LogManager", "Save logs failed", e);
             }
-        }).start();
+        });
     }
 
     // Getters
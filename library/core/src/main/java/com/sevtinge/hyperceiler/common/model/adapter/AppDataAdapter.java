@@ -13,6 +13,7 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.sevtinge.hyperceiler.common.model.adapter.AppDataAdapter.AppViewHolder;
 import com.sevtinge.hyperceiler.common.model.data.AppData;
 import com.sevtinge.hyperceiler.common.model.data.AppEditManager;
+import com.sevtinge.hyperceiler.common.utils.AppIconCache;
 import com.sevtinge.hyperceiler.core.R;
 import com.sevtinge.hyperceiler.hook.utils.prefs.PrefsUtils;
 import com.sevtinge.hyperceiler.sub.SubPickerActivity;
@@ -187,11 +188,7 @@ public class AppDataAdapter extends CardGroupAdapter<AppViewHolder> {
         }
 
         private void updateAppIcon(AppData appInfo) {
-            if (appInfo.icon != null) {
-                mAppIcon.setImageDrawable(appInfo.icon);
-            } else {
-                mAppIcon.setImageResource(android.R.drawable.sym_def_app_icon);
-            }
+            AppIconCache.bind(mAppIcon, appInfo);
         }
 
         private void updateCheckboxVisibility(AppData appInfo) {
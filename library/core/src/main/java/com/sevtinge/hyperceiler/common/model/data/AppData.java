@@ -18,11 +18,17 @@
 */
 package com.sevtinge.hyperceiler.common.model.data;
 
+import android.content.pm.PackageItemInfo;
 import android.graphics.drawable.Drawable;
 
 public class AppData {
     public int user = 0;
+    // 列表中的图标按需加载，见 AppIconCache；仅在调用方自行提供图标时不为 null
     public Drawable icon;
+    // 加载图标使用的信息，为 null 时按 iconSource 加载
+    public PackageItemInfo iconInfo;
+    // 图标来源，可随索引保存；为 null 时为应用图标，权限与权限组为 "permission:名称" / "permission-group:名称"
+    public String iconSource;
     public String label;
     public String packageName;
     public String activityName;
@@ -1,5 +1,6 @@
 package com.sevtinge.hyperceiler.common.model.data;
 
+import android.content.Context;
 import android.content.Intent;
 import android.content.pm.ApplicationInfo;
 import android.content.pm.PackageManager;
@@ -10,15 +11,25 @@ import android.util.Log;
 import com.sevtinge.hyperceiler.common.utils.PackagesUtils;
 import com.sevtinge.hyperceiler.sub.SubPickerActivity;
 
-import java.text.Collator;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 
 public class AppDataManager {
 
     private static final String TAG = "AppDataManager";
+    private static final String INDEX_FILE_PREFIX = "app_picker_index_";
+    private static final String INDEX_VERSION = "2";
     private final HashMap<String, Integer> mPackageMap = new HashMap<>();
 
     public List<AppData> getAppInfo(int modeSelection) {
@@ -61,15 +72,7 @@ public class AppDataManager {
                     }
                 }
 
-                Collator collator = Collator.getInstance(Locale.getDefault());
-                resolveInfoList.sort((r1, r2) -> {
-                    CharSequence label1 = r1.loadLabel(pm);
-                    CharSequence label2 = r2.loadLabel(pm);
-                    return collator.compare(
-                        label1.toString(),
-                        label2.toString()
-                    );
-                });
+                // 排序在 SubPickerActivity 中按 AppData.label 进行，无需在此再次加载标签
                 return new ArrayList<>(resolveInfoList);
             }
         });
@@ -132,17 +135,119 @@ public class AppDataManager {
                     }
                 }
 
-                Collator collator = Collator.getInstance(Locale.getDefault());
-                resolveInfoList.sort((r1, r2) -> {
-                    CharSequence label1 = r1.loadLabel(pm);
-                    CharSequence label2 = r2.loadLabel(pm);
-                    return collator.compare(
-                        label1.toString(),
-                        label2.toString()
-                    );
-                });
+                // 排序在 SubPickerActivity 中按 AppData.label 进行，无需在此再次加载标签
                 return new ArrayList<>(resolveInfoList);
             }
         });
     }
+
+    /**
+     * 读取上次保存的应用列表索引，仅包含标签与图标来源等元数据，图标由 AppIconCache 按需加载
+     *
+     * @return 索引不存在或已损坏时返回 null
+     */
+    public List<AppData> getCachedAppInfo(Context context, int modeSelection) {
+        File file = getIndexFile(context, modeSelection);
+        if (!file.exists()) return null;
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            if (!INDEX_VERSION.equals(reader.readLine())) return null;
+            List<AppData> list = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                if (fields.length < 8) return null;
+                AppData appData = new AppData();
+                appData.packageName = fields[0];
+                appData.activityName = emptyToNull(fields[1]);
+                appData.label = fields[2];
+                appData.versionName = emptyToNull(fields[3]);
+                appData.versionCode = emptyToNull(fields[4]);
+                appData.isSystemApp = "1".equals(fields[5]);
+                appData.enabled = "1".equals(fields[6]);
+                appData.iconSource = emptyToNull(fields[7]);
+                list.add(appData);
+            }
+            return list;
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to read app index for mode: " + modeSelection, e);
+            return null;
+        }
+    }
+
+    /**
+     * 保存应用列表索引，供下次打开时立即显示
+     */
+    public void saveAppInfo(Context context, int modeSelection, List<AppData> list) {
+        File file = getIndexFile(context, modeSelection);
+        File tmpFile = new File(file.getPath() + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(
+            new OutputStreamWriter(new FileOutputStream(tmpFile), StandardCharsets.UTF_8))) {
+            writer.write(INDEX_VERSION);
+            writer.newLine();
+            for (AppData appData : list) {
+                if (appData.packageName == null) continue;
+                writer.write(sanitize(appData.packageName));
+                writer.write('\t');
+                writer.write(sanitize(appData.activityName));
+                writer.write('\t');
+                writer.write(sanitize(appData.label));
+                writer.write('\t');
+                writer.write(sanitize(appData.versionName));
+                writer.write('\t');
+                writer.write(sanitize(appData.versionCode));
+                writer.write('\t');
+                writer.write(appData.isSystemApp ? "1" : "0");
+                writer.write('\t');
+                writer.write(appData.enabled ? "1" : "0");
+                writer.write('\t');
+                writer.write(sanitize(appData.iconSource));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to save app index for mode: " + modeSelection, e);
+            tmpFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(file)) {
+            Log.w(TAG, "Failed to rename " + tmpFile + " to " + file);
+            tmpFile.delete();
+        }
+    }
+
+    /**
+     * 比较两个列表中的应用是否一致（包名、Activity、标签、版本、状态与图标来源），与顺序无关
+     * <p>
+     * 比较的字段与索引保存的字段一致，应用更新、启用或停用后都会重新刷新列表
+     */
+    public static boolean sameEntries(List<AppData> a, List<AppData> b) {
+        if (a == null || b == null || a.size() != b.size()) return false;
+        HashSet<String> entries = new HashSet<>(a.size() * 2);
+        for (AppData appData : a) entries.add(entryKey(appData));
+        for (AppData appData : b) {
+            if (!entries.contains(entryKey(appData))) return false;
+        }
+        return true;
+    }
+
+    private static String entryKey(AppData appData) {
+        // 按写入索引时的方式规范化，使读回的索引与新加载的列表可以直接比较
+        return sanitize(appData.packageName) + '\t' + sanitize(appData.activityName) + '\t' + sanitize(appData.label)
+            + '\t' + sanitize(appData.versionName) + '\t' + sanitize(appData.versionCode)
+            + '\t' + (appData.isSystemApp ? '1' : '0') + (appData.enabled ? '1' : '0')
+            + '\t' + sanitize(appData.iconSource);
+    }
+
+    private static File getIndexFile(Context context, int modeSelection) {
+        return new File(context.getCacheDir(), INDEX_FILE_PREFIX + modeSelection);
+    }
+
+    private static String sanitize(String s) {
+        if (s == null) return "";
+        return s.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    private static String emptyToNull(String s) {
+        return s.isEmpty() ? null : s;
+    }
 }
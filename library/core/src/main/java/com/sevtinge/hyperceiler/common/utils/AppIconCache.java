@@ -0,0 +1,130 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.common.utils;
+
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.util.LruCache;
+import android.widget.ImageView;
+
+import androidx.annotation.NonNull;
+
+import com.sevtinge.hyperceiler.common.model.data.AppData;
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
+
+/**
+ * 应用列表图标的按需加载与内存缓存
+ * <p>
+ * 以包名、版本号与图标来源为键，按图标占用的字节数限制缓存大小。列表只为可见的条目加载图标，
+ * 加载在 IO 线程进行，完成时若条目已被复用则丢弃结果。
+ */
+public final class AppIconCache {
+    static final String PERMISSION = "permission:";
+    static final String PERMISSION_GROUP = "permission-group:";
+    private static final int MAX_CACHE_SIZE = 32 * 1024 * 1024;
+
+    private static final LruCache<String, Drawable> sCache =
+        new LruCache<>((int) Math.min(Runtime.getRuntime().maxMemory() / 16, MAX_CACHE_SIZE)) {
+            @Override
+            protected int sizeOf(String key, Drawable value) {
+                return estimateSize(value);
+            }
+        };
+
+    private AppIconCache() {
+    }
+
+    /**
+     * 为 ImageView 设置应用图标，未缓存时先显示默认图标并异步加载
+     */
+    public static void bind(@NonNull ImageView view, @NonNull AppData appData) {
+        String key = key(appData);
+        view.setTag(key);
+        Drawable icon = appData.icon != null ? appData.icon : sCache.get(key);
+        if (icon != null) {
+            view.setImageDrawable(icon);
+            return;
+        }
+        view.setImageResource(android.R.drawable.sym_def_app_icon);
+
+        Context context = view.getContext().getApplicationContext();
+        ThreadPoolManager.executeIo(() -> {
+            // 条目在加载开始前已被复用，无需再加载
+            if (!key.equals(view.getTag())) return;
+            Drawable loaded = load(context, appData, key);
+            view.post(() -> {
+                if (key.equals(view.getTag())) view.setImageDrawable(loaded);
+            });
+        });
+    }
+
+    /**
+     * 同步获取应用图标，未缓存时会访问 PackageManager，请在后台线程调用
+     */
+    @NonNull
+    public static Drawable getIcon(@NonNull Context context, @NonNull AppData appData) {
+        if (appData.icon != null) return appData.icon;
+        String key = key(appData);
+        Drawable icon = sCache.get(key);
+        return icon != null ? icon : load(context, appData, key);
+    }
+
+    private static Drawable load(Context context, AppData appData, String key) {
+        PackageManager pm = context.getPackageManager();
+        Drawable icon;
+        try {
+            icon = appData.iconInfo != null ? appData.iconInfo.loadIcon(pm) : loadBySource(pm, appData);
+        } catch (Throwable t) {
+            icon = pm.getDefaultActivityIcon();
+        }
+        sCache.put(key, icon);
+        return icon;
+    }
+
+    /*
+     * 从索引恢复的条目没有 iconInfo，按保存的图标来源重新查找
+     * */
+    private static Drawable loadBySource(PackageManager pm, AppData appData) throws PackageManager.NameNotFoundException {
+        String source = appData.iconSource;
+        if (source != null && source.startsWith(PERMISSION)) {
+            return pm.getPermissionInfo(source.substring(PERMISSION.length()), 0).loadIcon(pm);
+        }
+        if (source != null && source.startsWith(PERMISSION_GROUP)) {
+            return pm.getPermissionGroupInfo(source.substring(PERMISSION_GROUP.length()), 0).loadIcon(pm);
+        }
+        return pm.getApplicationIcon(appData.packageName);
+    }
+
+    private static String key(AppData appData) {
+        String key = appData.packageName + ":" + (appData.versionCode != null ? appData.versionCode : "");
+        return appData.iconSource != null ? key + ":" + appData.iconSource : key;
+    }
+
+    private static int estimateSize(Drawable drawable) {
+        if (drawable instanceof BitmapDrawable bitmapDrawable && bitmapDrawable.getBitmap() != null) {
+            return bitmapDrawable.getBitmap().getAllocationByteCount();
+        }
+        // 自适应图标等在绘制时才光栅化，按固有尺寸估算
+        int width = Math.max(drawable.getIntrinsicWidth(), 1);
+        int height = Math.max(drawable.getIntrinsicHeight(), 1);
+        return Math.max(width * height * 4, 1024);
+    }
+}
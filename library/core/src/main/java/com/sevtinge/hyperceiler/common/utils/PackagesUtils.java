@@ -314,7 +314,7 @@ public class PackagesUtils {
         AppData appData = new AppData();
         try {
             if (parcelable instanceof PackageInfo) {
-                appData.icon = ((PackageInfo) parcelable).applicationInfo.loadIcon(pm);
+                appData.iconInfo = ((PackageInfo) parcelable).applicationInfo;
                 appData.label = ((PackageInfo) parcelable).applicationInfo.loadLabel(pm).toString();
                 appData.packageName = ((PackageInfo) parcelable).applicationInfo.packageName;
                 appData.versionName = ((PackageInfo) parcelable).versionName;
@@ -323,7 +323,7 @@ public class PackagesUtils {
                 appData.enabled = ((PackageInfo) parcelable).applicationInfo.enabled;
                 // AndroidLogUtils.LogE(TAG, "PackageInfo", null);
             } else if (parcelable instanceof ResolveInfo) {
-                appData.icon = ((ResolveInfo) parcelable).activityInfo.applicationInfo.loadIcon(pm);
+                appData.iconInfo = ((ResolveInfo) parcelable).activityInfo.applicationInfo;
                 appData.label = ((ResolveInfo) parcelable).activityInfo.applicationInfo.loadLabel(pm).toString();
                 appData.packageName = ((ResolveInfo) parcelable).activityInfo.applicationInfo.packageName;
                 appData.activityName = ((ResolveInfo) parcelable).activityInfo.name;
@@ -331,12 +331,13 @@ public class PackagesUtils {
                 appData.enabled = ((ResolveInfo) parcelable).activityInfo.applicationInfo.enabled;
                 // AndroidLogUtils.LogE(TAG, "ResolveInfo", null);
             } else if (parcelable instanceof PermissionGroupInfo) {
-                appData.icon = ((PermissionGroupInfo) parcelable).loadIcon(pm);
+                appData.iconInfo = ((PermissionGroupInfo) parcelable);
+                appData.iconSource = AppIconCache.PERMISSION_GROUP + ((PermissionGroupInfo) parcelable).name;
                 appData.label = ((PermissionGroupInfo) parcelable).loadLabel(pm).toString();
                 appData.packageName = ((PermissionGroupInfo) parcelable).packageName;
                 // AndroidLogUtils.LogE(TAG, "PermissionGroupInfo", null);
             } else if (parcelable instanceof ActivityInfo) {
-                appData.icon = ((ActivityInfo) parcelable).applicationInfo.loadIcon(pm);
+                appData.iconInfo = ((ActivityInfo) parcelable).applicationInfo;
                 appData.label = ((ActivityInfo) parcelable).applicationInfo.loadLabel(pm).toString();
                 appData.packageName = ((ActivityInfo) parcelable).applicationInfo.packageName;
                 appData.isSystemApp = isSystem(((ActivityInfo) parcelable).applicationInfo);
@@ -344,21 +345,22 @@ public class PackagesUtils {
                 appData.enabled = ((ActivityInfo) parcelable).applicationInfo.enabled;
                 // AndroidLogUtils.LogE(TAG, "ActivityInfo", null);
             } else if (parcelable instanceof ApplicationInfo) {
-                appData.icon = ((ApplicationInfo) parcelable).loadIcon(pm);
+                appData.iconInfo = ((ApplicationInfo) parcelable);
                 appData.label = ((ApplicationInfo) parcelable).loadLabel(pm).toString();
                 appData.packageName = ((ApplicationInfo) parcelable).packageName;
                 appData.isSystemApp = isSystem(((ApplicationInfo) parcelable));
                 appData.enabled = ((ApplicationInfo) parcelable).enabled;
                 // AndroidLogUtils.LogE(TAG, "ApplicationInfo", null);
             } else if (parcelable instanceof ProviderInfo) {
-                appData.icon = ((ProviderInfo) parcelable).applicationInfo.loadIcon(pm);
+                appData.iconInfo = ((ProviderInfo) parcelable).applicationInfo;
                 appData.label = ((ProviderInfo) parcelable).applicationInfo.loadLabel(pm).toString();
                 appData.packageName = ((ProviderInfo) parcelable).applicationInfo.packageName;
                 appData.isSystemApp = isSystem(((ProviderInfo) parcelable).applicationInfo);
                 appData.enabled = ((ProviderInfo) parcelable).applicationInfo.enabled;
                 // AndroidLogUtils.LogE(TAG, "ProviderInfo", null);
             } else if (parcelable instanceof PermissionInfo) {
-                appData.icon = ((PermissionInfo) parcelable).loadIcon(pm);
+                appData.iconInfo = ((PermissionInfo) parcelable);
+                appData.iconSource = AppIconCache.PERMISSION + ((PermissionInfo) parcelable).name;
                 appData.label = ((PermissionInfo) parcelable).loadLabel(pm).toString();
                 appData.packageName = ((PermissionInfo) parcelable).packageName;
                 // AndroidLogUtils.LogE(TAG, "PermissionInfo", null);
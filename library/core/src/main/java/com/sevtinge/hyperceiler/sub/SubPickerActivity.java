@@ -18,14 +18,13 @@
 */
 package com.sevtinge.hyperceiler.sub;
 
+import android.content.Context;
 import android.content.DialogInterface;
 import android.content.Intent;
 import android.graphics.Bitmap;
 import android.graphics.Rect;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
-import android.os.Handler;
-import android.os.Looper;
 import android.util.Log;
 import android.view.ActionMode;
 import android.view.LayoutInflater;
@@ -45,8 +44,10 @@ import com.sevtinge.hyperceiler.common.callback.SearchCallback;
 import com.sevtinge.hyperceiler.common.model.adapter.AppDataAdapter;
 import com.sevtinge.hyperceiler.common.model.data.AppData;
 import com.sevtinge.hyperceiler.common.model.data.AppDataManager;
+import com.sevtinge.hyperceiler.common.utils.AppIconCache;
 import com.sevtinge.hyperceiler.core.R;
 import com.sevtinge.hyperceiler.hook.utils.BitmapUtils;
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
 import com.sevtinge.hyperceiler.hook.utils.prefs.PrefsUtils;
 
 import java.text.Collator;
@@ -76,8 +77,6 @@ public class SubPickerActivity extends AppCompatActivity
     public static final int PROCESS_TEXT_MODE = 4;
     public static final int ALL_APPS_MODE = 5;
 
-    private static final int DELAY_LOAD_DATA = 120;
-
     private String mKey;
     private int mModeSelection;
 
@@ -87,8 +86,8 @@ public class SubPickerActivity extends AppCompatActivity
     private NestedHeaderLayout mNestedHeaderLayout;
     private RecyclerView mAppListRecyclerView;
     private AppDataAdapter mAppListAdapter;
-    private final Handler mHandler = new Handler(Looper.myLooper());
     private SearchCallback mSearchCallback;
+    private boolean mSendingResult = false;
 
     private final AppDataManager mAppDataManager = new AppDataManager();
     private final List<AppData> mOriginalAppDataList = new ArrayList<>(); // 原始数据备份
@@ -176,15 +175,25 @@ public class SubPickerActivity extends AppCompatActivity
         }
     }
 
+    /*
+     * 图标可能尚未加载，加载与转换为字节都在 IO 线程进行，完成后再结束界面
+     * */
     private void sendCallbackResult(AppData appData) {
-        sendMsgToActivity(
-            appData.icon,
-            appData.label,
-            appData.packageName,
-            appData.versionName + "(" + appData.versionCode + ")",
-            appData.activityName
-        );
-        finish();
+        if (mSendingResult) return;
+        mSendingResult = true;
+        Context context = getApplicationContext();
+        ThreadPoolManager.executeIo(() -> {
+            Drawable icon = AppIconCache.getIcon(context, appData);
+            if (isFinishing() || isDestroyed()) return;
+            sendMsgToActivity(
+                icon,
+                appData.label,
+                appData.packageName,
+                appData.versionName + "(" + appData.versionCode + ")",
+                appData.activityName
+            );
+            runOnUiThread(this::finish);
+        });
     }
 
     private void showEditDialog(AppData data) {
@@ -215,21 +224,23 @@ public class SubPickerActivity extends AppCompatActivity
     private void initializeData() {
         mProgressBar.setVisibility(View.VISIBLE);
 
-        new Thread(() -> {
-            try {
-                // 模拟加载延迟
-                Thread.sleep(DELAY_LOAD_DATA);
-                mHandler.post(this::loadAppData);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                Log.e(TAG, "Data loading interrupted", e);
-            }
-        }).start();
+        ThreadPoolManager.executeIo(this::loadAppData);
     }
 
+    /*
+     * 在后台线程执行，先显示上次保存的索引，再加载最新列表；
+     * 列表与索引一致时不再刷新界面，图标由 AppIconCache 在条目可见时加载
+     */
     private void loadAppData() {
         try {
+            List<AppData> cachedData = mAppDataManager.getCachedAppInfo(this, mModeSelection);
+            if (cachedData != null && !cachedData.isEmpty()) {
+                processAndDisplayAppData(new ArrayList<>(cachedData));
+            }
+
             List<AppData> loadedData = mAppDataManager.getAppInfo(mModeSelection);
+            mAppDataManager.saveAppInfo(this, mModeSelection, loadedData);
+            if (AppDataManager.sameEntries(cachedData, loadedData)) return;
             processAndDisplayAppData(loadedData);
         } catch (Exception e) {
             runOnUiThread(() -> {
@@ -243,14 +254,15 @@ public class SubPickerActivity extends AppCompatActivity
         // 处理数据：排序、移动特定应用到顶部等
         List<AppData> processedData = processAppData(loadedData);
 
-        // 更新原始数据和当前数据
-        mOriginalAppDataList.clear();
-        mOriginalAppDataList.addAll(processedData);
+        runOnUiThread(() -> {
+            if (isFinishing() || isDestroyed()) return;
+            // 更新原始数据和当前数据
+            mOriginalAppDataList.clear();
+            mOriginalAppDataList.addAll(processedData);
 
-        mCurrentAppDataList.clear();
-        mCurrentAppDataList.addAll(processedData);
+            mCurrentAppDataList.clear();
+            mCurrentAppDataList.addAll(processedData);
 
-        runOnUiThread(() -> {
             mAppListAdapter.setData(mCurrentAppDataList);
             mSearchInputView.setHint(String.format(getString(R.string.search_apps_hint), mAppListAdapter.getData().size()));
             mProgressBar.setVisibility(View.GONE);
@@ -46,6 +46,13 @@ java {
     }
 }
 
+// *Benchmark 只在显式传入 -Pbenchmark 时运行，例如 ./gradlew :library:hook:testDebugUnitTest -Pbenchmark
+tasks.withType<Test>().configureEach {
+    if (!project.hasProperty("benchmark")) {
+        exclude("**/*Benchmark.class")
+    }
+}
+
 kotlin {
     jvmToolchain {
         languageVersion = JavaLanguageVersion.of(21)
@@ -81,4 +88,7 @@ dependencies {
 
     api(projects.library.processor)
     annotationProcessor(projects.library.processor)
+
+    testImplementation(libs.junit)
+    testImplementation(libs.xposed.api)
 }
@@ -23,8 +23,6 @@ import static com.sevtinge.hyperceiler.hook.module.base.tool.AppsTool.getPackage
 import static com.sevtinge.hyperceiler.hook.utils.devicesdk.MiDeviceAppUtilsKt.isPad;
 import static com.sevtinge.hyperceiler.hook.utils.devicesdk.SystemSDKKt.getAndroidVersion;
 import static com.sevtinge.hyperceiler.hook.utils.devicesdk.SystemSDKKt.getHyperOSVersion;
-import static com.sevtinge.hyperceiler.hook.utils.devicesdk.SystemSDKKt.isAndroidVersion;
-import static com.sevtinge.hyperceiler.hook.utils.devicesdk.SystemSDKKt.isHyperOSVersion;
 import static com.sevtinge.hyperceiler.hook.utils.log.LogManager.logLevelDesc;
 import static com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils.logE;
 import static com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils.logI;
@@ -41,16 +39,16 @@ import com.sevtinge.hyperceiler.hook.safe.CrashHook;
 import com.sevtinge.hyperceiler.hook.safe.RescuePartyPlus;
 import com.sevtinge.hyperceiler.hook.safe.SafeMode;
 import com.sevtinge.hyperceiler.hook.utils.api.ProjectApi;
+import com.sevtinge.hyperceiler.hook.utils.devicesdk.DeviceProfile;
+import com.sevtinge.hyperceiler.hook.utils.log.HookStats;
 import com.sevtinge.hyperceiler.hook.utils.log.LogManager;
 import com.sevtinge.hyperceiler.hook.utils.pkg.DebugModeUtils;
 import com.sevtinge.hyperceiler.hook.utils.prefs.PrefsUtils;
 import com.sevtinge.hyperceiler.module.base.DataBase;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.BiConsumer;
 
 import de.robv.android.xposed.IXposedHookLoadPackage;
 import de.robv.android.xposed.IXposedHookZygoteInit;
@@ -79,6 +77,9 @@ public class XposedInit implements IXposedHookZygoteInit, IXposedHookLoadPackage
         EzXposed.initZygote(startupParam);
         Logger.INSTANCE.setTag(TAG);
 
+        // load DeviceProfile, forked app processes inherit it
+        DeviceProfile.capture();
+
         // load HCInit
         HCInit.initBasicData(new HCInit.BasicData()
             .setModulePackageName(BuildConfig.APP_MODULE_ID)
@@ -128,6 +129,8 @@ public class XposedInit implements IXposedHookZygoteInit, IXposedHookLoadPackage
             else
                 logI(packageName, "versionName = " + getPackageVersionName(lpparam) + ", versionCode = " + getPackageVersionCode(lpparam));
 
+            if (mPrefsMap.getBoolean("development_hook_stats")) HookStats.install(lpparam);
+
             invokeInit(lpparam);
             androidCrashEventHook(lpparam);
         }
@@ -166,38 +169,33 @@ public class XposedInit implements IXposedHookZygoteInit, IXposedHookLoadPackage
         String mPkgName = lpparam.packageName;
         if (mPkgName == null) return;
 
-        HashMap<String, DataBase> dataMap = DataBase.get();
-        if (dataMap.values().stream().noneMatch(dataBase -> dataBase.mTargetPackage.equals(mPkgName))) {
+        List<DataBase> modules = DataBase.get(mPkgName);
+        if (modules.isEmpty()) {
             mVariousThirdApps.init(lpparam);
             return;
         }
 
-        dataMap.forEach(new BiConsumer<>() {
-            @Override
-            public void accept(String s, DataBase dataBase) {
-                int debugMode = DebugModeUtils.INSTANCE.getChooseResult("com.miui.securitycenter");
-
-                if (!mPkgName.equals(dataBase.mTargetPackage))
-                    return;
-                if (!(dataBase.mTargetSdk == -1) && !isAndroidVersion(dataBase.mTargetSdk))
-                    return;
-                if (!(dataBase.mTargetOSVersion == -1F) && !(isHyperOSVersion(dataBase.mTargetOSVersion)))
-                    return;
-                if (mPkgName.equals("com.miui.securitycenter") && debugMode != 0) {
-                    if (dataBase.isPad != debugMode) return;
-                } else if ((dataBase.isPad == 1 && !isPad()) || (dataBase.isPad == 2 && isPad()))
-                    return;
-
-                try {
-                    Class<?> clazz = Objects.requireNonNull(getClass().getClassLoader()).loadClass(s);
-                    BaseModule module = (BaseModule) clazz.getDeclaredConstructor().newInstance();
-                    module.init(lpparam);
-                } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException |
-                         InstantiationException | InvocationTargetException e) {
-                    logE(TAG, e);
-                }
+        int debugMode = "com.miui.securitycenter".equals(mPkgName) ?
+            DebugModeUtils.INSTANCE.getChooseResult(mPkgName) : 0;
+        DeviceProfile profile = DeviceProfile.get();
+        boolean isPad = isPad();
+        for (DataBase dataBase : modules) {
+            if (!(dataBase.mTargetSdk == -1) && dataBase.mTargetSdk != profile.getAndroidSdk())
+                continue;
+            if (!(dataBase.mTargetOSVersion == -1F) && dataBase.mTargetOSVersion != profile.getHyperOSVersion())
+                continue;
+            if (debugMode != 0) {
+                if (dataBase.isPad != debugMode) continue;
+            } else if ((dataBase.isPad == 1 && !isPad) || (dataBase.isPad == 2 && isPad))
+                continue;
+
+            // 单个模块构造或初始化失败不影响其余模块
+            try {
+                dataBase.newInstance().init(lpparam);
+            } catch (Throwable t) {
+                logE(TAG, mPkgName, "Failed to init " + dataBase.mClassName, t);
             }
-        });
+        }
     }
 
     private void androidCrashEventHook(XC_LoadPackage.LoadPackageParam lpparam) {
@@ -29,8 +29,8 @@ public class AiAsst extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(NewAiCaptions.INSTANCE, mPrefsMap.getBoolean("aiasst_ai_captions"));
-        initHook(UnlockAllCaptions.INSTANCE, mPrefsMap.getBoolean("aiasst_all_captions"));
-        initHook(UnlockSplitTranslation.INSTANCE, mPrefsMap.getBoolean("aiasst_unlock_split_screen_translation"));
+        initHook(() -> NewAiCaptions.INSTANCE, mPrefsMap.getBoolean("aiasst_ai_captions"));
+        initHook(() -> UnlockAllCaptions.INSTANCE, mPrefsMap.getBoolean("aiasst_all_captions"));
+        initHook(() -> UnlockSplitTranslation.INSTANCE, mPrefsMap.getBoolean("aiasst_unlock_split_screen_translation"));
     }
 }
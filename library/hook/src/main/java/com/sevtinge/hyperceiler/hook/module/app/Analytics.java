@@ -27,6 +27,6 @@ import com.sevtinge.hyperceiler.hook.module.rules.analytics.FuckMiuiUpload;
 public class Analytics extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new FuckMiuiUpload(), mPrefsMap.getBoolean("analytics_fuck_guard"));
+        initHook(FuckMiuiUpload::new, mPrefsMap.getBoolean("analytics_fuck_guard"));
     }
 }
@@ -31,9 +31,9 @@ import com.sevtinge.hyperceiler.hook.module.rules.systemframework.UnlockAlwaysOn
 public class Aod extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(UnlockShortCuts.INSTANCE, isMoreSmallVersion(200, 2f));
-        initHook(new UnlockAlwaysOnDisplay(), mPrefsMap.getBoolean("aod_unlock_always_on_display_hyper"));
-        initHook(new UnlockAodAon(), mPrefsMap.getBoolean("aod_unlock_aon"));
-        initHook(UnlockAiWallpaper.INSTANCE, mPrefsMap.getBoolean("aod_unlock_ai_wallpaper"));
+        initHook(() -> UnlockShortCuts.INSTANCE, isMoreSmallVersion(200, 2f));
+        initHook(UnlockAlwaysOnDisplay::new, mPrefsMap.getBoolean("aod_unlock_always_on_display_hyper"));
+        initHook(UnlockAodAon::new, mPrefsMap.getBoolean("aod_unlock_aon"));
+        initHook(() -> UnlockAiWallpaper.INSTANCE, mPrefsMap.getBoolean("aod_unlock_ai_wallpaper"));
     }
 }
@@ -28,7 +28,7 @@ public class Backup extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new UnlockBrokenScreenBackup(), mPrefsMap.getBoolean("backup_unlock_broken_screen_backup"));
-        initHook(new AllowBackupAllApps(), mPrefsMap.getBoolean("backup_allow_all_apps"));
+        initHook(UnlockBrokenScreenBackup::new, mPrefsMap.getBoolean("backup_unlock_broken_screen_backup"));
+        initHook(AllowBackupAllApps::new, mPrefsMap.getBoolean("backup_allow_all_apps"));
     }
 }
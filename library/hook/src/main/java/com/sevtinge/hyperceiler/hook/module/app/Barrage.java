@@ -29,9 +29,9 @@ import com.sevtinge.hyperceiler.hook.module.rules.barrage.GlobalBarrage;
 public class Barrage extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(AnyBarrage.INSTANCE, mPrefsMap.getBoolean("barrage_any_barrage"));
-        initHook(BarrageNotTouchable.INSTANCE, mPrefsMap.getBoolean("barrage_not_touchable"));
-        initHook(GlobalBarrage.INSTANCE, mPrefsMap.getBoolean("barrage_global_enable"));
-        initHook(CustomBarrageLength.INSTANCE, mPrefsMap.getInt("barrage_custom_barrage_length", 36) != 36);
+        initHook(() -> AnyBarrage.INSTANCE, mPrefsMap.getBoolean("barrage_any_barrage"));
+        initHook(() -> BarrageNotTouchable.INSTANCE, mPrefsMap.getBoolean("barrage_not_touchable"));
+        initHook(() -> GlobalBarrage.INSTANCE, mPrefsMap.getBoolean("barrage_global_enable"));
+        initHook(() -> CustomBarrageLength.INSTANCE, mPrefsMap.getInt("barrage_custom_barrage_length", 36) != 36);
     }
 }
@@ -29,8 +29,8 @@ public class Browser extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new DebugMode(), mPrefsMap.getBoolean("browser_debug_mode"));
-        initHook(new DisableReadFiles(), mPrefsMap.getBoolean("browser_disable_blacklist"));
-        initHook(new EnableDebugEnvironment(), mPrefsMap.getBoolean("browser_enable_debug_environment"));
+        initHook(DebugMode::new, mPrefsMap.getBoolean("browser_debug_mode"));
+        initHook(DisableReadFiles::new, mPrefsMap.getBoolean("browser_disable_blacklist"));
+        initHook(EnableDebugEnvironment::new, mPrefsMap.getBoolean("browser_enable_debug_environment"));
     }
 }
@@ -27,6 +27,6 @@ public class Calendar extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new UnlockSubscription(), mPrefsMap.getBoolean("calendar_unlock_subscription"));
+        initHook(UnlockSubscription::new, mPrefsMap.getBoolean("calendar_unlock_subscription"));
     }
 }
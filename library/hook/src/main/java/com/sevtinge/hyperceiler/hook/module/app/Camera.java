@@ -37,19 +37,19 @@ public class Camera extends BaseModule {
     @Override
     public void handleLoadPackage() {
         // 拍照
-        initHook(new CustomWatermark(), mPrefsMap.getBoolean("camera_custom_watermark"));
-        initHook(new BlackLeica(), mPrefsMap.getBoolean("camera_black_leica"));
+        initHook(CustomWatermark::new, mPrefsMap.getBoolean("camera_custom_watermark"));
+        initHook(BlackLeica::new, mPrefsMap.getBoolean("camera_black_leica"));
 
         // 设置
-        initHook(new EnableLabOptions(), mPrefsMap.getBoolean("camera_settings_lab_options"));
-        initHook(new UnlockTrackEyes(), mPrefsMap.getBoolean("camera_settings_track_eyes"));
+        initHook(EnableLabOptions::new, mPrefsMap.getBoolean("camera_settings_lab_options"));
+        initHook(UnlockTrackEyes::new, mPrefsMap.getBoolean("camera_settings_track_eyes"));
 
-        initHook(new MaxScreenBrightness(), mPrefsMap.getBoolean("camera_max_brightness"));
-        initHook(new CustomCameraColor(), mPrefsMap.getBoolean("camera_custom_theme_color"));
+        initHook(MaxScreenBrightness::new, mPrefsMap.getBoolean("camera_max_brightness"));
+        initHook(CustomCameraColor::new, mPrefsMap.getBoolean("camera_custom_theme_color"));
 
-        initHook(UnlockSuperHighQuality.INSTANCE, mPrefsMap.getBoolean("camera_super_high_quality"));
-        initHook(Unlock4k60.INSTANCE, mPrefsMap.getBoolean("camera_unlock_4k60"));
-        initHook(UnlockLeica.INSTANCE, mPrefsMap.getBoolean("camera_unlock_leica"));
-        initHook(CloudWatermark.INSTANCE, mPrefsMap.getBoolean("camera_cloud_watermark"));
+        initHook(() -> UnlockSuperHighQuality.INSTANCE, mPrefsMap.getBoolean("camera_super_high_quality"));
+        initHook(() -> Unlock4k60.INSTANCE, mPrefsMap.getBoolean("camera_unlock_4k60"));
+        initHook(() -> UnlockLeica.INSTANCE, mPrefsMap.getBoolean("camera_unlock_leica"));
+        initHook(() -> CloudWatermark.INSTANCE, mPrefsMap.getBoolean("camera_cloud_watermark"));
     }
 }
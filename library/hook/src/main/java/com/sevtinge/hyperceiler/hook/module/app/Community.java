@@ -29,7 +29,7 @@ public class Community extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new DeviceModify(), mPrefsMap.getBoolean("community_device_modify"));
-        initHook(new FuckDetection(), mPrefsMap.getBoolean("community_fuck_detection"));
+        initHook(DeviceModify::new, mPrefsMap.getBoolean("community_device_modify"));
+        initHook(FuckDetection::new, mPrefsMap.getBoolean("community_fuck_detection"));
     }
 }
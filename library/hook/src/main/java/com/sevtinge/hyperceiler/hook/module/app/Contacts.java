@@ -27,6 +27,6 @@ import com.sevtinge.hyperceiler.hook.module.rules.contacts.DisableNetworkAssista
 public class Contacts extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableNetworkAssistantOfflineInfoManager(), mPrefsMap.getBoolean("contacts_disable_offline_info_manager"));
+        initHook(DisableNetworkAssistantOfflineInfoManager::new, mPrefsMap.getBoolean("contacts_disable_offline_info_manager"));
     }
 }
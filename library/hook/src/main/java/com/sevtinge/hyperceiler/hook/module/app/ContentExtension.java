@@ -33,10 +33,10 @@ public class ContentExtension extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new UseThirdPartyBrowser(), mPrefsMap.getBoolean("content_extension_browser"));
-        initHook(new DoublePress(), mPrefsMap.getBoolean("content_extension_double_press"));
-        initHook(new Taplus(), mPrefsMap.getBoolean("security_center_taplus"));
+        initHook(UseThirdPartyBrowser::new, mPrefsMap.getBoolean("content_extension_browser"));
+        initHook(DoublePress::new, mPrefsMap.getBoolean("content_extension_double_press"));
+        initHook(Taplus::new, mPrefsMap.getBoolean("security_center_taplus"));
         initHook(new LinkOpenMode(), true);
-        initHook(UnlockTaplus.INSTANCE, mPrefsMap.getBoolean("content_extension_unlock_taplus") && isPad());
+        initHook(() -> UnlockTaplus.INSTANCE, mPrefsMap.getBoolean("content_extension_unlock_taplus") && isPad());
     }
 }
@@ -27,6 +27,6 @@ public class Creation extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(UnlockCreation.INSTANCE, mPrefsMap.getBoolean("creation_unlock_enable"));
+        initHook(() -> UnlockCreation.INSTANCE, mPrefsMap.getBoolean("creation_unlock_enable"));
     }
 }
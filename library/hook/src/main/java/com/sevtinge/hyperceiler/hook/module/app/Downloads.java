@@ -27,6 +27,6 @@ public class Downloads extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(RemoveXlDownload.INSTANCE, mPrefsMap.getBoolean("various_fuck_xlDownload"));
+        initHook(() -> RemoveXlDownload.INSTANCE, mPrefsMap.getBoolean("various_fuck_xlDownload"));
     }
 }
@@ -27,6 +27,6 @@ public class DownloadsUI extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new AlwaysShowDownloadLink(), mPrefsMap.getBoolean("downloads_ui_always_show_link"));
+        initHook(AlwaysShowDownloadLink::new, mPrefsMap.getBoolean("downloads_ui_always_show_link"));
     }
 }
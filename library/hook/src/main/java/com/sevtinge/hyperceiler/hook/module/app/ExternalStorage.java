@@ -27,6 +27,6 @@ public class ExternalStorage extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableFolderCantUse(), mPrefsMap.getBoolean("various_disable_folder_cantuse"));
+        initHook(DisableFolderCantUse::new, mPrefsMap.getBoolean("various_disable_folder_cantuse"));
     }
 }
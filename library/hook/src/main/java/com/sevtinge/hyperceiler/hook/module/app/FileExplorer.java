@@ -28,7 +28,7 @@ public class FileExplorer extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new UnlockFileParse(), mPrefsMap.getBoolean("file_explorer_unlock_file_parse"));
-        initHook(SelectName.INSTANCE, mPrefsMap.getBoolean("file_explorer_can_selectable") || mPrefsMap.getBoolean("file_explorer_is_single_line"));
+        initHook(UnlockFileParse::new, mPrefsMap.getBoolean("file_explorer_unlock_file_parse"));
+        initHook(() -> SelectName.INSTANCE, mPrefsMap.getBoolean("file_explorer_can_selectable") || mPrefsMap.getBoolean("file_explorer_is_single_line"));
     }
 }
@@ -37,17 +37,17 @@ public class Gallery extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new LongerTrashbinTime(), mPrefsMap.getBoolean("gallery_longer_trashbin_time"));
-        initHook(new UnPrivacyWatermark(), mPrefsMap.getBoolean("gallery_enable_un_privacy_watermark"));
-        initHook(new EnableHdrEnhance(), mPrefsMap.getBoolean("gallery_enable_hdr_enhanced"));
-        initHook(new EnablePdf(), mPrefsMap.getBoolean("gallery_enable_pdf"));
-        initHook(new EnablePhotoMovie(), mPrefsMap.getBoolean("gallery_enable_photo_movie"));
-        initHook(new EnableIdPhoto(), mPrefsMap.getBoolean("gallery_enable_id_photo"));
-        initHook(new EnableMagicMatting(), mPrefsMap.getBoolean("gallery_enable_magic_matting"));
-        initHook(new EnableVideoPost(), mPrefsMap.getBoolean("gallery_enable_video_post"));
-        initHook(new EnableVideoPost(), mPrefsMap.getBoolean("gallery_enable_video_editor"));
-        initHook(new EnableOcr(), mPrefsMap.getBoolean("gallery_enable_ocr"));
-        initHook(new EnableOcrForm(), mPrefsMap.getBoolean("gallery_enable_ocr_form"));
-        initHook(new ChangeBackupServer(), mPrefsMap.getStringAsInt("gallery_backup_server", 0) != 0);
+        initHook(LongerTrashbinTime::new, mPrefsMap.getBoolean("gallery_longer_trashbin_time"));
+        initHook(UnPrivacyWatermark::new, mPrefsMap.getBoolean("gallery_enable_un_privacy_watermark"));
+        initHook(EnableHdrEnhance::new, mPrefsMap.getBoolean("gallery_enable_hdr_enhanced"));
+        initHook(EnablePdf::new, mPrefsMap.getBoolean("gallery_enable_pdf"));
+        initHook(EnablePhotoMovie::new, mPrefsMap.getBoolean("gallery_enable_photo_movie"));
+        initHook(EnableIdPhoto::new, mPrefsMap.getBoolean("gallery_enable_id_photo"));
+        initHook(EnableMagicMatting::new, mPrefsMap.getBoolean("gallery_enable_magic_matting"));
+        initHook(EnableVideoPost::new, mPrefsMap.getBoolean("gallery_enable_video_post"));
+        initHook(EnableVideoPost::new, mPrefsMap.getBoolean("gallery_enable_video_editor"));
+        initHook(EnableOcr::new, mPrefsMap.getBoolean("gallery_enable_ocr"));
+        initHook(EnableOcrForm::new, mPrefsMap.getBoolean("gallery_enable_ocr_form"));
+        initHook(ChangeBackupServer::new, mPrefsMap.getStringAsInt("gallery_backup_server", 0) != 0);
     }
 }
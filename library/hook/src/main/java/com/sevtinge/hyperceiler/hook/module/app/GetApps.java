@@ -31,11 +31,11 @@ public class GetApps extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new BypassRiskCheck(), mPrefsMap.getBoolean("market_bypass_risk_check"));
-        initHook(new DisableAds(), mPrefsMap.getBoolean("market_disable_ads"));
-        initHook(new DeviceModify(), mPrefsMap.getStringAsInt("market_device_modify_new", 0) != 0);
+        initHook(BypassRiskCheck::new, mPrefsMap.getBoolean("market_bypass_risk_check"));
+        initHook(DisableAds::new, mPrefsMap.getBoolean("market_disable_ads"));
+        initHook(DeviceModify::new, mPrefsMap.getStringAsInt("market_device_modify_new", 0) != 0);
 
-        initHook(DisablePackageMonitor.INSTANCE, mPrefsMap.getBoolean("market_package_monitor"));
-        initHook(DisableStartPushDialog.INSTANCE, mPrefsMap.getBoolean("market_disable_start_push_dialog"));
+        initHook(() -> DisablePackageMonitor.INSTANCE, mPrefsMap.getBoolean("market_package_monitor"));
+        initHook(() -> DisableStartPushDialog.INSTANCE, mPrefsMap.getBoolean("market_disable_start_push_dialog"));
     }
 }
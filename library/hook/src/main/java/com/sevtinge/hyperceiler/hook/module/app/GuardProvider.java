@@ -27,7 +27,7 @@ import com.sevtinge.hyperceiler.hook.module.rules.guardprovider.DisableUploadApp
 public class GuardProvider extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableRootedCheck(), mPrefsMap.getBoolean("guard_provider_disable_root_check"));
-        initHook(new DisableUploadAppListNew(), mPrefsMap.getBoolean("disable_upload_applist"));
+        initHook(DisableRootedCheck::new, mPrefsMap.getBoolean("guard_provider_disable_root_check"));
+        initHook(DisableUploadAppListNew::new, mPrefsMap.getBoolean("disable_upload_applist"));
     }
 }
@@ -27,6 +27,6 @@ import com.sevtinge.hyperceiler.hook.module.rules.health.DisableSplashAd;
 public class Health extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableSplashAd(), mPrefsMap.getBoolean("health_disable_splash_ad"));
+        initHook(DisableSplashAd::new, mPrefsMap.getBoolean("health_disable_splash_ad"));
     }
 }
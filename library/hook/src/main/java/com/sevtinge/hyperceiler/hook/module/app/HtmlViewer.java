@@ -26,6 +26,6 @@ import com.sevtinge.hyperceiler.hook.module.rules.htmlviewer.DisableUpdateCloudA
 public class HtmlViewer extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableUpdateCloudAllData(), mPrefsMap.getBoolean("html_viewer_disable_cloud_control"));
+        initHook(DisableUpdateCloudAllData::new, mPrefsMap.getBoolean("html_viewer_disable_cloud_control"));
     }
 }
@@ -27,6 +27,6 @@ public class Huanji extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new AllowMoveAllApps(), mPrefsMap.getBoolean("huanji_allow_all_apps"));
+        initHook(AllowMoveAllApps::new, mPrefsMap.getBoolean("huanji_allow_all_apps"));
     }
 }
@@ -28,7 +28,7 @@ public class InCallUi extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new HideCrbt(), mPrefsMap.getBoolean("incallui_hide_crbt"));
-        initHook(new AnswerInHeadUp(), mPrefsMap.getBoolean("incallui_answer_in_head_up"));
+        initHook(HideCrbt::new, mPrefsMap.getBoolean("incallui_hide_crbt"));
+        initHook(AnswerInHeadUp::new, mPrefsMap.getBoolean("incallui_answer_in_head_up"));
     }
 }
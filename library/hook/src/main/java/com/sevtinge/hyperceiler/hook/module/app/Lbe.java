@@ -27,6 +27,6 @@ public class Lbe extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new AutoStart(), mPrefsMap.getBoolean("lbe_auto_start"));
+        initHook(AutoStart::new, mPrefsMap.getBoolean("lbe_auto_start"));
     }
 }
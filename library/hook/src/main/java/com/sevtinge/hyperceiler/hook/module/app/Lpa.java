@@ -30,6 +30,6 @@ public class Lpa extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new CustomImei(), !Objects.equals(mPrefsMap.getString("lpa_custom_imei", ""), ""));
+        initHook(CustomImei::new, !Objects.equals(mPrefsMap.getString("lpa_custom_imei", ""), ""));
     }
 }
@@ -27,6 +27,6 @@ public class MiCloudService extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new CloudList(), mPrefsMap.getBoolean("micloud_service_list"));
+        initHook(CloudList::new, mPrefsMap.getBoolean("micloud_service_list"));
     }
 }
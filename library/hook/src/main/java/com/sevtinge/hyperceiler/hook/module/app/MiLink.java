@@ -29,8 +29,8 @@ public class MiLink extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new UnlockMiShare(), mPrefsMap.getBoolean("milink_unlock_mishare"));
-        initHook(new AllowCameraDevices(), mPrefsMap.getBoolean("milink_allow_camera_devices"));
-        initHook(new FuckHpplay(), mPrefsMap.getBoolean("milink_fuck_hpplay"));
+        initHook(UnlockMiShare::new, mPrefsMap.getBoolean("milink_unlock_mishare"));
+        initHook(AllowCameraDevices::new, mPrefsMap.getBoolean("milink_allow_camera_devices"));
+        initHook(FuckHpplay::new, mPrefsMap.getBoolean("milink_fuck_hpplay"));
     }
 }
@@ -27,6 +27,6 @@ public class MiShare extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(NoAutoTurnOff.INSTANCE, mPrefsMap.getBoolean("disable_mishare_auto_off")); // 禁用 10 分钟自动关闭
+        initHook(() -> NoAutoTurnOff.INSTANCE, mPrefsMap.getBoolean("disable_mishare_auto_off")); // 禁用 10 分钟自动关闭
     }
 }
@@ -29,6 +29,6 @@ public class MiSound extends BaseModule {
     @Override
     public void handleLoadPackage() {
         initHook(new NewAutoSEffSwitch().onApplication(), mPrefsMap.getBoolean("misound_bluetooth"));
-        initHook(IncreaseSamplingRate.INSTANCE, mPrefsMap.getBoolean("misound_increase_sampling_rate"));
+        initHook(() -> IncreaseSamplingRate.INSTANCE, mPrefsMap.getBoolean("misound_increase_sampling_rate"));
     }
 }
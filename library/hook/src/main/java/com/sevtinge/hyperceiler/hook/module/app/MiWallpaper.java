@@ -27,6 +27,6 @@ public class MiWallpaper extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new UnlockSuperWallpaper(), mPrefsMap.getBoolean("miwallpaper_unlock_super_wallpaper"));
+        initHook(UnlockSuperWallpaper::new, mPrefsMap.getBoolean("miwallpaper_unlock_super_wallpaper"));
     }
 }
@@ -29,9 +29,9 @@ import com.sevtinge.hyperceiler.hook.module.rules.mms.ImOldDevice;
 public class Mms extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableRiskTip(), mPrefsMap.getBoolean("mms_disable_fraud_risk_tip") || mPrefsMap.getBoolean("mms_disable_overseas_risk_tip"));
-        initHook(new DisableAd(), mPrefsMap.getBoolean("mms_disable_ad"));
-        initHook(new ImOldDevice(), mPrefsMap.getBoolean("mms_im_old_device"));
-        initHook(AutoCopyVerificationCode.INSTANCE, mPrefsMap.getBoolean("mms_verification_code_auto_copy"));
+        initHook(DisableRiskTip::new, mPrefsMap.getBoolean("mms_disable_fraud_risk_tip") || mPrefsMap.getBoolean("mms_disable_overseas_risk_tip"));
+        initHook(DisableAd::new, mPrefsMap.getBoolean("mms_disable_ad"));
+        initHook(ImOldDevice::new, mPrefsMap.getBoolean("mms_im_old_device"));
+        initHook(() -> AutoCopyVerificationCode.INSTANCE, mPrefsMap.getBoolean("mms_verification_code_auto_copy"));
     }
 }
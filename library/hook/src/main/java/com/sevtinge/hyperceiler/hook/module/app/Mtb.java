@@ -27,7 +27,7 @@ import com.sevtinge.hyperceiler.hook.module.rules.mtb.IsUserBuild;
 public class Mtb extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(BypassAuthentication.INSTANCE, mPrefsMap.getBoolean("mtb_auth"));
-        initHook(IsUserBuild.INSTANCE, mPrefsMap.getBoolean("mtb_auth"));
+        initHook(() -> BypassAuthentication.INSTANCE, mPrefsMap.getBoolean("mtb_auth"));
+        initHook(() -> IsUserBuild.INSTANCE, mPrefsMap.getBoolean("mtb_auth"));
     }
 }
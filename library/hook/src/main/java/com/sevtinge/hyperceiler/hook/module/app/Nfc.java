@@ -28,7 +28,7 @@ public class Nfc extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableSound(), mPrefsMap.getBoolean("nfc_disable_sound"));
-        initHook(new AllowInformationScreen(), mPrefsMap.getBoolean("nfc_allow_information_screen"));
+        initHook(DisableSound::new, mPrefsMap.getBoolean("nfc_disable_sound"));
+        initHook(AllowInformationScreen::new, mPrefsMap.getBoolean("nfc_allow_information_screen"));
     }
 }
@@ -28,7 +28,7 @@ public class Notes extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableAiWatermark(), mPrefsMap.getBoolean("notes_disable_ai_watermark"));
-        initHook(UnlockAI.INSTANCE, mPrefsMap.getStringAsInt("notes_unlock_ai_mode", 0) != 0);
+        initHook(DisableAiWatermark::new, mPrefsMap.getBoolean("notes_disable_ai_watermark"));
+        initHook(() -> UnlockAI.INSTANCE, mPrefsMap.getStringAsInt("notes_unlock_ai_mode", 0) != 0);
     }
 }
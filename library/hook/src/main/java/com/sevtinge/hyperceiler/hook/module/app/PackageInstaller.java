@@ -38,33 +38,33 @@ public class PackageInstaller extends BaseModule {
     public void handleLoadPackage() {
 
         //
-        /*initHook(new MiuiPackageInstallModify(), mPrefsMap.getBoolean("miui_package_installer_modify"));*/
+        /*initHook(MiuiPackageInstallModify::new, mPrefsMap.getBoolean("miui_package_installer_modify"));*/
 
         // 禁用广告
-        initHook(new DisableAd(), mPrefsMap.getBoolean("miui_package_installer_disable_ad"));
+        initHook(DisableAd::new, mPrefsMap.getBoolean("miui_package_installer_disable_ad"));
 
         // 禁用风险检测
-        initHook(InstallRiskDisable.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_install_risk"));
+        initHook(() -> InstallRiskDisable.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_install_risk"));
 
         // 禁用安全守护提示
-        initHook(DisableSafeModelTip.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_safe_model_tip"));
+        initHook(() -> DisableSafeModelTip.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_safe_model_tip"));
 
         // 允许更新系统应用
-        initHook(AllAsSystemApp.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_update_system_app"));
+        initHook(() -> AllAsSystemApp.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_update_system_app"));
 
         // 自定义安装来源
-        initHook(new InstallSource(), !TextUtils.isEmpty(mPrefsMap.getString("miui_package_installer_install_source", "com.android.fileexplorer")));
+        initHook(InstallSource::new, !TextUtils.isEmpty(mPrefsMap.getString("miui_package_installer_install_source", "com.android.fileexplorer")));
 
         // 显示更多安装包信息
-        // initHook(new DisplayMoreApkInfo(), mPrefsMap.getBoolean("miui_package_installer_apk_info"));
-        initHook(DisplayMoreApkInfoNew.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_apk_info"));
-        initHook(new DisableInstallerFullSafeVersion(), mPrefsMap.getBoolean("miui_package_installer_apk_info"));
+        // initHook(DisplayMoreApkInfo::new, mPrefsMap.getBoolean("miui_package_installer_apk_info"));
+        initHook(() -> DisplayMoreApkInfoNew.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_apk_info"));
+        initHook(DisableInstallerFullSafeVersion::new, mPrefsMap.getBoolean("miui_package_installer_apk_info"));
 
         // 禁用频繁安装应用检查
-        initHook(DisableCountChecking.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_count_checking"));
+        initHook(() -> DisableCountChecking.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_count_checking"));
 
         // 禁用安装前后上传应用信息, 开启后会无法扫描病毒
-        initHook(DisableAppInfoUpload.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_upload_appinfo"));
+        initHook(() -> DisableAppInfoUpload.INSTANCE, mPrefsMap.getBoolean("miui_package_installer_upload_appinfo"));
 
     }
 }
@@ -29,11 +29,11 @@ public class PersonalAssistant extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        // initHook(new BlurOverlay(), false);
-        initHook(new DisableLiteVersion(), mPrefsMap.getBoolean("personal_assistant_disable_lite_version"));
-        initHook(new UnlockWidgetCountLimit(), mPrefsMap.getBoolean("personal_assistant_unlock_widget_count_limit"));
+        // initHook(BlurOverlay::new, false);
+        initHook(DisableLiteVersion::new, mPrefsMap.getBoolean("personal_assistant_disable_lite_version"));
+        initHook(UnlockWidgetCountLimit::new, mPrefsMap.getBoolean("personal_assistant_unlock_widget_count_limit"));
 
-        initHook(new WidgetBlurOpt(), mPrefsMap.getBoolean("personal_assistant_widget_widget_blur_opt"));
+        initHook(WidgetBlurOpt::new, mPrefsMap.getBoolean("personal_assistant_widget_widget_blur_opt"));
     }
 
 }
@@ -34,15 +34,15 @@ import com.sevtinge.hyperceiler.hook.module.rules.phone.ViceSlotVolteButton;
 public class Phone extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new UnlockVoiceLink(), mPrefsMap.getBoolean("phone_unlock_voice_link"));
-        initHook(ModemFeature.INSTANCE, mPrefsMap.getBoolean("phone_smart_dual_sim"));
-        initHook(ViceSlotVolteButton.INSTANCE, mPrefsMap.getBoolean("phone_vice_slot_volte"));
-        initHook(new DisableRemoveNetworkMode(), mPrefsMap.getBoolean("phone_disable_remove_network_mode"));
+        initHook(UnlockVoiceLink::new, mPrefsMap.getBoolean("phone_unlock_voice_link"));
+        initHook(() -> ModemFeature.INSTANCE, mPrefsMap.getBoolean("phone_smart_dual_sim"));
+        initHook(() -> ViceSlotVolteButton.INSTANCE, mPrefsMap.getBoolean("phone_vice_slot_volte"));
+        initHook(DisableRemoveNetworkMode::new, mPrefsMap.getBoolean("phone_disable_remove_network_mode"));
 
-        initHook(DualNrSupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_nr"));
-        initHook(DualSaSupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_sa"));
-        initHook(N1BandPhone.INSTANCE, mPrefsMap.getBoolean("phone_n1"));
-        initHook(N5N8BandPhone.INSTANCE, mPrefsMap.getBoolean("phone_n5_n8"));
-        initHook(N28BandPhone.INSTANCE, mPrefsMap.getBoolean("phone_n28"));
+        initHook(() -> DualNrSupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_nr"));
+        initHook(() -> DualSaSupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_sa"));
+        initHook(() -> N1BandPhone.INSTANCE, mPrefsMap.getBoolean("phone_n1"));
+        initHook(() -> N5N8BandPhone.INSTANCE, mPrefsMap.getBoolean("phone_n5_n8"));
+        initHook(() -> N28BandPhone.INSTANCE, mPrefsMap.getBoolean("phone_n28"));
     }
 }
@@ -33,12 +33,12 @@ public class PowerKeeper extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new GmsDozeFix(), mPrefsMap.getBoolean("powerkeeper_gms_doze_fix"));
-        initHook(new ConservativeMillet(), mPrefsMap.getBoolean("powerkeeper_conservative_millet"));
-        initHook(new CustomRefreshRate(), mPrefsMap.getBoolean("various_custom_refresh_rate"));
-        initHook(new DisableGetDisplayCtrlCode(), mPrefsMap.getBoolean("powerkeeper_disable_get_display_ctrl_code"));
-        initHook(LockMaxFps.INSTANCE, mPrefsMap.getBoolean("powerkeeper_lock_max_fps"));
-        initHook(DontKillApps.INSTANCE, mPrefsMap.getBoolean("powerkeeper_do_not_kill_apps"));
-        initHook(new PreventBatteryWitelist(), mPrefsMap.getBoolean("powerkeeper_prevent_recovery_of_battery_optimization_whitelist"));
+        initHook(GmsDozeFix::new, mPrefsMap.getBoolean("powerkeeper_gms_doze_fix"));
+        initHook(ConservativeMillet::new, mPrefsMap.getBoolean("powerkeeper_conservative_millet"));
+        initHook(CustomRefreshRate::new, mPrefsMap.getBoolean("various_custom_refresh_rate"));
+        initHook(DisableGetDisplayCtrlCode::new, mPrefsMap.getBoolean("powerkeeper_disable_get_display_ctrl_code"));
+        initHook(() -> LockMaxFps.INSTANCE, mPrefsMap.getBoolean("powerkeeper_lock_max_fps"));
+        initHook(() -> DontKillApps.INSTANCE, mPrefsMap.getBoolean("powerkeeper_do_not_kill_apps"));
+        initHook(PreventBatteryWitelist::new, mPrefsMap.getBoolean("powerkeeper_prevent_recovery_of_battery_optimization_whitelist"));
     }
 }
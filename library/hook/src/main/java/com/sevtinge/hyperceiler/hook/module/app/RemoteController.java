@@ -26,6 +26,6 @@ import com.sevtinge.hyperceiler.hook.module.rules.remotecontroller.DisableAd;
 public class RemoteController extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableAd(), mPrefsMap.getBoolean("remotecontroller_disable_ad"));
+        initHook(DisableAd::new, mPrefsMap.getBoolean("remotecontroller_disable_ad"));
     }
 }
@@ -33,12 +33,12 @@ public class Scanner extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new EnableOcr(), mPrefsMap.getBoolean("scanner_ocr"));
-        initHook(new EnableExcel(), mPrefsMap.getBoolean("scanner_excel"));
-        initHook(new EnablePpt(), mPrefsMap.getBoolean("scanner_ppt"));
-        initHook(new EnableCard(), mPrefsMap.getBoolean("scanner_card"));
-        initHook(new EnableTranslation(), mPrefsMap.getBoolean("scanner_translation"));
-        initHook(new EnableDocument(), mPrefsMap.getBoolean("scanner_document"));
-        initHook(new EnableDocPpt(), mPrefsMap.getBoolean("scanner_doc_ppt"));
+        initHook(EnableOcr::new, mPrefsMap.getBoolean("scanner_ocr"));
+        initHook(EnableExcel::new, mPrefsMap.getBoolean("scanner_excel"));
+        initHook(EnablePpt::new, mPrefsMap.getBoolean("scanner_ppt"));
+        initHook(EnableCard::new, mPrefsMap.getBoolean("scanner_card"));
+        initHook(EnableTranslation::new, mPrefsMap.getBoolean("scanner_translation"));
+        initHook(EnableDocument::new, mPrefsMap.getBoolean("scanner_document"));
+        initHook(EnableDocPpt::new, mPrefsMap.getBoolean("scanner_doc_ppt"));
     }
 }
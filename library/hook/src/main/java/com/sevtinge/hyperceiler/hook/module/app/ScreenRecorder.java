@@ -30,9 +30,9 @@ public class ScreenRecorder extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new ForceSupportPlaybackCapture(), mPrefsMap.getBoolean("screenrecorder_force_support_playback_capture"));
-        initHook(UnlockMoreVolumeFromNew.INSTANCE, mPrefsMap.getBoolean("screenrecorder_more_volume"));
-        initHook(new ScreenRecorderConfig(), mPrefsMap.getBoolean("screenrecorder_config"));
-        initHook(SaveToMovies.INSTANCE, mPrefsMap.getBoolean("screenrecorder_save_to_movies"));
+        initHook(ForceSupportPlaybackCapture::new, mPrefsMap.getBoolean("screenrecorder_force_support_playback_capture"));
+        initHook(() -> UnlockMoreVolumeFromNew.INSTANCE, mPrefsMap.getBoolean("screenrecorder_more_volume"));
+        initHook(ScreenRecorderConfig::new, mPrefsMap.getBoolean("screenrecorder_config"));
+        initHook(() -> SaveToMovies.INSTANCE, mPrefsMap.getBoolean("screenrecorder_save_to_movies"));
     }
 }
@@ -34,11 +34,11 @@ public class ScreenShot extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(UnlockMinimumCropLimit2.INSTANCE, mPrefsMap.getBoolean("screenshot_unlock_minimum_crop_limit"));
-        initHook(SaveToPictures.INSTANCE, mPrefsMap.getBoolean("screenshot_save_to_pictures"));
-        initHook(DeviceShellCustomize.INSTANCE, !TextUtils.isEmpty(mPrefsMap.getString("screenshot_device_customize", "")));
-        initHook(UnlockPrivacyMarking.INSTANCE, mPrefsMap.getBoolean("screenshot_unlock_privacy_marking"));
-        initHook(UnlockCopyPicture.INSTANCE, mPrefsMap.getBoolean("screenshot_unlock_copy_to_clipboard"));
-        initHook(HideStatusBarWhenShot.INSTANCE, mPrefsMap.getBoolean("system_ui_status_bar_hide_icon"));
+        initHook(() -> UnlockMinimumCropLimit2.INSTANCE, mPrefsMap.getBoolean("screenshot_unlock_minimum_crop_limit"));
+        initHook(() -> SaveToPictures.INSTANCE, mPrefsMap.getBoolean("screenshot_save_to_pictures"));
+        initHook(() -> DeviceShellCustomize.INSTANCE, !TextUtils.isEmpty(mPrefsMap.getString("screenshot_device_customize", "")));
+        initHook(() -> UnlockPrivacyMarking.INSTANCE, mPrefsMap.getBoolean("screenshot_unlock_privacy_marking"));
+        initHook(() -> UnlockCopyPicture.INSTANCE, mPrefsMap.getBoolean("screenshot_unlock_copy_to_clipboard"));
+        initHook(() -> HideStatusBarWhenShot.INSTANCE, mPrefsMap.getBoolean("system_ui_status_bar_hide_icon"));
     }
 }
@@ -26,6 +26,6 @@ import com.sevtinge.hyperceiler.hook.module.rules.securityadd.DisableGameBooster
 public class SecurityAdd extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableGameBoosterAds(), mPrefsMap.getBoolean("securityadd_disable_gb_ads"));
+        initHook(DisableGameBoosterAds::new, mPrefsMap.getBoolean("securityadd_disable_gb_ads"));
     }
 }
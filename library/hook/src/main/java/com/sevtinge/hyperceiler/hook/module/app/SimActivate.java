@@ -27,6 +27,6 @@ import com.sevtinge.hyperceiler.hook.module.rules.simactivate.RoamingActivateHel
 public class SimActivate extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new RoamingActivateHelper(), mPrefsMap.getBoolean("sim_activation_service_disable_activate_when_roaming"));
+        initHook(RoamingActivateHelper::new, mPrefsMap.getBoolean("sim_activation_service_disable_activate_when_roaming"));
     }
 }
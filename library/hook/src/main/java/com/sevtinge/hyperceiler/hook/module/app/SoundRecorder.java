@@ -30,8 +30,8 @@ public class SoundRecorder extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableAiWatermark(), mPrefsMap.getBoolean("sound_recorder_disable_ai_watermark"));
-        initHook(UnlockRecordingScene.INSTANCE, mPrefsMap.getBoolean("sound_recorder_unlock_recording_scene"));
-        initHook(UnlockAIMode.INSTANCE, mPrefsMap.getBoolean("sound_recorder_unlock_ai"));
+        initHook(DisableAiWatermark::new, mPrefsMap.getBoolean("sound_recorder_disable_ai_watermark"));
+        initHook(() -> UnlockRecordingScene.INSTANCE, mPrefsMap.getBoolean("sound_recorder_unlock_recording_scene"));
+        initHook(() -> UnlockAIMode.INSTANCE, mPrefsMap.getBoolean("sound_recorder_unlock_ai"));
     }
 }
@@ -95,92 +95,92 @@ public class SystemFrameworkB extends BaseModule {
     public void handleLoadPackage() {
 
         // 核心破解
-        initHook(BypassSignCheckForT.INSTANCE,
+        initHook(() -> BypassSignCheckForT.INSTANCE,
             (mPrefsMap.getBoolean("system_framework_core_patch_auth_creak") || mPrefsMap.getBoolean("system_framework_core_patch_disable_integrity"))
                 && mPrefsMap.getBoolean("system_framework_core_patch_enable")
         );
-        initHook(new BypassIsolationViolation(), mPrefsMap.getBoolean("system_framework_core_patch_bypass_isolation_violation"));
-        initHook(new AllowUpdateSystemApp(), mPrefsMap.getBoolean("system_framework_core_patch_allow_update_system_app"));
-        initHook(new DisableLowApiCheckForB(), mPrefsMap.getBoolean("system_framework_disable_low_api_check"));
-        initHook(new DisablePersistent(), mPrefsMap.getBoolean("system_framework_disable_persistent"));
+        initHook(BypassIsolationViolation::new, mPrefsMap.getBoolean("system_framework_core_patch_bypass_isolation_violation"));
+        initHook(AllowUpdateSystemApp::new, mPrefsMap.getBoolean("system_framework_core_patch_allow_update_system_app"));
+        initHook(DisableLowApiCheckForB::new, mPrefsMap.getBoolean("system_framework_disable_low_api_check"));
+        initHook(DisablePersistent::new, mPrefsMap.getBoolean("system_framework_disable_persistent"));
 
         // 修复 A16 移植包开启核心破解后掉指纹，仅作备选项
-        initHook(DisableRemoveFingerprintSensorConfig.INSTANCE, mPrefsMap.getBoolean("system_framework_core_patch_unloss_fingerprint"));
+        initHook(() -> DisableRemoveFingerprintSensorConfig.INSTANCE, mPrefsMap.getBoolean("system_framework_core_patch_unloss_fingerprint"));
 
         // 手势初始化
         initHook(new PackagePermissions(), true);
         initHook(new GlobalActions(), true);
 
         // 小窗
-        initHook(new FreeFormCount(), mPrefsMap.getBoolean("system_framework_freeform_count"));
-        initHook(RemoveSmallWindowRestrictions.INSTANCE, mPrefsMap.getBoolean("system_framework_disable_freeform_blacklist"));
-        initHook(new FreeformBubble(), mPrefsMap.getBoolean("system_framework_freeform_bubble"));
-        initHook(new UnForegroundPin(), mPrefsMap.getBoolean("system_framework_freeform_foreground_pin"));
+        initHook(FreeFormCount::new, mPrefsMap.getBoolean("system_framework_freeform_count"));
+        initHook(() -> RemoveSmallWindowRestrictions.INSTANCE, mPrefsMap.getBoolean("system_framework_disable_freeform_blacklist"));
+        initHook(FreeformBubble::new, mPrefsMap.getBoolean("system_framework_freeform_bubble"));
+        initHook(UnForegroundPin::new, mPrefsMap.getBoolean("system_framework_freeform_foreground_pin"));
 
         // 音量
-        initHook(new VolumeDefaultStream(), mPrefsMap.getStringAsInt("system_framework_default_volume_stream", 0) != 0);
-        initHook(new VolumeFirstPress(), mPrefsMap.getBoolean("system_framework_volume_first_press"));
-        initHook(new VolumeSteps(), mPrefsMap.getInt("system_framework_volume_steps", 0) > 0);
-        initHook(new VolumeMediaSteps(), mPrefsMap.getBoolean("system_framework_volume_media_steps_enable"));
-        initHook(new VolumeDisableSafe(), mPrefsMap.getStringAsInt("system_framework_volume_disable_safe_new", 0) != 0);
+        initHook(VolumeDefaultStream::new, mPrefsMap.getStringAsInt("system_framework_default_volume_stream", 0) != 0);
+        initHook(VolumeFirstPress::new, mPrefsMap.getBoolean("system_framework_volume_first_press"));
+        initHook(VolumeSteps::new, mPrefsMap.getInt("system_framework_volume_steps", 0) > 0);
+        initHook(VolumeMediaSteps::new, mPrefsMap.getBoolean("system_framework_volume_media_steps_enable"));
+        initHook(VolumeDisableSafe::new, mPrefsMap.getStringAsInt("system_framework_volume_disable_safe_new", 0) != 0);
 
         // 显示
-        initHook(new BackgroundBlur(), mPrefsMap.getBoolean("system_framework_background_blur_supported"));
-        initHook(EnhanceRecentsVisibility.INSTANCE, mPrefsMap.getBoolean("system_framework_enhance_recents_visibility"));
-        initHook(UseAOSPScreenShot.INSTANCE, mPrefsMap.getBoolean("system_ui_display_use_aosp_screenshot_enable"));
-        initHook(new AllDarkMode(), mPrefsMap.getBoolean("system_framework_allow_all_dark_mode"));
-        initHook(new ThemeProvider(), mPrefsMap.getBoolean("system_framework_allow_third_theme"));
-        initHook(DisplayCutout.INSTANCE, mPrefsMap.getBoolean("system_ui_display_hide_cutout_enable"));
+        initHook(BackgroundBlur::new, mPrefsMap.getBoolean("system_framework_background_blur_supported"));
+        initHook(() -> EnhanceRecentsVisibility.INSTANCE, mPrefsMap.getBoolean("system_framework_enhance_recents_visibility"));
+        initHook(() -> UseAOSPScreenShot.INSTANCE, mPrefsMap.getBoolean("system_ui_display_use_aosp_screenshot_enable"));
+        initHook(AllDarkMode::new, mPrefsMap.getBoolean("system_framework_allow_all_dark_mode"));
+        initHook(ThemeProvider::new, mPrefsMap.getBoolean("system_framework_allow_third_theme"));
+        initHook(() -> DisplayCutout.INSTANCE, mPrefsMap.getBoolean("system_ui_display_hide_cutout_enable"));
 
         // 网络
-        initHook(DualNRSupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_nr"));
-        initHook(DualSASupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_sa"));
-        initHook(N1Band.INSTANCE, mPrefsMap.getBoolean("phone_n1"));
-        initHook(N5N8Band.INSTANCE, mPrefsMap.getBoolean("phone_n5_n8"));
-        initHook(N28Band.INSTANCE, mPrefsMap.getBoolean("phone_n28"));
+        initHook(() -> DualNRSupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_nr"));
+        initHook(() -> DualSASupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_sa"));
+        initHook(() -> N1Band.INSTANCE, mPrefsMap.getBoolean("phone_n1"));
+        initHook(() -> N5N8Band.INSTANCE, mPrefsMap.getBoolean("phone_n5_n8"));
+        initHook(() -> N28Band.INSTANCE, mPrefsMap.getBoolean("phone_n28"));
 
         // 其它-显示与通知
-        initHook(new ScreenRotation(), mPrefsMap.getBoolean("system_framework_screen_all_rotations"));
-        initHook(new QuickScreenshot(), mPrefsMap.getBoolean("system_framework_quick_screenshot"));
-        initHook(new AntiQues(), mPrefsMap.getBoolean("system_settings_anti_ques"));
-        initHook(new DisablePinVerifyPer72h(), mPrefsMap.getBoolean("system_framework_disable_72h_verify"));
-        initHook(new ThermalBrightness(), mPrefsMap.getBoolean("system_framework_other_thermal_brightness"));
-        initHook(new AppLinkVerify(), mPrefsMap.getBoolean("system_framework_disable_app_link_verify"));
-        initHook(NoAccessDeviceLogsRequest.INSTANCE, mPrefsMap.getBoolean("various_disable_access_device_logs"));
-        initHook(new LinkTurboToast(), mPrefsMap.getBoolean("system_framework_disable_link_turbo_toast"));
-        initHook(new FlagSecure(), mPrefsMap.getBoolean("system_other_flag_secure"));
-        initHook(new AllowUntrustedTouchForU(), mPrefsMap.getBoolean("system_framework_allow_untrusted_touch"));
-        initHook(DeleteOnPostNotification.INSTANCE, mPrefsMap.getBoolean("system_other_delete_on_post_notification"));
-        initHook(new AllowManageAllNotifications(), mPrefsMap.getBoolean("system_framework_allow_manage_all_notifications"));
+        initHook(ScreenRotation::new, mPrefsMap.getBoolean("system_framework_screen_all_rotations"));
+        initHook(QuickScreenshot::new, mPrefsMap.getBoolean("system_framework_quick_screenshot"));
+        initHook(AntiQues::new, mPrefsMap.getBoolean("system_settings_anti_ques"));
+        initHook(DisablePinVerifyPer72h::new, mPrefsMap.getBoolean("system_framework_disable_72h_verify"));
+        initHook(ThermalBrightness::new, mPrefsMap.getBoolean("system_framework_other_thermal_brightness"));
+        initHook(AppLinkVerify::new, mPrefsMap.getBoolean("system_framework_disable_app_link_verify"));
+        initHook(() -> NoAccessDeviceLogsRequest.INSTANCE, mPrefsMap.getBoolean("various_disable_access_device_logs"));
+        initHook(LinkTurboToast::new, mPrefsMap.getBoolean("system_framework_disable_link_turbo_toast"));
+        initHook(FlagSecure::new, mPrefsMap.getBoolean("system_other_flag_secure"));
+        initHook(AllowUntrustedTouchForU::new, mPrefsMap.getBoolean("system_framework_allow_untrusted_touch"));
+        initHook(() -> DeleteOnPostNotification.INSTANCE, mPrefsMap.getBoolean("system_other_delete_on_post_notification"));
+        initHook(AllowManageAllNotifications::new, mPrefsMap.getBoolean("system_framework_allow_manage_all_notifications"));
 
         // 其它-底层
-        initHook(new DisableMiuiWatermark(), mPrefsMap.getBoolean("system_framework_disable_miui_watermark"));
-        initHook(new SpeedInstall(), mPrefsMap.getBoolean("system_framework_other_speed_install"));
-        initHook(new UseAndroidPackageInstaller(), mPrefsMap.getBoolean("system_framework_use_android_package_installer"));
-        initHook(DisableGestureMonitor.INSTANCE, mPrefsMap.getBoolean("system_framework_other_disable_gesture_monitor"));
-        initHook(DisableThermal.INSTANCE, mPrefsMap.getBoolean("system_framework_other_disable_thermal"));
-        initHook(new HookEntry(), mPrefsMap.getBoolean("system_framework_hook_entry"));
-        initHook(new DisableVerifyCanBeDisabled(), mPrefsMap.getBoolean("system_framework_disable_verify_can_ve_disabled"));
-        initHook(new DisableMiuiLite(), mPrefsMap.getBoolean("system_framework_disablt_miuilite_check"));
-        initHook(new PstedClipboard(), mPrefsMap.getBoolean("system_framework_posted_clipboard"));
-        initHook(new ClipboardWhitelist(), mPrefsMap.getBoolean("system_framework_clipboard_whitelist"));
-        initHook(new AllowDisableProtectedPackage(), mPrefsMap.getBoolean("system_framework_allow_disable_protected_package"));
-        initHook(new BypassUnknownSourcesRestrictions(), mPrefsMap.getBoolean("system_framework_bypass_unknown_sources_restrictions"));
-        initHook(new BypassForceMiAppStore(), mPrefsMap.getBoolean("system_framework_bypass_force_mi_appstore") || mPrefsMap.getBoolean("system_framework_market_use_detailmini"));
-        initHook(new BypassForceDownloadui(), mPrefsMap.getBoolean("system_framework_bypass_force_downloadui"));
-        initHook(ConservativeMilletFramework.INSTANCE, mPrefsMap.getBoolean("powerkeeper_conservative_millet"));
-        initHook(GMSDozeFixFramework.INSTANCE, mPrefsMap.getBoolean("powerkeeper_gms_doze_fix"));
+        initHook(DisableMiuiWatermark::new, mPrefsMap.getBoolean("system_framework_disable_miui_watermark"));
+        initHook(SpeedInstall::new, mPrefsMap.getBoolean("system_framework_other_speed_install"));
+        initHook(UseAndroidPackageInstaller::new, mPrefsMap.getBoolean("system_framework_use_android_package_installer"));
+        initHook(() -> DisableGestureMonitor.INSTANCE, mPrefsMap.getBoolean("system_framework_other_disable_gesture_monitor"));
+        initHook(() -> DisableThermal.INSTANCE, mPrefsMap.getBoolean("system_framework_other_disable_thermal"));
+        initHook(HookEntry::new, mPrefsMap.getBoolean("system_framework_hook_entry"));
+        initHook(DisableVerifyCanBeDisabled::new, mPrefsMap.getBoolean("system_framework_disable_verify_can_ve_disabled"));
+        initHook(DisableMiuiLite::new, mPrefsMap.getBoolean("system_framework_disablt_miuilite_check"));
+        initHook(PstedClipboard::new, mPrefsMap.getBoolean("system_framework_posted_clipboard"));
+        initHook(ClipboardWhitelist::new, mPrefsMap.getBoolean("system_framework_clipboard_whitelist"));
+        initHook(AllowDisableProtectedPackage::new, mPrefsMap.getBoolean("system_framework_allow_disable_protected_package"));
+        initHook(BypassUnknownSourcesRestrictions::new, mPrefsMap.getBoolean("system_framework_bypass_unknown_sources_restrictions"));
+        initHook(BypassForceMiAppStore::new, mPrefsMap.getBoolean("system_framework_bypass_force_mi_appstore") || mPrefsMap.getBoolean("system_framework_market_use_detailmini"));
+        initHook(BypassForceDownloadui::new, mPrefsMap.getBoolean("system_framework_bypass_force_downloadui"));
+        initHook(() -> ConservativeMilletFramework.INSTANCE, mPrefsMap.getBoolean("powerkeeper_conservative_millet"));
+        initHook(() -> GMSDozeFixFramework.INSTANCE, mPrefsMap.getBoolean("powerkeeper_gms_doze_fix"));
 
         // 清理菜单
-        initHook(new CleanShareMenu(), mPrefsMap.getBoolean("system_framework_clean_share_menu"));
-        initHook(new CleanOpenMenu(), mPrefsMap.getBoolean("system_framework_clean_open_menu"));
-        initHook(new CleanProcessTextMenu(), mPrefsMap.getBoolean("system_framework_clean_process_text_menu"));
+        initHook(CleanShareMenu::new, mPrefsMap.getBoolean("system_framework_clean_share_menu"));
+        initHook(CleanOpenMenu::new, mPrefsMap.getBoolean("system_framework_clean_open_menu"));
+        initHook(CleanProcessTextMenu::new, mPrefsMap.getBoolean("system_framework_clean_process_text_menu"));
 
         // 小米/红米平板设置相关
-        initHook(IgnoreStylusKeyGesture.INSTANCE, mPrefsMap.getBoolean("mipad_input_ingore_gesture"));
-        initHook(RemoveStylusBluetoothRestriction.INSTANCE, mPrefsMap.getBoolean("mipad_input_disable_bluetooth_new"));
-        initHook(RestoreEsc.INSTANCE, mPrefsMap.getBoolean("mipad_input_restore_esc"));
-        initHook(SetGestureNeedFingerNum.INSTANCE, mPrefsMap.getBoolean("mipad_input_need_finger_num"));
+        initHook(() -> IgnoreStylusKeyGesture.INSTANCE, mPrefsMap.getBoolean("mipad_input_ingore_gesture"));
+        initHook(() -> RemoveStylusBluetoothRestriction.INSTANCE, mPrefsMap.getBoolean("mipad_input_disable_bluetooth_new"));
+        initHook(() -> RestoreEsc.INSTANCE, mPrefsMap.getBoolean("mipad_input_restore_esc"));
+        initHook(() -> SetGestureNeedFingerNum.INSTANCE, mPrefsMap.getBoolean("mipad_input_need_finger_num"));
 
         if (mPrefsMap.getBoolean("misound_bluetooth") && isHyperOSVersion(2f)) {
             initHook(new EffectBinderProxy());
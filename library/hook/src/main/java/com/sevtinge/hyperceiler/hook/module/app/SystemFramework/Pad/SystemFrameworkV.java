@@ -95,95 +95,95 @@ public class SystemFrameworkV extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableMiuiWatermark(), mPrefsMap.getBoolean("system_framework_disable_miui_watermark"));
-        initHook(new AntiQues(), mPrefsMap.getBoolean("system_settings_anti_ques"));
+        initHook(DisableMiuiWatermark::new, mPrefsMap.getBoolean("system_framework_disable_miui_watermark"));
+        initHook(AntiQues::new, mPrefsMap.getBoolean("system_settings_anti_ques"));
         // 小窗
-        initHook(new AllowAutoStart(), mPrefsMap.getBoolean("system_framework_auto_start_apps_menu"));
-        initHook(new FreeFormCount(), mPrefsMap.getBoolean("system_framework_freeform_count"));
-        initHook(new FreeformBubble(), mPrefsMap.getBoolean("system_framework_freeform_bubble"));
-        initHook(new DisableFreeformBlackList(), mPrefsMap.getBoolean("system_framework_disable_freeform_blacklist"));
-        initHook(RemoveSmallWindowRestrictions.INSTANCE, mPrefsMap.getBoolean("system_framework_disable_freeform_blacklist"));
-        initHook(new StickyFloatingWindows(), mPrefsMap.getBoolean("system_framework_freeform_sticky"));
-        initHook(new OpenAppInFreeForm(), mPrefsMap.getBoolean("system_framework_freeform_jump"));
-        initHook(new UnForegroundPin(), mPrefsMap.getBoolean("system_framework_freeform_foreground_pin"));
-        // initHook(new OpenAppInFreeForm(), mPrefsMap.getBoolean("system_framework_freeform_jump"));
+        initHook(AllowAutoStart::new, mPrefsMap.getBoolean("system_framework_auto_start_apps_menu"));
+        initHook(FreeFormCount::new, mPrefsMap.getBoolean("system_framework_freeform_count"));
+        initHook(FreeformBubble::new, mPrefsMap.getBoolean("system_framework_freeform_bubble"));
+        initHook(DisableFreeformBlackList::new, mPrefsMap.getBoolean("system_framework_disable_freeform_blacklist"));
+        initHook(() -> RemoveSmallWindowRestrictions.INSTANCE, mPrefsMap.getBoolean("system_framework_disable_freeform_blacklist"));
+        initHook(StickyFloatingWindows::new, mPrefsMap.getBoolean("system_framework_freeform_sticky"));
+        initHook(OpenAppInFreeForm::new, mPrefsMap.getBoolean("system_framework_freeform_jump"));
+        initHook(UnForegroundPin::new, mPrefsMap.getBoolean("system_framework_freeform_foreground_pin"));
+        // initHook(OpenAppInFreeForm::new, mPrefsMap.getBoolean("system_framework_freeform_jump"));
 
         // 音量
-        initHook(new VolumeDefaultStream(), mPrefsMap.getStringAsInt("system_framework_default_volume_stream", 0) != 0);
-        initHook(new VolumeFirstPress(), mPrefsMap.getBoolean("system_framework_volume_first_press"));
-        initHook(new VolumeSteps(), mPrefsMap.getInt("system_framework_volume_steps", 0) > 0);
-        initHook(new VolumeMediaSteps(), mPrefsMap.getBoolean("system_framework_volume_media_steps_enable"));
-        initHook(new VolumeDisableSafe(), mPrefsMap.getStringAsInt("system_framework_volume_disable_safe_new", 0) != 0);
+        initHook(VolumeDefaultStream::new, mPrefsMap.getStringAsInt("system_framework_default_volume_stream", 0) != 0);
+        initHook(VolumeFirstPress::new, mPrefsMap.getBoolean("system_framework_volume_first_press"));
+        initHook(VolumeSteps::new, mPrefsMap.getInt("system_framework_volume_steps", 0) > 0);
+        initHook(VolumeMediaSteps::new, mPrefsMap.getBoolean("system_framework_volume_media_steps_enable"));
+        initHook(VolumeDisableSafe::new, mPrefsMap.getStringAsInt("system_framework_volume_disable_safe_new", 0) != 0);
 
         // 其他
-        initHook(new SystemLockApp(), mPrefsMap.getBoolean("system_framework_guided_access"));
-        initHook(new ScreenRotation(), mPrefsMap.getBoolean("system_framework_screen_all_rotations"));
-        initHook(new CleanShareMenu(), mPrefsMap.getBoolean("system_framework_clean_share_menu"));
-        initHook(new CleanOpenMenu(), mPrefsMap.getBoolean("system_framework_clean_open_menu"));
-        initHook(new CleanProcessTextMenu(), mPrefsMap.getBoolean("system_framework_clean_process_text_menu"));
-        initHook(new AllowUntrustedTouch(), mPrefsMap.getBoolean("system_framework_allow_untrusted_touch"));
-        initHook(new AllowUntrustedTouchForU(), mPrefsMap.getBoolean("system_framework_allow_untrusted_touch"));
-        initHook(new FlagSecure(), mPrefsMap.getBoolean("system_other_flag_secure"));
-        initHook(new AppLinkVerify(), mPrefsMap.getBoolean("system_framework_disable_app_link_verify"));
-        initHook(new SpeedInstall(), mPrefsMap.getBoolean("system_framework_other_speed_install"));
-        initHook(DeleteOnPostNotification.INSTANCE, mPrefsMap.getBoolean("system_other_delete_on_post_notification"));
-        initHook(NoAccessDeviceLogsRequest.INSTANCE, mPrefsMap.getBoolean("various_disable_access_device_logs"));
-        initHook(new DisableMiuiLite(), mPrefsMap.getBoolean("system_framework_disablt_miuilite_check"));
-        initHook(new HookEntry(), mPrefsMap.getBoolean("system_framework_hook_entry"));
-        initHook(new PstedClipboard(), mPrefsMap.getBoolean("system_framework_posted_clipboard"));
-        initHook(new AllowDisableProtectedPackage(), mPrefsMap.getBoolean("system_framework_allow_disable_protected_package"));
+        initHook(SystemLockApp::new, mPrefsMap.getBoolean("system_framework_guided_access"));
+        initHook(ScreenRotation::new, mPrefsMap.getBoolean("system_framework_screen_all_rotations"));
+        initHook(CleanShareMenu::new, mPrefsMap.getBoolean("system_framework_clean_share_menu"));
+        initHook(CleanOpenMenu::new, mPrefsMap.getBoolean("system_framework_clean_open_menu"));
+        initHook(CleanProcessTextMenu::new, mPrefsMap.getBoolean("system_framework_clean_process_text_menu"));
+        initHook(AllowUntrustedTouch::new, mPrefsMap.getBoolean("system_framework_allow_untrusted_touch"));
+        initHook(AllowUntrustedTouchForU::new, mPrefsMap.getBoolean("system_framework_allow_untrusted_touch"));
+        initHook(FlagSecure::new, mPrefsMap.getBoolean("system_other_flag_secure"));
+        initHook(AppLinkVerify::new, mPrefsMap.getBoolean("system_framework_disable_app_link_verify"));
+        initHook(SpeedInstall::new, mPrefsMap.getBoolean("system_framework_other_speed_install"));
+        initHook(() -> DeleteOnPostNotification.INSTANCE, mPrefsMap.getBoolean("system_other_delete_on_post_notification"));
+        initHook(() -> NoAccessDeviceLogsRequest.INSTANCE, mPrefsMap.getBoolean("various_disable_access_device_logs"));
+        initHook(DisableMiuiLite::new, mPrefsMap.getBoolean("system_framework_disablt_miuilite_check"));
+        initHook(HookEntry::new, mPrefsMap.getBoolean("system_framework_hook_entry"));
+        initHook(PstedClipboard::new, mPrefsMap.getBoolean("system_framework_posted_clipboard"));
+        initHook(AllowDisableProtectedPackage::new, mPrefsMap.getBoolean("system_framework_allow_disable_protected_package"));
         // 允许应用后台读取剪切板
-        initHook(new ClipboardWhitelist(), mPrefsMap.getBoolean("system_framework_clipboard_whitelist"));
-        initHook(new AllowManageAllNotifications(), mPrefsMap.getBoolean("system_framework_allow_manage_all_notifications"));
-        initHook(new BypassUnknownSourcesRestrictions(), mPrefsMap.getBoolean("system_framework_bypass_unknown_sources_restrictions"));
+        initHook(ClipboardWhitelist::new, mPrefsMap.getBoolean("system_framework_clipboard_whitelist"));
+        initHook(AllowManageAllNotifications::new, mPrefsMap.getBoolean("system_framework_allow_manage_all_notifications"));
+        initHook(BypassUnknownSourcesRestrictions::new, mPrefsMap.getBoolean("system_framework_bypass_unknown_sources_restrictions"));
 
-        initHook(new BypassForceMiAppStore(), mPrefsMap.getBoolean("system_framework_bypass_force_mi_appstore") || mPrefsMap.getBoolean("system_framework_market_use_detailmini"));
-        initHook(new BypassForceDownloadui(), mPrefsMap.getBoolean("system_framework_bypass_force_downloadui"));
+        initHook(BypassForceMiAppStore::new, mPrefsMap.getBoolean("system_framework_bypass_force_mi_appstore") || mPrefsMap.getBoolean("system_framework_market_use_detailmini"));
+        initHook(BypassForceDownloadui::new, mPrefsMap.getBoolean("system_framework_bypass_force_downloadui"));
 
         // 显示
-        initHook(DisplayCutout.INSTANCE, mPrefsMap.getBoolean("system_ui_display_hide_cutout_enable"));
-        initHook(new BackgroundBlur(), mPrefsMap.getBoolean("system_framework_background_blur_supported"));
-        initHook(EnhanceRecentsVisibility.INSTANCE, mPrefsMap.getBoolean("system_framework_enhance_recents_visibility"));
-        initHook(UseAOSPScreenShot.INSTANCE, mPrefsMap.getBoolean("system_ui_display_use_aosp_screenshot_enable"));
-        initHook(new AllDarkMode(), mPrefsMap.getBoolean("system_framework_allow_all_dark_mode"));
-        initHook(new ThemeProvider(), mPrefsMap.getBoolean("system_framework_allow_third_theme"));
+        initHook(() -> DisplayCutout.INSTANCE, mPrefsMap.getBoolean("system_ui_display_hide_cutout_enable"));
+        initHook(BackgroundBlur::new, mPrefsMap.getBoolean("system_framework_background_blur_supported"));
+        initHook(() -> EnhanceRecentsVisibility.INSTANCE, mPrefsMap.getBoolean("system_framework_enhance_recents_visibility"));
+        initHook(() -> UseAOSPScreenShot.INSTANCE, mPrefsMap.getBoolean("system_ui_display_use_aosp_screenshot_enable"));
+        initHook(AllDarkMode::new, mPrefsMap.getBoolean("system_framework_allow_all_dark_mode"));
+        initHook(ThemeProvider::new, mPrefsMap.getBoolean("system_framework_allow_third_theme"));
 
         // 小米/红米平板设置相关
-        initHook(IgnoreStylusKeyGesture.INSTANCE, mPrefsMap.getBoolean("mipad_input_ingore_gesture"));
-        initHook(RemoveStylusBluetoothRestriction.INSTANCE, mPrefsMap.getBoolean("mipad_input_disable_bluetooth_new"));
-        initHook(RestoreEsc.INSTANCE, mPrefsMap.getBoolean("mipad_input_restore_esc"));
-        initHook(SetGestureNeedFingerNum.INSTANCE, mPrefsMap.getBoolean("mipad_input_need_finger_num"));
+        initHook(() -> IgnoreStylusKeyGesture.INSTANCE, mPrefsMap.getBoolean("mipad_input_ingore_gesture"));
+        initHook(() -> RemoveStylusBluetoothRestriction.INSTANCE, mPrefsMap.getBoolean("mipad_input_disable_bluetooth_new"));
+        initHook(() -> RestoreEsc.INSTANCE, mPrefsMap.getBoolean("mipad_input_restore_esc"));
+        initHook(() -> SetGestureNeedFingerNum.INSTANCE, mPrefsMap.getBoolean("mipad_input_need_finger_num"));
 
         // 核心破解
-        initHook(BypassSignCheckForT.INSTANCE,
+        initHook(() -> BypassSignCheckForT.INSTANCE,
             (mPrefsMap.getBoolean("system_framework_core_patch_auth_creak") || mPrefsMap.getBoolean("system_framework_core_patch_disable_integrity"))
                 && mPrefsMap.getBoolean("system_framework_core_patch_enable")
         );
-        initHook(new BypassIsolationViolation(), mPrefsMap.getBoolean("system_framework_core_patch_bypass_isolation_violation"));
-        initHook(new AllowUpdateSystemApp(), mPrefsMap.getBoolean("system_framework_core_patch_allow_update_system_app"));
+        initHook(BypassIsolationViolation::new, mPrefsMap.getBoolean("system_framework_core_patch_bypass_isolation_violation"));
+        initHook(AllowUpdateSystemApp::new, mPrefsMap.getBoolean("system_framework_core_patch_allow_update_system_app"));
 
         // 网络
-        initHook(DualNRSupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_nr"));
-        initHook(DualSASupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_sa"));
-        initHook(N1Band.INSTANCE, mPrefsMap.getBoolean("phone_n1"));
-        initHook(N5N8Band.INSTANCE, mPrefsMap.getBoolean("phone_n5_n8"));
-        initHook(N28Band.INSTANCE, mPrefsMap.getBoolean("phone_n28"));
+        initHook(() -> DualNRSupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_nr"));
+        initHook(() -> DualSASupport.INSTANCE, mPrefsMap.getBoolean("phone_double_5g_sa"));
+        initHook(() -> N1Band.INSTANCE, mPrefsMap.getBoolean("phone_n1"));
+        initHook(() -> N5N8Band.INSTANCE, mPrefsMap.getBoolean("phone_n5_n8"));
+        initHook(() -> N28Band.INSTANCE, mPrefsMap.getBoolean("phone_n28"));
 
         // Other
         initHook(new PackagePermissions(), true);
         initHook(new GlobalActions(), true);
-        initHook(new ThermalBrightness(), mPrefsMap.getBoolean("system_framework_other_thermal_brightness"));
-        initHook(DisableCleaner.INSTANCE, mPrefsMap.getBoolean("system_framework_other_disable_cleaner"));
-        initHook(DisableGestureMonitor.INSTANCE, mPrefsMap.getBoolean("system_framework_other_disable_gesture_monitor"));
-        initHook(DisableThermal.INSTANCE, mPrefsMap.getBoolean("system_framework_other_disable_thermal"));
-        initHook(new DisablePinVerifyPer72h(), mPrefsMap.getBoolean("system_framework_disable_72h_verify"));
-        initHook(new DisableVerifyCanBeDisabled(), mPrefsMap.getBoolean("system_framework_disable_verify_can_ve_disabled"));
-        initHook(new UseAndroidPackageInstaller(), mPrefsMap.getBoolean("system_framework_use_android_package_installer"));
-        initHook(new QuickScreenshot(), mPrefsMap.getBoolean("system_framework_quick_screenshot"));
-        initHook(new LinkTurboToast(), mPrefsMap.getBoolean("system_framework_disable_link_turbo_toast"));
-
-        initHook(new DisableLowApiCheckForU(), mPrefsMap.getBoolean("system_framework_disable_low_api_check"));
-        initHook(new DisablePersistent(), mPrefsMap.getBoolean("system_framework_disable_persistent"));
+        initHook(ThermalBrightness::new, mPrefsMap.getBoolean("system_framework_other_thermal_brightness"));
+        initHook(() -> DisableCleaner.INSTANCE, mPrefsMap.getBoolean("system_framework_other_disable_cleaner"));
+        initHook(() -> DisableGestureMonitor.INSTANCE, mPrefsMap.getBoolean("system_framework_other_disable_gesture_monitor"));
+        initHook(() -> DisableThermal.INSTANCE, mPrefsMap.getBoolean("system_framework_other_disable_thermal"));
+        initHook(DisablePinVerifyPer72h::new, mPrefsMap.getBoolean("system_framework_disable_72h_verify"));
+        initHook(DisableVerifyCanBeDisabled::new, mPrefsMap.getBoolean("system_framework_disable_verify_can_ve_disabled"));
+        initHook(UseAndroidPackageInstaller::new, mPrefsMap.getBoolean("system_framework_use_android_package_installer"));
+        initHook(QuickScreenshot::new, mPrefsMap.getBoolean("system_framework_quick_screenshot"));
+        initHook(LinkTurboToast::new, mPrefsMap.getBoolean("system_framework_disable_link_turbo_toast"));
+
+        initHook(DisableLowApiCheckForU::new, mPrefsMap.getBoolean("system_framework_disable_low_api_check"));
+        initHook(DisablePersistent::new, mPrefsMap.getBoolean("system_framework_disable_persistent"));
 
         if (mPrefsMap.getBoolean("misound_bluetooth")) {
             initHook(new EffectBinderProxy());
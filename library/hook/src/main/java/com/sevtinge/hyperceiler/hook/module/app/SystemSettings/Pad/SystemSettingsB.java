@@ -54,49 +54,49 @@ public class SystemSettingsB extends BaseModule {
     @Override
     public void handleLoadPackage() {
         // 首页
-        initHook(new HyperCeilerSettings(), mPrefsMap.getStringAsInt("settings_icon", 0) != 0);
-        initHook(new InternationalBuild(), mPrefsMap.getBoolean("system_settings_international_build"));
-        initHook(UnlockXiaomiHyperAIEntranceKt.INSTANCE, mPrefsMap.getBoolean("system_settings_unlock_xiaomihyperai_entrance"));
-        initHook(new AddGoogleListHeader(), mPrefsMap.getBoolean("system_settings_unlock_google_header"));
+        initHook(HyperCeilerSettings::new, mPrefsMap.getStringAsInt("settings_icon", 0) != 0);
+        initHook(InternationalBuild::new, mPrefsMap.getBoolean("system_settings_international_build"));
+        initHook(() -> UnlockXiaomiHyperAIEntranceKt.INSTANCE, mPrefsMap.getBoolean("system_settings_unlock_xiaomihyperai_entrance"));
+        initHook(AddGoogleListHeader::new, mPrefsMap.getBoolean("system_settings_unlock_google_header"));
 
         // 系统更新伪装版本
-        initHook(new ModifySystemVersion(), mPrefsMap.getBoolean("updater_enable_miui_version") && mPrefsMap.getStringAsInt("updater_version_mode", 1) != 1);
+        initHook(ModifySystemVersion::new, mPrefsMap.getBoolean("updater_enable_miui_version") && mPrefsMap.getStringAsInt("updater_version_mode", 1) != 1);
 
         // VPN / 网络连接与共享
-        initHook(new ViewWifiPasswordHook(), mPrefsMap.getBoolean("system_settings_safe_wifi"));
-        initHook(new LinkTurbo(), mPrefsMap.getBoolean("system_settings_linkturbo"));
-        initHook(new NewNFCPage(), mPrefsMap.getBoolean("system_settings_new_nfc_page"));
-        initHook(new MoreVpnTypes(), mPrefsMap.getBoolean("system_settings_more_vpn_types"));
+        initHook(ViewWifiPasswordHook::new, mPrefsMap.getBoolean("system_settings_safe_wifi"));
+        initHook(LinkTurbo::new, mPrefsMap.getBoolean("system_settings_linkturbo"));
+        initHook(NewNFCPage::new, mPrefsMap.getBoolean("system_settings_new_nfc_page"));
+        initHook(MoreVpnTypes::new, mPrefsMap.getBoolean("system_settings_more_vpn_types"));
 
         // 特色功能
-        initHook(UnlockTaplusForSettings.INSTANCE, mPrefsMap.getBoolean("content_extension_unlock_taplus"));
+        initHook(() -> UnlockTaplusForSettings.INSTANCE, mPrefsMap.getBoolean("content_extension_unlock_taplus"));
 
         // 显示与息屏
-        initHook(new UnlockNeverSleepScreen(), mPrefsMap.getBoolean("system_settings_allow_never_lock_screen"));
-        initHook(new UnlockSuperResolution(), mPrefsMap.getBoolean("system_settings_ai_image_unlock_sr"));
-        initHook(new UnlockAi(), mPrefsMap.getBoolean("system_settings_ai_image_unlock_ai"));
-        initHook(new UnlockMemc(), mPrefsMap.getBoolean("system_settings_ai_image_unlock_memc"));
+        initHook(UnlockNeverSleepScreen::new, mPrefsMap.getBoolean("system_settings_allow_never_lock_screen"));
+        initHook(UnlockSuperResolution::new, mPrefsMap.getBoolean("system_settings_ai_image_unlock_sr"));
+        initHook(UnlockAi::new, mPrefsMap.getBoolean("system_settings_ai_image_unlock_ai"));
+        initHook(UnlockMemc::new, mPrefsMap.getBoolean("system_settings_ai_image_unlock_memc"));
 
         // 权限
-        initHook(new MoreNotificationSettings(), mPrefsMap.getBoolean("system_settings_more_notification_settings"));
-        initHook(new QuickManageOverlayPermission(), mPrefsMap.getBoolean("system_settings_permission_show_app_up"));
-        initHook(new QuickManagerAccessibilityPermission(), mPrefsMap.getBoolean("system_settings_permission_accessibility"));
+        initHook(MoreNotificationSettings::new, mPrefsMap.getBoolean("system_settings_more_notification_settings"));
+        initHook(QuickManageOverlayPermission::new, mPrefsMap.getBoolean("system_settings_permission_show_app_up"));
+        initHook(QuickManagerAccessibilityPermission::new, mPrefsMap.getBoolean("system_settings_permission_accessibility"));
 
         // 开发者选项
-        initHook(new UsbModeChoose(), mPrefsMap.getStringAsInt("system_settings_usb_mode_choose", 0) != 0
+        initHook(UsbModeChoose::new, mPrefsMap.getStringAsInt("system_settings_usb_mode_choose", 0) != 0
             || mPrefsMap.getBoolean("system_settings_usb_mode"));
-        initHook(new AppsFreezerEnable(), mPrefsMap.getBoolean("system_settings_apps_freezer"));
-        initHook(UnlockMaxFps.INSTANCE, mPrefsMap.getBoolean("system_settings_develop_max_fps"));
-        initHook(new EnableSpeedMode(), mPrefsMap.getBoolean("system_settings_develop_speed_mode"));
+        initHook(AppsFreezerEnable::new, mPrefsMap.getBoolean("system_settings_apps_freezer"));
+        initHook(() -> UnlockMaxFps.INSTANCE, mPrefsMap.getBoolean("system_settings_develop_max_fps"));
+        initHook(EnableSpeedMode::new, mPrefsMap.getBoolean("system_settings_develop_speed_mode"));
 
         // Others
-        initHook(new AntiQues(), mPrefsMap.getBoolean("system_settings_anti_ques"));
-        initHook(new AllowManageAllNotifications(), mPrefsMap.getBoolean("system_framework_allow_manage_all_notifications"));
+        initHook(AntiQues::new, mPrefsMap.getBoolean("system_settings_anti_ques"));
+        initHook(AllowManageAllNotifications::new, mPrefsMap.getBoolean("system_framework_allow_manage_all_notifications"));
         initHook(new RunningServices(), true); // 显示原生内存信息
-        // initHook(new BluetoothRestrict(), mPrefsMap.getBoolean("various_disable_bluetooth_restrict"));
-        initHook(new ControlCenterStyle(), mPrefsMap.getBoolean("system_control_center_unlock_old"));
-        initHook(NoveltyHaptic.INSTANCE, mPrefsMap.getBoolean("system_settings_novelty_haptic"));
+        // initHook(BluetoothRestrict::new, mPrefsMap.getBoolean("various_disable_bluetooth_restrict"));
+        initHook(ControlCenterStyle::new, mPrefsMap.getBoolean("system_control_center_unlock_old"));
+        initHook(() -> NoveltyHaptic.INSTANCE, mPrefsMap.getBoolean("system_settings_novelty_haptic"));
         // Pad
-        initHook(new ShowAutoUIMode(), mPrefsMap.getBoolean("system_settings_unlock_ui_mode"));
+        initHook(ShowAutoUIMode::new, mPrefsMap.getBoolean("system_settings_unlock_ui_mode"));
     }
 }
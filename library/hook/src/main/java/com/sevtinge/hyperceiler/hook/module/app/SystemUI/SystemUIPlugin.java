@@ -26,6 +26,6 @@ import com.sevtinge.hyperceiler.hook.module.rules.systemui.plugin.systemui.Flash
 public class SystemUIPlugin extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(FlashLightNotificationColor.INSTANCE, mPrefsMap.getBoolean("system_ui_control_center_opt_notification_element_background_color"));
+        initHook(() -> FlashLightNotificationColor.INSTANCE, mPrefsMap.getBoolean("system_ui_control_center_opt_notification_element_background_color"));
     }
 }
@@ -26,6 +26,6 @@ import com.sevtinge.hyperceiler.hook.module.rules.telecom.ScamReminderBypass;
 public class Telecom extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new ScamReminderBypass(), mPrefsMap.getBoolean("scam_reminder_bypass"));
+        initHook(ScamReminderBypass::new, mPrefsMap.getBoolean("scam_reminder_bypass"));
     }
 }
@@ -31,13 +31,13 @@ public class ThemeManager extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new AllowThirdTheme(), mPrefsMap.getBoolean("system_framework_allow_third_theme"));
-        initHook(new DisableThemeAdNew(), mPrefsMap.getBoolean("various_theme_disable_ads"));
-        initHook(new AllowDownloadMore(), mPrefsMap.getBoolean("theme_manager_allow_download_more"));
-        initHook(UnlockAIWallPaper.INSTANCE, mPrefsMap.getBoolean("theme_manager_unlock_ai_wallpaper"));
+        initHook(AllowThirdTheme::new, mPrefsMap.getBoolean("system_framework_allow_third_theme"));
+        initHook(DisableThemeAdNew::new, mPrefsMap.getBoolean("various_theme_disable_ads"));
+        initHook(AllowDownloadMore::new, mPrefsMap.getBoolean("theme_manager_allow_download_more"));
+        initHook(() -> UnlockAIWallPaper.INSTANCE, mPrefsMap.getBoolean("theme_manager_unlock_ai_wallpaper"));
 
         // 修改版本号
-        initHook(new VersionCodeModify(), mPrefsMap.getStringAsInt("theme_manager_new_version_code_modify", 0) != 0);
+        initHook(VersionCodeModify::new, mPrefsMap.getStringAsInt("theme_manager_new_version_code_modify", 0) != 0);
     }
 
 }
@@ -26,6 +26,6 @@ import com.sevtinge.hyperceiler.hook.module.rules.trustservice.DisableMrm;
 public class TrustService extends BaseModule {
     @Override
     public void handleLoadPackage() {
-        initHook(new DisableMrm(), mPrefsMap.getBoolean("trustservice_disable_mrm"));
+        initHook(DisableMrm::new, mPrefsMap.getBoolean("trustservice_disable_mrm"));
     }
 }
@@ -27,6 +27,6 @@ public class TsmClient extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(AutoNfc.INSTANCE, mPrefsMap.getBoolean("tsmclient_auto_nfc"));
+        initHook(() -> AutoNfc.INSTANCE, mPrefsMap.getBoolean("tsmclient_auto_nfc"));
     }
 }
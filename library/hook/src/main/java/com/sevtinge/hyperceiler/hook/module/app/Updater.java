@@ -38,12 +38,12 @@ public class Updater extends BaseModule {
             if (mPrefsMap.getStringAsInt("updater_version_mode", 1) != 1) {
                 initHook(VersionCodeNew.INSTANCE, true);
             } else {
-                initHook(new VersionCodeModify(), !TextUtils.isEmpty(mPrefsMap.getString("various_updater_miui_version", "")));
+                initHook(VersionCodeModify::new, !TextUtils.isEmpty(mPrefsMap.getString("various_updater_miui_version", "")));
             }
-            initHook(AndroidVersionCode.INSTANCE, !TextUtils.isEmpty(mPrefsMap.getString("various_updater_android_version", "")));
-            initHook(DeviceModify.INSTANCE, !TextUtils.isEmpty(mPrefsMap.getString("updater_device", "")));
+            initHook(() -> AndroidVersionCode.INSTANCE, !TextUtils.isEmpty(mPrefsMap.getString("various_updater_android_version", "")));
+            initHook(() -> DeviceModify.INSTANCE, !TextUtils.isEmpty(mPrefsMap.getString("updater_device", "")));
         }
-        initHook(new VabUpdate(), mPrefsMap.getBoolean("updater_fuck_vab"));
-        initHook(AutoUpdateDialog.INSTANCE, mPrefsMap.getBoolean("updater_diable_dialog"));
+        initHook(VabUpdate::new, mPrefsMap.getBoolean("updater_fuck_vab"));
+        initHook(() -> AutoUpdateDialog.INSTANCE, mPrefsMap.getBoolean("updater_diable_dialog"));
     }
 }
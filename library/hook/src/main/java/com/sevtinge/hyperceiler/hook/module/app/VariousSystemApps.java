@@ -39,11 +39,11 @@ public class VariousSystemApps extends BaseModule {
         mPackageName = mLoadPackageParam.packageName;
         isMiuiApps = mPackageName.startsWith("com.miui") || mPackageName.startsWith("com.xiaomi") || miuiDialogCustomApps.contains(mPackageName);
 
-        initHook(new NewUnPhraseLimit(), mPrefsMap.getBoolean("various_phrase_clipboardlist") && mPackageName.equals("com.miui.phrase"));
-        initHook(new MiuiAppNoOverScroll(), isMiuiOverScrollApps());
-        initHook(new DialogCustom(), isMiuiDialogCustom());
+        initHook(NewUnPhraseLimit::new, mPrefsMap.getBoolean("various_phrase_clipboardlist") && mPackageName.equals("com.miui.phrase"));
+        initHook(MiuiAppNoOverScroll::new, isMiuiOverScrollApps());
+        initHook(DialogCustom::new, isMiuiDialogCustom());
 
-        initHook(new CollapseMiuiTitle(), isCollapseMiuiTitleApps());
+        initHook(CollapseMiuiTitle::new, isCollapseMiuiTitleApps());
 
     }
 
@@ -55,16 +55,16 @@ public class VariousThirdApps extends BaseModule {
                 initHook(new ClipboardLimit());
             }
         }
-        initHook(new UnlockIme(), mPrefsMap.getBoolean("various_unlock_ime") && isInputMethod(mPackageName));
-        initHook(new SoGouClipboard(), mPrefsMap.getBoolean("sogou_xiaomi_clipboard") &&
+        initHook(UnlockIme::new, mPrefsMap.getBoolean("various_unlock_ime") && isInputMethod(mPackageName));
+        initHook(SoGouClipboard::new, mPrefsMap.getBoolean("sogou_xiaomi_clipboard") &&
                 ("com.sohu.inputmethod.sogou.xiaomi".equals(mPackageName) || "com.sohu.inputmethod.sogou".equals(mPackageName)));
-        initHook(new BaiduClipboard(), mPrefsMap.getBoolean("sogou_xiaomi_clipboard") &&
+        initHook(BaiduClipboard::new, mPrefsMap.getBoolean("sogou_xiaomi_clipboard") &&
                 ("com.baidu.input".equals(mPackageName) || "com.baidu.input_mi".equals(mPackageName)));
-        //initHook(new ClipboardList(), mPrefsMap.getBoolean("various_phrase_clipboardlist") && isInputMethod(mPackageName));
-        initHook(new ClearClipboard(), mPrefsMap.getBoolean("add_clipboard_clear") && isInputMethod(mPackageName));
+        //initHook(ClipboardList::new, mPrefsMap.getBoolean("various_phrase_clipboardlist") && isInputMethod(mPackageName));
+        initHook(ClearClipboard::new, mPrefsMap.getBoolean("add_clipboard_clear") && isInputMethod(mPackageName));
 
         // 焦点歌词（音乐软件相关）
-        initHook(MusicHooks.INSTANCE, mPrefsMap.getBoolean("system_ui_statusbar_music_switch") && mPrefsMap.getBoolean("system_ui_statusbar_music_show_app"));
+        initHook(() -> MusicHooks.INSTANCE, mPrefsMap.getBoolean("system_ui_statusbar_music_switch") && mPrefsMap.getBoolean("system_ui_statusbar_music_show_app"));
     }
 
     private List<String> getAppsUsingInputMethod(Context context) {
@@ -28,6 +28,6 @@ public class VoiceTrigger extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(BypassUDKWordLegalCheck.INSTANCE, mPrefsMap.getBoolean("bypass_voicetrigger_udk_legalcheck"));
+        initHook(() -> BypassUDKWordLegalCheck.INSTANCE, mPrefsMap.getBoolean("bypass_voicetrigger_udk_legalcheck"));
     }
 }
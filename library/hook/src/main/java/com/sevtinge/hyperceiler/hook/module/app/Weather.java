@@ -29,8 +29,8 @@ public class Weather extends BaseModule {
 
     @Override
     public void handleLoadPackage() {
-        initHook(new SetCardLightDarkMode(), mPrefsMap.getStringAsInt("weather_card_display_type", 0) != 0);
-        initHook(new SetDeviceLevel(), mPrefsMap.getStringAsInt("weather_device_level", 3) != 3);
-        initHook(UnlockSuperBlur.INSTANCE, mPrefsMap.getBoolean("weather_unlock_blur"));
+        initHook(SetCardLightDarkMode::new, mPrefsMap.getStringAsInt("weather_card_display_type", 0) != 0);
+        initHook(SetDeviceLevel::new, mPrefsMap.getStringAsInt("weather_device_level", 3) != 3);
+        initHook(() -> UnlockSuperBlur.INSTANCE, mPrefsMap.getBoolean("weather_unlock_blur"));
     }
 }
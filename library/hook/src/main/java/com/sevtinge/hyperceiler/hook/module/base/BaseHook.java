@@ -21,11 +21,13 @@ package com.sevtinge.hyperceiler.hook.module.base;
 import static com.sevtinge.hyperceiler.hook.utils.log.LogManager.logLevel;
 
 import com.sevtinge.hyperceiler.hook.XposedInit;
+import com.sevtinge.hyperceiler.hook.module.base.dexkit.IDexKit;
 import com.sevtinge.hyperceiler.hook.module.base.tool.HookTool;
 import com.sevtinge.hyperceiler.hook.module.base.tool.ResourcesTool;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Map;
 
 import de.robv.android.xposed.callbacks.XC_LoadPackage.LoadPackageParam;
 
@@ -37,6 +39,13 @@ public abstract class BaseHook extends HookTool {
 
     public abstract void init() throws NoSuchMethodException;
 
+    /*
+     * 声明 init 中需要的 DexKit 查找，仅对已启用的 Hook 调用。
+     * 模块会在所有 Hook 初始化前统一批量查找，init 中对同一 key 的 DexKit.findMember 将直接命中缓存。
+     * */
+    public void collectDexKit(Map<String, IDexKit> members) {
+    }
+
     public void onCreate(LoadPackageParam lpparam) {
         try {
             setLoadPackageParam(lpparam);
@@ -18,12 +18,14 @@
  */
 package com.sevtinge.hyperceiler.hook.module.base;
 
+import static com.sevtinge.hyperceiler.hook.utils.log.LogManager.logLevel;
 import static java.util.Arrays.asList;
 
 import com.hchen.hooktool.HCBase;
 import com.hchen.hooktool.HCInit;
 import com.sevtinge.hyperceiler.hook.XposedInit;
 import com.sevtinge.hyperceiler.hook.module.base.dexkit.DexKit;
+import com.sevtinge.hyperceiler.hook.module.base.dexkit.IDexKit;
 import com.sevtinge.hyperceiler.hook.module.base.tool.AppsTool;
 import com.sevtinge.hyperceiler.hook.safe.CrashData;
 import com.sevtinge.hyperceiler.hook.utils.ContextUtils;
@@ -37,6 +39,7 @@ import com.sevtinge.hyperceiler.hook.utils.prefs.PrefsUtils;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import de.robv.android.xposed.callbacks.XC_LoadPackage.LoadPackageParam;
 
@@ -51,6 +54,16 @@ public abstract class BaseModule {
         "com.miui.home"
     ));
 
+    private int mBuiltHooks = 0;
+    private int mSkippedHooks = 0;
+    private int mEagerSkippedHooks = 0;
+
+    /*
+     * handleLoadPackage 期间启用的 Hook 先按顺序暂存，
+     * 结束后统一收集它们的 DexKit 查找并批量执行，再依次初始化
+     * */
+    private ArrayList<Object> mPendingHooks = null;
+
     public abstract void handleLoadPackage();
 
     public void init(LoadPackageParam lpparam) {
@@ -64,7 +77,7 @@ public abstract class BaseModule {
         try {
             if (!Objects.equals(ProjectApi.mAppModulePkg, lpparam.packageName)) {
                 boolean isAndroid = "android".equals(lpparam.packageName);
-                ContextUtils.getWaitContext(context -> {
+                ContextUtils.onContextReady(context -> {
                     if (context != null) {
                         XposedInit.mResHook.loadModuleRes(context);
                     }
@@ -88,7 +101,15 @@ public abstract class BaseModule {
                     break;
                 }
             }
-            handleLoadPackage();
+            mPendingHooks = new ArrayList<>();
+            try {
+                handleLoadPackage();
+            } finally {
+                ArrayList<Object> pending = mPendingHooks;
+                mPendingHooks = null;
+                createHooks(pending);
+            }
+            logHookCount();
         } catch (Throwable e) {
             throw new RuntimeException(e);
         } finally {
@@ -121,23 +142,103 @@ public abstract class BaseModule {
     }
 
     public void initHook(Object hook, boolean isInit, String versionName, int versionCode) {
-        if (isInit) {
-            if (versionCode == -1 && versionName == null) {
-                onCreate(hook);
-                return;
-            }
-            int code = AppsTool.getPackageVersionCode(mLoadPackageParam);
-            String name = AppsTool.getPackageVersionName(mLoadPackageParam);
-            if (code == versionCode)
-                onCreate(hook);
-            if (name.equals(versionName))
-                onCreate(hook);
+        if (!isInit) mEagerSkippedHooks++;
+        initHook(() -> hook, isInit, versionName, versionCode);
+    }
+
+    /*
+     * 延迟构造的 initHook，仅在启用时才会创建 Hook 实例并加载对应的类
+     * 用法：initHook(SomeHook::new, mPrefsMap.getBoolean("key"))
+     * */
+    public void initHook(Supplier<?> hook, boolean isInit) {
+        initHook(hook, isInit, null, -1);
+    }
+
+    /*
+     * 等价于 initHook(hook, mPrefsMap.getBoolean(key))
+     * */
+    public void initHook(Supplier<?> hook, String key) {
+        initHook(hook, mPrefsMap.getBoolean(key), null, -1);
+    }
+
+    public void initHook(Supplier<?> hook, boolean isInit, String versionName) {
+        initHook(hook, isInit, versionName, -1);
+    }
+
+    public void initHook(Supplier<?> hook, boolean isInit, String versionName, int... versionCodes) {
+        for (int code : versionCodes) {
+            initHook(hook, isInit, versionName, code);
+        }
+    }
+
+    public void initHook(Supplier<?> hook, boolean isInit, int... versionCodes) {
+        for (int code : versionCodes) {
+            initHook(hook, isInit, null, code);
+        }
+    }
+
+    public void initHook(Supplier<?> hook, boolean isInit, String versionName, int versionCode) {
+        if (!isInit) {
+            mSkippedHooks++;
+            return;
+        }
+        if (versionCode == -1 && versionName == null) {
+            onCreate(hook.get());
+            return;
         }
+        int code = AppsTool.getPackageVersionCode(mLoadPackageParam);
+        String name = AppsTool.getPackageVersionName(mLoadPackageParam);
+        Object instance = null;
+        if (code == versionCode)
+            onCreate(instance = hook.get());
+        if (name.equals(versionName))
+            onCreate(instance != null ? instance : hook.get());
+        if (code != versionCode && !name.equals(versionName))
+            mSkippedHooks++;
     }
 
     private void onCreate(Object hook) {
+        if (!(hook instanceof BaseHook) && !(hook instanceof HCBase))
+            throw new RuntimeException("Unknown hook!");
+        mBuiltHooks++;
+        if (mPendingHooks != null) mPendingHooks.add(hook);
+        else createHook(hook);
+    }
+
+    private void createHooks(ArrayList<Object> hooks) {
+        prefetchDexKit(hooks);
+        for (Object hook : hooks) {
+            createHook(hook);
+        }
+    }
+
+    private void createHook(Object hook) {
         if (hook instanceof BaseHook baseHook) baseHook.onCreate(mLoadPackageParam);
         else if (hook instanceof HCBase HCBase) HCBase.onLoadPackage();
-        else throw new RuntimeException("Unknown hook!");
+    }
+
+    private void prefetchDexKit(ArrayList<Object> hooks) {
+        HashMap<String, IDexKit> members = new HashMap<>();
+        for (Object hook : hooks) {
+            if (!(hook instanceof BaseHook baseHook)) continue;
+            try {
+                baseHook.collectDexKit(members);
+            } catch (Throwable e) {
+                XposedLogUtils.logE(TAG, "collect dexkit failed! " + baseHook.TAG + ": " + e);
+            }
+        }
+        if (members.isEmpty()) return;
+        try {
+            DexKit.findMembers(members);
+        } catch (Throwable e) {
+            XposedLogUtils.logE(TAG, "prefetch dexkit failed! " + e);
+        }
+    }
+
+    private void logHookCount() {
+        if (logLevel >= 3) {
+            XposedLogUtils.logI(TAG, mLoadPackageParam.packageName, "Hook built: " + mBuiltHooks
+                + ", skipped: " + mSkippedHooks + " (eagerly constructed: " + mEagerSkippedHooks + ")");
+        }
     }
 }
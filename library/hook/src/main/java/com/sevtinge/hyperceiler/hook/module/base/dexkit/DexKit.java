@@ -21,16 +21,15 @@ package com.sevtinge.hyperceiler.hook.module.base.dexkit;
 import static com.sevtinge.hyperceiler.hook.module.base.tool.AppsTool.getPackageVersionCode;
 import static com.sevtinge.hyperceiler.hook.module.base.tool.AppsTool.getPackageVersionName;
 import static com.sevtinge.hyperceiler.hook.utils.devicesdk.SystemSDKKt.getSystemVersionIncremental;
-import static com.sevtinge.hyperceiler.hook.utils.shell.ShellUtils.rootExecCmd;
+import static com.sevtinge.hyperceiler.hook.utils.shell.ShellUtils.rootExecCmds;
 
 import android.content.Context;
 
 import androidx.annotation.NonNull;
-import androidx.annotation.Nullable;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.sevtinge.hyperceiler.hook.R;
+import com.sevtinge.hyperceiler.hook.module.base.dexkit.DexKitCache.MemberData;
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
 import com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils;
 
 import org.jetbrains.annotations.NotNull;
@@ -48,18 +47,12 @@ import org.luckypray.dexkit.wrap.DexField;
 import org.luckypray.dexkit.wrap.DexMethod;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.nio.channels.FileChannel;
-import java.nio.channels.FileLock;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import de.robv.android.xposed.callbacks.XC_LoadPackage;
 
@@ -71,21 +64,24 @@ public class DexKit {
     private static String TAG = "DexKit";
     private static volatile boolean isInit = false;
     private static final int mVersion = 7;
-    private static final String DEXKIT_CACHE_FILE = "/files/hyperceiler/dexkit_cache.json";
+    private static final String DEXKIT_CACHE_FILE = "/files/hyperceiler/dexkit_cache.bin";
+    private static final String DEXKIT_LEGACY_CACHE_FILE = "/files/hyperceiler/dexkit_cache.json";
     private static XC_LoadPackage.LoadPackageParam mParam;
-    private static final String TYPE_METHOD = "METHOD";
-    private static final String TYPE_CLASS = "CLASS";
-    private static final String TYPE_FIELD = "FIELD";
 
-    private static volatile Gson mGson = null;
     private static volatile DexKitBridge mDexKitBridge = null;
-    private static volatile File mCacheFile = null;
-    private static volatile CacheData mCacheData = null;
+    private static volatile DexKitCache mCacheData = null;
+
+    private static final AtomicInteger mCacheHits = new AtomicInteger();
+    private static final AtomicInteger mCacheMisses = new AtomicInteger();
+    private static volatile long mBridgeCreateTime = 0;
 
     public static void ready(XC_LoadPackage.LoadPackageParam param, String tag) {
         mParam = param;
         TAG = tag;
         isInit = false;
+        mCacheHits.set(0);
+        mCacheMisses.set(0);
+        mBridgeCreateTime = 0;
     }
 
     @NotNull
@@ -97,21 +93,35 @@ public class DexKit {
         if (mParam == null)
             throw new RuntimeException(TAG + ": lpparam is null!");
 
-        String hostDir = mParam.appInfo.sourceDir;
-        String cacheFilePath = mParam.appInfo.dataDir + DEXKIT_CACHE_FILE;
-        mGson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+        initCache();
 
-        // 初始化缓存文件
-        try {
-            mCacheFile = new File(cacheFilePath);
-            File cacheDir = mCacheFile.getParentFile();
-            if (cacheDir != null && !cacheDir.exists()) {
-                cacheDir.mkdirs();
-            }
+        // 启动 DexKit，仅在缓存未命中时才会走到这里
+        long start = System.nanoTime();
+        System.loadLibrary("dexkit");
+        mDexKitBridge = DexKitBridge.create(mParam.appInfo.sourceDir);
+        mBridgeCreateTime = System.nanoTime() - start;
+        isInit = true;
+
+        return mDexKitBridge;
+    }
 
-            // 读取或创建缓存
-            loadCacheData();
+    /**
+     * 只读取缓存，不加载 libdexkit，也不打开 APK
+     */
+    @NotNull
+    private static synchronized DexKitCache initCache() {
+        if (mCacheData != null)
+            return mCacheData;
+        if (mParam == null)
+            throw new RuntimeException(TAG + ": lpparam is null!");
 
+        String cacheFilePath = mParam.appInfo.dataDir + DEXKIT_CACHE_FILE;
+        String legacyFilePath = mParam.appInfo.dataDir + DEXKIT_LEGACY_CACHE_FILE;
+
+        // 读取或创建缓存
+        mCacheData = DexKitCache.load(new File(cacheFilePath), new File(legacyFilePath));
+
+        try {
             // 检查阶段
             String osVersion = getSystemVersionIncremental();
             String pkgVersionName = getPackageVersionName(mParam);
@@ -147,121 +157,153 @@ public class DexKit {
 
             // 如果任一检测触发，统一清理一次
             if (needClear) {
-                mCacheData.cache.clear();
+                mCacheData.clear();
             }
 
-            // 保证必要键存在并写入最新值
-            mCacheData.version = mVersion;
-            if (hasPkgVersion) {
-                mCacheData.pkgVersion = pkgVersion;
-            }
-            if (isSystemUI) {
-                mCacheData.osVersion = osVersion;
-            }
-
-            saveCacheData();
+            // 保证必要键存在并写入最新值，实际写盘延迟到 close()
+            mCacheData.setHeader(mVersion,
+                hasPkgVersion ? pkgVersion : mCacheData.pkgVersion,
+                isSystemUI ? osVersion : mCacheData.osVersion);
         } catch (Throwable t) {
             XposedLogUtils.logE(TAG, "Failed to init cache: ", t);
         }
 
-        // 启动 DexKit
-        System.loadLibrary("dexkit");
-        mDexKitBridge = DexKitBridge.create(hostDir);
-        isInit = true;
-
-        return mDexKitBridge;
+        return mCacheData;
     }
 
-    private static void loadCacheData() {
-        if (mCacheData != null) return;
+    /**
+     * 虽然泛型对 kt 不甚友好，但是已经是最好的方法了。
+     */
+    public static <T> T findMember(@NonNull String key, IDexKit iDexKit) {
+        return findMember(key, mParam.classLoader, iDexKit);
+    }
 
-        try {
-            if (mCacheFile != null && mCacheFile.exists()) {
-                try (FileReader reader = new FileReader(mCacheFile)) {
-                    mCacheData = mGson.fromJson(reader, CacheData.class);
-                }
+    public static <T> T findMember(@NonNull String key, ClassLoader classLoader, IDexKit iDexKit) {
+        MemberData cachedData = initCache().get(key);
+        if (cachedData == null) {
+            mCacheMisses.incrementAndGet();
+            try {
+                BaseData baseData = iDexKit.dexkit(initDexkitBridge());
+                MemberData memberData = toMemberData(baseData);
+                if (memberData == null) return null;
+                safePutMember(key, memberData);
+                return getMemberInstance(baseData, classLoader);
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
             }
-        } catch (Throwable t) {
-            XposedLogUtils.logW(TAG, "Failed to load cache data: ", t);
+        } else {
+            mCacheHits.incrementAndGet();
+            return getMemberInstance(cachedData, classLoader);
         }
+    }
 
-        if (mCacheData == null) {
-            mCacheData = new CacheData();
-        }
+    /**
+     * 批量查找，缓存命中的直接返回，未命中的依次查找后一次性写入缓存。
+     * <p>
+     * 返回 key 到成员实例的映射，查找失败的 key 对应 null。
+     */
+    public static Map<String, Object> findMembers(@NonNull Map<String, IDexKit> iDexKits) {
+        return findMembers(iDexKits, mParam.classLoader);
     }
 
-    private static void saveCacheData() {
-        if (mCacheFile == null || mCacheData == null) return;
+    public static Map<String, Object> findMembers(@NonNull Map<String, IDexKit> iDexKits, ClassLoader classLoader) {
+        HashMap<String, Object> result = new HashMap<>();
+        HashMap<String, IDexKit> misses = new HashMap<>();
+        DexKitCache cache = initCache();
 
-        try {
-            File cacheDir = mCacheFile.getParentFile();
-            if (cacheDir != null && !cacheDir.exists()) {
-                cacheDir.mkdirs();
+        for (Map.Entry<String, IDexKit> entry : iDexKits.entrySet()) {
+            MemberData cachedData = cache.get(entry.getKey());
+            if (cachedData == null) {
+                misses.put(entry.getKey(), entry.getValue());
+                continue;
             }
+            mCacheHits.incrementAndGet();
+            try {
+                result.put(entry.getKey(), getMemberInstance(cachedData, classLoader));
+            } catch (Throwable t) {
+                XposedLogUtils.logW(TAG, "Failed to load cached member for key=" + entry.getKey(), t);
+                result.put(entry.getKey(), null);
+            }
+        }
+        if (misses.isEmpty()) return result;
 
-            // 使用 FileLock 进行多进程安全读写
-            try (FileChannel channel = FileChannel.open(mCacheFile.toPath(),
-                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
-                FileLock lock = channel.lock();
-                try (FileWriter writer = new FileWriter(mCacheFile)) {
-                    writer.write(mGson.toJson(mCacheData));
-                    writer.flush();
-                } finally {
-                    lock.release();
-                }
+        mCacheMisses.addAndGet(misses.size());
+        DexKitBridge dexKitBridge = initDexkitBridge();
+
+        // 同一 DexKitBridge 上的查询依次执行，单次查询内部已由 DexKit 自身多线程完成
+        HashMap<String, BaseData> found = new HashMap<>();
+        for (Map.Entry<String, IDexKit> entry : misses.entrySet()) {
+            found.put(entry.getKey(), runDexKit(entry.getKey(), entry.getValue(), dexKitBridge));
+        }
+
+        HashMap<String, MemberData> newData = new HashMap<>();
+        for (Map.Entry<String, BaseData> entry : found.entrySet()) {
+            BaseData baseData = entry.getValue();
+            MemberData memberData = toMemberData(baseData);
+            if (memberData != null) newData.put(entry.getKey(), memberData);
+            try {
+                result.put(entry.getKey(), baseData == null ? null : getMemberInstance(baseData, classLoader));
+            } catch (Throwable t) {
+                XposedLogUtils.logW(TAG, "Failed to load member for key=" + entry.getKey(), t);
+                result.put(entry.getKey(), null);
             }
+        }
+        if (mCacheData != null && !newData.isEmpty()) {
+            mCacheData.putAll(newData);
+        }
+        return result;
+    }
+
+    private static BaseData runDexKit(String key, IDexKit iDexKit, DexKitBridge bridge) {
+        try {
+            return iDexKit.dexkit(bridge);
         } catch (Throwable t) {
-            XposedLogUtils.logW(TAG, "Failed to save cache data: ", t);
+            XposedLogUtils.logW(TAG, "Batch find failed for key=" + key, t);
+            return null;
         }
     }
 
-    /**
-     * 虽然泛型对 kt 不甚友好，但是已经是最好的方法了。
-     */
-    public static <T> T findMember(@NonNull String key, IDexKit iDexKit) {
-        return findMember(key, mParam.classLoader, iDexKit);
+    private static MemberData toMemberData(BaseData baseData) {
+        if (baseData instanceof FieldData fieldData) {
+            return new MemberData(DexKitCache.TYPE_FIELD, fieldData.toDexField().serialize());
+        } else if (baseData instanceof MethodData methodData) {
+            return new MemberData(DexKitCache.TYPE_METHOD, methodData.toDexMethod().serialize());
+        } else if (baseData instanceof ClassData classData) {
+            return new MemberData(DexKitCache.TYPE_CLASS, classData.toDexType().serialize());
+        }
+        return null;
     }
 
-    public static <T> T findMember(@NonNull String key, ClassLoader classLoader, IDexKit iDexKit) {
-        DexKitBridge dexKitBridge = initDexkitBridge();
-        MemberData cachedData = mCacheData.cache.get(key);
-        if (cachedData == null) {
-            try {
-                BaseData baseData = iDexKit.dexkit(dexKitBridge);
-                if (baseData instanceof FieldData fieldData) {
-                    String serialized = fieldData.toDexField().serialize();
-                    safePutMember(key, new MemberData(TYPE_FIELD, serialized));
-                    return (T) fieldData.getFieldInstance(classLoader);
-                } else if (baseData instanceof MethodData methodData) {
-                    String serialized = methodData.toDexMethod().serialize();
-                    safePutMember(key, new MemberData(TYPE_METHOD, serialized));
-                    return (T) methodData.getMethodInstance(classLoader);
-                } else if (baseData instanceof ClassData classData) {
-                    String serialized = classData.toDexType().serialize();
-                    safePutMember(key, new MemberData(TYPE_CLASS, serialized));
-                    return (T) classData.getInstance(classLoader);
-                }
-            } catch (ReflectiveOperationException e) {
-                throw new RuntimeException(e);
-            }
-        } else {
-            try {
-                String serialized = cachedData.data.isEmpty() ? null : cachedData.data.get(0);
-                if (serialized != null) {
-                    switch (cachedData.type) {
-                        case TYPE_METHOD:
-                            return (T) new DexMethod(serialized).getMethodInstance(classLoader);
-                        case TYPE_FIELD:
-                            return (T) new DexField(serialized).getFieldInstance(classLoader);
-                        case TYPE_CLASS:
-                            return (T) new DexClass(serialized).getInstance(classLoader);
-                        default:
-                            XposedLogUtils.logW(TAG, "Unknown member data type: " + cachedData.type);
-                    }
+    @SuppressWarnings("unchecked")
+    private static <T> T getMemberInstance(BaseData baseData, ClassLoader classLoader) throws ReflectiveOperationException {
+        if (baseData instanceof FieldData fieldData) {
+            return (T) fieldData.getFieldInstance(classLoader);
+        } else if (baseData instanceof MethodData methodData) {
+            return (T) methodData.getMethodInstance(classLoader);
+        } else if (baseData instanceof ClassData classData) {
+            return (T) classData.getInstance(classLoader);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T getMemberInstance(MemberData cachedData, ClassLoader classLoader) {
+        try {
+            String serialized = cachedData.data.isEmpty() ? null : cachedData.data.get(0);
+            if (serialized != null) {
+                switch (cachedData.type) {
+                    case DexKitCache.TYPE_METHOD:
+                        return (T) new DexMethod(serialized).getMethodInstance(classLoader);
+                    case DexKitCache.TYPE_FIELD:
+                        return (T) new DexField(serialized).getFieldInstance(classLoader);
+                    case DexKitCache.TYPE_CLASS:
+                        return (T) new DexClass(serialized).getInstance(classLoader);
+                    default:
+                        XposedLogUtils.logW(TAG, "Unknown member data type: " + cachedData.type);
                 }
-            } catch (NoSuchMethodException | NoSuchFieldException | ClassNotFoundException e) {
-                throw new RuntimeException(e);
             }
+        } catch (NoSuchMethodException | NoSuchFieldException | ClassNotFoundException e) {
+            throw new RuntimeException(e);
         }
         return null;
     }
@@ -271,11 +313,11 @@ public class DexKit {
     }
 
     public static <T> List<T> findMemberList(@NonNull String key, ClassLoader classLoader, IDexKitList iDexKitList) {
-        DexKitBridge dexKitBridge = initDexkitBridge();
-        MemberData cachedData = mCacheData.cache.get(key);
+        MemberData cachedData = initCache().get(key);
         if (cachedData == null) {
+            mCacheMisses.incrementAndGet();
             try {
-                BaseDataList<?> baseDataList = iDexKitList.dexkit(dexKitBridge);
+                BaseDataList<?> baseDataList = iDexKitList.dexkit(initDexkitBridge());
                 ArrayList<String> serializeList = new ArrayList<>();
                 ArrayList<T> instanceList = new ArrayList<>();
                 if (baseDataList instanceof FieldDataList fieldDataList) {
@@ -283,37 +325,38 @@ public class DexKit {
                         serializeList.add(f.toDexField().serialize());
                         instanceList.add((T) f.getFieldInstance(classLoader));
                     }
-                    safePutMember(key, new MemberData(TYPE_FIELD, serializeList));
+                    safePutMember(key, new MemberData(DexKitCache.TYPE_FIELD, serializeList));
                     return instanceList;
                 } else if (baseDataList instanceof MethodDataList methodDataList) {
                     for (MethodData m : methodDataList) {
                         serializeList.add(m.toDexMethod().serialize());
                         instanceList.add((T) m.getMethodInstance(classLoader));
                     }
-                    safePutMember(key, new MemberData(TYPE_METHOD, serializeList));
+                    safePutMember(key, new MemberData(DexKitCache.TYPE_METHOD, serializeList));
                     return instanceList;
                 } else if (baseDataList instanceof ClassDataList classDataList) {
                     for (ClassData c : classDataList) {
                         serializeList.add(c.toDexType().serialize());
                         instanceList.add((T) c.getInstance(classLoader));
                     }
-                    safePutMember(key, new MemberData(TYPE_CLASS, serializeList));
+                    safePutMember(key, new MemberData(DexKitCache.TYPE_CLASS, serializeList));
                     return instanceList;
                 }
             } catch (ReflectiveOperationException e) {
                 throw new RuntimeException(e);
             }
         } else {
+            mCacheHits.incrementAndGet();
             ArrayList<T> instanceList = new ArrayList<>();
             try {
                 switch (cachedData.type) {
-                    case TYPE_METHOD:
+                    case DexKitCache.TYPE_METHOD:
                         for (String s : cachedData.data) instanceList.add((T) new DexMethod(s).getMethodInstance(classLoader));
                         return instanceList;
-                    case TYPE_FIELD:
+                    case DexKitCache.TYPE_FIELD:
                         for (String s : cachedData.data) instanceList.add((T) new DexField(s).getFieldInstance(classLoader));
                         return instanceList;
-                    case TYPE_CLASS:
+                    case DexKitCache.TYPE_CLASS:
                         for (String s : cachedData.data) instanceList.add((T) new DexClass(s).getInstance(classLoader));
                         return instanceList;
                     default:
@@ -329,8 +372,7 @@ public class DexKit {
     private static void safePutMember(@NonNull String key, @NonNull MemberData data) {
         if (mCacheData == null) return;
         try {
-            mCacheData.cache.put(key, data);
-            saveCacheData();
+            mCacheData.put(key, data);
         } catch (Throwable t) {
             XposedLogUtils.logW(TAG, "Failed to write dexkit cache for key=" + key + ": " + t.getMessage(), t);
         }
@@ -338,17 +380,17 @@ public class DexKit {
 
     public static void deleteAllCache(Context context) {
         String[] folderNames = context.getResources().getStringArray(R.array.xposed_scope);
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.submit(() -> {
+        ThreadPoolManager.executeIo(() -> {
+            // 全部命令在同一个 Root 会话中执行
+            ArrayList<String> commands = new ArrayList<>(folderNames.length * 2);
             for (String folderName : folderNames) {
-                try {
-                    String folderPath = "/data/data/" + folderName + "/files/hyperceiler";
-                    rootExecCmd("rm -f " + folderPath);
-                    folderPath = "/data/user_de/0/" + folderName + "/files/hyperceiler";
-                    rootExecCmd("rm -f " + folderPath);
-                } catch (Throwable t) {
-                    XposedLogUtils.logW(TAG, "Failed to delete cache for " + folderName + ": " + t.getMessage(), t);
-                }
+                commands.add("rm -f /data/data/" + folderName + "/files/hyperceiler");
+                commands.add("rm -f /data/user_de/0/" + folderName + "/files/hyperceiler");
+            }
+            try {
+                rootExecCmds(commands);
+            } catch (Throwable t) {
+                XposedLogUtils.logW(TAG, "Failed to delete cache: " + t.getMessage(), t);
             }
         });
     }
@@ -357,49 +399,24 @@ public class DexKit {
      * 请勿手动调用。
      */
     public static synchronized void close() {
-        if (!isInit) return;
-
         if (mDexKitBridge != null) {
             mDexKitBridge.close();
             mDexKitBridge = null;
         }
+        // 本次新增的缓存统一写盘
+        if (mCacheData != null) {
+            mCacheData.flush();
+            mCacheData = null;
+            logStats();
+        }
         mParam = null;
-        mGson = null;
         isInit = false;
     }
 
-    private static final class CacheData {
-        public int version = 7;
-        public String pkgVersion;
-        public String osVersion;
-        public Map<String, MemberData> cache = new HashMap<>();
-    }
-
-    private static final class MemberData {
-        public String type;
-        public List<String> data = new ArrayList<>();
-
-        public MemberData(String type, String serialize) {
-            this.type = type;
-            this.data.add(serialize);
-        }
-
-        public MemberData(String type, ArrayList<String> serializeList) {
-            this.type = type;
-            this.data = new ArrayList<>(serializeList);
-        }
-
-        @NonNull
-        @Override
-        public String toString() {
-            return "Type: " + type + ", Data: " + data;
-        }
-
-        @Override
-        public boolean equals(@Nullable Object obj) {
-            return obj instanceof MemberData memberData
-                && Objects.equals(memberData.type, type)
-                && Objects.equals(memberData.data, data);
-        }
+    private static void logStats() {
+        if (mParam == null) return;
+        String bridge = isInit ? "created in " + (mBridgeCreateTime / 1000000) + "ms" : "not created";
+        XposedLogUtils.logI(TAG, mParam.packageName, "DexKit cache hit: " + mCacheHits.get()
+            + ", miss: " + mCacheMisses.get() + ", bridge " + bridge);
     }
 }
@@ -0,0 +1,335 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.module.base.dexkit;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DexKit 成员缓存的二进制存储
+ * <p>
+ * 启动时通过 FileChannel.map 一次性读入，新增条目只保存在内存中，
+ * 由 {@link #flush()} 统一写入临时文件后原子替换。旧版 json 缓存会在首次读取时迁移。
+ * <p>
+ * 文件格式（大端序）：
+ * <pre>
+ * int    MAGIC
+ * int    FORMAT_VERSION
+ * int    version
+ * string pkgVersion
+ * string osVersion
+ * int    count
+ * count * { string key, byte type, int size, size * string data }
+ * </pre>
+ * string 为 int 长度 + UTF-8 字节，长度 -1 表示 null。
+ */
+final class DexKitCache {
+    private static final String TAG = "DexKitCache";
+    private static final int MAGIC = 0x48434458; // "HCDX"
+    private static final int FORMAT_VERSION = 1;
+
+    static final byte TYPE_METHOD = 0;
+    static final byte TYPE_CLASS = 1;
+    static final byte TYPE_FIELD = 2;
+
+    int version;
+    String pkgVersion;
+    String osVersion;
+    private final Map<String, MemberData> cache = new HashMap<>();
+    private final Map<String, MemberData> pending = new HashMap<>();
+    private boolean headerDirty = false;
+    private boolean cleared = false;
+
+    private final File mCacheFile;
+    private final File mLegacyFile;
+
+    private DexKitCache(File cacheFile, File legacyFile) {
+        mCacheFile = cacheFile;
+        mLegacyFile = legacyFile;
+    }
+
+    /**
+     * 读取缓存，二进制缓存不存在时尝试从旧版 json 迁移
+     */
+    @NonNull
+    static DexKitCache load(@NonNull File cacheFile, @Nullable File legacyFile) {
+        DexKitCache dexKitCache = new DexKitCache(cacheFile, legacyFile);
+        try {
+            if (cacheFile.exists()) {
+                dexKitCache.readBinary();
+            } else if (legacyFile != null && legacyFile.exists()) {
+                dexKitCache.readLegacyJson();
+            }
+        } catch (Throwable t) {
+            XposedLogUtils.logW(TAG, "Failed to load cache data: ", t);
+            dexKitCache.cache.clear();
+            dexKitCache.version = 0;
+            dexKitCache.pkgVersion = null;
+            dexKitCache.osVersion = null;
+        }
+        return dexKitCache;
+    }
+
+    @Nullable
+    synchronized MemberData get(@NonNull String key) {
+        return cache.get(key);
+    }
+
+    synchronized void put(@NonNull String key, @NonNull MemberData data) {
+        cache.put(key, data);
+        pending.put(key, data);
+    }
+
+    synchronized void putAll(@NonNull Map<String, MemberData> data) {
+        cache.putAll(data);
+        pending.putAll(data);
+    }
+
+    synchronized void clear() {
+        cache.clear();
+        pending.clear();
+        cleared = true;
+    }
+
+    synchronized void setHeader(int version, String pkgVersion, String osVersion) {
+        if (this.version != version || !Objects.equals(this.pkgVersion, pkgVersion) || !Objects.equals(this.osVersion, osVersion)) {
+            this.version = version;
+            this.pkgVersion = pkgVersion;
+            this.osVersion = osVersion;
+            headerDirty = true;
+        }
+    }
+
+    synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * 将本进程新增的条目写回磁盘，无变更时不做任何 IO
+     */
+    synchronized void flush() {
+        if (pending.isEmpty() && !headerDirty && !cleared) return;
+
+        File cacheDir = mCacheFile.getParentFile();
+        if (cacheDir != null && !cacheDir.exists()) {
+            cacheDir.mkdirs();
+        }
+
+        File lockFile = new File(mCacheFile.getPath() + ".lock");
+        File tmpFile = new File(mCacheFile.getPath() + ".tmp");
+        // 使用 FileLock 进行多进程安全读写
+        try (RandomAccessFile lockRaf = new RandomAccessFile(lockFile, "rw");
+             FileLock ignored = lockRaf.getChannel().lock()) {
+            // 合并其他进程在此期间写入的条目，本进程的新条目优先
+            if (!cleared && mCacheFile.exists()) {
+                DexKitCache onDisk = new DexKitCache(mCacheFile, null);
+                onDisk.readBinary();
+                if (onDisk.version == version && Objects.equals(onDisk.pkgVersion, pkgVersion)
+                    && Objects.equals(onDisk.osVersion, osVersion)) {
+                    for (Map.Entry<String, MemberData> entry : onDisk.cache.entrySet()) {
+                        cache.putIfAbsent(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+
+            try (FileOutputStream fos = new FileOutputStream(tmpFile)) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos));
+                writeBinary(out);
+                out.flush();
+                fos.getFD().sync();
+            }
+            if (!tmpFile.renameTo(mCacheFile)) {
+                throw new IOException("Failed to rename " + tmpFile + " to " + mCacheFile);
+            }
+            if (mLegacyFile != null && mLegacyFile.exists()) {
+                mLegacyFile.delete();
+            }
+            pending.clear();
+            headerDirty = false;
+            cleared = false;
+        } catch (Throwable t) {
+            tmpFile.delete();
+            XposedLogUtils.logW(TAG, "Failed to save cache data: ", t);
+        }
+    }
+
+    private void readBinary() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(mCacheFile, "r");
+             FileChannel channel = raf.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                    XposedLogUtils.logD(TAG, "Unknown cache format, ignore: " + mCacheFile);
+                    return;
+                }
+                version = buffer.getInt();
+                pkgVersion = readString(buffer);
+                osVersion = readString(buffer);
+                int count = buffer.getInt();
+                for (int i = 0; i < count; i++) {
+                    String key = readString(buffer);
+                    byte type = buffer.get();
+                    int size = buffer.getInt();
+                    ArrayList<String> data = new ArrayList<>(size);
+                    for (int j = 0; j < size; j++) {
+                        data.add(readString(buffer));
+                    }
+                    cache.put(key, new MemberData(type, data));
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Corrupted cache file: " + mCacheFile, e);
+            }
+        }
+    }
+
+    private void writeBinary(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(version);
+        writeString(out, pkgVersion);
+        writeString(out, osVersion);
+        out.writeInt(cache.size());
+        for (Map.Entry<String, MemberData> entry : cache.entrySet()) {
+            MemberData memberData = entry.getValue();
+            writeString(out, entry.getKey());
+            out.writeByte(memberData.type);
+            out.writeInt(memberData.data.size());
+            for (String s : memberData.data) {
+                writeString(out, s);
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) return null;
+        if (length > buffer.remaining()) throw new IllegalArgumentException("Invalid string length: " + length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private void readLegacyJson() throws IOException {
+        try (FileReader reader = new FileReader(mLegacyFile)) {
+            LegacyCacheData legacy = new Gson().fromJson(reader, LegacyCacheData.class);
+            if (legacy == null) return;
+            version = legacy.version;
+            pkgVersion = legacy.pkgVersion;
+            osVersion = legacy.osVersion;
+            if (legacy.cache != null) {
+                for (Map.Entry<String, LegacyMemberData> entry : legacy.cache.entrySet()) {
+                    LegacyMemberData memberData = entry.getValue();
+                    if (memberData == null || memberData.data == null) continue;
+                    byte type = switch (String.valueOf(memberData.type)) {
+                        case "METHOD" -> TYPE_METHOD;
+                        case "CLASS" -> TYPE_CLASS;
+                        case "FIELD" -> TYPE_FIELD;
+                        default -> -1;
+                    };
+                    if (type == -1) continue;
+                    cache.put(entry.getKey(), new MemberData(type, new ArrayList<>(memberData.data)));
+                }
+            }
+            // 迁移后的数据需要写入新格式
+            headerDirty = true;
+            XposedLogUtils.logD(TAG, "Migrated " + cache.size() + " entries from " + mLegacyFile);
+        }
+    }
+
+    static final class MemberData {
+        final byte type;
+        final List<String> data;
+
+        MemberData(byte type, String serialize) {
+            this.type = type;
+            this.data = new ArrayList<>(1);
+            this.data.add(serialize);
+        }
+
+        MemberData(byte type, List<String> serializeList) {
+            this.type = type;
+            this.data = serializeList;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Type: " + type + ", Data: " + data;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj instanceof MemberData memberData
+                && memberData.type == type
+                && Objects.equals(memberData.data, data);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, data);
+        }
+    }
+
+    /**
+     * 旧版 dexkit_cache.json 的结构，仅用于迁移
+     */
+    private static final class LegacyCacheData {
+        public int version;
+        public String pkgVersion;
+        public String osVersion;
+        public Map<String, LegacyMemberData> cache;
+    }
+
+    private static final class LegacyMemberData {
+        public String type;
+        public List<String> data;
+    }
+}
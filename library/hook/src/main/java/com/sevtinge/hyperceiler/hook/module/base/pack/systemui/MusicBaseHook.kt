@@ -38,6 +38,7 @@ import android.graphics.drawable.Icon
 import android.media.session.PlaybackState
 import android.os.Bundle
 import android.util.Base64
+import android.util.LruCache
 import android.util.TypedValue
 import android.view.View
 import android.widget.RemoteViews
@@ -58,13 +59,14 @@ import io.github.kyuubiran.ezxhelper.core.finder.MethodFinder.`-Static`.methodFi
 import io.github.kyuubiran.ezxhelper.core.util.ClassUtil.loadClass
 import io.github.kyuubiran.ezxhelper.xposed.dsl.HookFactory.`-Static`.createAfterHook
 import org.json.JSONObject
+import java.util.concurrent.atomic.AtomicInteger
 import kotlin.math.min
 
 abstract class MusicBaseHook : BaseHook() {
     val context: Application by lazy { AndroidAppHelper.currentApplication() }
     private val nSize: Float by lazy { mPrefsMap.getInt("system_ui_statusbar_music_size_n", 15).toFloat() }
-    private val hideAodShow: Boolean by lazy { mPrefsMap.getBoolean("system_ui_statusbar_music_hide_aod") }
-    private val isAodMode: Boolean by lazy { mPrefsMap.getBoolean("system_ui_statusbar_music_show_aod_mode") }
+    private val hideAodShow: Boolean get() = mPrefsMap.getBoolean("system_ui_statusbar_music_hide_aod")
+    private val isAodMode: Boolean get() = mPrefsMap.getBoolean("system_ui_statusbar_music_show_aod_mode")
     private val isShowApp by lazy { mPrefsMap.getBoolean("system_ui_statusbar_music_show_app") }
 
     // 缓存资源 ID
@@ -80,6 +82,19 @@ abstract class MusicBaseHook : BaseHook() {
         )
     }
 
+    // 图标缓存，键为包名与 base64Icon 的哈希，命中后再比对原始字符串以排除哈希碰撞，歌词逐行更新时无需重复解码
+    private val iconCache = LruCache<String, IconBundle>(ICON_CACHE_SIZE)
+    private val appInfoCache = LruCache<String, Pair<String, Intent?>>(ICON_CACHE_SIZE)
+
+    // 上一次发送的通知内容，未变化时不再重复发送
+    private var lastNotifyKey: String? = null
+    private var lastNotifyIcon: String? = null
+    private var channelCreated = false
+
+    private val decodeCount = AtomicInteger()
+    private val postCount = AtomicInteger()
+    private val skipCount = AtomicInteger()
+
     private val receiver = object : ISuperLyric.Stub() {
         override fun onSuperLyric(data: SuperLyricData) {
             runCatching { this@MusicBaseHook.onSuperLyric(data) }
@@ -110,15 +125,33 @@ abstract class MusicBaseHook : BaseHook() {
     abstract fun onStop()
 
     @SuppressLint("NotificationPermission", "LaunchActivityFromNotification")
+    @Synchronized
     fun sendNotification(text: String, extraData: SuperLyricData) {
-        createNotificationChannel()
+        val isClickClock = mPrefsMap.getBoolean("system_ui_statusbar_music_click_clock")
+        val tf = extraData.translation
+        val hideAod = hideAodShow
+        val aodMode = isAodMode
+        val base64Icon = extraData.base64Icon ?: ""
+        val iconKey = iconCacheKey(extraData.packageName, base64Icon)
+
+        // 歌词、翻译、图标、点击行为与息屏显示设置均未变化时，通知内容与上次相同
+        val notifyKey = "${extraData.packageName}\u0000$isClickClock\u0000$hideAod\u0000$aodMode\u0000$text\u0000$tf"
+        if (notifyKey == lastNotifyKey && base64Icon == lastNotifyIcon) {
+            skipCount.incrementAndGet()
+            return
+        }
+
+        if (!channelCreated) {
+            createNotificationChannel()
+            channelCreated = true
+        }
 
         val modRes = OtherTool.getModuleRes(context)
-        val isClickClock = mPrefsMap.getBoolean("system_ui_statusbar_music_click_clock")
         val (musicAppName, launchIntent) = resolveAppNameAndLaunchIntent(extraData.packageName)
 
         // 准备图标
-        val iconBundle = prepareIcons(extraData, launchIntent)
+        val iconBundle = iconCache.get(iconKey)?.takeIf { it.source == base64Icon }
+            ?: prepareIcons(extraData, base64Icon, launchIntent).also { iconCache.put(iconKey, it) }
 
         // 拆分文字
         val (leftText, rightText) = splitSmart(text, SplitConfig(maxLength = 6))
@@ -135,12 +168,15 @@ abstract class MusicBaseHook : BaseHook() {
         // Island template
         val islandTemplate = buildIslandTemplate(modRes, leftText, rightText, musicAppName, text)
 
-        val tf = extraData.translation
-
         // 发送通知
-        sendFocusNotification(builder, text, tf, iconBundle, islandTemplate, extraData.packageName)
+        sendFocusNotification(builder, text, tf, iconBundle, islandTemplate, extraData.packageName, hideAod, aodMode)
+        lastNotifyKey = notifyKey
+        lastNotifyIcon = base64Icon
     }
 
+    private fun iconCacheKey(packageName: String?, base64Icon: String): String =
+        "$packageName:${base64Icon.length}:${base64Icon.hashCode()}"
+
     private fun createPendingIntent(isClickClock: Boolean, launchIntent: Intent?): PendingIntent? {
         val intent = Intent("$CHANNEL_ID.actions.switchClockStatus")
         return if (isClickClock) {
@@ -152,6 +188,7 @@ abstract class MusicBaseHook : BaseHook() {
 
     private fun resolveAppNameAndLaunchIntent(packageName: String?): Pair<String, Intent?> {
         if (packageName == null) return ("unknown" to null)
+        appInfoCache.get(packageName)?.let { return it }
         return try {
             val appInfo = context.packageManager.getApplicationInfo(packageName, 0)
             val label = context.packageManager.getApplicationLabel(appInfo).toString()
@@ -160,10 +197,10 @@ abstract class MusicBaseHook : BaseHook() {
         } catch (e: Exception) {
             logE(TAG, e)
             packageName to context.packageManager.getLaunchIntentForPackage(packageName)
-        }
+        }.also { appInfoCache.put(packageName, it) }
     }
 
-    private fun prepareIcons(extraData: SuperLyricData, launchIntent: Intent?): IconBundle {
+    private fun prepareIcons(extraData: SuperLyricData, base64Icon: String, launchIntent: Intent?): IconBundle {
         val baseBitmap = base64ToBitmap(extraData.base64Icon)
         val activityIconBitmap = runCatching {
             launchIntent?.let { context.packageManager.getActivityIcon(it).toBitmap() }
@@ -177,6 +214,7 @@ abstract class MusicBaseHook : BaseHook() {
         val hasTint = baseBitmap != null
 
         return IconBundle(
+            source = base64Icon,
             primaryBitmap = primaryBitmap,
             icon = Icon.createWithBitmap(primaryBitmap).apply { if (hasTint) setTint(Color.WHITE) },
             darkIcon = Icon.createWithBitmap(primaryBitmap).apply { if (hasTint) setTint(Color.BLACK) },
@@ -200,7 +238,9 @@ abstract class MusicBaseHook : BaseHook() {
         tf: String?,
         iconBundle: IconBundle,
         islandTemplate: JSONObject,
-        packageName: String?
+        packageName: String?,
+        hideAod: Boolean,
+        aodMode: Boolean
     ) {
         val iconsAdd = createIconsBundle(iconBundle)
 
@@ -209,7 +249,7 @@ abstract class MusicBaseHook : BaseHook() {
             val remoteIsland = buildRemoteViews(tf, text, RemoteViewType.ISLAND)
 
             val focusExtras = when {
-                !hideAodShow && isAodMode -> {
+                !hideAod && aodMode -> {
                     val remoteAod = buildRemoteViews(tf, text, RemoteViewType.AOD, iconBundle.icon)
                     FocusApi.sendDiyFocus(
                         addpics = iconsAdd,
@@ -226,7 +266,7 @@ abstract class MusicBaseHook : BaseHook() {
                         pictickerdark = iconBundle.darkIcon
                     )
                 }
-                !hideAodShow && !isAodMode -> FocusApi.sendDiyFocus(
+                !hideAod && !aodMode -> FocusApi.sendDiyFocus(
                     addpics = iconsAdd,
                     islandFirstFloat = false,
                     ticker = text,
@@ -259,7 +299,7 @@ abstract class MusicBaseHook : BaseHook() {
             postNotification(builder, focusExtras, packageName)
         }.onFailure { e ->
             logE(TAG, lpparam.packageName, "send diy focus failed: ${e.message}")
-            sendFallbackNotification(builder, text, tf, iconBundle, islandTemplate, packageName, iconsAdd)
+            sendFallbackNotification(builder, text, tf, iconBundle, islandTemplate, packageName, iconsAdd, hideAod)
         }
     }
 
@@ -270,7 +310,8 @@ abstract class MusicBaseHook : BaseHook() {
         iconBundle: IconBundle,
         islandTemplate: JSONObject,
         packageName: String?,
-        iconsAdd: Bundle
+        iconsAdd: Bundle,
+        hideAod: Boolean
     ) {
         runCatching {
             val baseinfo = FocusApi.baseinfo(
@@ -278,7 +319,7 @@ abstract class MusicBaseHook : BaseHook() {
                 title = text,
                 content = tf
             )
-            val apiFallback = if (!hideAodShow) {
+            val apiFallback = if (!hideAod) {
                 FocusApi.sendFocus(
                     addpics = iconsAdd,
                     ticker = text,
@@ -317,6 +358,7 @@ abstract class MusicBaseHook : BaseHook() {
         val notification = builder.build()
         (context.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager)
             .notify(CHANNEL_ID.hashCode(), notification)
+        postCount.incrementAndGet()
     }
 
     private fun buildIslandTemplate(modRes: Resources, leftText: String, rightText: String?, musicAppName: String, originalText: String): JSONObject {
@@ -395,14 +437,23 @@ abstract class MusicBaseHook : BaseHook() {
     }
 
     @SuppressLint("NotificationPermission")
+    @Synchronized
     fun cancelNotification() {
         (context.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager).cancel(CHANNEL_ID.hashCode())
+        lastNotifyKey = null
+        lastNotifyIcon = null
+        logD(
+            TAG, lpparam.packageName,
+            "lyric notification stats: decoded=${decodeCount.get()}, posted=${postCount.get()}, skipped=${skipCount.get()}"
+        )
     }
 
     /**
      * 将 Base64 字符串转换为 Bitmap
      */
-    private fun base64ToBitmap(base64: String): Bitmap? = runCatching {
+    private fun base64ToBitmap(base64: String?): Bitmap? = runCatching {
+        if (base64.isNullOrEmpty()) return null
+        decodeCount.incrementAndGet()
         val bytes = Base64.decode(base64, Base64.DEFAULT)
         BitmapFactory.decodeByteArray(bytes, 0, bytes.size)
     }.getOrNull()
@@ -427,6 +478,7 @@ abstract class MusicBaseHook : BaseHook() {
 
     companion object {
         const val CHANNEL_ID: String = "channel_id_focusNotifLyrics"
+        private const val ICON_CACHE_SIZE = 4
     }
 
     fun splitSmart(input: String, config: SplitConfig): Pair<String, String?> {
@@ -527,6 +579,7 @@ private data class ResourceIds(
  * 图标包
  */
 private data class IconBundle(
+    val source: String,
     val primaryBitmap: Bitmap,
     val icon: Icon,
     val darkIcon: Icon,
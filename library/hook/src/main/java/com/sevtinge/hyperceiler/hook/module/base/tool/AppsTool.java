@@ -19,7 +19,6 @@
 package com.sevtinge.hyperceiler.hook.module.base.tool;
 
 import static com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils.logE;
-import static de.robv.android.xposed.XposedHelpers.findAndHookMethod;
 
 import android.annotation.SuppressLint;
 import android.app.backup.BackupManager;
@@ -38,6 +37,7 @@ import android.util.Log;
 import android.util.LruCache;
 import android.widget.TextView;
 
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
 import com.sevtinge.hyperceiler.hook.utils.api.ProjectApi;
 import com.sevtinge.hyperceiler.hook.utils.log.AndroidLogUtils;
 import com.sevtinge.hyperceiler.hook.utils.prefs.PrefsUtils;
@@ -45,10 +45,7 @@ import com.sevtinge.hyperceiler.hook.utils.shell.ShellInit;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
-import de.robv.android.xposed.XC_MethodHook;
 import de.robv.android.xposed.XposedHelpers;
 import de.robv.android.xposed.callbacks.XC_LoadPackage;
 
@@ -111,18 +108,11 @@ public class AppsTool {
     // Permissions 权限
     @SuppressLint({"SetWorldReadable", "SetWorldWritable"})
     public static void fixPermissionsAsync(Context context) {
-        Executor executor = Executors.newSingleThreadExecutor();
-        executor.execute(() -> {
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-
+        ThreadPoolManager.scheduleIo(() -> {
             setFilePermissions(context.getDataDir());
             setFilePermissions(new File(PrefsUtils.getSharedPrefsPath()));
             setFilePermissions(new File(PrefsUtils.getSharedPrefsFile()));
-        });
+        }, 500);
     }
 
     private static void setFilePermissions(File file) {
@@ -181,48 +171,18 @@ public class AppsTool {
         }
     }
 
+    /**
+     * @see PackageVersionResolver
+     */
     public static String getPackageVersionName(XC_LoadPackage.LoadPackageParam lpparam) {
-        try {
-            Class<?> parserCls = XposedHelpers.findClass("android.content.pm.PackageParser", lpparam.classLoader);
-            Object parser = parserCls.getDeclaredConstructor().newInstance();
-            File apkPath = new File(lpparam.appInfo.sourceDir);
-            if (apkPath.toString().contains("com.miui.securecenter")) {
-                findAndHookMethod(parserCls, "setMaxAspectRatio", float.class, new XC_MethodHook() {
-                    @Override
-                    protected void beforeHookedMethod(MethodHookParam param) throws Throwable {
-                        Object arg0 = param.args[0];
-                        if (arg0 instanceof Integer) param.args[0] = (float) (int) arg0;
-                    }
-                });
-            }
-            Object pkg = XposedHelpers.callMethod(parser, "parsePackage", apkPath, 0);
-            return (String) XposedHelpers.getObjectField(pkg, "mVersionName");
-        } catch (Throwable e) {
-            logE("getPackageVersionName", e);
-            return "null";
-        }
+        return PackageVersionResolver.getVersionName(lpparam);
     }
 
+    /**
+     * @see PackageVersionResolver
+     */
     public static int getPackageVersionCode(XC_LoadPackage.LoadPackageParam lpparam) {
-        try {
-            Class<?> parserCls = XposedHelpers.findClass("android.content.pm.PackageParser", lpparam.classLoader);
-            Object parser = parserCls.getDeclaredConstructor().newInstance();
-            File apkPath = new File(lpparam.appInfo.sourceDir);
-            if (apkPath.toString().contains("com.miui.securecenter")) {
-                findAndHookMethod(parserCls, "setMaxAspectRatio", float.class, new XC_MethodHook() {
-                    @Override
-                    protected void beforeHookedMethod(MethodHookParam param) throws Throwable {
-                        Object arg0 = param.args[0];
-                        if (arg0 instanceof Integer) param.args[0] = (float) (int) arg0;
-                    }
-                });
-            }
-            Object pkg = XposedHelpers.callMethod(parser, "parsePackage", apkPath, 0);
-            return XposedHelpers.getIntField(pkg, "mVersionCode");
-        } catch (Throwable e) {
-            logE("getPackageVersionCode", e);
-            return -1;
-        }
+        return PackageVersionResolver.getVersionCode(lpparam);
     }
 
     public static boolean killApps(String[] packageNames, int signal) {
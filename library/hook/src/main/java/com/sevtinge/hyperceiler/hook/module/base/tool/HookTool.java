@@ -21,6 +21,7 @@ package com.sevtinge.hyperceiler.hook.module.base.tool;
 import static com.sevtinge.hyperceiler.hook.module.base.BaseHook.mResHook;
 
 import com.sevtinge.hyperceiler.hook.BuildConfig;
+import com.sevtinge.hyperceiler.hook.utils.log.HookStats;
 import com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils;
 import com.sevtinge.hyperceiler.hook.utils.prefs.PrefsMap;
 import com.sevtinge.hyperceiler.hook.utils.prefs.PrefsUtils;
@@ -117,6 +118,17 @@ public class HookTool extends XposedLogUtils {
 
         @Override
         public void beforeHookedMethod(MethodHookParam param) throws Throwable {
+            if (HookStats.isEnabled() && HookStats.overrides(getClass(), MethodHook.class, HookStats.PHASE_BEFORE)) {
+                long start = System.nanoTime();
+                boolean failed = false;
+                try {
+                    this.before(param);
+                } catch (Throwable t) {
+                    failed = true;
+                }
+                HookStats.record(this, HookStats.PHASE_BEFORE, param.method, System.nanoTime() - start, failed);
+                return;
+            }
             try {
                 this.before(param);
             } catch (Throwable t) {
@@ -126,6 +138,17 @@ public class HookTool extends XposedLogUtils {
 
         @Override
         public void afterHookedMethod(MethodHookParam param) throws Throwable {
+            if (HookStats.isEnabled() && HookStats.overrides(getClass(), MethodHook.class, HookStats.PHASE_AFTER)) {
+                long start = System.nanoTime();
+                boolean failed = false;
+                try {
+                    this.after(param);
+                } catch (Throwable t) {
+                    failed = true;
+                }
+                HookStats.record(this, HookStats.PHASE_AFTER, param.method, System.nanoTime() - start, failed);
+                return;
+            }
             try {
                 this.after(param);
             } catch (Throwable t) {
@@ -149,12 +172,19 @@ public class HookTool extends XposedLogUtils {
 
         @Override
         public void beforeHookedMethod(MethodHookParam param) throws Throwable {
+            boolean timed = HookStats.isEnabled();
+            long start = timed ? System.nanoTime() : 0;
+            boolean failed = false;
             try {
                 Object result = replace(param);
                 param.setResult(result);
             } catch (Throwable t) {
+                failed = true;
                 param.setThrowable(t);
             }
+            if (timed) {
+                HookStats.record(this, HookStats.PHASE_REPLACE, param.method, System.nanoTime() - start, failed);
+            }
         }
     }
 
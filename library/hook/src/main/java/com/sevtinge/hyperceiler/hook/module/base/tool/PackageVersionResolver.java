@@ -0,0 +1,286 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.module.base.tool;
+
+import static com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils.logD;
+import static com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils.logE;
+import static de.robv.android.xposed.XposedHelpers.findAndHookMethod;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import de.robv.android.xposed.XC_MethodHook;
+import de.robv.android.xposed.XposedHelpers;
+import de.robv.android.xposed.callbacks.XC_LoadPackage;
+
+/**
+ * 宿主应用版本号解析
+ * <p>
+ * 只读取 APK 中二进制 AndroidManifest.xml 的根节点获取 versionCode 与 versionName，
+ * 结果按 APK 路径在进程内缓存，同一进程中的所有调用者共享一次解析。
+ * 仅当 versionName 引用了资源等清单中无法直接取得的情况，才回退到 PackageParser 解析整个 APK。
+ */
+public final class PackageVersionResolver {
+    private static final String TAG = "PackageVersionResolver";
+
+    private static final int RES_STRING_POOL_TYPE = 0x0001;
+    private static final int RES_XML_TYPE = 0x0003;
+    private static final int RES_XML_START_ELEMENT_TYPE = 0x0102;
+    private static final int RES_XML_RESOURCE_MAP_TYPE = 0x0180;
+    private static final int UTF8_FLAG = 1 << 8;
+
+    private static final int TYPE_STRING = 0x03;
+    private static final int TYPE_FIRST_INT = 0x10;
+    private static final int TYPE_LAST_INT = 0x1f;
+
+    private static final int ATTR_VERSION_CODE = 0x0101021b;
+    private static final int ATTR_VERSION_NAME = 0x0101021c;
+
+    // 与 AppsTool 原有行为一致的失败返回值
+    public static final String UNKNOWN_NAME = "null";
+    public static final int UNKNOWN_CODE = -1;
+
+    private static final ConcurrentHashMap<String, Version> sCache = new ConcurrentHashMap<>();
+
+    private PackageVersionResolver() {
+    }
+
+    public static final class Version {
+        public final int versionCode;
+        @NonNull
+        public final String versionName;
+
+        Version(int versionCode, @NonNull String versionName) {
+            this.versionCode = versionCode;
+            this.versionName = versionName;
+        }
+    }
+
+    @NonNull
+    public static Version resolve(@NonNull XC_LoadPackage.LoadPackageParam lpparam) {
+        if (lpparam.appInfo == null || lpparam.appInfo.sourceDir == null) {
+            return new Version(UNKNOWN_CODE, UNKNOWN_NAME);
+        }
+        return sCache.computeIfAbsent(lpparam.appInfo.sourceDir, path -> load(lpparam, path));
+    }
+
+    public static int getVersionCode(@NonNull XC_LoadPackage.LoadPackageParam lpparam) {
+        return resolve(lpparam).versionCode;
+    }
+
+    @NonNull
+    public static String getVersionName(@NonNull XC_LoadPackage.LoadPackageParam lpparam) {
+        return resolve(lpparam).versionName;
+    }
+
+    private static Version load(XC_LoadPackage.LoadPackageParam lpparam, String path) {
+        long start = System.nanoTime();
+        Integer code = null;
+        String name = null;
+        try {
+            byte[] manifest = readManifest(new File(path));
+            if (manifest != null) {
+                Object[] values = parseManifest(manifest);
+                code = (Integer) values[0];
+                name = (String) values[1];
+            }
+        } catch (Throwable t) {
+            logE(TAG, "Failed to read manifest of " + path + ": " + t);
+        }
+
+        if (code == null) {
+            // ApplicationInfo.versionCode 为隐藏字段
+            try {
+                code = XposedHelpers.getIntField(lpparam.appInfo, "versionCode");
+            } catch (Throwable ignored) {
+            }
+        }
+        if (code == null || name == null) {
+            Object pkg = parseWithPackageParser(lpparam, path);
+            if (pkg != null) {
+                if (code == null) code = XposedHelpers.getIntField(pkg, "mVersionCode");
+                if (name == null) name = (String) XposedHelpers.getObjectField(pkg, "mVersionName");
+            }
+        }
+
+        Version version = new Version(code != null ? code : UNKNOWN_CODE, name != null ? name : UNKNOWN_NAME);
+        logD(TAG, lpparam.packageName + " version " + version.versionName + "(" + version.versionCode + ") resolved in "
+            + (System.nanoTime() - start) / 1000 + "us");
+        return version;
+    }
+
+    @Nullable
+    private static byte[] readManifest(File apk) throws IOException {
+        try (ZipFile zipFile = new ZipFile(apk)) {
+            ZipEntry entry = zipFile.getEntry("AndroidManifest.xml");
+            if (entry == null) return null;
+            try (InputStream in = zipFile.getInputStream(entry)) {
+                long size = entry.getSize();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(size > 0 ? (int) size : 8192);
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            }
+        }
+    }
+
+    /**
+     * 解析二进制清单的根节点
+     *
+     * @return {versionCode, versionName}，无法直接取得的值为 null
+     */
+    @NonNull
+    static Object[] parseManifest(@NonNull byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        if ((buffer.getShort(0) & 0xffff) != RES_XML_TYPE) {
+            throw new IllegalArgumentException("Not a binary xml");
+        }
+        int offset = buffer.getShort(2) & 0xffff;
+        int end = Math.min(buffer.getInt(4), data.length);
+
+        int stringPool = -1;
+        int[] resourceIds = new int[0];
+        while (offset + 8 <= end) {
+            int type = buffer.getShort(offset) & 0xffff;
+            int headerSize = buffer.getShort(offset + 2) & 0xffff;
+            int size = buffer.getInt(offset + 4);
+            if (size < 8 || offset + size > end) break;
+            switch (type) {
+                case RES_STRING_POOL_TYPE -> stringPool = offset;
+                case RES_XML_RESOURCE_MAP_TYPE -> {
+                    resourceIds = new int[(size - headerSize) / 4];
+                    for (int i = 0; i < resourceIds.length; i++) {
+                        resourceIds[i] = buffer.getInt(offset + headerSize + i * 4);
+                    }
+                }
+                case RES_XML_START_ELEMENT_TYPE -> {
+                    // 根节点即 <manifest>
+                    return readRootAttributes(buffer, offset, headerSize, stringPool, resourceIds);
+                }
+                default -> {
+                }
+            }
+            offset += size;
+        }
+        throw new IllegalArgumentException("Manifest element not found");
+    }
+
+    private static Object[] readRootAttributes(ByteBuffer buffer, int offset, int headerSize, int stringPool, int[] resourceIds) {
+        int ext = offset + headerSize;
+        int attributeStart = buffer.getShort(ext + 8) & 0xffff;
+        int attributeSize = buffer.getShort(ext + 10) & 0xffff;
+        int attributeCount = buffer.getShort(ext + 12) & 0xffff;
+
+        Integer code = null;
+        String name = null;
+        for (int i = 0; i < attributeCount; i++) {
+            int attr = ext + attributeStart + i * attributeSize;
+            int nameIndex = buffer.getInt(attr + 4);
+            int rawValue = buffer.getInt(attr + 8);
+            int dataType = buffer.get(attr + 15) & 0xff;
+            int value = buffer.getInt(attr + 16);
+
+            int resId = nameIndex >= 0 && nameIndex < resourceIds.length ? resourceIds[nameIndex] : 0;
+            String attrName = resId == 0 ? getString(buffer, stringPool, nameIndex) : null;
+            if (resId == ATTR_VERSION_CODE || (resId == 0 && "versionCode".equals(attrName))) {
+                if (dataType >= TYPE_FIRST_INT && dataType <= TYPE_LAST_INT) code = value;
+            } else if (resId == ATTR_VERSION_NAME || (resId == 0 && "versionName".equals(attrName))) {
+                // 引用类型的 versionName 需要资源表，交给 PackageParser 处理
+                if (dataType == TYPE_STRING) {
+                    name = getString(buffer, stringPool, value);
+                } else if (rawValue != -1) {
+                    name = getString(buffer, stringPool, rawValue);
+                }
+            }
+        }
+        return new Object[]{code, name};
+    }
+
+    @Nullable
+    private static String getString(ByteBuffer buffer, int pool, int index) {
+        if (pool < 0 || index < 0) return null;
+        int stringCount = buffer.getInt(pool + 8);
+        if (index >= stringCount) return null;
+        int flags = buffer.getInt(pool + 16);
+        int stringsStart = buffer.getInt(pool + 20);
+        int headerSize = buffer.getShort(pool + 2) & 0xffff;
+        int position = pool + stringsStart + buffer.getInt(pool + headerSize + index * 4);
+
+        if ((flags & UTF8_FLAG) != 0) {
+            // UTF-16 长度与 UTF-8 长度，各占 1 或 2 字节
+            position += (buffer.get(position) & 0x80) != 0 ? 2 : 1;
+            int length = buffer.get(position) & 0xff;
+            if ((length & 0x80) != 0) {
+                length = ((length & 0x7f) << 8) | (buffer.get(position + 1) & 0xff);
+                position += 2;
+            } else {
+                position += 1;
+            }
+            return new String(buffer.array(), position, length, StandardCharsets.UTF_8);
+        }
+
+        int length = buffer.getShort(position) & 0xffff;
+        if ((length & 0x8000) != 0) {
+            length = ((length & 0x7fff) << 16) | (buffer.getShort(position + 2) & 0xffff);
+            position += 4;
+        } else {
+            position += 2;
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.getChar(position + i * 2);
+        }
+        return new String(chars);
+    }
+
+    @Nullable
+    private static Object parseWithPackageParser(XC_LoadPackage.LoadPackageParam lpparam, String path) {
+        try {
+            Class<?> parserCls = XposedHelpers.findClass("android.content.pm.PackageParser", lpparam.classLoader);
+            Object parser = parserCls.getDeclaredConstructor().newInstance();
+            if (path.contains("com.miui.securecenter")) {
+                findAndHookMethod(parserCls, "setMaxAspectRatio", float.class, new XC_MethodHook() {
+                    @Override
+                    protected void beforeHookedMethod(MethodHookParam param) throws Throwable {
+                        Object arg0 = param.args[0];
+                        if (arg0 instanceof Integer) param.args[0] = (float) (int) arg0;
+                    }
+                });
+            }
+            return XposedHelpers.callMethod(parser, "parsePackage", new File(path), 0);
+        } catch (Throwable t) {
+            logE(TAG, "Failed to parse " + path + ": " + t);
+            return null;
+        }
+    }
+}
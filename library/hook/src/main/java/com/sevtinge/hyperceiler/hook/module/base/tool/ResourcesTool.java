@@ -42,10 +42,13 @@ import com.sevtinge.hyperceiler.hook.utils.ContextUtils;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import de.robv.android.xposed.XC_MethodHook;
+import de.robv.android.xposed.XposedBridge;
 import de.robv.android.xposed.XposedHelpers;
 
 /**
@@ -70,6 +73,11 @@ public class ResourcesTool {
     private final CopyOnWriteArrayList<XC_MethodHook.Unhook> unhooks = new CopyOnWriteArrayList<>();
     private final ConcurrentHashMap<ResKey, Pair<ReplacementType, Object>> replacements = new ConcurrentHashMap<>();
 
+    // resId -> 替换项的解析缓存，按 Resources 区分；替换表变动或配置变更时整体失效
+    private static final Object NO_REPLACEMENT = new Object();
+    private final WeakHashMap<Resources, ResIdCache> resIdCaches = new WeakHashMap<>();
+    private volatile int replacementsGeneration = 0;
+
     /**
      * 结构化键，用于替换 Map 中的字符串拼接
      */
@@ -77,6 +85,79 @@ public class ResourcesTool {
         // 使用 record 自动生成 equals/hashCode/toString，避免手动实现导致不一致
     }
 
+    /**
+     * 以 int 为键的开放寻址表，命中与未命中均不产生分配
+     */
+    private static final class ResIdCache {
+        private int[] keys = new int[64];
+        private Object[] values = new Object[64];
+        private int size = 0;
+        private int generation;
+
+        ResIdCache(int generation) {
+            this.generation = generation;
+        }
+
+        synchronized Object get(int resId, int currentGeneration) {
+            if (generation != currentGeneration) {
+                clear(currentGeneration);
+                return null;
+            }
+            int mask = keys.length - 1;
+            int i = mix(resId) & mask;
+            while (keys[i] != 0) {
+                if (keys[i] == resId) return values[i];
+                i = (i + 1) & mask;
+            }
+            return null;
+        }
+
+        synchronized void put(int resId, Object value, int currentGeneration) {
+            // 解析期间替换表已变动，丢弃过期结果
+            if (generation != currentGeneration) return;
+            if ((size + 1) * 4 > keys.length * 3) resize();
+            int mask = keys.length - 1;
+            int i = mix(resId) & mask;
+            while (keys[i] != 0) {
+                if (keys[i] == resId) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = resId;
+            values[i] = value;
+            size++;
+        }
+
+        private void clear(int currentGeneration) {
+            Arrays.fill(keys, 0);
+            Arrays.fill(values, null);
+            size = 0;
+            generation = currentGeneration;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new Object[oldValues.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] == 0) continue;
+                int i = mix(oldKeys[j]) & mask;
+                while (keys[i] != 0) i = (i + 1) & mask;
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+
+        private static int mix(int resId) {
+            int h = resId * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
     protected enum ReplacementType {
         ID,
         DENSITY,
@@ -268,6 +349,17 @@ public class ResourcesTool {
                 hookTypedMethod(method.getName(), int.class, int.class, hookTypedBefore);
             }
         }
+
+        // 配置变更后丢弃 resId 解析缓存
+        Class<?> resourcesImpl = XposedHelpers.findClassIfExists("android.content.res.ResourcesImpl", null);
+        if (resourcesImpl != null) {
+            unhooks.addAll(XposedBridge.hookAllMethods(resourcesImpl, "updateConfiguration", new HookTool.MethodHook() {
+                @Override
+                protected void after(MethodHookParam param) {
+                    invalidateResIdCache();
+                }
+            }));
+        }
     }
 
     private void hookResMethod(String name, Object... args) {
@@ -315,7 +407,8 @@ public class ResourcesTool {
         @Override
         protected void before(MethodHookParam param) {
             if (resourcesArrayList.isEmpty()) {
-                Context context = ContextUtils.getContextNoError(ContextUtils.FLAG_CURRENT_APP);
+                // 仅使用已就绪的 Context，避免每次资源读取都反射查找
+                Context context = ContextUtils.getReadyContext(false);
                 if (context != null) {
                     Resources resources = loadModuleRes(context);
                     if (resources != null) {
@@ -324,6 +417,10 @@ public class ResourcesTool {
                 }
             }
             int reqId = (int) param.args[0];
+            Pair<ReplacementType, Object> replacement = findReplacement((Resources) param.thisObject, reqId);
+            if (replacement == null) {
+                return;
+            }
             if (resMap.contains(reqId)) {
                 return;
             }
@@ -332,7 +429,7 @@ public class ResourcesTool {
                 String method = param.method.getName();
                 Object value;
                 try {
-                    value = getResourceReplacement(resources, (Resources) param.thisObject, method, param.args);
+                    value = getResourceReplacement(resources, (Resources) param.thisObject, method, param.args, replacement);
                 } catch (Resources.NotFoundException e) {
                     continue;
                 }
@@ -393,6 +490,7 @@ public class ResourcesTool {
         try {
             applyHooks();
             replacements.put(new ResKey(pkg, type, name), new Pair<>(ID, replacementResId));
+            invalidateResIdCache();
         } catch (Throwable t) {
             logE(TAG, "setResReplacement failed", t);
         }
@@ -405,6 +503,7 @@ public class ResourcesTool {
         try {
             applyHooks();
             replacements.put(new ResKey(pkg, type, name), new Pair<>(DENSITY, replacementResValue));
+            invalidateResIdCache();
         } catch (Throwable t) {
             logE(TAG, "setDensityReplacement failed", t);
         }
@@ -417,20 +516,47 @@ public class ResourcesTool {
         try {
             applyHooks();
             replacements.put(new ResKey(pkg, type, name), new Pair<>(OBJECT, replacementResValue));
+            invalidateResIdCache();
         } catch (Throwable t) {
             logE(TAG, "setObjectReplacement failed", t);
         }
     }
 
-    private Object getResourceReplacement(Resources resources, Resources res, String method, Object[] args) throws Resources.NotFoundException {
-        if (resources == null) return null;
+    private synchronized void invalidateResIdCache() {
+        replacementsGeneration++;
+    }
+
+    /**
+     * 查找 resId 对应的替换项，结果（包括未命中）按 Resources 缓存
+     */
+    @SuppressWarnings("unchecked")
+    private Pair<ReplacementType, Object> findReplacement(Resources res, int resId) {
+        if (resId == 0 || res == null || replacements.isEmpty()) return null;
+
+        int generation = replacementsGeneration;
+        ResIdCache cache;
+        synchronized (resIdCaches) {
+            cache = resIdCaches.get(res);
+            if (cache == null) {
+                cache = new ResIdCache(generation);
+                resIdCaches.put(res, cache);
+            }
+        }
+        Object cached = cache.get(resId, generation);
+        if (cached != null) {
+            return cached == NO_REPLACEMENT ? null : (Pair<ReplacementType, Object>) cached;
+        }
+
+        Pair<ReplacementType, Object> replacement = resolveReplacement(res, resId);
+        cache.put(resId, replacement == null ? NO_REPLACEMENT : replacement, generation);
+        return replacement;
+    }
+
+    private Pair<ReplacementType, Object> resolveReplacement(Resources res, int resId) {
         String pkgName;
         String resType;
         String resName;
         try {
-            int resId = (int) args[0];
-            // 避免 ID 为 0 时进行无效查询
-            if (resId == 0) return null;
             pkgName = res.getResourcePackageName(resId);
             resType = res.getResourceTypeName(resId);
             resName = res.getResourceEntryName(resId);
@@ -441,13 +567,16 @@ public class ResourcesTool {
         if (pkgName == null || resType == null || resName == null) return null;
 
         // 使用 ResKey 进行查找
-        ResKey resFullNameKey = new ResKey(pkgName, resType, resName);
-        ResKey resAnyPkgNameKey = new ResKey("*", resType, resName);
-
-        Pair<ReplacementType, Object> replacement = replacements.get(resFullNameKey);
+        Pair<ReplacementType, Object> replacement = replacements.get(new ResKey(pkgName, resType, resName));
         if (replacement == null) {
-            replacement = replacements.get(resAnyPkgNameKey);
+            replacement = replacements.get(new ResKey("*", resType, resName));
         }
+        return replacement;
+    }
+
+    private Object getResourceReplacement(Resources resources, Resources res, String method, Object[] args,
+                                          Pair<ReplacementType, Object> replacement) throws Resources.NotFoundException {
+        if (resources == null) return null;
 
         if (replacement != null) {
             switch (replacement.first) {
@@ -507,29 +636,8 @@ public class ResourcesTool {
     }
 
     private Object getTypedArrayReplacement(Resources resources, int id) {
-        if (id == 0) return null;
-        String pkgName;
-        String resType;
-        String resName;
-        try {
-            pkgName = resources.getResourcePackageName(id);
-            resType = resources.getResourceTypeName(id);
-            resName = resources.getResourceEntryName(id);
-        } catch (Throwable ignore) {
-            return null;
-        }
-        if (pkgName == null || resType == null || resName == null) return null;
-
         try {
-            // 使用 ResKey 进行查找
-            ResKey resFullNameKey = new ResKey(pkgName, resType, resName);
-            ResKey resAnyPkgNameKey = new ResKey("*", resType, resName);
-
-            Pair<ReplacementType, Object> replacement = replacements.get(resFullNameKey);
-            if (replacement == null) {
-                replacement = replacements.get(resAnyPkgNameKey);
-            }
-
+            Pair<ReplacementType, Object> replacement = findReplacement(resources, id);
             if (replacement != null && replacement.first == OBJECT) {
                 return replacement.second;
             }
@@ -26,6 +26,7 @@ import androidx.core.view.doOnAttach
 import androidx.core.view.doOnDetach
 import com.sevtinge.hyperceiler.hook.module.base.BaseHook
 import com.sevtinge.hyperceiler.hook.module.base.dexkit.DexKit
+import com.sevtinge.hyperceiler.hook.module.base.dexkit.IDexKit
 import com.sevtinge.hyperceiler.hook.module.base.tool.AppsTool
 import com.sevtinge.hyperceiler.hook.utils.blur.MiBlurUtilsKt.addMiBackgroundBlendColor
 import com.sevtinge.hyperceiler.hook.utils.blur.MiBlurUtilsKt.clearAllBlur
@@ -47,6 +48,21 @@ import org.luckypray.dexkit.query.enums.StringMatchType
 import java.lang.reflect.Method
 import java.util.function.Consumer
 
+private const val SHOW_ANIMATION_LAMBDA = "ShowAnimationLambda"
+private val findShowAnimationLambda = IDexKit { bridge ->
+    bridge.findMethod {
+        matcher {
+            declaredClass("com.miui.home.launcher.compat.UserPresentAnimationCompat", StringMatchType.StartsWith)
+            addInvoke {
+                name = "conversionValueFrom3DTo2D"
+            }
+            addInvoke {
+                name = "setTranslationZ"
+            }
+        }
+    }.singleOrNull()
+}
+
 object DockCustomNew : BaseHook() {
     private val launcherClass by lazy {
         loadClassOrNull("com.miui.home.launcher.BaseLauncher")
@@ -58,23 +74,15 @@ object DockCustomNew : BaseHook() {
     }
 
     private val showAnimationLambda by lazy {
-        DexKit.findMember("ShowAnimationLambda") { bridge ->
-            bridge.findMethod {
-                matcher {
-                    declaredClass("com.miui.home.launcher.compat.UserPresentAnimationCompat", StringMatchType.StartsWith)
-                    addInvoke {
-                        name = "conversionValueFrom3DTo2D"
-                    }
-                    addInvoke {
-                        name = "setTranslationZ"
-                    }
-                }
-            }.singleOrNull()
-        } as Method?
+        DexKit.findMember(SHOW_ANIMATION_LAMBDA, findShowAnimationLambda) as Method?
     }
 
     private var isSupportHyperMaterialBlur = false
 
+    override fun collectDexKit(members: MutableMap<String, IDexKit>) {
+        members[SHOW_ANIMATION_LAMBDA] = findShowAnimationLambda
+    }
+
     @Suppress("UNCHECKED_CAST")
     override fun init() {
         val dockBgStyle = mPrefsMap.getStringAsInt("home_dock_add_blur", 0)
@@ -32,6 +32,7 @@ import android.view.View;
 import androidx.annotation.NonNull;
 
 import com.sevtinge.hyperceiler.hook.module.base.pack.home.HomeBaseHookNew;
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
 import com.sevtinge.hyperceiler.hook.utils.prefs.PrefsUtils;
 
 import de.robv.android.xposed.XposedHelpers;
@@ -58,7 +59,7 @@ public class FolderShade extends HomeBaseHookNew {
             @Override
             protected void after(MethodHookParam param) {
                 View folder = (View) param.thisObject;
-                new Thread(() -> {
+                ThreadPoolManager.executeIo(() -> {
                     try {
                         Context context = folder.getContext();
                         int opt = Integer.parseInt(PrefsUtils.getSharedStringPrefs(context, "prefs_key_home_folder_shade", "0"));
@@ -89,7 +90,7 @@ public class FolderShade extends HomeBaseHookNew {
                     } catch (Throwable t) {
                         logW(TAG, "", t);
                     }
-                }).start();
+                });
             }
         };
 
@@ -20,23 +20,31 @@ package com.sevtinge.hyperceiler.hook.module.rules.home.other
 
 import com.sevtinge.hyperceiler.hook.module.base.BaseHook
 import com.sevtinge.hyperceiler.hook.module.base.dexkit.DexKit
+import com.sevtinge.hyperceiler.hook.module.base.dexkit.IDexKit
 import io.github.kyuubiran.ezxhelper.xposed.dsl.HookFactory.`-Static`.createHook
 import java.lang.reflect.Method
 
+private const val SHOW_ALL_HIDE_APP_NEW = "ShowAllHideAppNew"
+private val findShowAllHideApp = IDexKit { bridge ->
+    bridge.findMethod {
+        matcher {
+            declaredClass {
+                addUsingString("com.android.fileexplorer")
+            }
+
+            name = "isHideAppValid"
+        }
+    }.single()
+}
+
 object ShowAllHideApp : BaseHook() {
 
+    override fun collectDexKit(members: MutableMap<String, IDexKit>) {
+        members[SHOW_ALL_HIDE_APP_NEW] = findShowAllHideApp
+    }
+
     override fun init() {
-        DexKit.findMember<Method>("ShowAllHideAppNew") { bridge ->
-            bridge.findMethod {
-                matcher {
-                    declaredClass {
-                        addUsingString("com.android.fileexplorer")
-                    }
-
-                    name = "isHideAppValid"
-                }
-            }.single()
-        }.createHook {
+        DexKit.findMember<Method>(SHOW_ALL_HIDE_APP_NEW, findShowAllHideApp).createHook {
             returnConstant(true)
         }
     }
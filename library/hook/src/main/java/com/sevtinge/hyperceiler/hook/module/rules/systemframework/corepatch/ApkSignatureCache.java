@@ -0,0 +1,171 @@
+/*
+  * This file is part of HyperCeiler.
+
+  * HyperCeiler is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU Affero General Public License as
+  * published by the Free Software Foundation, either version 3 of the
+  * License.
+
+  * This program is distributed in the hope that it will be useful,
+  * but WITHOUT ANY WARRANTY; without even the implied warranty of
+  * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  * GNU Affero General Public License for more details.
+
+  * You should have received a copy of the GNU Affero General Public License
+  * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+  * Copyright (C) 2023-2026 HyperCeiler Contributions
+*/
+package com.sevtinge.hyperceiler.hook.module.rules.systemframework.corepatch;
+
+import android.content.pm.Signature;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 待安装 apk 的签名缓存
+ * <p>
+ * 以 (路径, 大小, 修改时间, inode) 标识文件，同一安装包重复安装或更新时无需再次解析 apk。
+ */
+final class ApkSignatureCache {
+    private static final int MAX_ENTRIES = 16;
+
+    private static final Map<String, Entry> sCache = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private ApkSignatureCache() {
+    }
+
+    @Nullable
+    static Signature[] getSignatures(@NonNull String path) {
+        Entry entry = getEntry(path);
+        return entry == null ? null : entry.signatures;
+    }
+
+    static void putSignatures(@NonNull String path, @NonNull Signature[] signatures) {
+        Entry entry = getOrCreateEntry(path);
+        if (entry != null) entry.signatures = signatures;
+    }
+
+    /**
+     * getPackageArchiveInfo 得到的包名
+     */
+    @Nullable
+    static String getPackageName(@NonNull String path) {
+        Entry entry = getEntry(path);
+        return entry == null ? null : entry.packageName;
+    }
+
+    static void putPackageName(@NonNull String path, @NonNull String packageName) {
+        Entry entry = getOrCreateEntry(path);
+        if (entry != null) entry.packageName = packageName;
+    }
+
+    /**
+     * 从 APK Signing Block 读取签名，apk 不含 v2/v3 签名或读取失败时返回 null
+     */
+    @Nullable
+    static Signature[] readSigningBlockSignatures(@NonNull String path, int sdkVersion) {
+        try {
+            X509Certificate[][] signers = ApkSigningBlockReader.readSignerCertificates(new File(path), sdkVersion);
+            if (signers == null) return null;
+            Signature[] signatures = new Signature[signers.length];
+            for (int i = 0; i < signers.length; i++) {
+                signatures[i] = new Signature(signers[i][0].getEncoded());
+            }
+            return signatures;
+        } catch (IOException | CertificateEncodingException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Entry getEntry(String path) {
+        FileKey key = FileKey.of(path);
+        if (key == null) return null;
+        synchronized (sCache) {
+            Entry entry = sCache.get(path);
+            if (entry == null) return null;
+            if (!entry.key.equals(key)) {
+                sCache.remove(path);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    @Nullable
+    private static Entry getOrCreateEntry(String path) {
+        FileKey key = FileKey.of(path);
+        if (key == null) return null;
+        synchronized (sCache) {
+            Entry entry = sCache.get(path);
+            if (entry == null || !entry.key.equals(key)) {
+                entry = new Entry(key);
+                sCache.put(path, entry);
+            }
+            return entry;
+        }
+    }
+
+    private static final class Entry {
+        final FileKey key;
+        volatile Signature[] signatures;
+        volatile String packageName;
+
+        Entry(FileKey key) {
+            this.key = key;
+        }
+    }
+
+    private static final class FileKey {
+        final long size;
+        final long mtime;
+        // BasicFileAttributes.fileKey()，Linux 下包含设备号与 inode
+        final Object inode;
+
+        private FileKey(long size, long mtime, Object inode) {
+            this.size = size;
+            this.mtime = mtime;
+            this.inode = inode;
+        }
+
+        @Nullable
+        static FileKey of(String path) {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(Paths.get(path), BasicFileAttributes.class);
+                if (!attrs.isRegularFile()) return null;
+                return new FileKey(attrs.size(), attrs.lastModifiedTime().toMillis(), attrs.fileKey());
+            } catch (IOException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FileKey other && size == other.size && mtime == other.mtime
+                && Objects.equals(inode, other.inode);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, mtime, inode);
+        }
+    }
+}
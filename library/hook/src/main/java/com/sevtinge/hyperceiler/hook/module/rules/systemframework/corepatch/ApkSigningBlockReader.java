@@ -0,0 +1,206 @@
+/*
+  * This file is part of HyperCeiler.
+
+  * HyperCeiler is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU Affero General Public License as
+  * published by the Free Software Foundation, either version 3 of the
+  * License.
+
+  * This program is distributed in the hope that it will be useful,
+  * but WITHOUT ANY WARRANTY; without even the implied warranty of
+  * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  * GNU Affero General Public License for more details.
+
+  * You should have received a copy of the GNU Affero General Public License
+  * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+  * Copyright (C) 2023-2026 HyperCeiler Contributions
+*/
+package com.sevtinge.hyperceiler.hook.module.rules.systemframework.corepatch;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * APK Signing Block（v2/v3）签名证书读取
+ * <p>
+ * 只通过 FileChannel 的定位读取 EOCD、签名块头部与 v2/v3 签名方案的数据，不解析整个 zip，也不校验摘要，
+ * 仅用于在 v1 校验失败时取得待安装 apk 的签名者证书。
+ * <pre>
+ * [zip entries] [APK Signing Block] [central directory] [EOCD]
+ * APK Signing Block:
+ *   uint64 size, { uint64 len, uint32 id, value }*, uint64 size, "APK Sig Block 42"
+ * </pre>
+ * 优先读取 v2 签名（与 v1 签名者一致），不存在时读取 v3 中适用于 sdkVersion 的签名者。
+ */
+final class ApkSigningBlockReader {
+    static final int V2_BLOCK_ID = 0x7109871a;
+    static final int V3_BLOCK_ID = 0xf05368c0;
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_MIN_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xffff;
+    private static final long MAGIC_LO = 0x20676953204b5041L; // "APK Sig "
+    private static final long MAGIC_HI = 0x3234206b636f6c42L; // "Block 42"
+    private static final int FOOTER_SIZE = 24;
+    // 签名方案数据只包含证书与签名，正常情况下远小于该值
+    private static final long MAX_SCHEME_BLOCK_SIZE = 8 * 1024 * 1024;
+
+    private ApkSigningBlockReader() {
+    }
+
+    /**
+     * 读取签名者证书链，每个签名者一条
+     *
+     * @return apk 不含 v2/v3 签名块时返回 null
+     * @throws IOException 文件不可读或签名块格式错误
+     */
+    @Nullable
+    static X509Certificate[][] readSignerCertificates(@NonNull File apk, int sdkVersion) throws IOException {
+        try (FileChannel channel = FileChannel.open(apk.toPath(), StandardOpenOption.READ)) {
+            return readSignerCertificates(channel, sdkVersion);
+        }
+    }
+
+    @Nullable
+    static X509Certificate[][] readSignerCertificates(@NonNull FileChannel channel, int sdkVersion) throws IOException {
+        long cdOffset = findCentralDirectoryOffset(channel);
+        if (cdOffset < FOOTER_SIZE + 8) return null;
+
+        ByteBuffer footer = read(channel, cdOffset - FOOTER_SIZE, FOOTER_SIZE);
+        long blockSize = footer.getLong();
+        if (footer.getLong() != MAGIC_LO || footer.getLong() != MAGIC_HI) return null;
+        if (blockSize < FOOTER_SIZE || blockSize > cdOffset - 8) {
+            throw new IOException("Invalid APK Signing Block size: " + blockSize);
+        }
+        long blockStart = cdOffset - blockSize - 8;
+        if (read(channel, blockStart, 8).getLong() != blockSize) {
+            throw new IOException("APK Signing Block size mismatch");
+        }
+
+        long v2Offset = -1, v2Size = 0, v3Offset = -1, v3Size = 0;
+        long pos = blockStart + 8;
+        long end = cdOffset - FOOTER_SIZE;
+        while (pos + 12 <= end) {
+            ByteBuffer pair = read(channel, pos, 12);
+            long length = pair.getLong();
+            if (length < 4 || length > end - pos - 8) {
+                throw new IOException("Invalid APK Signing Block entry length: " + length);
+            }
+            int id = pair.getInt();
+            if (id == V2_BLOCK_ID) {
+                v2Offset = pos + 12;
+                v2Size = length - 4;
+            } else if (id == V3_BLOCK_ID) {
+                v3Offset = pos + 12;
+                v3Size = length - 4;
+            }
+            pos += 8 + length;
+        }
+
+        if (v2Offset >= 0) return parseSigners(readScheme(channel, v2Offset, v2Size), false, sdkVersion);
+        if (v3Offset >= 0) return parseSigners(readScheme(channel, v3Offset, v3Size), true, sdkVersion);
+        return null;
+    }
+
+    private static ByteBuffer readScheme(FileChannel channel, long offset, long size) throws IOException {
+        if (size > MAX_SCHEME_BLOCK_SIZE) throw new IOException("Signature scheme block too large: " + size);
+        return read(channel, offset, (int) size);
+    }
+
+    /*
+     * v2: signers { signer { signed data { digests, certificates, attributes }, signatures, public key } }
+     * v3: signed data 的 attributes 前、signer 的 signed data 后各多出 uint32 minSdk, uint32 maxSdk
+     */
+    private static X509Certificate[][] parseSigners(ByteBuffer scheme, boolean isV3, int sdkVersion) throws IOException {
+        CertificateFactory factory;
+        try {
+            factory = CertificateFactory.getInstance("X.509");
+        } catch (CertificateException e) {
+            throw new IOException(e);
+        }
+        List<X509Certificate[]> result = new ArrayList<>();
+        ByteBuffer signers = getLengthPrefixedSlice(scheme);
+        while (signers.hasRemaining()) {
+            ByteBuffer signer = getLengthPrefixedSlice(signers);
+            ByteBuffer signedData = getLengthPrefixedSlice(signer);
+            if (isV3) {
+                if (signer.remaining() < 8) throw new IOException("Truncated v3 signer");
+                int minSdk = signer.getInt();
+                int maxSdk = signer.getInt();
+                if (sdkVersion < minSdk || sdkVersion > maxSdk) continue;
+            }
+            getLengthPrefixedSlice(signedData); // digests
+            ByteBuffer certificates = getLengthPrefixedSlice(signedData);
+            List<X509Certificate> chain = new ArrayList<>();
+            while (certificates.hasRemaining()) {
+                ByteBuffer encoded = getLengthPrefixedSlice(certificates);
+                byte[] bytes = new byte[encoded.remaining()];
+                encoded.get(bytes);
+                try {
+                    chain.add((X509Certificate) factory.generateCertificate(new ByteArrayInputStream(bytes)));
+                } catch (CertificateException | ClassCastException e) {
+                    throw new IOException("Failed to decode certificate", e);
+                }
+            }
+            if (!chain.isEmpty()) result.add(chain.toArray(new X509Certificate[0]));
+        }
+        return result.isEmpty() ? null : result.toArray(new X509Certificate[0][]);
+    }
+
+    /**
+     * 从文件末尾向前查找 EOCD，返回中央目录偏移；未找到或为 zip64 时返回 -1
+     */
+    private static long findCentralDirectoryOffset(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < EOCD_MIN_SIZE) return -1;
+        int tailSize = (int) Math.min(fileSize, EOCD_MIN_SIZE + MAX_COMMENT_SIZE);
+        ByteBuffer tail = read(channel, fileSize - tailSize, tailSize);
+        for (int i = tailSize - EOCD_MIN_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) != EOCD_SIGNATURE) continue;
+            int commentSize = tail.getShort(i + 20) & 0xffff;
+            if (commentSize != tailSize - i - EOCD_MIN_SIZE) continue;
+            long cdOffset = tail.getInt(i + 16) & 0xffffffffL;
+            if (cdOffset == 0xffffffffL || cdOffset > fileSize - tailSize + i) return -1;
+            return cdOffset;
+        }
+        return -1;
+    }
+
+    private static ByteBuffer getLengthPrefixedSlice(ByteBuffer source) throws IOException {
+        if (source.remaining() < 4) throw new IOException("Truncated length-prefixed field");
+        int length = source.getInt();
+        if (length < 0 || length > source.remaining()) {
+            throw new IOException("Invalid length-prefixed field: " + length);
+        }
+        ByteBuffer slice = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        slice.limit(length);
+        source.position(source.position() + length);
+        return slice;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of file at " + (position + buffer.position()));
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
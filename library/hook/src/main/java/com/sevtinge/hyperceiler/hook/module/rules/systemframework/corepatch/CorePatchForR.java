@@ -27,6 +27,7 @@ import android.content.pm.ApplicationInfo;
 import android.content.pm.PackageInfo;
 import android.content.pm.PackageManager;
 import android.content.pm.Signature;
+import android.os.Build;
 import android.util.Log;
 
 import com.sevtinge.hyperceiler.hook.utils.api.ProjectApi;
@@ -177,37 +178,53 @@ public class CorePatchForR extends XposedHelper implements IXposedHookLoadPackag
                     }
                     if (throwable != null || parseErr != null) {
                         Signature[] lastSigs = null;
+                        String apkPath = (String) methodHookParam.args[parseErr == null ? 0 : 1];
                         try {
                             if (prefs.getBoolean("prefs_key_system_framework_core_patch_use_pre_signature", false)) {
                                 PackageManager PM = AndroidAppHelper.currentApplication().getPackageManager();
                                 if (PM == null) {
                                     XposedBridge.log("[HyperCeiler][E][android]" + TAG + ": [" + ProjectApi.mAppModulePkg + "] Cannot get the Package Manager... Are you using MiUI?");
                                 } else {
-                                    PackageInfo pI;
-                                    if (parseErr != null) {
-                                        pI = PM.getPackageArchiveInfo((String) methodHookParam.args[1], 0);
-                                    } else {
-                                        pI = PM.getPackageArchiveInfo((String) methodHookParam.args[0], 0);
+                                    String packageName = ApkSignatureCache.getPackageName(apkPath);
+                                    if (packageName == null) {
+                                        packageName = PM.getPackageArchiveInfo(apkPath, 0).packageName;
+                                        ApkSignatureCache.putPackageName(apkPath, packageName);
                                     }
-                                    PackageInfo InstpI = PM.getPackageInfo(pI.packageName, PackageManager.GET_SIGNATURES);
+                                    PackageInfo InstpI = PM.getPackageInfo(packageName, PackageManager.GET_SIGNATURES);
                                     lastSigs = InstpI.signatures;
                                 }
                             }
                         } catch (Throwable ignored) {
                         }
-                        try {
-                            if (lastSigs == null && prefs.getBoolean("prefs_key_system_framework_core_patch_digest_creak", true)) {
-                                final Object origJarFile = constructorExact.newInstance(methodHookParam.args[parseErr == null ? 0 : 1], true, false);
-                                final ZipEntry manifestEntry = (ZipEntry) XposedHelpers.callMethod(origJarFile, "findEntry", "AndroidManifest.xml");
-                                final Certificate[][] lastCerts;
-                                if (parseErr != null) {
-                                    lastCerts = (Certificate[][]) XposedHelpers.callMethod(XposedHelpers.callStaticMethod(ASV, "loadCertificates", methodHookParam.args[0], origJarFile, manifestEntry), "getResult");
-                                } else {
-                                    lastCerts = (Certificate[][]) XposedHelpers.callStaticMethod(ASV, "loadCertificates", origJarFile, manifestEntry);
+                        if (lastSigs == null && prefs.getBoolean("prefs_key_system_framework_core_patch_digest_creak", true)) {
+                            // 依次尝试缓存、APK Signing Block，最后才完整解析 jar 签名
+                            long start = System.nanoTime();
+                            String source = "cache";
+                            lastSigs = ApkSignatureCache.getSignatures(apkPath);
+                            if (lastSigs == null) {
+                                source = "signing block";
+                                lastSigs = ApkSignatureCache.readSigningBlockSignatures(apkPath, Build.VERSION.SDK_INT);
+                            }
+                            if (lastSigs == null) {
+                                source = "jar";
+                                try {
+                                    final Object origJarFile = constructorExact.newInstance(apkPath, true, false);
+                                    final ZipEntry manifestEntry = (ZipEntry) XposedHelpers.callMethod(origJarFile, "findEntry", "AndroidManifest.xml");
+                                    final Certificate[][] lastCerts;
+                                    if (parseErr != null) {
+                                        lastCerts = (Certificate[][]) XposedHelpers.callMethod(XposedHelpers.callStaticMethod(ASV, "loadCertificates", methodHookParam.args[0], origJarFile, manifestEntry), "getResult");
+                                    } else {
+                                        lastCerts = (Certificate[][]) XposedHelpers.callStaticMethod(ASV, "loadCertificates", origJarFile, manifestEntry);
+                                    }
+                                    lastSigs = (Signature[]) XposedHelpers.callStaticMethod(ASV, "convertToSignatures", (Object) lastCerts);
+                                } catch (Throwable ignored) {
                                 }
-                                lastSigs = (Signature[]) XposedHelpers.callStaticMethod(ASV, "convertToSignatures", (Object) lastCerts);
                             }
-                        } catch (Throwable ignored) {
+                            if (lastSigs != null) ApkSignatureCache.putSignatures(apkPath, lastSigs);
+                            if (isNotReleaseVersion) {
+                                XposedBridge.log("[HyperCeiler][D][android]" + TAG + ": signatures of " + apkPath + " loaded from " + source
+                                    + (lastSigs == null ? " failed" : "") + " in " + (System.nanoTime() - start) / 1000 + "us");
+                            }
                         }
                         signingDetailsArgs[0] = Objects.requireNonNullElseGet(lastSigs, () -> new Signature[]{new Signature(SIGNATURE)});
                         Object newInstance = findConstructorExact.newInstance(signingDetailsArgs);
@@ -21,13 +21,17 @@ package com.sevtinge.hyperceiler.hook.module.rules.systemui.controlcenter.media
 import android.app.WallpaperColors
 import android.content.Context
 import android.content.res.ColorStateList
+import android.content.res.Configuration
+import android.graphics.Bitmap
 import android.graphics.Color
 import android.graphics.Paint
+import android.graphics.drawable.BitmapDrawable
 import android.graphics.drawable.Drawable
 import android.graphics.drawable.Icon
 import android.widget.ImageButton
 import android.widget.ImageView
 import android.widget.SeekBar
+import android.util.LruCache
 import android.widget.TextView
 import androidx.core.graphics.drawable.toDrawable
 import com.sevtinge.hyperceiler.hook.module.base.BaseHook
@@ -64,10 +68,13 @@ import io.github.kyuubiran.ezxhelper.core.util.ClassUtil.loadClassOrNull
 import io.github.kyuubiran.ezxhelper.xposed.dsl.HookFactory.`-Static`.createAfterHook
 import io.github.kyuubiran.ezxhelper.xposed.dsl.HookFactory.`-Static`.createBeforeHook
 import io.github.kyuubiran.ezxhelper.xposed.dsl.HookFactory.`-Static`.createHook
-import kotlinx.coroutines.DelicateCoroutinesApi
+import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
-import kotlinx.coroutines.GlobalScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.ensureActive
 import kotlinx.coroutines.launch
+import kotlin.math.max
 
 // https://github.com/HowieHChen/XiaomiHelper/blob/72d6a928358f7de7a3b3e872f18acaa83f1cfe33/app/src/main/kotlin/dev/lackluster/mihelper/hook/rules/systemui/media/CustomBackground.kt
 object CustomBackground : BaseHook() {
@@ -95,6 +102,11 @@ object CustomBackground : BaseHook() {
     private var lastWidth = 0
     private var lastHeight = 0
 
+    // 处理结果只与封面内容、尺寸和样式有关，保留最近几张以便切回时直接复用
+    private val mBackgroundCache = LruCache<String, ProcessedBackground>(3)
+    private val mBackgroundScope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+    private var mBackgroundJob: Job? = null
+
     private val isAndroidB by lazy {
         isMoreAndroidVersion(36)
     }
@@ -272,6 +284,8 @@ object CustomBackground : BaseHook() {
     }
 
     private fun finiMediaViewHolder() {
+        mBackgroundJob?.cancel()
+        mBackgroundJob = null
         mArtworkDrawable = null
         mIsArtworkBound = false
         mCurrentPkgName = ""
@@ -294,7 +308,6 @@ object CustomBackground : BaseHook() {
         holder.totalTimeView.setTextColor(colorConfig.textPrimary)
     }
 
-    @OptIn(DelicateCoroutinesApi::class)
     @Suppress("UNCHECKED_CAST")
     fun updateBackground(context: Context, isArtWorkUpdate: Boolean, artwork: Icon?, pkgName: String, holder: MiuiMediaViewHolder) {
         val artworkLayer = artwork?.loadDrawable(context) ?: return
@@ -348,7 +361,17 @@ object CustomBackground : BaseHook() {
         // Override colors set by the original method
         updateForegroundColors(holder, mCurrColorConfig)
 
-        GlobalScope.launch(Dispatchers.IO) {
+        // 新的请求到来时旧任务的结果必然被丢弃，直接取消
+        mBackgroundJob?.cancel()
+        val cacheKey = backgroundCacheKey(context, artworkLayer, pkgName, width, height)
+        val cached = cacheKey?.let { mBackgroundCache.get(it) }
+        if (cached != null) {
+            // 封面、尺寸与样式均未变化（拖动进度、暂停、仅元数据更新等），复用上次的处理结果
+            bindBackground(holder, reqId, isArtWorkUpdate, pkgName, width, height, cached)
+            return
+        }
+
+        mBackgroundJob = mBackgroundScope.launch {
             // Album art
             val mutableColorScheme: Any?
             val artworkDrawable: Drawable
@@ -380,8 +403,9 @@ object CustomBackground : BaseHook() {
                     return@launch
                 }
             }
+            ensureActive()
             var colorConfig = defaultColorConfig
-            var colorSchemeChanged = false
+            var hasColorScheme = false
             if (mutableColorScheme != null) {
                 val neutral1 = fldTonalPaletteAllShades?.get(fldColorSchemeNeutral1!!.get(mutableColorScheme)) as? List<Int>
                 val neutral2 = fldTonalPaletteAllShades?.get(fldColorSchemeNeutral2!!.get(mutableColorScheme)) as? List<Int>
@@ -389,10 +413,10 @@ object CustomBackground : BaseHook() {
                 val accent2 = fldTonalPaletteAllShades?.get(fldColorSchemeAccent2!!.get(mutableColorScheme)) as? List<Int>
                 if (neutral1 != null && neutral2 != null && accent1 != null && accent2 != null) {
                     colorConfig = processor.convertToColorConfig(artworkDrawable, neutral1, neutral2, accent1, accent2)
-                    colorSchemeChanged = colorConfig != mPrevColorConfig
-                    mPrevColorConfig = colorConfig
+                    hasColorScheme = true
                 }
             }
+            ensureActive()
             val processedArtwork =
                 processor.processAlbumCover(
                     artworkDrawable,
@@ -401,33 +425,93 @@ object CustomBackground : BaseHook() {
                     width,
                     height
                 )
-            if (mArtworkDrawable == null) {
-                mArtworkDrawable = processor.createBackground(processedArtwork, colorConfig)
+            ensureActive()
+            val result = ProcessedBackground(colorConfig, hasColorScheme, processedArtwork, isArtworkBound)
+            if (cacheKey != null) {
+                mBackgroundCache.put(cacheKey, result)
             }
-            mArtworkDrawable?.setBounds(0, 0, width, height)
-            mCurrentPkgName = pkgName
 
-            holder.mediaBg.post(Runnable {
-                if (reqId < mArtworkBoundId) {
-                    return@Runnable
-                }
-                mArtworkBoundId = reqId
-                if (colorSchemeChanged) {
-                    updateForegroundColors(holder, colorConfig)
-                    mCurrColorConfig = colorConfig
-                }
+            holder.mediaBg.post {
+                bindBackground(holder, reqId, isArtWorkUpdate, pkgName, width, height, result)
+            }
+        }
+    }
+
+    /*
+     * 仅在主线程调用，颜色与绑定状态均在此处读写
+     */
+    private fun bindBackground(
+        holder: MiuiMediaViewHolder,
+        reqId: Int,
+        isArtWorkUpdate: Boolean,
+        pkgName: String,
+        width: Int,
+        height: Int,
+        result: ProcessedBackground
+    ) {
+        if (reqId < mArtworkBoundId) {
+            return
+        }
+        mArtworkBoundId = reqId
+        val colorConfig = result.colorConfig
+        if (mArtworkDrawable == null) {
+            mArtworkDrawable = processor.createBackground(result.processedArtwork, colorConfig)
+        }
+        mArtworkDrawable?.setBounds(0, 0, width, height)
+        mCurrentPkgName = pkgName
+
+        if (result.hasColorScheme && colorConfig != mPrevColorConfig) {
+            mPrevColorConfig = colorConfig
+            updateForegroundColors(holder, colorConfig)
+            mCurrColorConfig = colorConfig
+        }
+
+        // Bind the album view to the artwork or a transition drawable
+        holder.mediaBg.setPadding(0, 0, 0, 0)
+        if (isArtWorkUpdate || (!mIsArtworkBound && result.isArtworkBound)) {
+            holder.mediaBg.setImageDrawable(mArtworkDrawable)
+            mArtworkDrawable?.updateAlbumCover(result.processedArtwork, colorConfig)
+            mIsArtworkBound = result.isArtworkBound
+        }
+    }
 
-                // Bind the album view to the artwork or a transition drawable
-                holder.mediaBg.setPadding(0, 0, 0, 0)
-                if (isArtWorkUpdate || (!mIsArtworkBound && isArtworkBound)) {
-                    holder.mediaBg.setImageDrawable(mArtworkDrawable)
-                    mArtworkDrawable?.updateAlbumCover(processedArtwork, colorConfig)
-                    mIsArtworkBound = isArtworkBound
+    /*
+     * 以封面内容而非 Icon 实例作为键：同一首歌的每次元数据更新都会生成新的 Icon 与 Bitmap。
+     * 对位图做 16x16 网格采样计算哈希，成本远低于一次取色与模糊。
+     * 无法采样的封面返回 null，不参与缓存。
+     */
+    private fun backgroundCacheKey(context: Context, artwork: Drawable, pkgName: String, width: Int, height: Int): String? {
+        val bitmap = (artwork as? BitmapDrawable)?.bitmap ?: return null
+        if (bitmap.isRecycled) return null
+        val contentHash = if (bitmap.config == Bitmap.Config.HARDWARE) {
+            // 硬件位图无法读取像素，退化为按实例区分
+            31 * System.identityHashCode(bitmap) + bitmap.generationId
+        } else {
+            val stepX = max(1, bitmap.width / 16)
+            val stepY = max(1, bitmap.height / 16)
+            var hash = 17
+            var y = stepY / 2
+            while (y < bitmap.height) {
+                var x = stepX / 2
+                while (x < bitmap.width) {
+                    hash = 31 * hash + bitmap.getPixel(x, y)
+                    x += stepX
                 }
-            })
+                y += stepY
+            }
+            hash
         }
+        val nightMode = context.resources.configuration.uiMode and Configuration.UI_MODE_NIGHT_MASK
+        return "$pkgName:${bitmap.width}x${bitmap.height}:$contentHash:${width}x$height:$backgroundStyle:$nightMode"
     }
 
+    private class ProcessedBackground(
+        val colorConfig: MediaViewColorConfig,
+        val hasColorScheme: Boolean,
+        val processedArtwork: Drawable,
+        val isArtworkBound: Boolean
+    )
+
     data class MiuiMediaViewHolder(
         var innerHashCode: Int,
         var titleText: TextView,
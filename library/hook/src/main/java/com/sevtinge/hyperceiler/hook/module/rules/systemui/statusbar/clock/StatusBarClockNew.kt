@@ -18,18 +18,24 @@
 */
 package com.sevtinge.hyperceiler.hook.module.rules.systemui.statusbar.clock
 
+import android.content.BroadcastReceiver
 import android.content.Context
+import android.content.Intent
+import android.content.IntentFilter
 import android.graphics.Typeface
+import android.os.Handler
+import android.os.Looper
+import android.os.PowerManager
+import android.os.SystemClock
 import android.util.TypedValue
-import android.view.Choreographer
 import android.view.View
 import android.widget.TextView
 import com.sevtinge.hyperceiler.hook.module.base.BaseHook
 import com.sevtinge.hyperceiler.hook.utils.api.LazyClass.mNewClockClass
-import com.sevtinge.hyperceiler.hook.utils.callMethod
 import com.sevtinge.hyperceiler.hook.utils.devicesdk.DisplayUtils.dp2px
 import com.sevtinge.hyperceiler.hook.utils.devicesdk.isMoreAndroidVersion
 import com.sevtinge.hyperceiler.hook.utils.getObjectField
+import com.sevtinge.hyperceiler.hook.utils.prefs.PrefKey
 import de.robv.android.xposed.XC_MethodHook
 import io.github.kyuubiran.ezxhelper.core.finder.ConstructorFinder.`-Static`.constructorFinder
 import io.github.kyuubiran.ezxhelper.core.finder.MethodFinder.`-Static`.methodFinder
@@ -40,9 +46,6 @@ import java.lang.ref.WeakReference
 import java.lang.reflect.Method
 import java.util.Collections
 import java.util.WeakHashMap
-import java.util.concurrent.ConcurrentHashMap
-import java.util.concurrent.ExecutorService
-import java.util.concurrent.Executors
 
 object StatusBarClockNew : BaseHook() {
     private val statusBarClass by lazy {
@@ -51,21 +54,27 @@ object StatusBarClockNew : BaseHook() {
 
     private val ssRegex by lazy { Regex("(ss|s)") }
 
-    private val secondsFrameCallback = SecondsFrameCallback().initial()
+    private val secondsTicker by lazy { SecondsTicker() }
 
-    private val updateTimeMethodCache = ConcurrentHashMap<Class<*>, Method>()
+    // 时钟格式中的秒字段在整分钟渲染时以该字符占位，每秒只替换这部分
+    private const val SECOND_PLACEHOLDER = '\uE000'
 
-    private val formatExecutor: ExecutorService by lazy { Executors.newSingleThreadExecutor() }
-
-    private data class CachedClockData(
-        val controllerRef: WeakReference<Any>,
+    private class ClockState(
+        val name: String,
         val calendarRef: WeakReference<Any>,
-        val calendarClass: Class<*>?,
-        val setTimeMethod: Method?,
-        val formatMethod: Method?
-    )
-
-    private val clockDataCache: MutableMap<TextView, CachedClockData> =
+        val setTimeMethod: Method,
+        val formatMethod: Method,
+        val template: ClockTemplate
+    ) {
+        val patternSb = StringBuilder(64)
+        val outputSb = StringBuilder(64)
+        var chars = CharArray(64)
+        var renderedMinute = Long.MIN_VALUE
+        var renderedSecond = -1
+        var templateBroken = false
+    }
+
+    private val clockDataCache: MutableMap<TextView, ClockState> =
         Collections.synchronizedMap(WeakHashMap())
 
     private data class StyleSnapshot(
@@ -82,125 +91,128 @@ object StatusBarClockNew : BaseHook() {
     private val styleSnapshotMap: MutableMap<TextView, StyleSnapshot> =
         Collections.synchronizedMap(WeakHashMap())
 
-    private val sBold by lazy {
-        mPrefsMap.getBoolean("system_ui_statusbar_clock_bold")
-    }
-    private val bBold by lazy {
-        mPrefsMap.getBoolean("system_ui_statusbar_clock_big_bold")
-    }
-    private val nBold by lazy {
-        mPrefsMap.getBoolean("system_ui_statusbar_clock_small_bold")
-    }
-    private val pBold by lazy {
-        mPrefsMap.getBoolean("system_ui_statusbar_clock_pad_bold")
-    }
-    private val isSync by lazy {
-        mPrefsMap.getBoolean("system_ui_disable_clock_synch")
-    }
-    private val isHidePClock by lazy {
-        mPrefsMap.getBoolean("system_ui_statusbar_clock_pad_hide")
-    }
-    private val clockSizeS by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_size_1", 12)
-    }
-    private val clockSizeB by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_size_2", 50)
-    }
-    private val clockSizeN by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_size_3", 12)
-    }
-    private val clockSizeP by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_size_4", 12)
-    }
-    private val clockTextSpacing by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_double_spacing_margin_1", 16)
-    }
-    private val sClockLeftMargin by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_left_margin_1", 0)
-    }
-    private val sClockRightMargin by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_right_margin_1", 0)
-    }
-    private val sClockVerticalOffset by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_vertical_offset_1", 12)
-    }
-    private val fixedWidth by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_fixedcontent_width_1", 30)
-    }
-    private val bClockLeftMargin by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_left_margin_2", 0)
-    }
-    private val bClockRightMargin by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_right_margin_2", 0)
-    }
-    private val bClockVerticalOffset by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_vertical_offset_2", 12)
-    }
-    private val nClockLeftMargin by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_left_margin_3", 0)
-    }
-    private val nClockRightMargin by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_right_margin_3", 0)
-    }
-    private val nClockVerticalOffset by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_vertical_offset_3", 12)
-    }
-    private val pClockLeftMargin by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_left_margin_4", 0)
-    }
-    private val pClockRightMargin by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_right_margin_4", 0)
-    }
-    private val pClockVerticalOffset by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_clock_vertical_offset_4", 12)
-    }
-    private val clockAlign by lazy {
-        mPrefsMap.getStringAsInt("system_ui_statusbar_clock_double_1", 0)
-    }
+    private val sBoldKey = PrefKey.bool("system_ui_statusbar_clock_bold")
+    private val sBold get() = sBoldKey.boolean
+    private val bBoldKey = PrefKey.bool("system_ui_statusbar_clock_big_bold")
+    private val bBold get() = bBoldKey.boolean
+    private val nBoldKey = PrefKey.bool("system_ui_statusbar_clock_small_bold")
+    private val nBold get() = nBoldKey.boolean
+    private val pBoldKey = PrefKey.bool("system_ui_statusbar_clock_pad_bold")
+    private val pBold get() = pBoldKey.boolean
+    private val isSyncKey = PrefKey.bool("system_ui_disable_clock_synch")
+    private val isSync get() = isSyncKey.boolean
+    private val isHidePClockKey = PrefKey.bool("system_ui_statusbar_clock_pad_hide")
+    private val isHidePClock get() = isHidePClockKey.boolean
+    private val clockSizeSKey = PrefKey.integer("system_ui_statusbar_clock_size_1", 12)
+    private val clockSizeS get() = clockSizeSKey.int
+    private val clockSizeBKey = PrefKey.integer("system_ui_statusbar_clock_size_2", 50)
+    private val clockSizeB get() = clockSizeBKey.int
+    private val clockSizeNKey = PrefKey.integer("system_ui_statusbar_clock_size_3", 12)
+    private val clockSizeN get() = clockSizeNKey.int
+    private val clockSizePKey = PrefKey.integer("system_ui_statusbar_clock_size_4", 12)
+    private val clockSizeP get() = clockSizePKey.int
+    private val clockTextSpacingKey = PrefKey.integer("system_ui_statusbar_clock_double_spacing_margin_1", 16)
+    private val clockTextSpacing get() = clockTextSpacingKey.int
+    private val sClockLeftMarginKey = PrefKey.integer("system_ui_statusbar_clock_left_margin_1", 0)
+    private val sClockLeftMargin get() = sClockLeftMarginKey.int
+    private val sClockRightMarginKey = PrefKey.integer("system_ui_statusbar_clock_right_margin_1", 0)
+    private val sClockRightMargin get() = sClockRightMarginKey.int
+    private val sClockVerticalOffsetKey = PrefKey.integer("system_ui_statusbar_clock_vertical_offset_1", 12)
+    private val sClockVerticalOffset get() = sClockVerticalOffsetKey.int
+    private val fixedWidthKey = PrefKey.integer("system_ui_statusbar_clock_fixedcontent_width_1", 30)
+    private val fixedWidth get() = fixedWidthKey.int
+    private val bClockLeftMarginKey = PrefKey.integer("system_ui_statusbar_clock_left_margin_2", 0)
+    private val bClockLeftMargin get() = bClockLeftMarginKey.int
+    private val bClockRightMarginKey = PrefKey.integer("system_ui_statusbar_clock_right_margin_2", 0)
+    private val bClockRightMargin get() = bClockRightMarginKey.int
+    private val bClockVerticalOffsetKey = PrefKey.integer("system_ui_statusbar_clock_vertical_offset_2", 12)
+    private val bClockVerticalOffset get() = bClockVerticalOffsetKey.int
+    private val nClockLeftMarginKey = PrefKey.integer("system_ui_statusbar_clock_left_margin_3", 0)
+    private val nClockLeftMargin get() = nClockLeftMarginKey.int
+    private val nClockRightMarginKey = PrefKey.integer("system_ui_statusbar_clock_right_margin_3", 0)
+    private val nClockRightMargin get() = nClockRightMarginKey.int
+    private val nClockVerticalOffsetKey = PrefKey.integer("system_ui_statusbar_clock_vertical_offset_3", 12)
+    private val nClockVerticalOffset get() = nClockVerticalOffsetKey.int
+    private val pClockLeftMarginKey = PrefKey.integer("system_ui_statusbar_clock_left_margin_4", 0)
+    private val pClockLeftMargin get() = pClockLeftMarginKey.int
+    private val pClockRightMarginKey = PrefKey.integer("system_ui_statusbar_clock_right_margin_4", 0)
+    private val pClockRightMargin get() = pClockRightMarginKey.int
+    private val pClockVerticalOffsetKey = PrefKey.integer("system_ui_statusbar_clock_vertical_offset_4", 12)
+    private val pClockVerticalOffset get() = pClockVerticalOffsetKey.int
+    private val clockAlignKey = PrefKey.stringAsInt("system_ui_statusbar_clock_double_1", 0)
+    private val clockAlign get() = clockAlignKey.int
 
     // 时钟格式
-    private val getFormatS by lazy {
-        mPrefsMap.getString("system_ui_statusbar_clock_editor_s", "HH:mm")
-    }
-    private val getFormatB by lazy {
-        mPrefsMap.getString("system_ui_statusbar_clock_editor_b", "HH:mm")
-    }
-    private val getFormatN by lazy {
-        mPrefsMap.getString("system_ui_statusbar_clock_editor_n", "")
-    }
-    private val getFormatP by lazy {
-        mPrefsMap.getString("system_ui_statusbar_clock_editor_p", "")
-    }
-    private val getClockStyle by lazy {
-        mPrefsMap.getStringAsInt("system_ui_statusbar_clock_style", 0)
-    }
-
-    private val safeFormatS by lazy {
-        safeSplitFirst(getFormatS)
-    }
-    private val safeFormatB by lazy {
-        safeSplitFirst(getFormatB)
-    }
-    private val safeFormatN by lazy {
-        safeSplitFirst(getFormatN)
-    }
-    private val safeFormatP by lazy {
-        safeSplitFirst(getFormatP)
-    }
-    private val sClockName by lazy {
-        if (getFormatN.isNullOrEmpty()) {
-            when (getClockStyle) {
+    private val getFormatSKey = PrefKey.string("system_ui_statusbar_clock_editor_s", "HH:mm")
+    private val getFormatS get() = getFormatSKey.string
+    private val getFormatBKey = PrefKey.string("system_ui_statusbar_clock_editor_b", "HH:mm")
+    private val getFormatB get() = getFormatBKey.string
+    private val getFormatNKey = PrefKey.string("system_ui_statusbar_clock_editor_n", "")
+    private val getFormatN get() = getFormatNKey.string
+    private val getFormatPKey = PrefKey.string("system_ui_statusbar_clock_editor_p", "")
+    private val getFormatP get() = getFormatPKey.string
+    private val getClockStyleKey = PrefKey.stringAsInt("system_ui_statusbar_clock_style", 0)
+    private val getClockStyle get() = getClockStyleKey.int
+
+    /**
+     * 由格式配置派生的各时钟格式，与配置一样随时读取最新值。
+     * 配置未变化时 PrefKey 返回同一个字符串对象，按引用比较即可复用上次的结果。
+     */
+    private class ClockFormats(
+        val formatS: String?,
+        val formatB: String?,
+        val formatN: String?,
+        val formatP: String?,
+        val style: Int
+    ) {
+        val safeFormatS = safeSplitFirst(formatS)
+        val safeFormatB = safeSplitFirst(formatB)
+        val safeFormatN = safeSplitFirst(formatN)
+        val safeFormatP = safeSplitFirst(formatP)
+        val clockName = if (formatN.isNullOrEmpty()) {
+            when (style) {
                 0 -> safeFormatS
                 1 -> "$safeFormatS\nM/d E"
                 else -> "M/d E\n$safeFormatS"
             }
         } else {
-            when (getClockStyle) {
+            when (style) {
                 0 -> safeFormatS
                 1 -> "$safeFormatS\n$safeFormatN"
                 else -> "$safeFormatN\n$safeFormatS"
             }
         }
+
+        fun matches(s: String?, b: String?, n: String?, p: String?, style: Int) =
+            formatS === s && formatB === b && formatN === n && formatP === p && this.style == style
+    }
+
+    private fun safeSplitFirst(str: String?): String {
+        return str?.split("\n")?.firstOrNull() ?: ""
+    }
+
+    @Volatile
+    private var cachedFormats: ClockFormats? = null
+
+    private val clockFormats: ClockFormats
+        get() {
+            val s = getFormatS
+            val b = getFormatB
+            val n = getFormatN
+            val p = getFormatP
+            val style = getClockStyle
+            cachedFormats?.let { if (it.matches(s, b, n, p, style)) return it }
+            return ClockFormats(s, b, n, p, style).also { cachedFormats = it }
+        }
+
+    private fun patternFor(name: String): String {
+        val formats = clockFormats
+        return when (name) {
+            "clock" -> formats.clockName
+            "big_time" -> if (isSync) formats.safeFormatB else formats.safeFormatS
+            "pad_clock" -> formats.safeFormatP
+            else -> formats.safeFormatN
+        }
     }
 
     override fun init() {
@@ -245,14 +257,7 @@ object StatusBarClockNew : BaseHook() {
                         miuiClock.isSingleLine = false
 
                     if (isSec) {
-                        val updateTimeMethod =
-                            updateTimeMethodCache.computeIfAbsent(miuiClock.javaClass) { cls ->
-                                runCatching {
-                                    findMethodInHierarchy(cls, "updateTime")
-                                }.getOrNull()!!
-                            }
-
-                        secondsFrameCallback.registerClock(miuiClock, updateTimeMethod)
+                        secondsTicker.registerClock(miuiClock)
                     }
                 }
             }
@@ -377,83 +382,162 @@ object StatusBarClockNew : BaseHook() {
 
     private fun setMiuiClockFormat(context: Context?, name: String, textV: TextView?) {
         if (context == null || textV == null) return
+        val state = getClockState(name, textV) ?: return
+        renderClock(context, textV, state, true)
+    }
 
-        // 尝试从缓存获取 controller / calendar / method
-        val cached = clockDataCache[textV]
-        val cachedData = runCatching {
-            if (cached != null) return@runCatching cached
+    private fun getClockState(name: String, textV: TextView): ClockState? {
+        val pattern = patternFor(name)
+        // 格式配置变化后丢弃按旧格式编译的模板
+        clockDataCache[textV]?.let { if (it.template.pattern === pattern) return it }
+        return runCatching {
             // 通过反射取 controller & calendar，仅在首次或缓存失效时执行
-            val controller =
-                textV.getObjectField("mMiuiStatusBarClockController") ?: return@runCatching null
-            val calendar = controller.getObjectField("mCalendar") ?: return@runCatching null
+            val controller = textV.getObjectField("mMiuiStatusBarClockController") ?: return null
+            val calendar = controller.getObjectField("mCalendar") ?: return null
             val calClass = calendar.javaClass
-            val setTime = findMethodInHierarchy(calClass, "setTimeInMillis", Long::class.java)
+            val setTime = findMethodInHierarchy(calClass, "setTimeInMillis", Long::class.java) ?: return null
             val format = findMethodInHierarchy(
                 calClass,
                 "format",
                 Context::class.java,
                 StringBuilder::class.java,
                 StringBuilder::class.java
-            )
-            val cd = CachedClockData(
-                WeakReference(controller),
-                WeakReference(calendar),
-                calClass,
-                setTime,
-                format
-            )
-            clockDataCache[textV] = cd
-            cd
-        }.getOrNull() ?: return
-
-        val localFormatSb = StringBuilder(64)
-        when (name) {
-            "clock" -> localFormatSb.append(sClockName)
-            "big_time" -> if (isSync) localFormatSb.append(safeFormatB) else localFormatSb.append(safeFormatS)
-            "pad_clock" -> localFormatSb.append(safeFormatP)
-            else -> localFormatSb.append(safeFormatN)
-        }
+            ) ?: return null
+            setTime.isAccessible = true
+            format.isAccessible = true
+            ClockState(name, WeakReference(calendar), setTime, format, ClockTemplate(pattern)).also {
+                clockDataCache[textV] = it
+            }
+        }.getOrNull()
+    }
 
-        val calendarObj = cachedData.calendarRef.get() ?: run {
+    /**
+     * 含秒的格式每分钟完整格式化一次（秒字段以占位符代替），其余时间仅在秒变化时替换秒字段，
+     * 稳定状态下不产生对象分配。force 为 true 时总是完整格式化（系统主动刷新时间）。
+     */
+    private fun renderClock(context: Context, textV: TextView, state: ClockState, force: Boolean) {
+        val calendar = state.calendarRef.get() ?: run {
             clockDataCache.remove(textV)
             return
         }
-        val setTimeMethod = cachedData.setTimeMethod
-        val formatMethod = cachedData.formatMethod
+        val template = state.template
+        val now = System.currentTimeMillis()
+        try {
+            if (!template.hasSeconds || state.templateBroken) {
+                formatInto(context, calendar, state, template.pattern, now)
+                setClockText(textV, state, state.outputSb.length)
+                return
+            }
 
-        formatExecutor.submit {
-            try {
-                if (setTimeMethod != null) {
-                    setTimeMethod.isAccessible = true
-                    setTimeMethod.invoke(calendarObj, System.currentTimeMillis())
-                } else {
-                    calendarObj.callMethod("setTimeInMillis", System.currentTimeMillis())
+            val minute = now / 60_000L
+            val second = ((now / 1000L) % 60L).toInt()
+            if (force || minute != state.renderedMinute) {
+                formatInto(context, calendar, state, template.minutePattern, now)
+                if (countPlaceholders(state.outputSb) != template.secondFields) {
+                    // 格式化器未原样保留占位符，回退为每次完整格式化
+                    state.templateBroken = true
+                    formatInto(context, calendar, state, template.pattern, now)
+                    setClockText(textV, state, state.outputSb.length)
+                    return
                 }
-
-                if (formatMethod != null) {
-                    val tb = StringBuilder(128)
-                    formatMethod.isAccessible = true
-                    formatMethod.invoke(calendarObj, context, tb, localFormatSb)
-                    val final = tb.toString()
-                    textV.post { textV.text = final }
+                state.renderedMinute = minute
+                state.renderedSecond = -1
+            }
+            if (second == state.renderedSecond) return
+
+            val out = state.outputSb
+            var length = 0
+            var field = 0
+            for (i in 0 until out.length) {
+                val c = out[i]
+                if (c == SECOND_PLACEHOLDER) {
+                    if (template.padded[field++] || second >= 10) {
+                        length = putChar(state, length, '0' + second / 10)
+                    }
+                    length = putChar(state, length, '0' + second % 10)
                 } else {
-                    val tb = StringBuilder(128)
-                    calendarObj.callMethod("format", context, tb, localFormatSb)
-                    val final = tb.toString()
-                    textV.post { textV.text = final }
+                    length = putChar(state, length, c)
                 }
-            } catch (_: Throwable) {
-                // 若失败，移除缓存以后续重试
-                clockDataCache.remove(textV)
             }
+            state.renderedSecond = second
+            textV.setText(state.chars, 0, length)
+        } catch (_: Throwable) {
+            // 若失败，移除缓存以后续重试
+            clockDataCache.remove(textV)
         }
     }
 
+    private fun formatInto(context: Context, calendar: Any, state: ClockState, pattern: String, now: Long) {
+        state.setTimeMethod.invoke(calendar, now)
+        state.patternSb.setLength(0)
+        state.patternSb.append(pattern)
+        state.outputSb.setLength(0)
+        state.formatMethod.invoke(calendar, context, state.outputSb, state.patternSb)
+    }
 
-    private fun safeSplitFirst(str: String?): String {
-        return str?.split("\n")?.firstOrNull() ?: ""
+    private fun setClockText(textV: TextView, state: ClockState, length: Int) {
+        for (i in 0 until length) putChar(state, i, state.outputSb[i])
+        textV.setText(state.chars, 0, length)
+    }
+
+    private fun putChar(state: ClockState, index: Int, c: Char): Int {
+        if (index >= state.chars.size) state.chars = state.chars.copyOf(state.chars.size * 2)
+        state.chars[index] = c
+        return index + 1
+    }
+
+    private fun countPlaceholders(sb: StringBuilder): Int {
+        var count = 0
+        for (i in 0 until sb.length) if (sb[i] == SECOND_PLACEHOLDER) count++
+        return count
     }
 
+    private fun tickClock(textV: TextView) {
+        val cached = clockDataCache[textV] ?: return
+        if (cached.template.pattern !== patternFor(cached.name)) {
+            val state = getClockState(cached.name, textV) ?: return
+            renderClock(textV.context, textV, state, true)
+            return
+        }
+        renderClock(textV.context, textV, cached, false)
+    }
+
+    /**
+     * 预编译的时钟格式：将秒字段（s / ss，引号内除外）替换为占位符
+     */
+    private class ClockTemplate(val pattern: String) {
+        val minutePattern: String
+        val padded: BooleanArray
+        val secondFields: Int
+        val hasSeconds: Boolean
+
+        init {
+            val sb = StringBuilder(pattern.length)
+            val fields = ArrayList<Boolean>()
+            var inQuote = false
+            var i = 0
+            while (i < pattern.length) {
+                val c = pattern[i]
+                if (c == '\'') inQuote = !inQuote
+                if (!inQuote && c == 's') {
+                    var end = i
+                    while (end < pattern.length && pattern[end] == 's') end++
+                    fields.add(end - i >= 2)
+                    sb.append(SECOND_PLACEHOLDER)
+                    i = end
+                    continue
+                }
+                sb.append(c)
+                i++
+            }
+            minutePattern = sb.toString()
+            padded = fields.toBooleanArray()
+            secondFields = fields.size
+            hasSeconds = secondFields > 0
+        }
+    }
+
+
     private fun findMethodInHierarchy(
         cls: Class<*>,
         name: String,
@@ -472,54 +556,67 @@ object StatusBarClockNew : BaseHook() {
         return null
     }
 
-    private class SecondsFrameCallback : Choreographer.FrameCallback {
-        private val choreographer = Choreographer.getInstance()!!
-        private val clockMap = HashMap<TextView, Method>()
-
-        fun initial(): SecondsFrameCallback {
-            choreographer.postFrameCallback(this)
-            return this
-        }
-
-        override fun doFrame(frameTimeNanos: Long) {
-            if (clockMap.isEmpty()) {
-                choreographer.postFrameCallbackDelayed(
-                    this,
-                    1000 - (System.currentTimeMillis() % 1000)
-                )
-                return
+    /**
+     * 所有秒级时钟共用的计时器，对齐到整秒触发。
+     * 屏幕关闭或全部时钟均未附加到窗口时暂停，恢复时立即刷新一次。
+     * 计时器只持有已附加到窗口的时钟，分离后的 View 不再被引用，可随界面一同回收。
+     */
+    private class SecondsTicker : Runnable {
+        private val handler = Handler(Looper.getMainLooper())
+        private val registered: MutableSet<TextView> = Collections.newSetFromMap(WeakHashMap())
+        private val attachedClocks = ArrayList<TextView>()
+        private var screenOn = true
+        private var running = false
+        private var receiverRegistered = false
+
+        private val screenReceiver = object : BroadcastReceiver() {
+            override fun onReceive(context: Context, intent: Intent) {
+                screenOn = intent.action != Intent.ACTION_SCREEN_OFF
+                updateRunning()
             }
+        }
 
-            for (entry in clockMap) {
-                val view = entry.key
-                val method = entry.value
-                if (!view.isAttachedToWindow)
-                    continue
+        fun registerClock(textView: TextView) {
+            if (!registered.add(textView)) return
+            if (textView.isAttachedToWindow) attachedClocks.add(textView)
+            // 监听器挂在 View 上，只引用计时器，不会反过来使 View 无法回收
+            textView.addOnAttachStateChangeListener(object : View.OnAttachStateChangeListener {
+                override fun onViewAttachedToWindow(v: View) {
+                    if (!attachedClocks.contains(textView)) attachedClocks.add(textView)
+                    updateRunning()
+                }
 
-                runCatching {
-                    method.invoke(view)
+                override fun onViewDetachedFromWindow(v: View) {
+                    attachedClocks.remove(textView)
+                    updateRunning()
                 }
+            })
+            if (!receiverRegistered) {
+                receiverRegistered = true
+                val context = textView.context.applicationContext ?: textView.context
+                screenOn = (context.getSystemService(Context.POWER_SERVICE) as PowerManager).isInteractive
+                context.registerReceiver(screenReceiver, IntentFilter().apply {
+                    addAction(Intent.ACTION_SCREEN_ON)
+                    addAction(Intent.ACTION_SCREEN_OFF)
+                })
             }
-
-            choreographer.postFrameCallbackDelayed(
-                this,
-                1000 - (System.currentTimeMillis() % 1000)
-            )
+            updateRunning()
         }
 
-        fun registerClock(textView: TextView, updateTimeMethod: Method) {
-            if (!clockMap.contains(textView)) {
-                updateTimeMethod.isAccessible = true
-                clockMap[textView] = updateTimeMethod
-                textView.addOnAttachStateChangeListener(object : View.OnAttachStateChangeListener {
-                    override fun onViewAttachedToWindow(v: View) {}
+        private fun updateRunning() {
+            val shouldRun = screenOn && attachedClocks.isNotEmpty()
+            if (shouldRun == running) return
+            running = shouldRun
+            handler.removeCallbacks(this)
+            if (shouldRun) handler.post(this)
+        }
 
-                    override fun onViewDetachedFromWindow(v: View) {
-                        clockMap.remove(v)
-                        v.removeOnAttachStateChangeListener(this)
-                    }
-                })
+        override fun run() {
+            if (!running) return
+            for (i in 0 until attachedClocks.size) {
+                tickClock(attachedClocks[i])
             }
+            handler.postAtTime(this, SystemClock.uptimeMillis() + 1000 - System.currentTimeMillis() % 1000)
         }
     }
 }
@@ -25,6 +25,7 @@ import android.widget.TextView
 import com.sevtinge.hyperceiler.hook.module.base.BaseHook
 import com.sevtinge.hyperceiler.hook.utils.devicesdk.DisplayUtils.dp2px
 import com.sevtinge.hyperceiler.hook.utils.devicesdk.isMoreHyperOSVersion
+import com.sevtinge.hyperceiler.hook.utils.prefs.PrefKey
 import de.robv.android.xposed.XC_MethodHook
 import de.robv.android.xposed.XposedHelpers
 import io.github.kyuubiran.ezxhelper.core.finder.MethodFinder.`-Static`.methodFinder
@@ -32,33 +33,24 @@ import io.github.kyuubiran.ezxhelper.core.util.ClassUtil.loadClass
 import io.github.kyuubiran.ezxhelper.xposed.dsl.HookFactory.`-Static`.createAfterHook
 
 object BatteryStyle : BaseHook() {
-    private val fontSize by lazy {
-        mPrefsMap.getInt("system_ui_status_bar_battery_style_font_size", 15) * 0.5f
-    }
-    private val fontSizeMark by lazy {
-        mPrefsMap.getInt("system_ui_status_bar_battery_style_font_mark_size", 15) * 0.5f
-    }
-    private val verticalOffset by lazy {
-        mPrefsMap.getInt("system_ui_status_bar_battery_style_vertical_offset", 8)
-    }
-    private val verticalOffsetMark by lazy {
-        mPrefsMap.getInt("system_ui_status_bar_battery_style_vertical_offset_mark", 27)
-    }
-    private val isChangeLocation by lazy {
-        mPrefsMap.getBoolean("system_ui_status_bar_battery_style_change_location")
-    }
-    private val isHideText by lazy {
-        mPrefsMap.getBoolean("system_ui_status_bar_battery_percent")
-    }
-    private val isEnableCustom by lazy {
-        mPrefsMap.getBoolean("system_ui_status_bar_battery_style_enable_custom")
-    }
-    private val isEnableBold by lazy {
-        mPrefsMap.getBoolean("system_ui_status_bar_battery_style_bold")
-    }
-    private val isEnableBatteryMark by lazy {
-        mPrefsMap.getBoolean("system_ui_status_bar_battery_percent_mark")
-    }
+    private val fontSizeKey = PrefKey.integer("system_ui_status_bar_battery_style_font_size", 15)
+    private val fontSize get() = fontSizeKey.int * 0.5f
+    private val fontSizeMarkKey = PrefKey.integer("system_ui_status_bar_battery_style_font_mark_size", 15)
+    private val fontSizeMark get() = fontSizeMarkKey.int * 0.5f
+    private val verticalOffsetKey = PrefKey.integer("system_ui_status_bar_battery_style_vertical_offset", 8)
+    private val verticalOffset get() = verticalOffsetKey.int
+    private val verticalOffsetMarkKey = PrefKey.integer("system_ui_status_bar_battery_style_vertical_offset_mark", 27)
+    private val verticalOffsetMark get() = verticalOffsetMarkKey.int
+    private val isChangeLocationKey = PrefKey.bool("system_ui_status_bar_battery_style_change_location")
+    private val isChangeLocation get() = isChangeLocationKey.boolean
+    private val isHideTextKey = PrefKey.bool("system_ui_status_bar_battery_percent")
+    private val isHideText get() = isHideTextKey.boolean
+    private val isEnableCustomKey = PrefKey.bool("system_ui_status_bar_battery_style_enable_custom")
+    private val isEnableCustom get() = isEnableCustomKey.boolean
+    private val isEnableBoldKey = PrefKey.bool("system_ui_status_bar_battery_style_bold")
+    private val isEnableBold get() = isEnableBoldKey.boolean
+    private val isEnableBatteryMarkKey = PrefKey.bool("system_ui_status_bar_battery_percent_mark")
+    private val isEnableBatteryMark get() = isEnableBatteryMarkKey.boolean
 
     private val mBatteryMeterViewClass by lazy {
         loadClass("com.android.systemui.statusbar.views.MiuiBatteryMeterView")
@@ -25,11 +25,17 @@ import android.widget.TextView
 import com.sevtinge.hyperceiler.hook.module.base.BaseHook
 import com.sevtinge.hyperceiler.hook.utils.getObjectField
 import com.sevtinge.hyperceiler.hook.utils.getObjectFieldAs
+import com.sevtinge.hyperceiler.hook.utils.prefs.PrefKey
 import io.github.kyuubiran.ezxhelper.core.finder.MethodFinder.`-Static`.methodFinder
 import io.github.kyuubiran.ezxhelper.core.util.ClassUtil.loadClass
 import io.github.kyuubiran.ezxhelper.xposed.dsl.HookFactory.`-Static`.createHook
 
 object HideBatteryIcon : BaseHook() {
+    private val hideIcon = PrefKey.bool("system_ui_status_bar_battery_icon")
+    private val hidePercent = PrefKey.bool("system_ui_status_bar_battery_percent")
+    private val hidePercentMark = PrefKey.bool("system_ui_status_bar_battery_percent_mark")
+    private val hideCharging = PrefKey.bool("system_ui_status_bar_battery_charging")
+
     override fun init() {
         val mBatteryMeterViewClass by lazy {
             loadClass("com.android.systemui.statusbar.views.MiuiBatteryMeterView")
@@ -41,7 +47,7 @@ object HideBatteryIcon : BaseHook() {
                 after { param ->
                     if (param.thisObject != null) {
                         // 隐藏电池图标
-                        if (mPrefsMap.getBoolean("system_ui_status_bar_battery_icon")) {
+                        if (hideIcon.boolean) {
                             (param.thisObject.getObjectFieldAs<ImageView>("mBatteryIconView")).visibility =
                                 View.GONE
 
@@ -60,7 +66,7 @@ object HideBatteryIcon : BaseHook() {
                 after { param ->
                     if (param.thisObject != null) {
                         // 隐藏电池图标
-                        if (mPrefsMap.getBoolean("system_ui_status_bar_battery_icon")) {
+                        if (hideIcon.boolean) {
                             (param.thisObject.getObjectFieldAs<ImageView>("mBatteryIconView")).visibility =
                                 View.GONE
 
@@ -70,13 +76,13 @@ object HideBatteryIcon : BaseHook() {
                             }
                         }
                         // 隐藏电池百分号
-                        if (mPrefsMap.getBoolean("system_ui_status_bar_battery_percent") ||
-                            mPrefsMap.getBoolean("system_ui_status_bar_battery_percent_mark")
+                        if (hidePercent.boolean ||
+                            hidePercentMark.boolean
                         ) {
                             (param.thisObject?.getObjectFieldAs<TextView>("mBatteryPercentMarkView"))?.textSize = 0F
                         }
                         // 隐藏电池内的百分比
-                        if (mPrefsMap.getBoolean("system_ui_status_bar_battery_percent")) {
+                        if (hidePercent.boolean) {
                             (param.thisObject?.getObjectFieldAs<TextView>("mBatteryPercentView"))?.textSize = 0F
                             (param.thisObject?.getObjectFieldAs<TextView>("mBatteryTextDigitView"))?.textSize = 0F
                         }
@@ -90,19 +96,19 @@ object HideBatteryIcon : BaseHook() {
                 after { param ->
                     if (param.thisObject != null) {
                         // 隐藏电池百分号
-                        if (mPrefsMap.getBoolean("system_ui_status_bar_battery_percent") ||
-                            mPrefsMap.getBoolean("system_ui_status_bar_battery_percent_mark")
+                        if (hidePercent.boolean ||
+                            hidePercentMark.boolean
                         ) {
                             (param.thisObject?.getObjectFieldAs<TextView>("mBatteryPercentMarkView"))?.textSize = 0F
                         }
                         // 隐藏电池内的百分比
-                        if (mPrefsMap.getBoolean("system_ui_status_bar_battery_percent")) {
+                        if (hidePercent.boolean) {
                             (param.thisObject?.getObjectFieldAs<TextView>("mBatteryPercentView"))?.textSize = 0F
                             (param.thisObject?.getObjectFieldAs<TextView>("mBatteryTextDigitView"))?.textSize = 0F
                         }
 
                         // 隐藏电池充电图标
-                        if (mPrefsMap.getBoolean("system_ui_status_bar_battery_charging")) {
+                        if (hideCharging.boolean) {
                             (param.thisObject.getObjectFieldAs<ImageView>("mBatteryChargingInView")).visibility =
                                 View.GONE
                             (param.thisObject.getObjectFieldAs<ImageView>("mBatteryChargingView")).visibility =
@@ -19,10 +19,15 @@
 package com.sevtinge.hyperceiler.hook.module.rules.systemui.statusbar.icon.all;
 
 import com.sevtinge.hyperceiler.hook.module.base.BaseHook;
+import com.sevtinge.hyperceiler.hook.utils.prefs.PrefKey;
 
 import de.robv.android.xposed.XposedHelpers;
 
 public class IconsFromSystemManager extends BaseHook {
+    private static final PrefKey HIDE_STEALTH = PrefKey.bool("system_ui_status_bar_hide_icon_stealth");
+    private static final PrefKey HIDE_MUTE = PrefKey.bool("system_ui_status_bar_hide_icon_mute");
+    private static final PrefKey HIDE_SPEAKERPHONE = PrefKey.bool("system_ui_status_bar_hide_icon_speakerphone");
+    private static final PrefKey HIDE_CALL_RECORD = PrefKey.bool("system_ui_status_bar_hide_icon_call_record");
 
     @Override
     public void init() {
@@ -67,16 +72,16 @@ public class IconsFromSystemManager extends BaseHook {
     public boolean checkSlot(String slotName) {
         switch (slotName) {
             case "stealth" -> {
-                return mPrefsMap.getBoolean("system_ui_status_bar_hide_icon_stealth");
+                return HIDE_STEALTH.getBoolean();
             }
             case "mute" -> {
-                return mPrefsMap.getBoolean("system_ui_status_bar_hide_icon_mute");
+                return HIDE_MUTE.getBoolean();
             }
             case "speakerphone" -> {
-                return mPrefsMap.getBoolean("system_ui_status_bar_hide_icon_speakerphone");
+                return HIDE_SPEAKERPHONE.getBoolean();
             }
             case "call_record" -> {
-                return mPrefsMap.getBoolean("system_ui_status_bar_hide_icon_call_record");
+                return HIDE_CALL_RECORD.getBoolean();
             }
             default -> {
                 return false;
@@ -20,6 +20,7 @@ package com.sevtinge.hyperceiler.hook.module.rules.systemui.statusbar.icon.v
 
 import com.sevtinge.hyperceiler.hook.module.base.BaseHook
 import com.sevtinge.hyperceiler.hook.module.base.dexkit.DexKit
+import com.sevtinge.hyperceiler.hook.module.base.dexkit.IDexKit
 import com.sevtinge.hyperceiler.hook.module.rules.systemui.base.api.MiuiStub
 import com.sevtinge.hyperceiler.hook.utils.api.ProjectApi.isDebug
 import com.sevtinge.hyperceiler.hook.utils.api.StateFlowHelper.newReadonlyStateFlow
@@ -36,33 +37,40 @@ import io.github.kyuubiran.ezxhelper.xposed.dsl.HookFactory.`-Static`.createBefo
 import org.luckypray.dexkit.query.enums.StringMatchType
 import java.lang.reflect.Method
 
+private const val MAKE_WIFI_STANDARD_ZERO = "makeWifiStandardZero"
+private val findMakeWifiStandardZero = IDexKit { bridge ->
+    bridge.findMethod {
+        matcher {
+            declaredClass {
+                if (isMoreAndroidVersion(36)) {
+                    className($$"WifiViewModelInject$special$", StringMatchType.Contains)
+                } else {
+                    className($$"viewmodel.WifiViewModel$special", StringMatchType.Contains)
+                }
+            }
+            usingNumbers(5, 0)
+            addInvoke("Ljava/lang/Integer;-><init>(I)V")
+
+            if (isMoreAndroidVersion(36)) {
+                addUsingField {
+                    name($$"$this_unsafeFlow")
+                }
+            }
+        }
+    }.singleOrNull()
+}
+
 object WifiStandard : BaseHook() {
     private val showWifi by lazy {
         mPrefsMap.getStringAsInt("system_ui_status_bar_icon_wifi_standard", 0)
     }
 
     private val makeWifiStandardZero by lazy {
-        DexKit.findMember("makeWifiStandardZero") { bridge ->
-            bridge.findMethod {
-                matcher {
-                    declaredClass {
-                        if (isMoreAndroidVersion(36)) {
-                            className($$"WifiViewModelInject$special$", StringMatchType.Contains)
-                        } else {
-                            className($$"viewmodel.WifiViewModel$special", StringMatchType.Contains)
-                        }
-                    }
-                    usingNumbers(5, 0)
-                    addInvoke("Ljava/lang/Integer;-><init>(I)V")
+        DexKit.findMember(MAKE_WIFI_STANDARD_ZERO, findMakeWifiStandardZero) as? Method
+    }
 
-                    if (isMoreAndroidVersion(36)) {
-                        addUsingField {
-                            name($$"$this_unsafeFlow")
-                        }
-                    }
-                }
-            }.singleOrNull()
-        } as? Method
+    override fun collectDexKit(members: MutableMap<String, IDexKit>) {
+        if (showWifi == 1) members[MAKE_WIFI_STANDARD_ZERO] = findMakeWifiStandardZero
     }
 
     override fun init() {
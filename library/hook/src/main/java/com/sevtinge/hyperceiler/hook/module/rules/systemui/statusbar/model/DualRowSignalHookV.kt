@@ -28,6 +28,7 @@ import android.widget.ImageView
 import android.widget.LinearLayout
 import com.sevtinge.hyperceiler.hook.module.base.BaseHook
 import com.sevtinge.hyperceiler.hook.module.base.dexkit.DexKit
+import com.sevtinge.hyperceiler.hook.module.base.dexkit.IDexKit
 import com.sevtinge.hyperceiler.hook.module.base.tool.OtherTool.getModuleRes
 import com.sevtinge.hyperceiler.hook.module.rules.systemui.base.api.Dependency
 import com.sevtinge.hyperceiler.hook.module.rules.systemui.base.statusbar.icon.MobileClass.miuiMobileIconBinder
@@ -60,6 +61,17 @@ import java.lang.reflect.Method
 import java.util.function.Consumer
 
 
+private const val SET_IMAGE_RES_WITH_TINT_LIGHT = "SetImageResWithTintLight"
+private val findSetImageResWithTintLight = IDexKit { bridge ->
+    bridge.findMethod {
+        matcher {
+            declaredClass(miuiMobileIconBinder)
+            // modifiers = Modifier.STATIC
+            name("setImageResWithTintLight", StringMatchType.Contains)
+        }
+    }.singleOrNull()
+}
+
 class DualRowSignalHookV : BaseHook() {
     private val rightMargin by lazy {
         mPrefsMap.getInt("system_ui_statusbar_mobile_network_icon_right_margin", 8) - 8
@@ -85,15 +97,11 @@ class DualRowSignalHookV : BaseHook() {
     private val dualSignalResMap = HashMap<String, Int>()
 
     private val setImageResWithTintLight by lazy {
-        DexKit.findMember("SetImageResWithTintLight") { bridge ->
-            bridge.findMethod {
-                matcher {
-                    declaredClass(miuiMobileIconBinder)
-                    // modifiers = Modifier.STATIC
-                    name("setImageResWithTintLight", StringMatchType.Contains)
-                }
-            }.singleOrNull()
-        } as Method
+        DexKit.findMember(SET_IMAGE_RES_WITH_TINT_LIGHT, findSetImageResWithTintLight) as Method
+    }
+
+    override fun collectDexKit(members: MutableMap<String, IDexKit>) {
+        members[SET_IMAGE_RES_WITH_TINT_LIGHT] = findSetImageResWithTintLight
     }
 
     override fun init() {
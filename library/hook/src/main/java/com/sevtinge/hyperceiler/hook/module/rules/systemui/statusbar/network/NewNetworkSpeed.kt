@@ -30,10 +30,12 @@ import androidx.annotation.RequiresPermission
 import com.sevtinge.hyperceiler.hook.R
 import com.sevtinge.hyperceiler.hook.module.base.BaseHook
 import com.sevtinge.hyperceiler.hook.module.base.tool.OtherTool.getModuleRes
+import com.sevtinge.hyperceiler.hook.utils.TrafficSampler
 import com.sevtinge.hyperceiler.hook.utils.callStaticMethod
 import com.sevtinge.hyperceiler.hook.utils.devicesdk.isMoreAndroidVersion
 import com.sevtinge.hyperceiler.hook.utils.getObjectField
 import com.sevtinge.hyperceiler.hook.utils.getObjectFieldAs
+import com.sevtinge.hyperceiler.hook.utils.prefs.PrefKey
 import io.github.kyuubiran.ezxhelper.core.finder.MethodFinder.`-Static`.methodFinder
 import io.github.kyuubiran.ezxhelper.core.util.ClassUtil.loadClassOrNull
 import io.github.kyuubiran.ezxhelper.xposed.dsl.HookFactory.`-Static`.createAfterHook
@@ -53,37 +55,36 @@ object NewNetworkSpeed : BaseHook() {
     private var txSpeed: Long = 0
     private var rxSpeed: Long = 0
 
+    private val trafficSampler = TrafficSampler()
+    private var samplerAvailable = true
+    private val trafficBytes = LongArray(2)
+
     private var txArrow = ""
     private var rxArrow = ""
 
     //  隐藏慢速
-    private val hideLow by lazy {
-        mPrefsMap.getBoolean("system_ui_statusbar_network_speed_hide")
-    }
+    private val hideLowKey = PrefKey.bool("system_ui_statusbar_network_speed_hide")
+    private val hideLow get() = hideLowKey.boolean
     // 网速均低于设定值隐藏
-    private val allHideLow by lazy {
-        mPrefsMap.getBoolean("system_ui_statusbar_network_speed_hide_all")
-    }
+    private val allHideLowKey = PrefKey.bool("system_ui_statusbar_network_speed_hide_all")
+    private val allHideLow get() = allHideLowKey.boolean
     //  慢速水平
-    private val lowLevel by lazy {
-        mPrefsMap.getInt("system_ui_statusbar_network_speed_hide_slow", 1) * 1024
-    }
+    private val lowLevelKey = PrefKey.integer("system_ui_statusbar_network_speed_hide_slow", 1)
+    private val lowLevel get() = lowLevelKey.int * 1024
     // 交换图标与网速位置
-    private val swapPlaces by lazy {
-        mPrefsMap.getBoolean("system_ui_statusbar_network_speed_swap_places")
-    }
+    private val swapPlacesKey = PrefKey.bool("system_ui_statusbar_network_speed_swap_places")
+    private val swapPlaces get() = swapPlacesKey.boolean
     // 网速图标
-    private val icons by lazy {
-        mPrefsMap.getString("system_ui_statusbar_network_speed_icon", "2").toInt()
-    }
+    private val iconsKey = PrefKey.stringAsInt("system_ui_statusbar_network_speed_icon", 2)
+    private val icons get() = iconsKey.int
     // 网速指示器样式
-    private val networkStyle by lazy {
-        mPrefsMap.getStringAsInt("system_ui_statusbar_network_speed_style", 0)
-    }
+    private val networkStyleKey = PrefKey.stringAsInt("system_ui_statusbar_network_speed_style", 0)
+    private val networkStyle get() = networkStyleKey.int
 
-    private val needTotal by lazy {
-        (networkStyle == 1 || networkStyle == 2)
-    }
+    private val hideSecUnitKey = PrefKey.bool("system_ui_statusbar_network_speed_sec_unit")
+    private val hideSecUnit get() = hideSecUnitKey.boolean
+
+    private val needTotal get() = networkStyle == 1 || networkStyle == 2
     private val sharedStrArr = arrayOf("", "")
     @Volatile
     private var cachedUnits: CharArray? = null
@@ -197,13 +198,27 @@ object NewNetworkSpeed : BaseHook() {
     }
 
     private fun getTrafficBytes(out: LongArray) {
+        // 优先直接解析 /proc/net/dev，无法读取时回退到逐接口查询
+        if (samplerAvailable) {
+            if (trafficSampler.sample()) {
+                out[0] = trafficSampler.totalTxBytes
+                out[1] = trafficSampler.totalRxBytes
+                return
+            }
+            samplerAvailable = false
+            logW(TAG, lpparam.packageName, "/proc/net/dev is not readable, fall back to NetworkInterface")
+        }
+
         out[0] = 0L // tx
         out[1] = 0L // rx
 
         runCatching {
             val list = NetworkInterface.getNetworkInterfaces()
             list?.asSequence()
-                ?.filter { it.isUp && !it.isVirtual && !it.isLoopback && !it.isPointToPoint && it.name.isNotEmpty() }
+                ?.filter {
+                    it.isUp && !it.isVirtual && !it.isLoopback && !it.isPointToPoint && it.name.isNotEmpty() &&
+                        !TrafficSampler.isExcludedInterface(it.name)
+                }
                 ?.forEach { iFace ->
                     TrafficStats::class.java.apply {
                         out[0] += callStaticMethod("getTxBytes", iFace.name) as Long
@@ -221,10 +236,10 @@ object NewNetworkSpeed : BaseHook() {
     @SuppressLint("DefaultLocale")
     private fun humanReadableByteCount(ctx: Context, bytes: Long): String {
         try {
-            // 缓存模块 resources/units/suffix 以提高性能
+            // 缓存模块 resources 中的单位字符串，是否显示 /s 随配置实时读取
             if (cachedUnits == null) {
                 val modRes = getModuleRes(ctx)
-                cachedUnitSuffix = if (mPrefsMap.getBoolean("system_ui_statusbar_network_speed_sec_unit")) "" else modRes.getString(R.string.system_ui_statusbar_network_speed_Bs)
+                cachedUnitSuffix = modRes.getString(R.string.system_ui_statusbar_network_speed_Bs)
                 val unitsStr = modRes.getString(R.string.system_ui_statusbar_network_speed_speedunits)
                 cachedUnits = when {
                     unitsStr.isNotEmpty() -> unitsStr.toCharArray()
@@ -233,7 +248,7 @@ object NewNetworkSpeed : BaseHook() {
             }
 
             val units = cachedUnits!!
-            val unitSuffix = cachedUnitSuffix ?: ""
+            val unitSuffix = if (hideSecUnit) "" else cachedUnitSuffix ?: ""
 
             val value: Double
             val expIndex: Int
@@ -285,7 +300,7 @@ object NewNetworkSpeed : BaseHook() {
         if (measureTimeNanos == 0L || interval <= 0L) {
             measureTimeNanos = nowNanos
             // initialize totals but do not compute speeds this tick
-            val out = LongArray(2)
+            val out = trafficBytes
             getTrafficBytes(out)
             txBytesTotal = out[0]
             rxBytesTotal = out[1]
@@ -306,7 +321,7 @@ object NewNetworkSpeed : BaseHook() {
         }
         measureTimeNanos = nowNanos
 
-        val out = LongArray(2)
+        val out = trafficBytes
         getTrafficBytes(out)
         val newTxBytes = out[0]
         val newRxBytes = out[1]
@@ -27,6 +27,7 @@ import android.content.res.AssetFileDescriptor;
 import android.database.Cursor;
 import android.database.MatrixCursor;
 import android.net.Uri;
+import android.os.Bundle;
 import android.os.ParcelFileDescriptor;
 import android.util.Log;
 
@@ -39,11 +40,15 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class SharedPrefsProvider extends ContentProvider {
 
     public static final String AUTHORITY = "com.sevtinge.hyperceiler.provider.sharedprefs";
+    // 批量读取，extras 中必须传入 EXTRA_KEYS，未指定键时返回空结果，不允许一次枚举全部配置
+    public static final String METHOD_GET_PREFS = "get_prefs";
+    public static final String EXTRA_KEYS = "keys";
     private static final UriMatcher uriMatcher = new UriMatcher(UriMatcher.NO_MATCH);
 
     SharedPreferences prefs;
@@ -100,6 +105,28 @@ public class SharedPrefsProvider extends ContentProvider {
         return null;
     }
 
+    @Override
+    public Bundle call(@NonNull String method, String arg, Bundle extras) {
+        if (!METHOD_GET_PREFS.equals(method)) return super.call(method, arg, extras);
+
+        String[] keys = extras == null ? null : extras.getStringArray(EXTRA_KEYS);
+        Bundle bundle = new Bundle();
+        if (keys == null || keys.length == 0) return bundle;
+
+        Map<String, ?> all = prefs.getAll();
+        for (String key : keys) putValue(bundle, key, all.get(key));
+        return bundle;
+    }
+
+    private static void putValue(Bundle bundle, String key, Object value) {
+        if (value instanceof String s) bundle.putString(key, s);
+        else if (value instanceof Integer i) bundle.putInt(key, i);
+        else if (value instanceof Boolean b) bundle.putBoolean(key, b);
+        else if (value instanceof Long l) bundle.putLong(key, l);
+        else if (value instanceof Float f) bundle.putFloat(key, f);
+        else if (value instanceof Set<?> set) bundle.putStringArray(key, set.toArray(new String[0]));
+    }
+
     @Override
     public AssetFileDescriptor openAssetFile(@NonNull Uri uri, @NonNull String mode) throws FileNotFoundException {
         if (getContext() == null) return null;
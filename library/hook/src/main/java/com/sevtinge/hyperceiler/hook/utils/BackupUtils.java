@@ -23,14 +23,14 @@ import android.app.Activity;
 import android.content.Intent;
 import android.content.SharedPreferences;
 import android.net.Uri;
+import android.util.JsonReader;
+import android.util.JsonToken;
+import android.util.JsonWriter;
 
 import androidx.annotation.Nullable;
 
 import com.sevtinge.hyperceiler.hook.utils.prefs.PrefsUtils;
 
-import org.json.JSONException;
-import org.json.JSONObject;
-
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -38,19 +38,53 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+/**
+ * 设置备份与恢复
+ * <p>
+ * 备份文件格式（version 2），每个值都带有类型标记，恢复时不再依赖猜测：
+ * <pre>
+ * {
+ *   "format": "HyperCeiler-settings",
+ *   "version": 2,
+ *   "prefs": {
+ *     "prefs_key_xxx": { "t": "b", "v": true },
+ *     "prefs_key_yyy": { "t": "ss", "v": ["a", "b"] }
+ *   }
+ * }
+ * </pre>
+ * t 取值：b(boolean) i(int) l(long) f(float) s(String) ss(Set&lt;String&gt;)。
+ * 仍可读取旧版不带类型标记的扁平 json 备份。
+ * <p>
+ * 读写均为流式。恢复时先完整解析整个文件并与当前配置比较，解析成功后才把不同的项按
+ * {@link #APPLY_CHUNK_SIZE} 分批提交：文件损坏时不会留下只恢复了一半的配置，
+ * 且只有真正变化的配置项会触发变更通知。
+ */
 public class BackupUtils {
     public static final int CREATE_DOCUMENT_CODE = 255774;
     public static final int OPEN_DOCUMENT_CODE = 277451;
     public static final String BACKUP_FILE_NAME = "HyperCeiler_settings_backup";
 
+    private static final String FORMAT_NAME = "HyperCeiler-settings";
+    private static final int FORMAT_VERSION = 2;
+    private static final int APPLY_CHUNK_SIZE = 200;
+    private static final String KEY_ALLOW_HOOK = "prefs_key_allow_hook";
+
+    private static final String TYPE_BOOLEAN = "b";
+    private static final String TYPE_INT = "i";
+    private static final String TYPE_LONG = "l";
+    private static final String TYPE_FLOAT = "f";
+    private static final String TYPE_STRING = "s";
+    private static final String TYPE_STRING_SET = "ss";
+
     public static void backup(Activity activity) {
         @SuppressLint("SimpleDateFormat") String backupFileName = BACKUP_FILE_NAME + new SimpleDateFormat("_yyyy-MM-dd-HH:mm:ss").format(new java.util.Date());
         Intent intent = new Intent(Intent.ACTION_CREATE_DOCUMENT);
@@ -68,60 +102,200 @@ public class BackupUtils {
         activity.startActivityForResult(intent, OPEN_DOCUMENT_CODE);
     }
 
-    public static void handleCreateDocument(Activity activity, @Nullable Uri data) throws IOException, JSONException {
+    public static void handleCreateDocument(Activity activity, @Nullable Uri data) throws IOException {
         if (data == null) return;
         OutputStream outputStream = activity.getContentResolver().openOutputStream(data);
-        BufferedWriter bufferedWriter = new BufferedWriter(new OutputStreamWriter(outputStream));
-        JSONObject jsonObject = new JSONObject();
-        for (Map.Entry<String, ?> entry : PrefsUtils.mSharedPreferences.getAll().entrySet()) {
-            if ("prefs_key_allow_hook".equals(entry.getKey())) {
-                continue;
-            }
-            jsonObject.put(entry.getKey(), entry.getValue());
+        if (outputStream == null) throw new IOException("Cannot open " + data);
+        try (JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)))) {
+            writeBackup(writer, PrefsUtils.mSharedPreferences.getAll());
         }
-        bufferedWriter.write(jsonObject.toString());
-        bufferedWriter.close();
     }
 
-    public static void handleReadDocument(Activity activity, @Nullable Uri data) throws IOException, JSONException {
-        if (data == null) return;
-        SharedPreferences.Editor edit = PrefsUtils.mSharedPreferences.edit();
+    /**
+     * 恢复备份
+     *
+     * @return 实际发生变化的配置项数量
+     */
+    public static int handleReadDocument(Activity activity, @Nullable Uri data) throws IOException {
+        if (data == null) return 0;
         InputStream inputStream = activity.getContentResolver().openInputStream(data);
-        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream));
-        StringBuilder stringBuilder = new StringBuilder();
-        String line = bufferedReader.readLine();
-        while (line != null) {
-            stringBuilder.append(line);
-            line = bufferedReader.readLine();
+        if (inputStream == null) throw new IOException("Cannot open " + data);
+        try (JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)))) {
+            return readBackup(reader, PrefsUtils.mSharedPreferences);
         }
-        String read = stringBuilder.toString();
-        JSONObject jsonObject = new JSONObject(read);
-        Iterator<String> keys = jsonObject.keys();
-        while (keys.hasNext()) {
-            String key = keys.next();
-            if ("prefs_key_allow_hook".equals(key)) {
-                continue;
+    }
+
+    private static void writeBackup(JsonWriter writer, Map<String, ?> prefs) throws IOException {
+        writer.beginObject();
+        writer.name("format").value(FORMAT_NAME);
+        writer.name("version").value(FORMAT_VERSION);
+        writer.name("prefs").beginObject();
+        for (Map.Entry<String, ?> entry : prefs.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            if (KEY_ALLOW_HOOK.equals(key) || value == null) continue;
+            writer.name(key).beginObject();
+            if (value instanceof Boolean b) {
+                writer.name("t").value(TYPE_BOOLEAN).name("v").value(b);
+            } else if (value instanceof Integer i) {
+                writer.name("t").value(TYPE_INT).name("v").value(i);
+            } else if (value instanceof Long l) {
+                writer.name("t").value(TYPE_LONG).name("v").value(l);
+            } else if (value instanceof Float f) {
+                // 以字符串保存，避免 float 与 double 互转的精度误差
+                writer.name("t").value(TYPE_FLOAT).name("v").value(f.toString());
+            } else if (value instanceof Set<?> set) {
+                writer.name("t").value(TYPE_STRING_SET).name("v").beginArray();
+                for (Object item : set) writer.value(String.valueOf(item));
+                writer.endArray();
+            } else {
+                writer.name("t").value(TYPE_STRING).name("v").value(value.toString());
             }
-            Object value = jsonObject.get(key);
-            // https://stackoverflow.com/a/78608931
-            //noinspection IfCanBeSwitch
-            if (value instanceof String) {
-                if (((String) value).contains("[") && ((String) value).contains("]")) {
-                    value = ((String) value).replace("[", "").replace("]", "").replace(" ", "");
-                    String[] array = ((String) value).split(",");
-                    List<String> list = Arrays.asList(array);
-                    Set<String> stringSet = new HashSet<>(list);
-                    edit.putStringSet(key, stringSet);
-                } else {
-                    edit.putString(key, (String) value);
+            writer.endObject();
+        }
+        writer.endObject();
+        writer.endObject();
+    }
+
+    private static int readBackup(JsonReader reader, SharedPreferences prefs) throws IOException {
+        Map<String, ?> current = prefs.getAll();
+        LinkedHashMap<String, Object> changes = new LinkedHashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "format", "version" -> reader.skipValue();
+                case "prefs" -> {
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String key = reader.nextName();
+                        Object value = readTypedValue(reader);
+                        collectChange(changes, key, value, current.get(key));
+                    }
+                    reader.endObject();
                 }
-            } else if (value instanceof Boolean) {
-                edit.putBoolean(key, (Boolean) value);
-            } else if (value instanceof Integer) {
-                edit.putInt(key, (Integer) value);
+                default -> {
+                    // 旧版备份：键值直接位于根对象中
+                    Object value = readLegacyValue(reader);
+                    collectChange(changes, name, value, current.get(name));
+                }
+            }
+        }
+        reader.endObject();
+        applyChanges(prefs, changes);
+        return changes.size();
+    }
+
+    // 记录与当前值不同的项，同一个键出现多次时以最后一次为准
+    private static void collectChange(Map<String, Object> changes, String key, @Nullable Object value, @Nullable Object currentValue) {
+        if (value == null || KEY_ALLOW_HOOK.equals(key)) return;
+        if (Objects.equals(value, currentValue)) {
+            changes.remove(key);
+        } else {
+            changes.put(key, value);
+        }
+    }
+
+    @Nullable
+    private static Object readTypedValue(JsonReader reader) throws IOException {
+        String type = null;
+        Object value = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("t".equals(name)) {
+                type = reader.nextString();
+            } else if ("v".equals(name) && type != null) {
+                value = switch (type) {
+                    case TYPE_BOOLEAN -> reader.nextBoolean();
+                    case TYPE_INT -> reader.nextInt();
+                    case TYPE_LONG -> reader.nextLong();
+                    case TYPE_FLOAT -> Float.parseFloat(reader.nextString());
+                    case TYPE_STRING -> reader.nextString();
+                    case TYPE_STRING_SET -> {
+                        Set<String> set = new HashSet<>();
+                        reader.beginArray();
+                        while (reader.hasNext()) set.add(reader.nextString());
+                        reader.endArray();
+                        yield set;
+                    }
+                    default -> {
+                        reader.skipValue();
+                        yield null;
+                    }
+                };
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    /*
+     * 旧版备份只保存了 JSONObject 的原始值：字符串集合被写成 "[a, b]"，数字只识别 int
+     */
+    @Nullable
+    private static Object readLegacyValue(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        switch (token) {
+            case BOOLEAN -> {
+                return reader.nextBoolean();
+            }
+            case NUMBER -> {
+                String number = reader.nextString();
+                try {
+                    return Integer.parseInt(number);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+            case STRING -> {
+                String value = reader.nextString();
+                // https://stackoverflow.com/a/78608931
+                if (value.contains("[") && value.contains("]")) {
+                    value = value.replace("[", "").replace("]", "").replace(" ", "");
+                    return new HashSet<>(Arrays.asList(value.split(",")));
+                }
+                return value;
+            }
+            default -> {
+                reader.skipValue();
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 写入已解析完成的变化项，每 {@link #APPLY_CHUNK_SIZE} 项提交一次
+     */
+    @SuppressWarnings("unchecked")
+    private static void applyChanges(SharedPreferences prefs, Map<String, Object> changes) {
+        SharedPreferences.Editor editor = null;
+        int pending = 0;
+        for (Map.Entry<String, Object> entry : changes.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            if (editor == null) editor = prefs.edit();
+            if (value instanceof Boolean b) {
+                editor.putBoolean(key, b);
+            } else if (value instanceof Integer i) {
+                editor.putInt(key, i);
+            } else if (value instanceof Long l) {
+                editor.putLong(key, l);
+            } else if (value instanceof Float f) {
+                editor.putFloat(key, f);
+            } else if (value instanceof Set<?> set) {
+                editor.putStringSet(key, (Set<String>) set);
+            } else {
+                editor.putString(key, value.toString());
+            }
+            if (++pending >= APPLY_CHUNK_SIZE) {
+                editor.apply();
+                editor = null;
+                pending = 0;
             }
         }
-        bufferedReader.close();
-        edit.apply();
+        if (editor != null) editor.apply();
     }
 }
@@ -30,6 +30,10 @@ import com.sevtinge.hyperceiler.hook.utils.log.AndroidLogUtils;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+
+import de.robv.android.xposed.XC_MethodHook;
+import de.robv.android.xposed.XposedHelpers;
 
 @SuppressLint({"PrivateApi", "SoonBlockedPrivateApi", "DiscouragedPrivateApi"})
 public class ContextUtils {
@@ -50,6 +54,14 @@ public class ContextUtils {
     // 获取 Android 系统
     public static final int FlAG_ONLY_ANDROID = 2;
 
+    private static final Object sReadyLock = new Object();
+    private static final ArrayList<IContext> sPendingApp = new ArrayList<>();
+    private static final ArrayList<IContext> sPendingSystem = new ArrayList<>();
+    private static volatile Context sAppContext = null;
+    private static volatile Context sSystemContext = null;
+    private static XC_MethodHook.Unhook sAppUnhook = null;
+    private static XC_MethodHook.Unhook sSystemUnhook = null;
+
     public static Context getContext(@Duration int flag) {
         try {
             return invokeMethod(flag);
@@ -69,44 +81,104 @@ public class ContextUtils {
     }
 
     /**
-     * 循环获取当前应用的 Context 为了防止过早获取导致的 null.
+     * 在 Context 可用时回调，Context 已可用时立即在当前线程回调。
+     * 否则先挂起回调，待 Application.attach（系统为 ContextImpl.createSystemContext）完成后
+     * 在该线程上依次回调一次，期间不会轮询。
      * 使用方法:
      * <pre> {@code
-     * handler = new Handler();
-     * ContextUtils.getWaitContext(new ContextUtils.IContext() {
-     *   @Override
-     *   public void hadContext(Context context) {
-     *      handler.post(new Runnable() {
-     *        @Override
-     *        public void run() {
-     *          ToastHelper.makeText(context, "getContext");
-     *        }
-     *      });
-     *   }
-     * }, true/false);
+     * ContextUtils.onContextReady(context -> {
+     *     handler.post(() -> ToastHelper.makeText(context, "getContext"));
+     * }, false);
      * }
-     * 当然 Handler 是可选项, 适用于 Toast 显示等场景。
      * @param iContext 回调获取 Context
-     * @author 焕晨HChen
+     * @param isSystem 是否获取 Android 系统 Context
      */
-    public static void getWaitContext(IContext iContext, boolean isSystem) {
-        ThreadPoolManager.getInstance().submit(() -> {
-            Context context = getContextNoError(isSystem ? FlAG_ONLY_ANDROID : FLAG_CURRENT_APP);
-            if (context == null) {
-                long time = System.currentTimeMillis();
-                long timeout = 10000; // 10秒
-                while (true) {
-                    long nowTime = System.currentTimeMillis();
+    public static void onContextReady(IContext iContext, boolean isSystem) {
+        Context context = getReadyContext(isSystem);
+        if (context == null) {
+            synchronized (sReadyLock) {
+                context = isSystem ? sSystemContext : sAppContext;
+                if (context == null) {
                     context = getContextNoError(isSystem ? FlAG_ONLY_ANDROID : FLAG_CURRENT_APP);
-                    // AndroidLogUtils.LogI(TAG, "getWaitContext: " + context);
-                    if (context != null || nowTime - time > timeout) {
-                        break;
+                    if (context != null) {
+                        if (isSystem) sSystemContext = context;
+                        else sAppContext = context;
+                    } else {
+                        (isSystem ? sPendingSystem : sPendingApp).add(iContext);
+                        hookReady(isSystem);
+                        return;
                     }
                 }
             }
-            iContext.hadContext(context);
-        });
-        ThreadPoolManager.shutdown();
+        }
+        iContext.hadContext(context);
+    }
+
+    /**
+     * 返回已就绪的 Context，未就绪时返回 null，不会进行反射查找
+     */
+    @Nullable
+    public static Context getReadyContext(boolean isSystem) {
+        return isSystem ? sSystemContext : sAppContext;
+    }
+
+    /**
+     * @deprecated 使用 {@link #onContextReady(IContext, boolean)}
+     */
+    @Deprecated
+    public static void getWaitContext(IContext iContext, boolean isSystem) {
+        onContextReady(iContext, isSystem);
+    }
+
+    private static void hookReady(boolean isSystem) {
+        if (isSystem ? sSystemUnhook != null : sAppUnhook != null) return;
+        try {
+            if (isSystem) {
+                sSystemUnhook = XposedHelpers.findAndHookMethod("android.app.ContextImpl", null,
+                    "createSystemContext", "android.app.ActivityThread", new XC_MethodHook() {
+                        @Override
+                        protected void afterHookedMethod(MethodHookParam param) {
+                            dispatchReady(true, (Context) param.getResult());
+                        }
+                    });
+            } else {
+                sAppUnhook = XposedHelpers.findAndHookMethod(Application.class, "attach", Context.class, new XC_MethodHook() {
+                    @Override
+                    protected void afterHookedMethod(MethodHookParam param) {
+                        dispatchReady(false, (Context) param.thisObject);
+                    }
+                });
+            }
+        } catch (Throwable e) {
+            AndroidLogUtils.logE(TAG, "hookReady: ", e);
+        }
+    }
+
+    private static void dispatchReady(boolean isSystem, Context context) {
+        if (context == null) return;
+        ArrayList<IContext> pending;
+        synchronized (sReadyLock) {
+            if (isSystem) {
+                if (sSystemContext != null) return;
+                sSystemContext = context;
+                pending = new ArrayList<>(sPendingSystem);
+                sPendingSystem.clear();
+                if (sSystemUnhook != null) sSystemUnhook.unhook();
+            } else {
+                if (sAppContext != null) return;
+                sAppContext = context;
+                pending = new ArrayList<>(sPendingApp);
+                sPendingApp.clear();
+                if (sAppUnhook != null) sAppUnhook.unhook();
+            }
+        }
+        for (IContext iContext : pending) {
+            try {
+                iContext.hadContext(context);
+            } catch (Throwable e) {
+                AndroidLogUtils.logE(TAG, "dispatchReady: ", e);
+            }
+        }
     }
 
     public interface IContext {
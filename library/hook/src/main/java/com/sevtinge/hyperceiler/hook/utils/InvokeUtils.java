@@ -20,19 +20,25 @@ package com.sevtinge.hyperceiler.hook.utils;
 
 import com.sevtinge.hyperceiler.hook.utils.log.AndroidLogUtils;
 
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author 焕晨HChen
  * @noinspection unused
  */
 public class InvokeUtils {
-    private static final HashMap<String, Method> methodCache = new HashMap<>();
-    private static final HashMap<String, Field> fieldCache = new HashMap<>();
+    private static final Class<?>[] EMPTY_PARAMS = new Class<?>[0];
+    private static final ClassValue<ClassAccessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected ClassAccessors computeValue(Class<?> type) {
+            return new ClassAccessors();
+        }
+    };
 
     private final static String TAG = "invokeUtils";
 
@@ -134,24 +140,14 @@ public class InvokeUtils {
      * @noinspection unchecked
      */
     private static <T> T baseInvokeMethod(Class<?> clz, Object instance, String method, Class<?>[] param, Object... value) {
-        Method declaredMethod;
+        MemberEntry entry = ACCESSORS.get(clz).findMethod(clz, method, param);
+        if (entry.member == null) {
+            AndroidLogUtils.logE(TAG, "Reflection call method failed! class: " + clz.getName() + " method: " + method, entry.error);
+            return null;
+        }
         try {
-            declaredMethod = methodCache.get(clz.getName() + "." + method + Arrays.toString(param));
-            if (declaredMethod == null) {
-                try {
-                    declaredMethod = clz.getMethod(method, param);
-                } catch (NoSuchMethodException e) {
-                    try {
-                        declaredMethod = clz.getDeclaredMethod(method, param);
-                    } catch (NoSuchMethodException ex) {
-                        throw new NoSuchMethodException("getMethod: " + e + " getDeclaredMethod: " + ex);
-                    }
-                }
-                methodCache.put(clz.getName() + "." + declaredMethod.getName() + Arrays.toString(declaredMethod.getParameterTypes()), declaredMethod);
-            }
-            declaredMethod.setAccessible(true);
-            return (T) declaredMethod.invoke(instance, value);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return (T) ((Method) entry.member).invoke(instance, value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
             AndroidLogUtils.logE(TAG, "Reflection call method failed! class: " + clz.getName() + " method: " + method, e);
             return null;
         }
@@ -175,28 +171,19 @@ public class InvokeUtils {
      * @noinspection unchecked
      */
     private static <T> T baseInvokeField(Class<?> clz, Object instance, String field, boolean set, Object value) {
-        Field declaredField = null;
+        MemberEntry entry = ACCESSORS.get(clz).findField(clz, field);
+        if (entry.member == null) {
+            AndroidLogUtils.logE(TAG, "Reflection call method failed! class: " + clz.getName() + " field: " + field, entry.error);
+            return null;
+        }
         try {
-            declaredField = fieldCache.get(clz.getName() + "." + field);
-            if (declaredField == null) {
-                try {
-                    declaredField = clz.getField(field);
-                } catch (NoSuchFieldException e) {
-                    try {
-                        declaredField = clz.getDeclaredField(field);
-                    } catch (NoSuchFieldException ex) {
-                        throw new NoSuchFieldException("getField: " + e + " getDeclaredField: " + ex);
-                    }
-                }
-                fieldCache.put(clz.getName() + "." + declaredField.getName(), declaredField);
-            }
-            declaredField.setAccessible(true);
+            Field declaredField = (Field) entry.member;
             if (set) {
                 declaredField.set(instance, value);
                 return null;
             } else
                 return (T) declaredField.get(instance);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
+        } catch (IllegalAccessException e) {
             AndroidLogUtils.logE(TAG, "Reflection call method failed! class: " + clz.getName() + " field: " + field, e);
             return null;
         }
@@ -216,4 +203,87 @@ public class InvokeUtils {
         }
         return classLoader.loadClass(className);
     }
+
+    /*
+     * 每个 Class 独立的成员缓存，随 Class 一同回收，不同 ClassLoader 下的同名类互不影响。
+     * 以名称为键，同名重载按参数列表线性比较，查找过程不拼接字符串；查找失败的结果同样缓存。
+     */
+    private static final class ClassAccessors {
+        private final ConcurrentHashMap<String, MemberEntry[]> methods = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, MemberEntry> fields = new ConcurrentHashMap<>();
+
+        MemberEntry findMethod(Class<?> clz, String method, Class<?>[] param) {
+            if (param == null) param = EMPTY_PARAMS;
+            MemberEntry[] entries = methods.get(method);
+            if (entries != null) {
+                for (MemberEntry entry : entries) {
+                    if (Arrays.equals(entry.params, param)) return entry;
+                }
+            }
+            synchronized (this) {
+                entries = methods.get(method);
+                if (entries != null) {
+                    for (MemberEntry entry : entries) {
+                        if (Arrays.equals(entry.params, param)) return entry;
+                    }
+                }
+                MemberEntry entry = resolveMethod(clz, method, param.clone());
+                MemberEntry[] newEntries = entries == null ? new MemberEntry[1] : Arrays.copyOf(entries, entries.length + 1);
+                newEntries[newEntries.length - 1] = entry;
+                methods.put(method, newEntries);
+                return entry;
+            }
+        }
+
+        MemberEntry findField(Class<?> clz, String field) {
+            MemberEntry entry = fields.get(field);
+            if (entry != null) return entry;
+            return fields.computeIfAbsent(field, name -> resolveField(clz, name));
+        }
+
+        private static MemberEntry resolveMethod(Class<?> clz, String method, Class<?>[] param) {
+            Method declaredMethod;
+            try {
+                declaredMethod = clz.getMethod(method, param);
+            } catch (NoSuchMethodException e) {
+                try {
+                    declaredMethod = clz.getDeclaredMethod(method, param);
+                } catch (NoSuchMethodException ex) {
+                    return new MemberEntry(param, null,
+                        new NoSuchMethodException("getMethod: " + e + " getDeclaredMethod: " + ex));
+                }
+            }
+            declaredMethod.setAccessible(true);
+            return new MemberEntry(param, declaredMethod, null);
+        }
+
+        private static MemberEntry resolveField(Class<?> clz, String field) {
+            Field declaredField;
+            try {
+                declaredField = clz.getField(field);
+            } catch (NoSuchFieldException e) {
+                try {
+                    declaredField = clz.getDeclaredField(field);
+                } catch (NoSuchFieldException ex) {
+                    return new MemberEntry(null, null,
+                        new NoSuchFieldException("getField: " + e + " getDeclaredField: " + ex));
+                }
+            }
+            declaredField.setAccessible(true);
+            return new MemberEntry(null, declaredField, null);
+        }
+    }
+
+    private static final class MemberEntry {
+        final Class<?>[] params;
+        final AccessibleObject member;
+        // 查找失败时的异常，随失败结果一同缓存
+        final ReflectiveOperationException error;
+
+        MemberEntry(Class<?>[] params, AccessibleObject member, ReflectiveOperationException error) {
+            this.params = params;
+            this.member = member;
+            this.error = error;
+        }
+    }
 }
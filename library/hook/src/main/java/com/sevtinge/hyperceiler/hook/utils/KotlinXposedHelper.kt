@@ -22,6 +22,7 @@ package com.sevtinge.hyperceiler.hook.utils
 
 import android.annotation.SuppressLint
 import android.content.res.XResources
+import com.sevtinge.hyperceiler.hook.utils.log.HookStats
 import com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils
 import dalvik.system.BaseDexClassLoader
 import de.robv.android.xposed.XC_MethodHook
@@ -105,37 +106,70 @@ inline fun MethodHookParam.callReplacer(crossinline replacer: Replacer) = try {
     null
 }
 
+/**
+ * 开启 Hook 统计时记录回调耗时，callback 为内联生成的匿名对象，可区分各个调用点
+ */
+inline fun MethodHookParam.callHooker(callback: XC_MethodHook, phase: String, crossinline hooker: Hooker) {
+    if (!HookStats.isEnabled()) return callHooker(hooker)
+    val start = System.nanoTime()
+    var failed = false
+    try {
+        hooker(this)
+    } catch (e: Throwable) {
+        failed = true
+        XposedLogUtils.logE(TAG, "Error occurred calling hooker on ${this.method}")
+        XposedLogUtils.logE(TAG, e)
+    }
+    HookStats.record(callback, phase, method, System.nanoTime() - start, failed)
+}
+
+inline fun MethodHookParam.callReplacer(callback: XC_MethodHook, crossinline replacer: Replacer): Any? {
+    if (!HookStats.isEnabled()) return callReplacer(replacer)
+    val start = System.nanoTime()
+    var failed = false
+    val result = try {
+        replacer(this)
+    } catch (e: Throwable) {
+        failed = true
+        XposedLogUtils.logE(TAG, "Error occurred calling replacer on ${this.method}")
+        XposedLogUtils.logE(TAG, e)
+        null
+    }
+    HookStats.record(callback, HookStats.PHASE_REPLACE, method, System.nanoTime() - start, failed)
+    return result
+}
+
 inline fun Member.replaceMethod(crossinline replacer: Replacer) =
     hookMethod(object : XC_MethodReplacement() {
-        override fun replaceHookedMethod(param: MethodHookParam) = param.callReplacer(replacer)
+        override fun replaceHookedMethod(param: MethodHookParam) = param.callReplacer(this, replacer)
     })
 
 inline fun Member.hookAfterMethod(crossinline hooker: Hooker) =
     hookMethod(object : XC_MethodHook() {
-        override fun afterHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+        override fun afterHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_AFTER, hooker)
     })
 
 inline fun Member.hookBeforeMethod(crossinline hooker: (MethodHookParam) -> Unit) =
     hookMethod(object : XC_MethodHook() {
-        override fun beforeHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+        override fun beforeHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_BEFORE, hooker)
     })
 
 inline fun Class<*>.hookBeforeMethod(
     method: String?, vararg args: Any?, crossinline hooker: Hooker
 ) = hookMethod(method, *args, object : XC_MethodHook() {
-    override fun beforeHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+    override fun beforeHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_BEFORE, hooker)
 })
 
 inline fun Class<*>.hookAfterMethod(
     method: String?, vararg args: Any?, crossinline hooker: Hooker
 ) = hookMethod(method, *args, object : XC_MethodHook() {
-    override fun afterHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+    override fun afterHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_AFTER, hooker)
 })
 
 inline fun Class<*>.replaceMethod(
     method: String?, vararg args: Any?, crossinline replacer: Replacer
 ) = hookMethod(method, *args, object : XC_MethodReplacement() {
-    override fun replaceHookedMethod(param: MethodHookParam) = param.callReplacer(replacer)
+    override fun replaceHookedMethod(param: MethodHookParam) = param.callReplacer(this, replacer)
 })
 
 fun Class<*>.hookAllMethods(methodName: String?, hooker: XC_MethodHook): Set<XC_MethodHook.Unhook> =
@@ -154,18 +188,18 @@ fun Class<*>.hookAllMethods(methodName: String?, hooker: XC_MethodHook): Set<XC_
 
 inline fun Class<*>.hookBeforeAllMethods(methodName: String?, crossinline hooker: Hooker) =
     hookAllMethods(methodName, object : XC_MethodHook() {
-        override fun beforeHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+        override fun beforeHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_BEFORE, hooker)
     })
 
 inline fun Class<*>.hookAfterAllMethods(methodName: String?, crossinline hooker: Hooker) =
     hookAllMethods(methodName, object : XC_MethodHook() {
-        override fun afterHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+        override fun afterHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_AFTER, hooker)
 
     })
 
 inline fun Class<*>.replaceAllMethods(methodName: String?, crossinline replacer: Replacer) =
     hookAllMethods(methodName, object : XC_MethodReplacement() {
-        override fun replaceHookedMethod(param: MethodHookParam) = param.callReplacer(replacer)
+        override fun replaceHookedMethod(param: MethodHookParam) = param.callReplacer(this, replacer)
     })
 
 fun Class<*>.hookConstructor(vararg args: Any?) = try {
@@ -183,17 +217,17 @@ fun Class<*>.hookConstructor(vararg args: Any?) = try {
 
 inline fun Class<*>.hookBeforeConstructor(vararg args: Any?, crossinline hooker: Hooker) =
     hookConstructor(*args, object : XC_MethodHook() {
-        override fun beforeHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+        override fun beforeHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_BEFORE, hooker)
     })
 
 inline fun Class<*>.hookAfterConstructor(vararg args: Any?, crossinline hooker: Hooker) =
     hookConstructor(*args, object : XC_MethodHook() {
-        override fun afterHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+        override fun afterHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_AFTER, hooker)
     })
 
 inline fun Class<*>.replaceConstructor(vararg args: Any?, crossinline hooker: Hooker) =
     hookConstructor(*args, object : XC_MethodReplacement() {
-        override fun replaceHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+        override fun replaceHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_REPLACE, hooker)
     })
 
 fun Class<*>.hookAllConstructors(hooker: XC_MethodHook): Set<XC_MethodHook.Unhook> = try {
@@ -211,17 +245,17 @@ fun Class<*>.hookAllConstructors(hooker: XC_MethodHook): Set<XC_MethodHook.Unhoo
 
 inline fun Class<*>.hookAfterAllConstructors(crossinline hooker: Hooker) =
     hookAllConstructors(object : XC_MethodHook() {
-        override fun afterHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+        override fun afterHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_AFTER, hooker)
     })
 
 inline fun Class<*>.hookBeforeAllConstructors(crossinline hooker: Hooker) =
     hookAllConstructors(object : XC_MethodHook() {
-        override fun beforeHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+        override fun beforeHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_BEFORE, hooker)
     })
 
 inline fun Class<*>.replaceAllConstructors(crossinline hooker: Hooker) =
     hookAllConstructors(object : XC_MethodReplacement() {
-        override fun replaceHookedMethod(param: MethodHookParam) = param.callHooker(hooker)
+        override fun replaceHookedMethod(param: MethodHookParam) = param.callHooker(this, HookStats.PHASE_REPLACE, hooker)
     })
 
 fun String.hookMethod(
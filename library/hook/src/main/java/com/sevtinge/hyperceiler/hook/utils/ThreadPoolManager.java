@@ -18,31 +18,238 @@
  */
 package com.sevtinge.hyperceiler.hook.utils;
 
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+
+import com.sevtinge.hyperceiler.hook.utils.log.AndroidLogUtils;
+
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 模块共用的后台线程池
+ * <p>
+ * 计算线程数按 CPU 核心数设定（2~4），另有一个低优先级的 IO 通道用于磁盘与 Shell 操作，
+ * 一个只负责派发的定时线程，以及专门读取子进程输出的流通道。所有线程均为命名的守护线程，
+ * 空闲 30 秒后自动回收，因此无需也不应调用 shutdown。
+ * 同一进程内 HyperCeiler 的后台线程最多 7 个，另加最多 8 个流线程。
+ */
 public class ThreadPoolManager {
-    private static final int NUM_THREADS = 5; // 定义线程池中线程的数量
-    private static volatile ExecutorService executor;
+    private static final String TAG = "ThreadPoolManager";
+    private static final int COMPUTE_THREADS = Math.max(2, Math.min(Runtime.getRuntime().availableProcessors(), 4));
+    private static final int IO_THREADS = 2;
+    private static final int STREAM_THREADS = 8;
+    private static final long KEEP_ALIVE_SECONDS = 30;
 
-    // 获取线程池实例
+    private static volatile MeteredExecutor sCompute;
+    private static volatile MeteredExecutor sIo;
+    private static volatile MeteredExecutor sStream;
+    private static volatile ScheduledThreadPoolExecutor sTimer;
+
+    // 获取计算线程池实例
     public static ExecutorService getInstance() {
-        if (executor == null || executor.isShutdown()) {
+        if (sCompute == null) {
+            synchronized (ThreadPoolManager.class) {
+                if (sCompute == null) {
+                    sCompute = new MeteredExecutor("compute", COMPUTE_THREADS, COMPUTE_THREADS,
+                        new LinkedBlockingQueue<>(), Process.THREAD_PRIORITY_DEFAULT);
+                }
+            }
+        }
+        return sCompute;
+    }
+
+    // 获取低优先级的 IO 线程池实例，用于读写文件、执行 Shell 等阻塞操作
+    public static ExecutorService getIoExecutor() {
+        if (sIo == null) {
+            synchronized (ThreadPoolManager.class) {
+                if (sIo == null) {
+                    sIo = new MeteredExecutor("io", IO_THREADS, IO_THREADS,
+                        new LinkedBlockingQueue<>(), Process.THREAD_PRIORITY_BACKGROUND);
+                }
+            }
+        }
+        return sIo;
+    }
+
+    /**
+     * 获取流线程池实例，用于读取子进程 stdout/stderr 这类随进程存活而一直阻塞的任务。
+     * <p>
+     * 任务不排队，线程已满时抛出 {@link RejectedExecutionException}，避免读取任务迟迟不能开始导致子进程写满管道；
+     * 也不要把普通任务提交到这里，以免占满线程。
+     */
+    public static ExecutorService getStreamExecutor() {
+        if (sStream == null) {
+            synchronized (ThreadPoolManager.class) {
+                if (sStream == null) {
+                    sStream = new MeteredExecutor("stream", 0, STREAM_THREADS, new SynchronousQueue<>(),
+                        Process.THREAD_PRIORITY_BACKGROUND);
+                }
+            }
+        }
+        return sStream;
+    }
+
+    public static void execute(@NonNull Runnable task) {
+        getInstance().execute(task);
+    }
+
+    public static void executeIo(@NonNull Runnable task) {
+        getIoExecutor().execute(task);
+    }
+
+    /**
+     * @throws RejectedExecutionException 流线程已满
+     * @see #getStreamExecutor()
+     */
+    public static Future<?> executeStream(@NonNull Runnable task) {
+        return getStreamExecutor().submit(task);
+    }
+
+    /**
+     * 延迟执行，任务到期后交由计算线程池运行
+     */
+    public static ScheduledFuture<?> schedule(@NonNull Runnable task, long delayMs) {
+        return getTimer().schedule(() -> getInstance().execute(task), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 延迟执行，任务到期后交由 IO 线程池运行
+     */
+    public static ScheduledFuture<?> scheduleIo(@NonNull Runnable task, long delayMs) {
+        return getTimer().schedule(() -> getIoExecutor().execute(task), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 周期执行，任务交由计算线程池运行；上一次尚未结束时跳过本次
+     */
+    public static ScheduledFuture<?> scheduleAtFixedRate(@NonNull Runnable task, long initialDelayMs, long periodMs) {
+        AtomicBoolean running = new AtomicBoolean(false);
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } finally {
+                running.set(false);
+            }
+        };
+        return getTimer().scheduleAtFixedRate(() -> {
+            if (running.compareAndSet(false, true)) getInstance().execute(guarded);
+        }, initialDelayMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 各线程池的任务数、排队深度与平均等待/执行耗时
+     */
+    public static String getStats() {
+        StringBuilder builder = new StringBuilder();
+        if (sCompute != null) builder.append(sCompute.stats()).append('\n');
+        if (sIo != null) builder.append(sIo.stats()).append('\n');
+        if (sStream != null) builder.append(sStream.stats()).append('\n');
+        if (sTimer != null) builder.append("timer: queued=").append(sTimer.getQueue().size());
+        return builder.toString().trim();
+    }
+
+    /**
+     * @deprecated 共用线程池会在空闲时自动回收线程，关闭它会影响其他调用者
+     */
+    @Deprecated
+    public static void shutdown() {
+        AndroidLogUtils.logI(TAG, "shutdown() is ignored, idle threads are released automatically\n" + getStats());
+    }
+
+    private static ScheduledThreadPoolExecutor getTimer() {
+        if (sTimer == null) {
             synchronized (ThreadPoolManager.class) {
-                if (executor == null || executor.isShutdown()) {
-                    // 创建一个具有固定数量线程的线程池, 如果已经关机则重新创建
-                    executor = Executors.newFixedThreadPool(NUM_THREADS);
+                if (sTimer == null) {
+                    ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1,
+                        new NamedThreadFactory("timer", Process.THREAD_PRIORITY_DEFAULT));
+                    timer.setRemoveOnCancelPolicy(true);
+                    timer.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+                    timer.allowCoreThreadTimeOut(true);
+                    sTimer = timer;
                 }
             }
         }
-        return executor;
+        return sTimer;
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String mName;
+        private final int mPriority;
+        private final AtomicInteger mCount = new AtomicInteger();
+
+        NamedThreadFactory(String name, int priority) {
+            mName = name;
+            mPriority = priority;
+        }
+
+        @Override
+        public Thread newThread(@NonNull Runnable r) {
+            Thread thread = new Thread(() -> {
+                Process.setThreadPriority(mPriority);
+                r.run();
+            }, "HyperCeiler-" + mName + "-" + mCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 
-    // 关闭线程池
-    public static synchronized void shutdown() {
-        if (executor != null && !executor.isShutdown()) {
-            executor.shutdown();
-            executor = null;
+    private static final class MeteredExecutor extends ThreadPoolExecutor {
+        private final String mName;
+        private final AtomicLong mCompleted = new AtomicLong();
+        private final AtomicLong mWaitNanos = new AtomicLong();
+        private final AtomicLong mRunNanos = new AtomicLong();
+        private final AtomicLong mMaxWaitNanos = new AtomicLong();
+        private final AtomicInteger mMaxQueued = new AtomicInteger();
+
+        MeteredExecutor(String name, int coreThreads, int maxThreads, BlockingQueue<Runnable> queue, int priority) {
+            super(coreThreads, maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue,
+                new NamedThreadFactory(name, priority));
+            if (coreThreads > 0) allowCoreThreadTimeOut(true);
+            mName = name;
+        }
+
+        @Override
+        public void execute(@NonNull Runnable command) {
+            long enqueued = System.nanoTime();
+            super.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    command.run();
+                } finally {
+                    long wait = start - enqueued;
+                    mWaitNanos.addAndGet(wait);
+                    mRunNanos.addAndGet(System.nanoTime() - start);
+                    mMaxWaitNanos.accumulateAndGet(wait, Math::max);
+                    mCompleted.incrementAndGet();
+                }
+            });
+            mMaxQueued.accumulateAndGet(getQueue().size(), Math::max);
+        }
+
+        String stats() {
+            long completed = mCompleted.get();
+            long avgWait = completed == 0 ? 0 : mWaitNanos.get() / completed / 1000;
+            long avgRun = completed == 0 ? 0 : mRunNanos.get() / completed / 1000;
+            return mName + ": threads=" + getPoolSize() + "/" + getMaximumPoolSize()
+                + " active=" + getActiveCount()
+                + " queued=" + getQueue().size() + " (max " + mMaxQueued.get() + ")"
+                + " completed=" + completed
+                + " avgWait=" + avgWait + "us maxWait=" + mMaxWaitNanos.get() / 1000 + "us"
+                + " avgRun=" + avgRun + "us";
         }
     }
 }
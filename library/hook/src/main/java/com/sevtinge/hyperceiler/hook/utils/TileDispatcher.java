@@ -0,0 +1,168 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils;
+
+import androidx.annotation.NonNull;
+
+import com.sevtinge.hyperceiler.hook.module.base.tool.HookTool;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import de.robv.android.xposed.XC_MethodHook.MethodHookParam;
+
+/**
+ * 自定义磁贴的共享 Hook 分发器
+ * <p>
+ * 同一个磁贴类的每个方法只 Hook 一次，回调时按磁贴实例的自定义名称直接找到所属的 {@link TileUtils}：
+ * 有名称的磁贴交给同名的实现，原生磁贴（无名称）交给覆写原有逻辑的实现；点按后的 after 回调仍发给该类所有 needAfter 的实现。
+ * 磁贴名称在创建磁贴时记录在弱引用表中，不再经过 Xposed 的 AdditionalInstanceField。
+ */
+final class TileDispatcher {
+    static final int IS_AVAILABLE = 0;
+    static final int HANDLE_SET_LISTENING = 1;
+    static final int GET_LONG_CLICK_INTENT = 2;
+    static final int HANDLE_LONG_CLICK = 3;
+    static final int HANDLE_CLICK = 4;
+    static final int HANDLE_UPDATE_STATE = 5;
+    static final int GET_TILE_LABEL = 6;
+    private static final int METHOD_COUNT = 7;
+
+    private static final TileUtils[] EMPTY = new TileUtils[0];
+
+    private static final HashMap<Class<?>, TileDispatcher> sDispatchers = new HashMap<>();
+    private static final Map<Object, String> sTileNames = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Class<?> mTileClass;
+    private final boolean[] mHooked = new boolean[METHOD_COUNT];
+    // 注册只发生在初始化阶段，回调线程读取时整体替换，无需加锁
+    private volatile Map<String, TileUtils[]> mNamed = Collections.emptyMap();
+    private volatile TileUtils[] mOverrides = EMPTY;
+    // 与各实现单独 Hook 时一致，needAfter 的实现在该类任一磁贴点按后都会收到回调
+    private volatile TileUtils[] mAfterClick = EMPTY;
+
+    private TileDispatcher(Class<?> tileClass) {
+        mTileClass = tileClass;
+    }
+
+    @NonNull
+    static synchronized TileDispatcher get(@NonNull Class<?> tileClass) {
+        Objects.requireNonNull(tileClass, "tileClass");
+        TileDispatcher dispatcher = sDispatchers.get(tileClass);
+        if (dispatcher == null) {
+            dispatcher = new TileDispatcher(tileClass);
+            sDispatchers.put(tileClass, dispatcher);
+        }
+        return dispatcher;
+    }
+
+    static void setTileName(@NonNull Object tile, @NonNull String tileName) {
+        sTileNames.put(tile, tileName);
+    }
+
+    static String getTileName(@NonNull Object tile) {
+        return sTileNames.get(tile);
+    }
+
+    /**
+     * 登记磁贴实现，无自定义名称（needOverride）的实现处理原生磁贴
+     */
+    synchronized void register(@NonNull TileUtils tile) {
+        if (tile.needAfter()) {
+            TileUtils[] afterClick = Arrays.copyOf(mAfterClick, mAfterClick.length + 1);
+            afterClick[afterClick.length - 1] = tile;
+            mAfterClick = afterClick;
+        }
+        if (tile.needOverride()) {
+            TileUtils[] overrides = Arrays.copyOf(mOverrides, mOverrides.length + 1);
+            overrides[overrides.length - 1] = tile;
+            mOverrides = overrides;
+        } else {
+            HashMap<String, TileUtils[]> named = new HashMap<>(mNamed);
+            TileUtils[] owners = named.getOrDefault(tile.customName(), EMPTY);
+            owners = Arrays.copyOf(owners, owners.length + 1);
+            owners[owners.length - 1] = tile;
+            named.put(tile.customName(), owners);
+            mNamed = named;
+        }
+    }
+
+    synchronized void hookMethod(int method, String methodName, Object... parameterTypes) {
+        if (mHooked[method]) return;
+        mHooked[method] = true;
+        Object[] args = Arrays.copyOf(parameterTypes, parameterTypes.length + 1);
+        args[parameterTypes.length] = new Dispatch(method);
+        HookTool.findAndHookMethod(mTileClass, methodName, args);
+    }
+
+    synchronized void hookAllMethods(int method, String methodName) {
+        if (mHooked[method]) return;
+        mHooked[method] = true;
+        HookTool.hookAllMethods(mTileClass, methodName, new Dispatch(method));
+    }
+
+    private String resolveName(Object tile) {
+        // 没有自定义磁贴时该类的实例都是原生磁贴
+        return mNamed.isEmpty() ? null : getTileName(tile);
+    }
+
+    private TileUtils[] owners(String tileName) {
+        if (tileName == null) return mOverrides;
+        TileUtils[] owners = mNamed.get(tileName);
+        return owners != null ? owners : EMPTY;
+    }
+
+    private final class Dispatch extends HookTool.MethodHook {
+        private final int mMethod;
+
+        Dispatch(int method) {
+            mMethod = method;
+        }
+
+        @Override
+        protected void before(MethodHookParam param) {
+            String tileName = resolveName(param.thisObject);
+            for (TileUtils tile : owners(tileName)) {
+                try {
+                    tile.dispatchBefore(mMethod, param, tileName);
+                } catch (Throwable ignored) {
+                    // 与各实现单独 Hook 时一致，一个实现出错不影响其他实现
+                }
+            }
+        }
+
+        @Override
+        protected void after(MethodHookParam param) {
+            if (mMethod != HANDLE_CLICK) return;
+            TileUtils[] afterClick = mAfterClick;
+            if (afterClick.length == 0) return;
+            String tileName = getTileName(param.thisObject);
+            for (TileUtils tile : afterClick) {
+                try {
+                    tile.tileClickAfter(param, tileName);
+                } catch (Throwable ignored) {
+                }
+            }
+        }
+    }
+}
@@ -65,85 +65,67 @@ public abstract class TileUtils extends BaseHook {
         showStateMessage(myTile);
         tileAllName14(mQSFactory);
 
+        // 同一磁贴类的方法只 Hook 一次，由 TileDispatcher 分发给对应的实现
+        TileDispatcher dispatcher = TileDispatcher.get(myTile);
+        dispatcher.register(this);
         try {
             myTile.getDeclaredMethod("isAvailable");
-            findAndHookMethod(myTile, "isAvailable", new MethodHook() {
-                @Override
-                protected void before(MethodHookParam param) {
-                    String tileName = (String) XposedHelpers.getAdditionalInstanceField(param.thisObject, "customName");
-                    if (tileName != null) {
-                        if (tileName.equals(customName())) {
-                            tileCheck(param, tileName);
-                        }
-                    } else {
-                        if (needOverride())
-                            tileCheck(param, tileName);
-                    }
-                }
-            });
+            dispatcher.hookMethod(TileDispatcher.IS_AVAILABLE, "isAvailable");
         } catch (NoSuchMethodException e) {
             logE(TAG, "com.android.systemui", "Don't Have isAvailable: " + e);
         }
-        tileName(myTile); // 不需要覆写
+        tileName(myTile, dispatcher); // 不需要覆写
         try {
             myTile.getDeclaredMethod("handleSetListening", boolean.class);
-            findAndHookMethod(myTile, "handleSetListening", boolean.class, new MethodHook() {
-                @Override
-                protected void before(MethodHookParam param) {
-                    String tileName = (String) XposedHelpers.getAdditionalInstanceField(param.thisObject, "customName");
-                    if (tileName != null) {
-                        if (tileName.equals(customName())) {
-                            try {
-                                tileListening(param, tileName);
-                                param.setResult(null);
-                            } catch (Throwable e) {
-                                logE(TAG, "com.android.systemui", "handleSetListening have Throwable: " + e);
-                                param.setResult(null);
-                            }
-                        }
-                    } else {
-                        if (needOverride())
-                            tileListening(param, tileName);
-                    }
-                }
-            });
+            dispatcher.hookMethod(TileDispatcher.HANDLE_SET_LISTENING, "handleSetListening", boolean.class);
         } catch (NoSuchMethodException e) {
             logE(TAG, "com.android.systemui", "Don't Have handleSetListening: " + e);
         }
         try {
             myTile.getDeclaredMethod("getLongClickIntent");
-            findAndHookMethod(myTile, "getLongClickIntent", new MethodHook() {
-                @Override
-                protected void before(MethodHookParam param) {
-                    String tileName = (String) XposedHelpers.getAdditionalInstanceField(param.thisObject, "customName");
-                    if (tileName != null) {
-                        if (tileName.equals(customName())) {
-                            tileLongClickIntent(param, tileName);
-                        }
-                    } else {
-                        if (needOverride())
-                            tileLongClickIntent(param, tileName);
-                    }
-                }
-            });
+            dispatcher.hookMethod(TileDispatcher.GET_LONG_CLICK_INTENT, "getLongClickIntent");
         } catch (NoSuchMethodException e) {
             logE(TAG, "com.android.systemui", "Don't Have getLongClickIntent: " + e);
         }
 
         Class<?> expandableClz = findClassIfExists("com.android.systemui.animation.Expandable");
+        try {
+            myTile.getDeclaredMethod("handleLongClick", expandableClz);
+            dispatcher.hookMethod(TileDispatcher.HANDLE_LONG_CLICK, "handleLongClick", expandableClz);
+        } catch (NoSuchMethodException e) {
+            logE(TAG, "com.android.systemui", "Don't Have handleLongClick: " + e);
+        }
+        try {
+            getDeclaredMethod(myTile, "handleClick", expandableClz);
+            dispatcher.hookMethod(TileDispatcher.HANDLE_CLICK, "handleClick", expandableClz);
+        } catch (NoSuchMethodException e) {
+            logE(TAG, "com.android.systemui", "Don't Have handleClick: " + e);
+        }
 
-        MethodHook handleLongClickHook = new MethodHook() {
-            @Override
-            protected void before(MethodHookParam param) {
-                String tileName = (String) XposedHelpers.getAdditionalInstanceField(param.thisObject, "customName");
-                Intent intent = null;
-                if (tileName != null) {
-                    if (tileName.equals(customName())) {
-                        intent = tileHandleLongClick(param, tileName);
-                    }
-                } else if (needOverride()) {
-                    intent = tileHandleLongClick(param, tileName);
+        dispatcher.hookAllMethods(TileDispatcher.HANDLE_UPDATE_STATE, "handleUpdateState");
+    }
+
+    /*
+     * 由 TileDispatcher 调用，tileName 为 null 时表示原生磁贴，仅在覆写原有逻辑时会被调用
+     */
+    void dispatchBefore(int method, MethodHookParam param, String tileName) {
+        switch (method) {
+            case TileDispatcher.IS_AVAILABLE -> tileCheck(param, tileName);
+            case TileDispatcher.HANDLE_SET_LISTENING -> {
+                if (tileName == null) {
+                    tileListening(param, null);
+                    return;
                 }
+                try {
+                    tileListening(param, tileName);
+                } catch (Throwable e) {
+                    logE(TAG, "com.android.systemui", "handleSetListening have Throwable: " + e);
+                }
+                param.setResult(null);
+            }
+            case TileDispatcher.GET_LONG_CLICK_INTENT -> tileLongClickIntent(param, tileName);
+            case TileDispatcher.HANDLE_LONG_CLICK -> {
+                Intent intent = tileHandleLongClick(param, tileName);
                 if (intent != null) {
                     Context context = (Context) XposedHelpers.getObjectField(param.thisObject, "mContext");
                     Object o = XposedHelpers.callStaticMethod(findClassIfExists("com.android.systemui.controlcenter.utils.ControlCenterUtils"), "getSettingsSplitIntent", context, intent);
@@ -151,82 +133,53 @@ public abstract class TileUtils extends BaseHook {
                     param.setResult(null);
                 }
             }
-        };
-        try {
-            myTile.getDeclaredMethod("handleLongClick", expandableClz);
-            findAndHookMethod(myTile, "handleLongClick", expandableClz, handleLongClickHook);
-        } catch (NoSuchMethodException e) {
-            logE(TAG, "com.android.systemui", "Don't Have handleLongClick: " + e);
-        }
-
-        MethodHook handleClickHook = new MethodHook() {
-            @Override
-            protected void before(MethodHookParam param) {
-                String tileName = (String) XposedHelpers.getAdditionalInstanceField(param.thisObject, "customName");
-                if (tileName != null) {
-                    if (tileName.equals(customName())) {
-                        try {
-                            tileClick(param, tileName);
-                            param.setResult(null);
-                        } catch (Throwable e) {
-                            logE(TAG, "com.android.systemui", "handleClick have Throwable: " + e);
-                            param.setResult(null);
-                        }
-                    }
-                } else {
-                    if (needOverride())
-                        tileClick(param, tileName);
+            case TileDispatcher.HANDLE_CLICK -> {
+                if (tileName == null) {
+                    tileClick(param, null);
+                    return;
                 }
-            }
-
-            @Override
-            protected void after(MethodHookParam param) {
-                if (needAfter()) {
-                    String tileName = (String) XposedHelpers.getAdditionalInstanceField(param.thisObject, "customName");
-                    tileClickAfter(param, tileName);
+                try {
+                    tileClick(param, tileName);
+                } catch (Throwable e) {
+                    logE(TAG, "com.android.systemui", "handleClick have Throwable: " + e);
                 }
+                param.setResult(null);
             }
-        };
-        try {
-            getDeclaredMethod(myTile, "handleClick", expandableClz);
-            findAndHookMethod(myTile, "handleClick", expandableClz, handleClickHook);
-        } catch (NoSuchMethodException e) {
-            logE(TAG, "com.android.systemui", "Don't Have handleClick: " + e);
-        }
-
-        hookAllMethods(myTile, "handleUpdateState", new MethodHook() {
-            @Override
-            protected void before(MethodHookParam param) {
-                String tileName = (String) XposedHelpers.getAdditionalInstanceField(param.thisObject, "customName");
-                if (tileName != null) {
-                    if (tileName.equals(customName())) {
-                        boolean isEnable = false;
-                        ArrayMap<String, Integer> tileResMap;
-                        tileResMap = tileUpdateState(param, mResourceIcon, tileName);
-                        if (tileResMap != null) {
-                            int code = tileResMap.get(customName() + "_Enable");
-                            if (code == 1) isEnable = true;
-                            Object booleanState = param.args[0];
-                            XposedHelpers.setObjectField(booleanState, "value", isEnable);
-                            // 测试为开关状态控制，2为开，1为关
-                            XposedHelpers.setObjectField(booleanState, "state", isEnable ? 2 : 1);
-                            String tileLabel = (String) XposedHelpers.callMethod(param.thisObject, "getTileLabel");
-                            XposedHelpers.setObjectField(booleanState, "label", tileLabel);
-                            XposedHelpers.setObjectField(booleanState, "contentDescription", tileLabel);
-                            XposedHelpers.setObjectField(booleanState, "expandedAccessibilityClassName", Switch.class.getName());
-                            Object mIcon = XposedHelpers.callStaticMethod(mResourceIcon, "get", isEnable ? tileResMap.get(customName() + "_ON") : tileResMap.get(customName() + "_OFF"));
-                            XposedHelpers.setObjectField(booleanState, "icon", mIcon);
-                        }
-                        param.setResult(null);
-                    }
-                } else {
-                    if (needOverride()) {
-                        tileUpdateState(param, mResourceIcon, tileName);
-                    }
+            case TileDispatcher.HANDLE_UPDATE_STATE -> {
+                if (tileName == null) {
+                    tileUpdateState(param, mResourceIcon, null);
+                    return;
                 }
+                updateCustomState(param, tileName);
             }
-        });
+            case TileDispatcher.GET_TILE_LABEL -> {
+                if (tileName == null || customRes() == -1) return;
+                Context mContext = (Context) XposedHelpers.getObjectField(param.thisObject, "mContext");
+                Resources modRes = OtherTool.getModuleRes(mContext);
+                param.setResult(modRes.getString(customRes()));
+            }
+        }
+    }
 
+    private void updateCustomState(MethodHookParam param, String tileName) {
+        boolean isEnable = false;
+        ArrayMap<String, Integer> tileResMap;
+        tileResMap = tileUpdateState(param, mResourceIcon, tileName);
+        if (tileResMap != null) {
+            int code = tileResMap.get(customName() + "_Enable");
+            if (code == 1) isEnable = true;
+            Object booleanState = param.args[0];
+            XposedHelpers.setObjectField(booleanState, "value", isEnable);
+            // 测试为开关状态控制，2为开，1为关
+            XposedHelpers.setObjectField(booleanState, "state", isEnable ? 2 : 1);
+            String tileLabel = (String) XposedHelpers.callMethod(param.thisObject, "getTileLabel");
+            XposedHelpers.setObjectField(booleanState, "label", tileLabel);
+            XposedHelpers.setObjectField(booleanState, "contentDescription", tileLabel);
+            XposedHelpers.setObjectField(booleanState, "expandedAccessibilityClassName", Switch.class.getName());
+            Object mIcon = XposedHelpers.callStaticMethod(mResourceIcon, "get", isEnable ? tileResMap.get(customName() + "_ON") : tileResMap.get(customName() + "_OFF"));
+            XposedHelpers.setObjectField(booleanState, "icon", mIcon);
+        }
+        param.setResult(null);
     }
 
     /*用于指定磁贴工厂函数
@@ -331,7 +284,7 @@ public abstract class TileUtils extends BaseHook {
                     String myTileProvider = getCustomTileProvider()[0];
                     Object provider = XposedHelpers.getObjectField(param.thisObject, myTileProvider);
                     Object tile = XposedHelpers.callMethod(provider, "get");
-                    XposedHelpers.setAdditionalInstanceField(tile, "customName", tileName);
+                    if (tile != null) TileDispatcher.setTileName(tile, tileName);
                     param.setResult(tile);
                 }
             }
@@ -356,8 +309,8 @@ public abstract class TileUtils extends BaseHook {
                                     QSFactory.getDeclaredField(myTileProvider);
                                     provider = XposedHelpers.getObjectField(param.thisObject, myTileProvider);
                                     tile = XposedHelpers.callMethod(provider, "get");
-                                    XposedHelpers.setAdditionalInstanceField(tile, "customName", tileName);
                                     if (tile != null) {
+                                        TileDispatcher.setTileName(tile, tileName);
                                         Object mHandler = XposedHelpers.getObjectField(tile, "mHandler");
                                         XposedHelpers.callMethod(mHandler, "sendEmptyMessage", 12);
                                         XposedHelpers.callMethod(mHandler, "sendEmptyMessage", 11);
@@ -428,7 +381,7 @@ public abstract class TileUtils extends BaseHook {
     }
 
     /*为磁贴打上自定义名称*/
-    private void tileName(Class<?> myTile) {
+    private void tileName(Class<?> myTile, TileDispatcher dispatcher) {
         if (!needOverride()) {
             int customValue = customRes();
             String custom = customName();
@@ -438,19 +391,7 @@ public abstract class TileUtils extends BaseHook {
             }
             try {
                 myTile.getDeclaredMethod("getTileLabel");
-                findAndHookMethod(myTile, "getTileLabel", new MethodHook() {
-                    @Override
-                    protected void before(MethodHookParam param) throws Throwable {
-                        String tileName = (String) XposedHelpers.getAdditionalInstanceField(param.thisObject, "customName");
-                        if (tileName != null) {
-                            if (tileName.equals(custom)) {
-                                Context mContext = (Context) XposedHelpers.getObjectField(param.thisObject, "mContext");
-                                Resources modRes = OtherTool.getModuleRes(mContext);
-                                param.setResult(modRes.getString(customValue));
-                            }
-                        }
-                    }
-                });
+                dispatcher.hookMethod(TileDispatcher.GET_TILE_LABEL, "getTileLabel");
             } catch (NoSuchMethodException e) {
                 logE(TAG, "com.android.systemui", "Don't Have getTileLabel: ", e);
             }
@@ -0,0 +1,267 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 基于 /proc/net/dev 的流量采样器
+ * <p>
+ * 采样期间保持 /proc/net/dev 打开，每次从头重新读取到预分配的缓冲区中解析，接口名以字节比较匹配槽位，
+ * 稳定运行时不产生任何对象分配。停止采样时需调用 {@link #close()} 释放文件。回环、隧道、VPN、clat 等虚拟或叠加在其他接口上的接口不计入总量，避免重复统计。
+ * 非线程安全，请在同一线程上调用。
+ */
+public final class TrafficSampler implements Closeable {
+    private static final String PROC_NET_DEV = "/proc/net/dev";
+    private static final int MAX_INTERFACES = 32;
+    // 平滑系数，越大越贴近最新值
+    private static final double SMOOTHING = 0.5;
+    private static final byte[][] EXCLUDED_PREFIXES = toBytes(
+        "lo", "tun", "ppp", "dummy", "ifb", "sit", "ip6tnl", "ip_vti", "ip6_vti", "gre", "ip6gre",
+        "ipsec", "wg", "veth", "nlmon",
+        "v4-", "clat", // 464XLAT 的 clat 接口，流量已计入其下层的 IPv6 接口
+        "rmnet_ipa", "rmnet_mhi" // 高通 rmnet_data* 的汇总接口
+    );
+
+    private final String mPath;
+    private RandomAccessFile mFile;
+    private byte[] mBuffer = new byte[4096];
+    private final byte[][] mNames = new byte[MAX_INTERFACES][];
+    private final boolean[] mExcluded = new boolean[MAX_INTERFACES];
+    private final long[] mRxBytes = new long[MAX_INTERFACES];
+    private final long[] mTxBytes = new long[MAX_INTERFACES];
+    private final double[] mRxRate = new double[MAX_INTERFACES];
+    private final double[] mTxRate = new double[MAX_INTERFACES];
+    private final boolean[] mSeen = new boolean[MAX_INTERFACES];
+    private int mCount = 0;
+
+    private long mTotalRx = 0;
+    private long mTotalTx = 0;
+    private double mTotalRxRate = 0;
+    private double mTotalTxRate = 0;
+    private long mLastSampleNanos = 0;
+
+    public TrafficSampler() {
+        this(PROC_NET_DEV);
+    }
+
+    TrafficSampler(String path) {
+        mPath = path;
+    }
+
+    /**
+     * 读取一次 /proc/net/dev 并更新计数与速率
+     *
+     * @return 读取失败时返回 false，此时计数保持不变并关闭文件，下次采样重新打开
+     */
+    public boolean sample() {
+        int length = 0;
+        try {
+            if (mFile == null) mFile = new RandomAccessFile(mPath, "r");
+            // procfs 在回到开头时重新生成内容
+            mFile.seek(0);
+            int read;
+            while ((read = mFile.read(mBuffer, length, mBuffer.length - length)) > 0) {
+                length += read;
+                if (length == mBuffer.length) {
+                    byte[] bigger = new byte[mBuffer.length * 2];
+                    System.arraycopy(mBuffer, 0, bigger, 0, length);
+                    mBuffer = bigger;
+                }
+            }
+        } catch (IOException e) {
+            close();
+            return false;
+        }
+        update(mBuffer, length, System.nanoTime());
+        return true;
+    }
+
+    /**
+     * 关闭 /proc/net/dev，之后仍可再次调用 {@link #sample()}
+     */
+    @Override
+    public void close() {
+        if (mFile == null) return;
+        try {
+            mFile.close();
+        } catch (IOException ignored) {
+        }
+        mFile = null;
+    }
+
+    /**
+     * 解析 /proc/net/dev 格式的内容，nowNanos 用于计算速率
+     */
+    void update(byte[] buffer, int length, long nowNanos) {
+        double seconds = mLastSampleNanos == 0 ? 0 : (nowNanos - mLastSampleNanos) / 1_000_000_000.0;
+        mLastSampleNanos = nowNanos;
+        long totalRx = 0;
+        long totalTx = 0;
+        double totalRxRate = 0;
+        double totalTxRate = 0;
+
+        int pos = 0;
+        // 跳过两行表头
+        for (int header = 0; header < 2 && pos < length; header++) {
+            while (pos < length && buffer[pos] != '\n') pos++;
+            pos++;
+        }
+        while (pos < length) {
+            int lineEnd = pos;
+            while (lineEnd < length && buffer[lineEnd] != '\n') lineEnd++;
+
+            int nameStart = pos;
+            while (nameStart < lineEnd && buffer[nameStart] == ' ') nameStart++;
+            int colon = nameStart;
+            while (colon < lineEnd && buffer[colon] != ':') colon++;
+            if (colon < lineEnd) {
+                int slot = findSlot(buffer, nameStart, colon);
+                if (slot >= 0) {
+                    // 冒号后依次为 8 个接收字段与 8 个发送字段
+                    int p = colon + 1;
+                    long rx = 0;
+                    long tx = 0;
+                    for (int field = 0; field < 9; field++) {
+                        while (p < lineEnd && buffer[p] == ' ') p++;
+                        long value = 0;
+                        while (p < lineEnd && buffer[p] >= '0' && buffer[p] <= '9') {
+                            value = value * 10 + (buffer[p] - '0');
+                            p++;
+                        }
+                        if (field == 0) rx = value;
+                        else if (field == 8) tx = value;
+                    }
+                    updateSlot(slot, rx, tx, seconds);
+                    if (!mExcluded[slot]) {
+                        totalRx += rx;
+                        totalTx += tx;
+                        totalRxRate += mRxRate[slot];
+                        totalTxRate += mTxRate[slot];
+                    }
+                }
+            }
+            pos = lineEnd + 1;
+        }
+
+        mTotalRx = totalRx;
+        mTotalTx = totalTx;
+        mTotalRxRate = totalRxRate;
+        mTotalTxRate = totalTxRate;
+    }
+
+    private void updateSlot(int slot, long rx, long tx, double seconds) {
+        if (mSeen[slot] && seconds > 0) {
+            // 计数回绕或接口重建时视为 0
+            long rxDelta = Math.max(0, rx - mRxBytes[slot]);
+            long txDelta = Math.max(0, tx - mTxBytes[slot]);
+            mRxRate[slot] += SMOOTHING * (rxDelta / seconds - mRxRate[slot]);
+            mTxRate[slot] += SMOOTHING * (txDelta / seconds - mTxRate[slot]);
+        }
+        mRxBytes[slot] = rx;
+        mTxBytes[slot] = tx;
+        mSeen[slot] = true;
+    }
+
+    private int findSlot(byte[] buffer, int start, int end) {
+        int length = end - start;
+        for (int i = 0; i < mCount; i++) {
+            byte[] name = mNames[i];
+            if (name.length != length) continue;
+            int j = 0;
+            while (j < length && name[j] == buffer[start + j]) j++;
+            if (j == length) return i;
+        }
+        if (mCount == MAX_INTERFACES) return -1;
+        // 新接口只在首次出现时分配一次
+        byte[] name = new byte[length];
+        System.arraycopy(buffer, start, name, 0, length);
+        mNames[mCount] = name;
+        mExcluded[mCount] = isExcluded(name);
+        return mCount++;
+    }
+
+    private static boolean isExcluded(byte[] name) {
+        for (byte[] prefix : EXCLUDED_PREFIXES) {
+            if (name.length < prefix.length) continue;
+            int i = 0;
+            while (i < prefix.length && name[i] == prefix[i]) i++;
+            if (i == prefix.length) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 接口是否为不计入总量的虚拟或叠加接口，供无法读取 /proc/net/dev 时的回退统计使用
+     */
+    public static boolean isExcludedInterface(String name) {
+        return isExcluded(name.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static byte[][] toBytes(String... strings) {
+        byte[][] bytes = new byte[strings.length][];
+        for (int i = 0; i < strings.length; i++) bytes[i] = strings[i].getBytes(StandardCharsets.US_ASCII);
+        return bytes;
+    }
+
+    public long getTotalRxBytes() {
+        return mTotalRx;
+    }
+
+    public long getTotalTxBytes() {
+        return mTotalTx;
+    }
+
+    /**
+     * 平滑后的总下行速率，单位 B/s
+     */
+    public long getRxRate() {
+        return Math.round(mTotalRxRate);
+    }
+
+    /**
+     * 平滑后的总上行速率，单位 B/s
+     */
+    public long getTxRate() {
+        return Math.round(mTotalTxRate);
+    }
+
+    public int getInterfaceCount() {
+        return mCount;
+    }
+
+    public String getInterfaceName(int slot) {
+        return new String(mNames[slot], StandardCharsets.US_ASCII);
+    }
+
+    public boolean isInterfaceCounted(int slot) {
+        return !mExcluded[slot];
+    }
+
+    public long getRxRate(int slot) {
+        return Math.round(mRxRate[slot]);
+    }
+
+    public long getTxRate(int slot) {
+        return Math.round(mTxRate[slot]);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.devicesdk
+
+import android.os.Build
+import com.sevtinge.hyperceiler.hook.utils.PropUtils.getProp
+import io.github.kyuubiran.ezxhelper.core.util.ClassUtil.getStaticObjectOrNull
+
+/**
+ * 不可变的设备信息快照
+ *
+ * 在 XposedInit.initZygote 中创建一次，之后 fork 出的应用进程直接继承，
+ * 不再在每个进程中重复读取系统属性或反射 miui.os.Build。
+ * 未经 Zygote 初始化的进程（如模块自身）在首次访问时创建。
+ */
+data class DeviceProfile(
+    val androidSdk: Int,
+    val hyperOSVersion: Float,
+    val systemVersionIncremental: String,
+    val smallVersion: Int,
+    /** miui.os.Build 是否存在，不存在时以下 MIUI 标志均为 false */
+    val hasMiuiBuild: Boolean,
+    val isTablet: Boolean,
+    val isPad: Boolean,
+    val isFold: Boolean,
+    val isInternationalBuild: Boolean
+) {
+    companion object {
+        @Volatile
+        private var sProfile: DeviceProfile? = null
+
+        /**
+         * 获取当前进程的设备信息快照
+         */
+        @JvmStatic
+        fun get(): DeviceProfile = sProfile ?: capture()
+
+        /**
+         * 从系统属性与 miui.os.Build 读取设备信息并替换当前快照
+         */
+        @JvmStatic
+        fun capture(): DeviceProfile {
+            val miuiBuild = runCatching { Class.forName("miui.os.Build") }.getOrNull()
+            val buildFlag: ((String) -> Boolean)? = miuiBuild?.let { clazz ->
+                { name -> getStaticObjectOrNull(clazz, name) as? Boolean ?: false }
+            }
+            return create(Build.VERSION.SDK_INT, { key -> getProp(key) }, buildFlag).also { sProfile = it }
+        }
+
+        /**
+         * 由给定的数据源构建快照，不访问系统，也不修改当前快照
+         * @param sdkInt Android SDK 版本
+         * @param prop 系统属性读取函数，属性不存在时返回空字符串
+         * @param buildFlag miui.os.Build 静态字段读取函数，为 null 表示不是小米设备
+         */
+        @JvmStatic
+        fun create(sdkInt: Int, prop: (String) -> String, buildFlag: ((String) -> Boolean)?): DeviceProfile {
+            val incremental = prop("ro.mi.os.version.incremental").ifEmpty { prop("ro.system.build.version.incremental") }
+            val versionParts = incremental.split(".")
+            val smallVersion = if (versionParts.size >= 3) {
+                versionParts[2].toIntOrNull() ?: 0
+            } else {
+                0 // 当格式不匹配预期时返回默认值
+            }
+            return DeviceProfile(
+                androidSdk = sdkInt,
+                hyperOSVersion = prop("ro.mi.os.version.code").toFloatOrNull() ?: 0f,
+                systemVersionIncremental = incremental,
+                smallVersion = smallVersion,
+                hasMiuiBuild = buildFlag != null,
+                isTablet = buildFlag?.invoke("IS_TABLET") ?: false,
+                isPad = buildFlag?.invoke("IS_PAD") ?: false,
+                isFold = buildFlag?.invoke("IS_FOLD") ?: false,
+                isInternationalBuild = buildFlag?.invoke("IS_INTERNATIONAL_BUILD") ?: false
+            )
+        }
+    }
+}
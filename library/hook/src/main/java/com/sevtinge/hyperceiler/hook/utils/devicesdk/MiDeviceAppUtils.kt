@@ -18,30 +18,25 @@
  */
 package com.sevtinge.hyperceiler.hook.utils.devicesdk
 
-import com.sevtinge.hyperceiler.hook.utils.api.LazyClass.clazzMiuiBuild
-import io.github.kyuubiran.ezxhelper.core.util.ClassUtil.getStaticObjectOrNull
-
-val IS_TABLET by lazy {
-    getStaticObjectOrNull(clazzMiuiBuild, "IS_TABLET") as? Boolean ?: false
-}
-val IS_PAD by lazy {
-    getStaticObjectOrNull(clazzMiuiBuild, "IS_PAD") as? Boolean ?: false
-}
-val IS_FOLD by lazy {
-    getStaticObjectOrNull(clazzMiuiBuild, "IS_FOLD") as? Boolean ?: false
-}
-val IS_INTERNATIONAL_BUILD by lazy {
-    getStaticObjectOrNull(clazzMiuiBuild, "IS_INTERNATIONAL_BUILD") as? Boolean ?: false
-}
+// miui.os.Build 的标志在 Zygote 中读取一次，见 DeviceProfile
+val IS_TABLET: Boolean
+    get() = DeviceProfile.get().isTablet
+val IS_PAD: Boolean
+    get() = DeviceProfile.get().isPad
+val IS_FOLD: Boolean
+    get() = DeviceProfile.get().isFold
+val IS_INTERNATIONAL_BUILD: Boolean
+    get() = DeviceProfile.get().isInternationalBuild
 
 /**
  * 函数调用，适用于其他一些需要更高精度判断大屏设备的情况，仅支持小米设备的判断
  * @return 一个 Boolean 值，true 代表是大屏设备，false 代表不是大屏设备
  */
 fun isLargeUI(): Boolean {
-    return runCatching {
-        IS_PAD || IS_FOLD || IS_TABLET
-    }.getOrElse {
+    val profile = DeviceProfile.get()
+    return if (profile.hasMiuiBuild) {
+        profile.isPad || profile.isFold || profile.isTablet
+    } else {
         isPad()
     }
 }
@@ -52,9 +47,11 @@ fun isLargeUI(): Boolean {
  * @return 一个 Boolean 值，true 代表是平板，false 代表不是平板
  */
 fun isPad(): Boolean {
-    return runCatching {
-        IS_TABLET
-    }.getOrElse {
+    val profile = DeviceProfile.get()
+    return if (profile.hasMiuiBuild) {
+        profile.isTablet
+    } else {
+        // 屏幕配置可能变化，不计入快照
         isPadDevice()
     }
 }
@@ -64,9 +61,5 @@ fun isPad(): Boolean {
  * @return 一个 Boolean 值，true 代表是国际版系统，false 代表不是国际版系统
  */
 fun isInternational(): Boolean {
-    return runCatching {
-        IS_INTERNATIONAL_BUILD
-    }.getOrElse {
-        false
-    }
+    return IS_INTERNATIONAL_BUILD
 }
@@ -30,7 +30,7 @@ import java.io.File
 import java.nio.charset.Charset
 
 // 设备信息相关
-fun getSystemVersionIncremental(): String = getProp("ro.mi.os.version.incremental").ifEmpty { getProp("ro.system.build.version.incremental") }
+fun getSystemVersionIncremental(): String = DeviceProfile.get().systemVersionIncremental
 fun getBuildDate(): String = getProp("ro.system.build.date")
 fun getHost(): String = Build.HOST
 fun getBuilder(): String = getProp("ro.build.user")
@@ -47,20 +47,13 @@ fun getSmallVersion(): Float = String.format("%.1f", hyperOSSDK + smallVersion *
 fun isSupportTelephony(context: Context): Boolean = context.packageManager.hasSystemFeature(PackageManager.FEATURE_TELEPHONY)
 fun isSupportWifi(context: Context): Boolean = context.packageManager.hasSystemFeature(PackageManager.FEATURE_WIFI)
 
-private val androidSDK: Int by lazy {
-    Build.VERSION.SDK_INT
-}
-private val hyperOSSDK: Float by lazy {
-    getProp("ro.mi.os.version.code").toFloatOrNull() ?: 0f
-}
-private val smallVersion: Int by lazy {
-    val versionParts = getSystemVersionIncremental().split(".")
-    if (versionParts.size >= 3) {
-        versionParts[2].toIntOrNull() ?: 0
-    } else {
-        0 // 当格式不匹配预期时返回默认值
-    }
-}
+// 版本信息在 Zygote 中读取一次，见 DeviceProfile
+private val androidSDK: Int
+    get() = DeviceProfile.get().androidSdk
+private val hyperOSSDK: Float
+    get() = DeviceProfile.get().hyperOSVersion
+private val smallVersion: Int
+    get() = DeviceProfile.get().smallVersion
 private val mSupportHyperOsVersion: List<Float> by lazy {
     mutableListOf(1.0f)
 }
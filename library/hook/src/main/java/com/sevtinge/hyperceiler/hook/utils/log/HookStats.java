@@ -0,0 +1,306 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.log;
+
+import static com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils.logE;
+import static com.sevtinge.hyperceiler.hook.utils.log.XposedLogUtils.logI;
+
+import android.app.Application;
+import android.app.PendingIntent;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
+import com.sevtinge.hyperceiler.hook.utils.api.ProjectApi;
+
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import de.robv.android.xposed.XC_MethodHook;
+import de.robv.android.xposed.XposedHelpers;
+import de.robv.android.xposed.callbacks.XC_LoadPackage;
+
+/**
+ * Hook 回调的调用次数与耗时统计，仅在开发者选项中开启后生效
+ * <p>
+ * 以回调对象与被 Hook 的方法区分统计项，计数使用 LongAdder 分段累加，热点方法上多线程调用也不会互相争用。
+ * 耗时按 2 的幂分桶记录，输出时由分桶估算分位数（取桶的上界）。
+ * 模块发送 {@link #ACTION_DUMP} 广播后，各进程在后台线程生成统计结果，通过广播中附带的 PendingIntent 回传。
+ * 导出广播要求发送方持有签名级权限 {@link #PERMISSION}，回传以模块自身的身份发送，模块可以只接收未导出的广播。
+ */
+public final class HookStats {
+    private static final String TAG = "HookStats";
+
+    public static final String ACTION_DUMP = "com.sevtinge.hyperceiler.module.action.DumpHookStats";
+    public static final String ACTION_RESULT = "com.sevtinge.hyperceiler.module.action.HookStatsResult";
+    // 在模块清单中声明的签名级权限，只有模块自身能触发导出或重置
+    public static final String PERMISSION = ProjectApi.mAppModulePkg + ".permission.HOOK_STATS";
+    public static final String EXTRA_CALLBACK = "callback";
+    public static final String EXTRA_PROCESS = "process";
+    public static final String EXTRA_STATS = "stats";
+    public static final String EXTRA_RESET = "reset";
+
+    public static final String PHASE_BEFORE = "before";
+    public static final String PHASE_AFTER = "after";
+    public static final String PHASE_REPLACE = "replace";
+
+    private static final int BUCKETS = 40;
+    private static final int MAX_DUMP_ENTRIES = 50;
+
+    private static volatile boolean sEnabled = false;
+    private static String sProcessName = "unknown";
+
+    private static final ConcurrentHashMap<Object, Recorder> sRecorders = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, Integer> sOverrides = new ConcurrentHashMap<>();
+
+    private HookStats() {
+    }
+
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    /**
+     * 开启统计并在应用启动后注册导出广播
+     */
+    public static synchronized void install(@NonNull XC_LoadPackage.LoadPackageParam lpparam) {
+        // 同一进程可能加载多个包，只注册一次
+        if (sEnabled) return;
+        sEnabled = true;
+        sProcessName = lpparam.processName != null ? lpparam.processName : lpparam.packageName;
+        try {
+            XposedHelpers.findAndHookMethod(Application.class, "onCreate", new XC_MethodHook() {
+                @Override
+                protected void afterHookedMethod(MethodHookParam param) {
+                    registerDumpReceiver((Context) param.thisObject);
+                }
+            });
+        } catch (Throwable t) {
+            logE(TAG, "Failed to install dump receiver: " + t);
+        }
+    }
+
+    /**
+     * 记录一次回调
+     *
+     * @param callback 回调对象，同一对象 Hook 多个方法时按方法分别统计
+     * @param phase    {@link #PHASE_BEFORE}、{@link #PHASE_AFTER} 或 {@link #PHASE_REPLACE}
+     */
+    public static void record(@NonNull Object callback, @NonNull String phase, Member member, long nanos, boolean failed) {
+        Recorder recorder = sRecorders.get(callback);
+        if (recorder == null) {
+            recorder = sRecorders.computeIfAbsent(callback, c -> new Recorder(c.getClass().getName()));
+        }
+        recorder.stat(phase, member).record(nanos, failed);
+    }
+
+    /**
+     * 判断 HookTool.MethodHook 的子类是否重写了 before/after，未重写的阶段不做统计
+     *
+     * @param method "before" 或 "after"，与阶段名称相同
+     */
+    public static boolean overrides(@NonNull Class<?> hookClass, @NonNull Class<?> baseClass, @NonNull String method) {
+        Integer mask = sOverrides.get(hookClass);
+        if (mask == null) {
+            int value = 0;
+            for (Class<?> c = hookClass; c != null && c != baseClass; c = c.getSuperclass()) {
+                if (declares(c, PHASE_BEFORE)) value |= 1;
+                if (declares(c, PHASE_AFTER)) value |= 2;
+            }
+            sOverrides.put(hookClass, mask = value);
+        }
+        return (mask & (PHASE_BEFORE.equals(method) ? 1 : 2)) != 0;
+    }
+
+    private static boolean declares(Class<?> c, String method) {
+        try {
+            c.getDeclaredMethod(method, XC_MethodHook.MethodHookParam.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public static void reset() {
+        sRecorders.clear();
+    }
+
+    /**
+     * 按累计耗时从高到低输出统计结果
+     */
+    @NonNull
+    public static String dump() {
+        ArrayList<Stat> stats = new ArrayList<>();
+        for (Recorder recorder : sRecorders.values()) {
+            recorder.collect(stats);
+        }
+        stats.sort((a, b) -> Long.compare(b.mTotalNanos.sum(), a.mTotalNanos.sum()));
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("# ").append(sProcessName).append(" (pid ").append(Process.myPid()).append(", ")
+            .append(stats.size()).append(" hooks)\n");
+        int count = Math.min(stats.size(), MAX_DUMP_ENTRIES);
+        for (int i = 0; i < count; i++) {
+            stats.get(i).appendTo(builder);
+        }
+        if (stats.size() > count) {
+            builder.append("... ").append(stats.size() - count).append(" more\n");
+        }
+        return builder.toString();
+    }
+
+    private static void registerDumpReceiver(Context context) {
+        BroadcastReceiver receiver = new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                PendingIntent callback = intent.getParcelableExtra(EXTRA_CALLBACK, PendingIntent.class);
+                boolean reset = intent.getBooleanExtra(EXTRA_RESET, false);
+                // 生成结果需要遍历全部统计项，不在主线程进行
+                PendingResult pendingResult = goAsync();
+                ThreadPoolManager.execute(() -> {
+                    try {
+                        String stats = dump();
+                        logI(TAG, stats);
+                        if (reset) reset();
+                        if (callback != null && ProjectApi.mAppModulePkg.equals(callback.getCreatorPackage())) {
+                            Intent result = new Intent();
+                            result.putExtra(EXTRA_PROCESS, sProcessName);
+                            result.putExtra(EXTRA_STATS, stats);
+                            callback.send(context, 0, result);
+                        }
+                    } catch (PendingIntent.CanceledException e) {
+                        logE(TAG, "Failed to send hook stats: " + e);
+                    } finally {
+                        pendingResult.finish();
+                    }
+                });
+            }
+        };
+        context.registerReceiver(receiver, new IntentFilter(ACTION_DUMP), PERMISSION, null, Context.RECEIVER_EXPORTED);
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000L) return nanos + "ns";
+        if (nanos < 1_000_000L) return String.format(Locale.ROOT, "%.1fus", nanos / 1_000.0);
+        if (nanos < 1_000_000_000L) return String.format(Locale.ROOT, "%.1fms", nanos / 1_000_000.0);
+        return String.format(Locale.ROOT, "%.2fs", nanos / 1_000_000_000.0);
+    }
+
+    private static final class Recorder {
+        // 回调未关联方法时使用的键
+        private static final Object NO_MEMBER = new Object();
+
+        private final String mName;
+        private final ConcurrentHashMap<Object, Stat> mBefore = new ConcurrentHashMap<>(2);
+        private final ConcurrentHashMap<Object, Stat> mAfter = new ConcurrentHashMap<>(2);
+        private final ConcurrentHashMap<Object, Stat> mReplace = new ConcurrentHashMap<>(2);
+
+        Recorder(String name) {
+            mName = name;
+        }
+
+        Stat stat(String phase, Member member) {
+            ConcurrentHashMap<Object, Stat> stats = PHASE_BEFORE.equals(phase) ? mBefore
+                : PHASE_AFTER.equals(phase) ? mAfter : mReplace;
+            Object key = member != null ? member : NO_MEMBER;
+            Stat stat = stats.get(key);
+            if (stat == null) {
+                stat = stats.computeIfAbsent(key, k -> new Stat(mName, phase, member));
+            }
+            return stat;
+        }
+
+        void collect(ArrayList<Stat> out) {
+            out.addAll(mBefore.values());
+            out.addAll(mAfter.values());
+            out.addAll(mReplace.values());
+        }
+    }
+
+    private static final class Stat {
+        private final String mName;
+        private final String mPhase;
+        private final String mMethod;
+        private final LongAdder mCalls = new LongAdder();
+        private final LongAdder mErrors = new LongAdder();
+        private final LongAdder mTotalNanos = new LongAdder();
+        private final LongAccumulator mMaxNanos = new LongAccumulator(Math::max, 0);
+        // 第 i 个桶记录耗时在 [2^(i-1), 2^i) 纳秒之间的调用
+        private final LongAdder[] mBuckets = new LongAdder[BUCKETS];
+
+        Stat(String name, String phase, Member member) {
+            mName = name;
+            mPhase = phase;
+            mMethod = member != null ? member.getDeclaringClass().getName() + "#" + member.getName() : "?";
+            for (int i = 0; i < BUCKETS; i++) mBuckets[i] = new LongAdder();
+        }
+
+        void record(long nanos, boolean failed) {
+            if (nanos < 0) nanos = 0;
+            mCalls.increment();
+            mTotalNanos.add(nanos);
+            mMaxNanos.accumulate(nanos);
+            mBuckets[Math.min(64 - Long.numberOfLeadingZeros(nanos), BUCKETS - 1)].increment();
+            if (failed) mErrors.increment();
+        }
+
+        private long percentile(long[] counts, long total, double p) {
+            long target = (long) Math.ceil(total * p);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) return 1L << i;
+            }
+            return 1L << (counts.length - 1);
+        }
+
+        void appendTo(StringBuilder builder) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = mBuckets[i].sum();
+                total += counts[i];
+            }
+            long calls = mCalls.sum();
+            long totalNanos = mTotalNanos.sum();
+            builder.append(mMethod).append(" [").append(mPhase).append("] ").append(mName).append('\n')
+                .append("  calls=").append(calls)
+                .append(" total=").append(formatNanos(totalNanos))
+                .append(" avg=").append(formatNanos(calls > 0 ? totalNanos / calls : 0));
+            long max = mMaxNanos.get();
+            if (total > 0) {
+                // 分桶上界可能大于实际最大值
+                builder.append(" p50<=").append(formatNanos(Math.min(percentile(counts, total, 0.5), max)))
+                    .append(" p90<=").append(formatNanos(Math.min(percentile(counts, total, 0.9), max)))
+                    .append(" p99<=").append(formatNanos(Math.min(percentile(counts, total, 0.99), max)));
+            }
+            builder.append(" max=").append(formatNanos(max))
+                .append(" errors=").append(mErrors.sum()).append('\n');
+        }
+    }
+}
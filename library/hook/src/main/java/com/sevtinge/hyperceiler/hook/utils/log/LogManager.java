@@ -28,6 +28,8 @@ import static com.sevtinge.hyperceiler.hook.utils.shell.ShellUtils.rootExecCmd;
 
 import android.util.Log;
 
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
+
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
@@ -36,8 +38,6 @@ import java.io.InputStreamReader;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.file.StandardOpenOption;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -183,8 +183,7 @@ public class LogManager {
         int timeout = 5;
         Log.d(tag, message);
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        Future<Boolean> future = executor.submit(() -> {
+        Future<Boolean> future = ThreadPoolManager.getIoExecutor().submit(() -> {
             Process process = null;
             try {
                 process = Runtime.getRuntime().exec(new String[]{"logcat", "-d", "-v", "brief", "-s", tag + ":D"});
@@ -216,8 +215,6 @@ public class LogManager {
             future.cancel(true);
         } catch (Exception e) {
             LOGGER_CHECKER_ERR_CODE = String.valueOf(e);
-        } finally {
-            executor.shutdownNow();
         }
 
         LOGGER_CHECKER_ERR_CODE = "WITHOUT_CODE";
@@ -0,0 +1,113 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.prefs;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 预先解析的配置项句柄，适合在高频回调中读取配置
+ * <p>
+ * 句柄在创建时分配槽位并与 {@link PrefsUtils#mPrefsMap} 绑定，配置变化时由 PrefsMap 更新槽位，
+ * 读取时只访问数组，不拼接字符串、不查 Map、不装箱。
+ * <pre>
+ * private static final PrefKey HIDE = PrefKey.bool("system_ui_statusbar_network_speed_hide");
+ * ...
+ * if (HIDE.getBoolean()) return;
+ * </pre>
+ */
+public final class PrefKey {
+    static final int TYPE_BOOLEAN = 0;
+    static final int TYPE_INT = 1;
+    static final int TYPE_STRING_AS_INT = 2;
+    static final int TYPE_STRING = 3;
+    static final int TYPE_STRING_SET = 4;
+
+    final String mKey;
+    final int mType;
+    final int mSlot;
+    final boolean mDefBoolean;
+    final int mDefInt;
+    final Object mDefObject;
+
+    PrefKey(String key, int type, int slot, boolean defBoolean, int defInt, Object defObject) {
+        mKey = key;
+        mType = type;
+        mSlot = slot;
+        mDefBoolean = defBoolean;
+        mDefInt = defInt;
+        mDefObject = defObject;
+    }
+
+    /**
+     * 等价于 mPrefsMap.getBoolean(key)
+     */
+    public static PrefKey bool(String key) {
+        return PrefsUtils.mPrefsMap.intern(key, TYPE_BOOLEAN, false, 0, null);
+    }
+
+    /**
+     * 等价于 mPrefsMap.getInt(key, defValue)
+     */
+    public static PrefKey integer(String key, int defValue) {
+        return PrefsUtils.mPrefsMap.intern(key, TYPE_INT, false, defValue, null);
+    }
+
+    /**
+     * 等价于 mPrefsMap.getStringAsInt(key, defValue)
+     */
+    public static PrefKey stringAsInt(String key, int defValue) {
+        return PrefsUtils.mPrefsMap.intern(key, TYPE_STRING_AS_INT, false, defValue, null);
+    }
+
+    /**
+     * 等价于 mPrefsMap.getString(key, defValue)
+     */
+    public static PrefKey string(String key, String defValue) {
+        return PrefsUtils.mPrefsMap.intern(key, TYPE_STRING, false, 0, defValue);
+    }
+
+    /**
+     * 等价于 mPrefsMap.getStringSet(key)，返回的集合不应被修改
+     */
+    public static PrefKey stringSet(String key) {
+        return PrefsUtils.mPrefsMap.intern(key, TYPE_STRING_SET, false, 0, new LinkedHashSet<String>());
+    }
+
+    public boolean getBoolean() {
+        return PrefsUtils.mPrefsMap.mBooleans[mSlot];
+    }
+
+    public int getInt() {
+        return PrefsUtils.mPrefsMap.mInts[mSlot];
+    }
+
+    public String getString() {
+        return (String) PrefsUtils.mPrefsMap.mObjects[mSlot];
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set<String> getStringSet() {
+        return (Set<String>) PrefsUtils.mPrefsMap.mObjects[mSlot];
+    }
+
+    public String getKey() {
+        return mKey;
+    }
+}
@@ -23,12 +23,27 @@ import static com.sevtinge.hyperceiler.hook.utils.prefs.PrefsUtils.mPrefsMap;
 import android.content.Context;
 import android.database.ContentObserver;
 import android.net.Uri;
+import android.os.Bundle;
 import android.os.Handler;
+import android.os.Looper;
 
 import com.sevtinge.hyperceiler.hook.provider.SharedPrefsProvider;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
 public class PrefsChangeObserver extends ContentObserver {
     private static final String TAG = "PrefsChangeObserver";
+    // 短时间内的连续变更（如恢复备份、重置）合并为一次批量读取
+    private static final long APPLY_DELAY = 200L;
+    private static final LinkedHashMap<PrefsChangeObserver, Uri> sPendingChanges = new LinkedHashMap<>();
+    private static Handler sApplyHandler = null;
+    private static final Runnable sApplyRunnable = PrefsChangeObserver::applyPendingChanges;
+
+    private final Handler handler;
     private final boolean autoApplyChange;
     private final PrefType prefType;
     private final Context context;
@@ -49,6 +64,7 @@ public class PrefsChangeObserver extends ContentObserver {
 
     public PrefsChangeObserver(Context context, Handler handler, boolean autoApplyChange, PrefType type, String name, Object def) {
         super(handler);
+        this.handler = handler;
         this.def = def;
         Uri uri = null;
         this.name = name;
@@ -72,8 +88,13 @@ public class PrefsChangeObserver extends ContentObserver {
         if (selfChange) return;
         if (autoApplyChange) {
             if (prefType == PrefType.Any) return;
-            applyChange();
+            scheduleApplyChange(uri);
+            return;
         }
+        dispatchChange(uri);
+    }
+
+    private void dispatchChange(Uri uri) {
         if (prefType == PrefType.Any)
             onChange(switch (uri.getPathSegments().get(1)) {
                 case "string" -> PrefType.String;
@@ -104,6 +125,66 @@ public class PrefsChangeObserver extends ContentObserver {
         });
     }
 
+    private void scheduleApplyChange(Uri uri) {
+        synchronized (sPendingChanges) {
+            sPendingChanges.put(this, uri);
+            if (sApplyHandler == null) {
+                sApplyHandler = new Handler(Looper.getMainLooper());
+            }
+            sApplyHandler.removeCallbacks(sApplyRunnable);
+            sApplyHandler.postDelayed(sApplyRunnable, APPLY_DELAY);
+        }
+    }
+
+    /**
+     * 一次 binder 调用取回所有待更新的配置，整体写入 mPrefsMap 后再分发回调
+     */
+    private static void applyPendingChanges() {
+        LinkedHashMap<PrefsChangeObserver, Uri> pending;
+        synchronized (sPendingChanges) {
+            if (sPendingChanges.isEmpty()) return;
+            pending = new LinkedHashMap<>(sPendingChanges);
+            sPendingChanges.clear();
+        }
+
+        LinkedHashSet<String> names = new LinkedHashSet<>();
+        for (PrefsChangeObserver observer : pending.keySet()) names.add(observer.name);
+        Context context = pending.keySet().iterator().next().context;
+        Bundle bundle = PrefsUtils.getSharedPrefsBundle(context, names.toArray(new String[0]));
+
+        if (bundle == null) {
+            for (PrefsChangeObserver observer : pending.keySet()) observer.applyChange();
+        } else {
+            HashMap<String, Object> changes = new HashMap<>();
+            for (PrefsChangeObserver observer : pending.keySet()) {
+                changes.put(observer.name, observer.readValue(bundle));
+            }
+            mPrefsMap.putAll(changes);
+        }
+
+        for (Map.Entry<PrefsChangeObserver, Uri> entry : pending.entrySet()) {
+            PrefsChangeObserver observer = entry.getKey();
+            Uri uri = entry.getValue();
+            if (observer.handler != null) observer.handler.post(() -> observer.dispatchChange(uri));
+            else observer.dispatchChange(uri);
+        }
+    }
+
+    private Object readValue(Bundle bundle) {
+        return switch (prefType) {
+            case String -> bundle.getString(name, (String) def);
+            case StringSet -> {
+                String[] values = bundle.getStringArray(name);
+                LinkedHashSet<String> set = new LinkedHashSet<>();
+                if (values != null) Collections.addAll(set, values);
+                yield set;
+            }
+            case Integer -> bundle.getInt(name, (Integer) def);
+            case Boolean -> bundle.getBoolean(name, (boolean) def);
+            default -> null;
+        };
+    }
+
     public static class PrefToUri {
         public static Uri stringPrefToUri(String name, String defValue) {
             return Uri.parse("content://" + SharedPrefsProvider.AUTHORITY + "/string/" + name + "/" + defValue);
@@ -18,11 +18,23 @@
  */
 package com.sevtinge.hyperceiler.hook.utils.prefs;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public class PrefsMap<K, V> extends HashMap<K, V> {
+    // PrefKey 句柄的槽位存储，写入均在锁内完成，读取无需加锁；经由 keySet/values/entrySet 视图的写入不会更新槽位
+    volatile boolean[] mBooleans = new boolean[32];
+    volatile int[] mInts = new int[32];
+    volatile Object[] mObjects = new Object[32];
+    private final HashMap<String, PrefKey> mInterned = new HashMap<>();
+    private final HashMap<String, ArrayList<PrefKey>> mHandles = new HashMap<>();
+    private int mSlotCount = 0;
 
     public Object getObject(String key, Object defValue) {
         return get(key) == null ? defValue : get(key);
@@ -54,4 +66,171 @@ public class PrefsMap<K, V> extends HashMap<K, V> {
         return get(key) != null && (Boolean) get(key);
     }
 
+    @Override
+    public V put(K key, V value) {
+        synchronized (mInterned) {
+            V old = super.put(key, value);
+            refreshSlots(key);
+            return old;
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        synchronized (mInterned) {
+            super.putAll(m);
+            refreshAllSlots();
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        synchronized (mInterned) {
+            V old = super.remove(key);
+            refreshSlots(key);
+            return old;
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        synchronized (mInterned) {
+            boolean removed = super.remove(key, value);
+            if (removed) refreshSlots(key);
+            return removed;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (mInterned) {
+            super.clear();
+            refreshAllSlots();
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        synchronized (mInterned) {
+            V old = super.putIfAbsent(key, value);
+            refreshSlots(key);
+            return old;
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        synchronized (mInterned) {
+            boolean replaced = super.replace(key, oldValue, newValue);
+            if (replaced) refreshSlots(key);
+            return replaced;
+        }
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        synchronized (mInterned) {
+            V old = super.replace(key, value);
+            refreshSlots(key);
+            return old;
+        }
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        synchronized (mInterned) {
+            super.replaceAll(function);
+            refreshAllSlots();
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        synchronized (mInterned) {
+            V value = super.computeIfAbsent(key, mappingFunction);
+            refreshSlots(key);
+            return value;
+        }
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        synchronized (mInterned) {
+            V value = super.computeIfPresent(key, remappingFunction);
+            refreshSlots(key);
+            return value;
+        }
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        synchronized (mInterned) {
+            V value = super.compute(key, remappingFunction);
+            refreshSlots(key);
+            return value;
+        }
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        synchronized (mInterned) {
+            V merged = super.merge(key, value, remappingFunction);
+            refreshSlots(key);
+            return merged;
+        }
+    }
+
+    PrefKey intern(String key, int type, boolean defBoolean, int defInt, Object defObject) {
+        String fullKey = "prefs_key_" + key;
+        String internKey = type + ":" + fullKey + ":" + defInt + ":" + defObject;
+        synchronized (mInterned) {
+            PrefKey prefKey = mInterned.get(internKey);
+            if (prefKey != null) return prefKey;
+
+            int slot = mSlotCount++;
+            if (slot >= mBooleans.length) {
+                int size = mBooleans.length * 2;
+                mObjects = Arrays.copyOf(mObjects, size);
+                mInts = Arrays.copyOf(mInts, size);
+                mBooleans = Arrays.copyOf(mBooleans, size);
+            }
+            prefKey = new PrefKey(fullKey, type, slot, defBoolean, defInt, defObject);
+            mInterned.put(internKey, prefKey);
+            mHandles.computeIfAbsent(fullKey, k -> new ArrayList<>()).add(prefKey);
+            updateSlot(prefKey);
+            return prefKey;
+        }
+    }
+
+    private void refreshSlots(Object key) {
+        if (mHandles == null) return; // 父类构造期间
+        ArrayList<PrefKey> handles = mHandles.get(key);
+        if (handles == null) return;
+        for (PrefKey prefKey : handles) updateSlot(prefKey);
+    }
+
+    private void refreshAllSlots() {
+        if (mHandles == null) return;
+        for (ArrayList<PrefKey> handles : mHandles.values()) {
+            for (PrefKey prefKey : handles) updateSlot(prefKey);
+        }
+    }
+
+    private void updateSlot(PrefKey prefKey) {
+        Object value = get(prefKey.mKey);
+        int slot = prefKey.mSlot;
+        try {
+            switch (prefKey.mType) {
+                case PrefKey.TYPE_BOOLEAN -> mBooleans[slot] = value != null ? (Boolean) value : prefKey.mDefBoolean;
+                case PrefKey.TYPE_INT -> mInts[slot] = value != null ? (Integer) value : prefKey.mDefInt;
+                case PrefKey.TYPE_STRING_AS_INT -> mInts[slot] = value != null ? Integer.parseInt((String) value) : prefKey.mDefInt;
+                default -> mObjects[slot] = value != null ? value : prefKey.mDefObject;
+            }
+        } catch (ClassCastException | NumberFormatException e) {
+            // 与 get 系列方法不同，这里不抛出异常，直接回落到默认值
+            mBooleans[slot] = prefKey.mDefBoolean;
+            mInts[slot] = prefKey.mDefInt;
+            mObjects[slot] = prefKey.mDefObject;
+        }
+    }
 }
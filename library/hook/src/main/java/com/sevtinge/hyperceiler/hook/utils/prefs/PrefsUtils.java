@@ -23,6 +23,7 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.Bundle;
 import android.util.Log;
 
 import com.sevtinge.hyperceiler.hook.provider.SharedPrefsProvider;
@@ -183,6 +184,22 @@ public class PrefsUtils {
             return defValue;
     }
 
+    /**
+     * 通过一次 binder 调用批量读取指定的配置，names 为空或调用失败时返回 null
+     */
+    public static Bundle getSharedPrefsBundle(Context context, String... names) {
+        if (names == null || names.length == 0) return null;
+        try {
+            Bundle extras = new Bundle();
+            extras.putStringArray(SharedPrefsProvider.EXTRA_KEYS, names);
+            return context.getContentResolver().call(Uri.parse("content://" + SharedPrefsProvider.AUTHORITY),
+                SharedPrefsProvider.METHOD_GET_PREFS, null, extras);
+        } catch (Throwable t) {
+            XposedBridge.log(t);
+            return null;
+        }
+    }
+
     public static void registerOnSharedPreferenceChangeListener(Context context) {
         mSharedPreferences.registerOnSharedPreferenceChangeListener((sharedPreferences, key) -> {
             Log.i("prefs", "Changed: " + key);
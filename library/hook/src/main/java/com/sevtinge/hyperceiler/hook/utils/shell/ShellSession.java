@@ -0,0 +1,300 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.shell;
+
+import androidx.annotation.NonNull;
+
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
+import com.sevtinge.hyperceiler.hook.utils.log.AndroidLogUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 常驻的 Shell 会话，多条命令复用同一个 su/sh 进程。
+ * <p>
+ * 每条命令在子 shell 中执行（stdin 指向 /dev/null），结束后向 stdout 与 stderr 输出带随机标记的结束行，
+ * 以此分隔各命令的输出并取得返回值。一次写入多条命令即可流水线执行。
+ * 命令超时时结束 Shell 及其全部子进程，进程意外退出时丢弃，下一次执行时自动重新创建。
+ * 每个会话使用两个专属的守护线程读取 stdout 与 stderr，不占用 {@link ThreadPoolManager} 的流线程，
+ * 空闲的会话因此不会影响 {@link ShellUtils#execCommandStreaming} 等其他读取任务。
+ * <pre> {@code
+ * ShellSession session = new ShellSession("su");
+ * ShellUtils.CommandResult result = session.exec("id", false, 5000);
+ * session.close();
+ * }</pre>
+ *
+ * @see ShellSessionPool
+ */
+public final class ShellSession {
+    private static final String TAG = "ShellSession";
+    // 读取线程遇到 EOF 时放入队列，按引用比较
+    private static final String STREAM_END = new String("<stream end>");
+    private static final AtomicInteger sReaderCount = new AtomicInteger();
+    // 结束进程树的等待上限
+    private static final long KILL_TIMEOUT_MS = 2000;
+
+    private final String[] mShell;
+    private final String mMarker;
+    private Process mProcess;
+    // Shell 进程自身的 pid，su 时为 root shell 而不是 su 客户端
+    private int mPid = -1;
+    private OutputStream mStdin;
+    private LinkedBlockingQueue<String> mStdout;
+    private LinkedBlockingQueue<String> mStderr;
+    private boolean mClosed = false;
+
+    /**
+     * @param shell 启动 Shell 的命令，如 "su" 或 "sh"
+     */
+    public ShellSession(@NonNull String... shell) {
+        mShell = shell;
+        byte[] random = new byte[8];
+        new SecureRandom().nextBytes(random);
+        StringBuilder marker = new StringBuilder("__HC_END_");
+        for (byte b : random) marker.append(String.format("%02x", b));
+        mMarker = marker.append("__").toString();
+    }
+
+    /**
+     * 执行单条命令
+     *
+     * @param command    命令
+     * @param mergeError 是否将 stderr 合并到 successMsg
+     * @param timeoutMs  超时时间，超时后会话将被重建
+     */
+    @NonNull
+    public synchronized ShellUtils.CommandResult exec(@NonNull String command, boolean mergeError, long timeoutMs) {
+        return execAll(List.of(command), mergeError, timeoutMs).get(0);
+    }
+
+    /**
+     * 一次写入全部命令后依次读取结果，返回列表与 commands 一一对应。
+     * 发生超时或进程退出时，尚未完成的命令返回值为 -1，errorMsg 为失败原因。
+     */
+    @NonNull
+    public synchronized List<ShellUtils.CommandResult> execAll(@NonNull List<String> commands, boolean mergeError, long timeoutMs) {
+        if (mClosed) throw new IllegalStateException("This shell session has been closed!");
+        List<ShellUtils.CommandResult> results = new ArrayList<>(commands.size());
+        if (commands.isEmpty()) return results;
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        try {
+            ensureStarted(deadline);
+            StringBuilder script = new StringBuilder();
+            for (String command : commands) frame(script, command, mergeError);
+            mStdin.write(script.toString().getBytes(StandardCharsets.UTF_8));
+            mStdin.flush();
+
+            for (int i = 0; i < commands.size(); i++) {
+                results.add(readResult(deadline, mergeError));
+            }
+        } catch (IOException | TimeoutException e) {
+            AndroidLogUtils.logW(TAG, "Shell session failed, respawn on next call: " + e);
+            kill();
+            while (results.size() < commands.size()) {
+                results.add(new ShellUtils.CommandResult(-1, null, e.toString()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            kill();
+            while (results.size() < commands.size()) {
+                results.add(new ShellUtils.CommandResult(-1, null, e.toString()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 结束 Shell 进程，之后不可再使用
+     */
+    public synchronized void close() {
+        if (mClosed) return;
+        mClosed = true;
+        if (mProcess != null) {
+            try {
+                mStdin.write("exit\n".getBytes(StandardCharsets.UTF_8));
+                mStdin.flush();
+                if (!mProcess.waitFor(1, TimeUnit.SECONDS)) mProcess.destroy();
+            } catch (IOException | InterruptedException e) {
+                mProcess.destroy();
+            }
+            closeStreams(mProcess);
+            mProcess = null;
+        }
+    }
+
+    public synchronized boolean isAlive() {
+        return mProcess != null && mProcess.isAlive();
+    }
+
+    private void ensureStarted(long deadline) throws IOException, TimeoutException, InterruptedException {
+        if (mProcess != null && mProcess.isAlive()) return;
+        kill();
+        mProcess = new ProcessBuilder(mShell).start();
+        mStdin = mProcess.getOutputStream();
+        mStdout = new LinkedBlockingQueue<>();
+        mStderr = new LinkedBlockingQueue<>();
+        startReader(mProcess.getInputStream(), mStdout, "out");
+        startReader(mProcess.getErrorStream(), mStderr, "err");
+
+        mStdin.write("echo $$\n".getBytes(StandardCharsets.UTF_8));
+        mStdin.flush();
+        String pid = poll(mStdout, deadline).trim();
+        try {
+            mPid = Integer.parseInt(pid);
+        } catch (NumberFormatException e) {
+            throw new IOException("Unexpected shell output: " + pid);
+        }
+    }
+
+    private void kill() {
+        if (mProcess != null) {
+            // 超时的命令仍在运行，其子进程会继续持有管道，读取线程无法结束
+            if (mProcess.isAlive() && mPid > 0) killTree(mShell, mPid);
+            mProcess.destroy();
+            closeStreams(mProcess);
+            mProcess = null;
+        }
+        mPid = -1;
+    }
+
+    // 以同样的身份启动一个新的 Shell，自下而上结束 pid 及其全部子进程
+    private static void killTree(String[] shell, int pid) {
+        Process killer = null;
+        try {
+            killer = new ProcessBuilder(shell).redirectErrorStream(true).start();
+            killer.getOutputStream().write(("k() { for c in $(pgrep -P $1); do k $c; done; kill -9 $1; }; k " + pid + "; exit\n")
+                .getBytes(StandardCharsets.UTF_8));
+            killer.getOutputStream().close();
+            if (!killer.waitFor(KILL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                AndroidLogUtils.logW(TAG, "Timed out killing shell process tree " + pid);
+            }
+        } catch (IOException e) {
+            AndroidLogUtils.logW(TAG, "Failed to kill shell process tree " + pid + ": " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (killer != null) killer.destroy();
+        }
+    }
+
+    // 超时的命令可能留下仍持有管道的子进程，主动关闭读取端，让阻塞的读取线程退出
+    private static void closeStreams(Process process) {
+        try {
+            process.getInputStream().close();
+        } catch (IOException ignored) {
+        }
+        try {
+            process.getErrorStream().close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /*
+     * ( command
+     * ) </dev/null; __hc_rc=$?; echo; echo "MARKER $__hc_rc"; echo >&2; echo MARKER >&2
+     * 结束行前额外输出一个换行，保证没有以换行结尾的输出也能被正确分隔
+     */
+    private void frame(StringBuilder script, String command, boolean mergeError) {
+        script.append("(\n").append(command).append("\n) </dev/null");
+        if (mergeError) script.append(" 2>&1");
+        script.append("; __hc_rc=$?; echo; echo \"").append(mMarker).append(" $__hc_rc\"");
+        if (!mergeError) script.append("; echo >&2; echo ").append(mMarker).append(" >&2");
+        script.append('\n');
+    }
+
+    private ShellUtils.CommandResult readResult(long deadline, boolean mergeError)
+        throws IOException, TimeoutException, InterruptedException {
+        ArrayList<String> out = new ArrayList<>();
+        int result = -1;
+        while (true) {
+            String line = poll(mStdout, deadline);
+            if (line.startsWith(mMarker)) {
+                try {
+                    result = Integer.parseInt(line.substring(mMarker.length()).trim());
+                } catch (NumberFormatException ignored) {
+                }
+                break;
+            }
+            out.add(line);
+        }
+        String error = null;
+        if (!mergeError) {
+            ArrayList<String> err = new ArrayList<>();
+            while (true) {
+                String line = poll(mStderr, deadline);
+                if (line.equals(mMarker)) break;
+                err.add(line);
+            }
+            error = join(err);
+        }
+        return new ShellUtils.CommandResult(result, join(out), error);
+    }
+
+    private static String poll(LinkedBlockingQueue<String> queue, long deadline)
+        throws IOException, TimeoutException, InterruptedException {
+        long remaining = deadline - System.nanoTime();
+        String line = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+        if (line == null) throw new TimeoutException("Shell command timed out");
+        if (line == STREAM_END) {
+            // 留给下一次读取，避免另一个流阻塞到超时
+            queue.offer(STREAM_END);
+            throw new IOException("Shell process exited");
+        }
+        return line;
+    }
+
+    // 去掉结束行前额外输出的那一行空行
+    private static String join(ArrayList<String> lines) {
+        if (!lines.isEmpty() && lines.get(lines.size() - 1).isEmpty()) {
+            lines.remove(lines.size() - 1);
+        }
+        return String.join("\n", lines);
+    }
+
+    // 读取线程随进程存活，进程退出或被销毁后结束
+    private static void startReader(InputStream input, LinkedBlockingQueue<String> queue, String name) {
+        Thread thread = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    queue.offer(line);
+                }
+            } catch (IOException ignored) {
+                // 进程被销毁
+            } finally {
+                queue.offer(STREAM_END);
+            }
+        }, "HyperCeiler-shell-" + name + "-" + sReaderCount.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
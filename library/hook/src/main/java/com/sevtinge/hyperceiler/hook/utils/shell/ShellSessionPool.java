@@ -0,0 +1,177 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.shell;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ShellSession} 池，限制同时存在的 Shell 进程数量，空闲会话留待复用。
+ * <p>
+ * 会话空闲超过 idleTimeoutMs 后自动关闭，不会让 su/sh 进程与其读取线程一直驻留。
+ */
+public final class ShellSessionPool {
+    public static final long DEFAULT_TIMEOUT = 60_000L;
+    public static final long DEFAULT_IDLE_TIMEOUT = 30_000L;
+    private static final int MAX_SESSIONS = 2;
+
+    private static volatile ShellSessionPool sRoot = null;
+    private static volatile ShellSessionPool sShell = null;
+
+    private final String[] mShell;
+    private final int mMaxSessions;
+    private final long mIdleTimeoutNanos;
+    // 栈顶为最近归还的会话，栈底为空闲最久的会话
+    private final ArrayDeque<IdleSession> mIdle = new ArrayDeque<>();
+    private int mCreated = 0;
+    private ScheduledFuture<?> mReaper = null;
+
+    public ShellSessionPool(int maxSessions, @NonNull String... shell) {
+        this(maxSessions, DEFAULT_IDLE_TIMEOUT, shell);
+    }
+
+    /**
+     * @param idleTimeoutMs 会话空闲超过该时间后关闭
+     */
+    public ShellSessionPool(int maxSessions, long idleTimeoutMs, @NonNull String... shell) {
+        mMaxSessions = maxSessions;
+        mIdleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+        mShell = shell;
+    }
+
+    @NonNull
+    public static ShellSessionPool root() {
+        if (sRoot == null) {
+            synchronized (ShellSessionPool.class) {
+                if (sRoot == null) sRoot = new ShellSessionPool(MAX_SESSIONS, "su");
+            }
+        }
+        return sRoot;
+    }
+
+    @NonNull
+    public static ShellSessionPool shell() {
+        if (sShell == null) {
+            synchronized (ShellSessionPool.class) {
+                if (sShell == null) sShell = new ShellSessionPool(MAX_SESSIONS, "sh");
+            }
+        }
+        return sShell;
+    }
+
+    @NonNull
+    public ShellUtils.CommandResult exec(@NonNull String command, boolean mergeError, long timeoutMs) {
+        return execAll(List.of(command), mergeError, timeoutMs).get(0);
+    }
+
+    /**
+     * 在同一个会话中依次执行全部命令
+     *
+     * @see ShellSession#execAll(List, boolean, long)
+     */
+    @NonNull
+    public List<ShellUtils.CommandResult> execAll(@NonNull List<String> commands, boolean mergeError, long timeoutMs) {
+        ShellSession session;
+        try {
+            session = acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ShellUtils.CommandResult result = new ShellUtils.CommandResult(-1, null, e.toString());
+            return commands.stream().map(c -> result).toList();
+        }
+        try {
+            return session.execAll(commands, mergeError, timeoutMs);
+        } finally {
+            release(session);
+        }
+    }
+
+    /**
+     * 关闭全部空闲会话，正在使用的会话归还后仍可继续复用
+     */
+    public void closeIdle() {
+        ArrayList<ShellSession> closing = new ArrayList<>();
+        synchronized (this) {
+            IdleSession idle;
+            while ((idle = mIdle.poll()) != null) {
+                closing.add(idle.session());
+                mCreated--;
+            }
+            notifyAll();
+        }
+        for (ShellSession session : closing) session.close();
+    }
+
+    @VisibleForTesting
+    synchronized int getIdleCount() {
+        return mIdle.size();
+    }
+
+    private synchronized ShellSession acquire() throws InterruptedException {
+        while (true) {
+            IdleSession idle = mIdle.poll();
+            if (idle != null) return idle.session();
+            if (mCreated < mMaxSessions) {
+                mCreated++;
+                return new ShellSession(mShell);
+            }
+            wait();
+        }
+    }
+
+    private synchronized void release(ShellSession session) {
+        mIdle.push(new IdleSession(session, System.nanoTime()));
+        scheduleReaper(mIdleTimeoutNanos);
+        notifyAll();
+    }
+
+    private void scheduleReaper(long delayNanos) {
+        if (mReaper != null || mIdle.isEmpty()) return;
+        mReaper = ThreadPoolManager.scheduleIo(this::closeExpired, TimeUnit.NANOSECONDS.toMillis(delayNanos) + 1);
+    }
+
+    // 关闭空闲超时的会话，若仍有空闲会话则按其中最早的到期时间再次检查
+    private void closeExpired() {
+        ArrayList<ShellSession> closing = new ArrayList<>();
+        synchronized (this) {
+            mReaper = null;
+            long now = System.nanoTime();
+            IdleSession idle;
+            while ((idle = mIdle.peekLast()) != null && now - idle.since() >= mIdleTimeoutNanos) {
+                mIdle.pollLast();
+                closing.add(idle.session());
+                mCreated--;
+            }
+            if (idle != null) scheduleReaper(mIdleTimeoutNanos - (now - idle.since()));
+            notifyAll();
+        }
+        for (ShellSession session : closing) session.close();
+    }
+
+    private record IdleSession(ShellSession session, long since) {
+    }
+}
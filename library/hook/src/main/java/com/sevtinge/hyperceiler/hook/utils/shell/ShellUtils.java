@@ -22,13 +22,22 @@ import static com.sevtinge.hyperceiler.expansion.utils.ShellSafeUtils.isSafeComm
 
 import androidx.annotation.NonNull;
 
+import com.sevtinge.hyperceiler.hook.utils.ThreadPoolManager;
 import com.sevtinge.hyperceiler.hook.utils.log.AndroidLogUtils;
 
 import java.io.BufferedReader;
-import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class ShellUtils {
     /**
@@ -152,74 +161,161 @@ public class ShellUtils {
             return new CommandResult(result, null, null);
         }
 
-        Process process = null;
-        BufferedReader successResult = null;
-        BufferedReader errorResult = null;
-        StringBuilder successMsg = null;
-        StringBuilder errorMsg = null;
+        // 复用常驻会话，不再为每批命令启动 su/sh
+        StringBuilder script = new StringBuilder();
+        for (String command : commands) {
+            if (command == null) {
+                continue;
+            }
+            script.append(command).append('\n');
+        }
+        ShellSessionPool pool = isRoot ? ShellSessionPool.root() : ShellSessionPool.shell();
+        CommandResult commandResult = pool.exec(script.toString(), false, ShellSessionPool.DEFAULT_TIMEOUT);
+        if (commandResult.successMsg == null) {
+            AndroidLogUtils.logE("execCommand", "Shell session failed: " + commandResult.errorMsg);
+        }
+        if (!isNeedResultMsg) {
+            return new CommandResult(commandResult.result, null, null);
+        }
+        // 保持原有行为：各行输出直接拼接
+        return new CommandResult(commandResult.result,
+            commandResult.successMsg == null ? "" : commandResult.successMsg.replace("\n", ""),
+            commandResult.errorMsg == null ? "" : commandResult.errorMsg.replace("\n", ""));
+    }
+
+    /**
+     * execute shell commands and stream the output line by line
+     * <p>
+     * stdout and stderr are drained concurrently, so commands with large output (pm list, dumpsys...)
+     * never block on a full pipe. The listener is called on the shared stream threads of
+     * {@link ThreadPoolManager}, one line at a time;
+     * the process is paused while the listener runs.
+     *
+     * @param commands  command array
+     * @param isRoot    whether need to run with root
+     * @param timeoutMs the process is killed once this time is exceeded
+     * @param maxBytes  the process is killed once stdout and stderr exceed this size (counted in chars), 0 means no limit
+     * @param listener  receive output lines, return false to stop the command
+     * @return exit code of the shell, -1 if it failed to start, timed out, was stopped or exceeded maxBytes
+     */
+    public static int execCommandStreaming(String[] commands, boolean isRoot, long timeoutMs, long maxBytes,
+                                           @NonNull OutputListener listener) {
+        if (commands == null || commands.length == 0) {
+            return -1;
+        }
 
-        DataOutputStream os = null;
+        Process process = null;
         try {
-            // if (isRoot) {
-            //     int exitCode = checkRootPermission();
-            //     if (exitCode != 0) {
-            //         return new CommandResult(exitCode, null, null);
-            //     }
-            // }
-            process = Runtime.getRuntime().exec(isRoot ? "su" : "sh");
-            os = new DataOutputStream(process.getOutputStream());
-            for (String command : commands) {
-                if (command == null) {
-                    continue;
+            process = new ProcessBuilder(isRoot ? "su" : "sh").start();
+            // stdout 与 stderr 共用计数，回调不会并发执行
+            StreamState state = new StreamState(process, maxBytes, listener);
+            Future<?> out = ThreadPoolManager.executeStream(new StreamReader(state, process.getInputStream(), false));
+            Future<?> err = ThreadPoolManager.executeStream(new StreamReader(state, process.getErrorStream(), true));
+
+            try (OutputStream os = process.getOutputStream()) {
+                for (String command : commands) {
+                    if (command == null) {
+                        continue;
+                    }
+                    os.write(command.getBytes(StandardCharsets.UTF_8));
+                    os.write('\n');
                 }
-
-                // donnot use os.writeBytes(commmand), avoid chinese charset error
-                os.write(command.getBytes());
-                // os.writeBytes(command);
-                os.writeBytes("\n");
+                os.write("exit\n".getBytes(StandardCharsets.UTF_8));
                 os.flush();
             }
-            os.writeBytes("exit\n");
-            os.flush();
-
-            result = process.waitFor();
-            // get command result
-            if (isNeedResultMsg) {
-                successMsg = new StringBuilder();
-                errorMsg = new StringBuilder();
-                successResult = new BufferedReader(new InputStreamReader(process.getInputStream()));
-                errorResult = new BufferedReader(new InputStreamReader(process.getErrorStream()));
-                String s;
-                while ((s = successResult.readLine()) != null) {
-                    successMsg.append(s);
-                }
-                while ((s = errorResult.readLine()) != null) {
-                    errorMsg.append(s);
-                }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            if (!process.waitFor(timeoutMs, TimeUnit.MILLISECONDS)) {
+                AndroidLogUtils.logW("execCommandStreaming", "Command timed out after " + timeoutMs + "ms");
+                process.destroy();
+                return -1;
             }
-        } catch (IOException | InterruptedException e) {
-            AndroidLogUtils.logE("execCommand", "IOException | InterruptedException: ", e);
+            // 进程退出后读完剩余输出
+            out.get(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())), TimeUnit.MILLISECONDS);
+            err.get(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())), TimeUnit.MILLISECONDS);
+            if (state.aborted) {
+                return -1;
+            }
+            return process.exitValue();
+        } catch (IOException e) {
+            AndroidLogUtils.logE("execCommandStreaming", "IOException: ", e);
+            return -1;
+        } catch (RejectedExecutionException e) {
+            AndroidLogUtils.logE("execCommandStreaming", "No stream thread available: ", e);
+            return -1;
+        } catch (TimeoutException | ExecutionException e) {
+            // 读取线程未能在期限内读完剩余输出
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
         } finally {
-            try {
-                if (os != null) {
-                    os.close();
-                }
-                if (successResult != null) {
-                    successResult.close();
-                }
-                if (errorResult != null) {
-                    errorResult.close();
-                }
-            } catch (IOException e) {
-                e.printStackTrace();
+            if (process != null) {
+                process.destroy();
             }
+        }
+    }
 
-            if (process != null) {
+    /**
+     * receive output of {@link ShellUtils#execCommandStreaming}
+     */
+    public interface OutputListener {
+        /**
+         * @param line    output line without line break
+         * @param isError whether the line comes from stderr
+         * @return false to stop the command
+         */
+        boolean onLine(String line, boolean isError);
+    }
+
+    private static class StreamState {
+        private final Process process;
+        private final long maxBytes;
+        private final OutputListener listener;
+        private long bytes = 0;
+        private volatile boolean aborted = false;
+
+        StreamState(Process process, long maxBytes, OutputListener listener) {
+            this.process = process;
+            this.maxBytes = maxBytes;
+            this.listener = listener;
+        }
+
+        synchronized boolean dispatch(String line, boolean isError) {
+            if (aborted) return false;
+            // 按行长度计数，多字节字符按一个计
+            bytes += line.length() + 1;
+            if ((maxBytes > 0 && bytes > maxBytes) || !listener.onLine(line, isError)) {
+                aborted = true;
                 process.destroy();
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private static class StreamReader implements Runnable {
+        private final StreamState state;
+        private final InputStream input;
+        private final boolean isError;
+
+        StreamReader(StreamState state, InputStream input, boolean isError) {
+            this.state = state;
+            this.input = input;
+            this.isError = isError;
+        }
+
+        @Override
+        public void run() {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!state.dispatch(line, isError)) break;
+                }
+            } catch (IOException ignored) {
+                // 进程被销毁
             }
         }
-        return new CommandResult(result, successMsg == null ? null : successMsg.toString(), errorMsg == null ? null
-                : errorMsg.toString());
     }
 
     /**
@@ -333,47 +429,37 @@ public class ShellUtils {
 
     public static String rootExecCmd(String cmd) {
         if (!isSafeCommand(cmd)) return "Cannot exec this command: Dangerous operation";
-        final String fullCmd = "nsenter --mount=/proc/1/ns/mnt -- " + cmd;
-        ProcessBuilder pb = new ProcessBuilder("su", "-c", fullCmd);
-        pb.redirectErrorStream(true);
-
-        StringBuilder result = new StringBuilder();
+        return rootExecCmds(List.of(cmd)).get(0);
+    }
 
-        try {
-            Process p = pb.start();
-            try (java.io.BufferedReader reader = new java.io.BufferedReader(
-                new java.io.InputStreamReader(p.getInputStream(), java.nio.charset.StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    result.append(line).append('\n');
-                }
-            }
+    /**
+     * 在同一个 Root 会话中依次执行多条命令，返回值与 cmds 一一对应
+     *
+     * @see ShellUtils#rootExecCmd(String)
+     */
+    public static List<String> rootExecCmds(List<String> cmds) {
+        ArrayList<String> outputs = new ArrayList<>(cmds.size());
+        ArrayList<String> fullCmds = new ArrayList<>(cmds.size());
+        for (String cmd : cmds) {
+            if (!isSafeCommand(cmd)) continue;
+            fullCmds.add("nsenter --mount=/proc/1/ns/mnt -- " + cmd);
+        }
+        List<CommandResult> results = ShellSessionPool.root().execAll(fullCmds, true, ShellSessionPool.DEFAULT_TIMEOUT);
 
-            p.waitFor();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            String msg = e.toString();
-            if (!cmd.contains("nsenter") && msg.contains("nsenter: exec ")) {
-                return msg.replace("nsenter: exec ", "");
+        int index = 0;
+        for (String cmd : cmds) {
+            if (!isSafeCommand(cmd)) {
+                outputs.add("Cannot exec this command: Dangerous operation");
+                continue;
             }
-            return msg;
-        } catch (java.io.IOException e) {
-            String msg = e.toString();
-            if (!cmd.contains("nsenter") && msg.contains("nsenter: exec ")) {
-                return msg.replace("nsenter: exec ", "");
+            CommandResult result = results.get(index++);
+            String out = result.successMsg != null ? result.successMsg : String.valueOf(result.errorMsg);
+            if (!cmd.contains("nsenter") && out.contains("nsenter: exec ")) {
+                out = out.replace("nsenter: exec ", "");
             }
-            return msg;
-        }
-
-        String out = result.toString();
-        if (!out.isEmpty() && out.charAt(out.length() - 1) == '\n') {
-            out = out.substring(0, out.length() - 1);
-        }
-
-        if (!cmd.contains("nsenter") && out.contains("nsenter: exec ")) {
-            return out.replace("nsenter: exec ", "");
+            outputs.add(out);
         }
-        return out;
+        return outputs;
     }
 
 }
@@ -0,0 +1,180 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.module.base.dexkit;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 对比二进制缓存与旧版 json 缓存的读写耗时，结果输出到标准输出
+ */
+public class DexKitCacheBenchmark {
+    private static final int ENTRIES = 500;
+    private static final int ROUNDS = 20;
+
+    private File mDir;
+
+    @Before
+    public void setUp() throws IOException {
+        mDir = Files.createTempDirectory("dexkit-bench").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = mDir.listFiles();
+        if (files != null) for (File file : files) file.delete();
+        mDir.delete();
+    }
+
+    @Test
+    public void loadBinaryVsLegacyJson() throws IOException {
+        File binary = new File(mDir, "dexkit_cache.bin");
+        File legacy = new File(mDir, "dexkit_cache.json");
+
+        Map<String, String[]> entries = entries();
+        DexKitCache cache = DexKitCache.load(binary, null);
+        cache.setHeader(1, "1.0.0", "OS2.0.200");
+        for (Map.Entry<String, String[]> entry : entries.entrySet()) {
+            cache.put(entry.getKey(), new DexKitCache.MemberData(DexKitCache.TYPE_METHOD, entry.getValue()[1]));
+        }
+        cache.flush();
+        DexKitCacheTest.writeLegacyJson(legacy, 1, "1.0.0", "OS2.0.200", entries);
+
+        long binaryNanos = 0;
+        long legacyNanos = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            assertEquals(ENTRIES, DexKitCache.load(binary, null).size());
+            long binaryLoad = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            assertEquals(ENTRIES, DexKitCache.load(new File(mDir, "missing.bin"), legacy).size());
+            long legacyLoad = System.nanoTime() - start;
+
+            // 第 0 轮作为预热
+            if (round == 0) continue;
+            binaryNanos += binaryLoad;
+            legacyNanos += legacyLoad;
+        }
+        System.out.printf("DexKitCache load (%d entries): binary %.3f ms, legacy json %.3f ms%n",
+            ENTRIES, binaryNanos / 1e6 / ROUNDS, legacyNanos / 1e6 / ROUNDS);
+    }
+
+    /*
+     * 全部未命中时的写入：二进制缓存逐个 put 后 flush 一次，
+     * 旧实现每次 put 都用 Gson 重新序列化整个缓存并覆盖写入
+     * */
+    @Test
+    public void storeBinaryVsLegacyJson() throws IOException {
+        Map<String, String[]> entries = entries();
+        Gson gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+
+        long binaryNanos = 0;
+        long legacyNanos = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            File binary = new File(mDir, "store_" + round + ".bin");
+            File legacy = new File(mDir, "store_" + round + ".json");
+
+            long start = System.nanoTime();
+            DexKitCache cache = DexKitCache.load(binary, null);
+            cache.setHeader(1, "1.0.0", "OS2.0.200");
+            for (Map.Entry<String, String[]> entry : entries.entrySet()) {
+                cache.put(entry.getKey(), new DexKitCache.MemberData(DexKitCache.TYPE_METHOD, entry.getValue()[1]));
+            }
+            cache.flush();
+            long binaryStore = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            LegacyCacheData data = new LegacyCacheData();
+            for (Map.Entry<String, String[]> entry : entries.entrySet()) {
+                LegacyMemberData member = new LegacyMemberData();
+                member.type = entry.getValue()[0];
+                member.data = new ArrayList<>(List.of(entry.getValue()[1]));
+                data.cache.put(entry.getKey(), member);
+                writeLegacyJson(gson, legacy, data);
+            }
+            long legacyStore = System.nanoTime() - start;
+
+            assertEquals(ENTRIES, DexKitCache.load(binary, null).size());
+            assertEquals(ENTRIES, DexKitCache.load(new File(mDir, "missing.bin"), legacy).size());
+
+            // 第 0 轮作为预热
+            if (round == 0) continue;
+            binaryNanos += binaryStore;
+            legacyNanos += legacyStore;
+        }
+        System.out.printf("DexKitCache store (%d entries): binary %.3f ms, legacy json %.3f ms%n",
+            ENTRIES, binaryNanos / 1e6 / ROUNDS, legacyNanos / 1e6 / ROUNDS);
+    }
+
+    private static Map<String, String[]> entries() {
+        Map<String, String[]> entries = new HashMap<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            String value = "Lcom/example/pkg" + (i % 50) + "/Class" + i + ";->method" + i + "(Landroid/content/Context;I)V";
+            entries.put("key_" + i, new String[]{"METHOD", value});
+        }
+        return entries;
+    }
+
+    /*
+     * 与旧版 DexKit.saveCacheData 相同的写入方式
+     * */
+    private static void writeLegacyJson(Gson gson, File file, LegacyCacheData data) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            FileLock lock = channel.lock();
+            try (FileWriter writer = new FileWriter(file)) {
+                writer.write(gson.toJson(data));
+                writer.flush();
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    private static final class LegacyCacheData {
+        public int version = 1;
+        public String pkgVersion = "1.0.0";
+        public String osVersion = "OS2.0.200";
+        public Map<String, LegacyMemberData> cache = new HashMap<>();
+    }
+
+    private static final class LegacyMemberData {
+        public String type;
+        public List<String> data;
+    }
+}
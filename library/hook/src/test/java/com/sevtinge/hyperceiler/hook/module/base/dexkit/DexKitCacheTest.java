@@ -0,0 +1,170 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.module.base.dexkit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class DexKitCacheTest {
+    private File mDir;
+    private File mCacheFile;
+    private File mLegacyFile;
+
+    @Before
+    public void setUp() throws IOException {
+        mDir = Files.createTempDirectory("dexkit").toFile();
+        mCacheFile = new File(mDir, "dexkit_cache.bin");
+        mLegacyFile = new File(mDir, "dexkit_cache.json");
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = mDir.listFiles();
+        if (files != null) for (File file : files) file.delete();
+        mDir.delete();
+    }
+
+    @Test
+    public void roundTrip() {
+        DexKitCache cache = DexKitCache.load(mCacheFile, mLegacyFile);
+        assertEquals(0, cache.size());
+        cache.setHeader(3, "1.2.3", "OS2.0.1");
+        cache.put("method", new DexKitCache.MemberData(DexKitCache.TYPE_METHOD, "Lcom/a/B;->c()V"));
+        cache.put("class", new DexKitCache.MemberData(DexKitCache.TYPE_CLASS, "Lcom/a/B;"));
+        cache.put("fields", new DexKitCache.MemberData(DexKitCache.TYPE_FIELD,
+            Arrays.asList("Lcom/a/B;->d:I", null, "中文")));
+        cache.flush();
+
+        DexKitCache loaded = DexKitCache.load(mCacheFile, mLegacyFile);
+        assertEquals(3, loaded.version);
+        assertEquals("1.2.3", loaded.pkgVersion);
+        assertEquals("OS2.0.1", loaded.osVersion);
+        assertEquals(3, loaded.size());
+        assertEquals(cache.get("method"), loaded.get("method"));
+        assertEquals(cache.get("class"), loaded.get("class"));
+        assertEquals(cache.get("fields"), loaded.get("fields"));
+        assertNull(loaded.get("missing"));
+    }
+
+    @Test
+    public void flushWithoutChangesDoesNoIo() {
+        DexKitCache cache = DexKitCache.load(mCacheFile, mLegacyFile);
+        cache.flush();
+        assertFalse(mCacheFile.exists());
+
+        cache.setHeader(1, "a", "b");
+        cache.flush();
+        assertTrue(mCacheFile.exists());
+        long modified = mCacheFile.lastModified();
+        assertTrue(mCacheFile.setLastModified(modified - 10_000));
+
+        DexKitCache loaded = DexKitCache.load(mCacheFile, mLegacyFile);
+        loaded.setHeader(1, "a", "b");
+        loaded.flush();
+        assertEquals(modified - 10_000, mCacheFile.lastModified());
+    }
+
+    @Test
+    public void mergesEntriesWrittenByOtherProcess() {
+        DexKitCache first = DexKitCache.load(mCacheFile, null);
+        DexKitCache second = DexKitCache.load(mCacheFile, null);
+        first.setHeader(1, "v", "os");
+        second.setHeader(1, "v", "os");
+        first.put("a", new DexKitCache.MemberData(DexKitCache.TYPE_CLASS, "La;"));
+        second.put("b", new DexKitCache.MemberData(DexKitCache.TYPE_CLASS, "Lb;"));
+        first.flush();
+        second.flush();
+
+        DexKitCache loaded = DexKitCache.load(mCacheFile, null);
+        assertEquals(2, loaded.size());
+        assertEquals("La;", loaded.get("a").data.get(0));
+        assertEquals("Lb;", loaded.get("b").data.get(0));
+    }
+
+    @Test
+    public void clearDropsEntriesOnDisk() {
+        DexKitCache cache = DexKitCache.load(mCacheFile, null);
+        cache.setHeader(1, "v", "os");
+        cache.put("a", new DexKitCache.MemberData(DexKitCache.TYPE_CLASS, "La;"));
+        cache.flush();
+
+        DexKitCache reloaded = DexKitCache.load(mCacheFile, null);
+        reloaded.clear();
+        reloaded.setHeader(2, "v2", "os");
+        reloaded.flush();
+
+        DexKitCache loaded = DexKitCache.load(mCacheFile, null);
+        assertEquals(2, loaded.version);
+        assertEquals(0, loaded.size());
+    }
+
+    @Test
+    public void migratesLegacyJson() throws IOException {
+        Map<String, String[]> entries = new HashMap<>();
+        entries.put("m", new String[]{"METHOD", "Lx;->y()V"});
+        entries.put("c", new String[]{"CLASS", "Lx;"});
+        entries.put("bad", new String[]{"UNKNOWN", "?"});
+        writeLegacyJson(mLegacyFile, 5, "9.9", "OS1", entries);
+
+        DexKitCache cache = DexKitCache.load(mCacheFile, mLegacyFile);
+        assertEquals(5, cache.version);
+        assertEquals("9.9", cache.pkgVersion);
+        assertEquals(2, cache.size());
+        assertEquals(DexKitCache.TYPE_METHOD, cache.get("m").type);
+        assertEquals(DexKitCache.TYPE_CLASS, cache.get("c").type);
+        assertNull(cache.get("bad"));
+
+        cache.flush();
+        assertTrue(mCacheFile.exists());
+        assertFalse(mLegacyFile.exists());
+        assertEquals(2, DexKitCache.load(mCacheFile, mLegacyFile).size());
+    }
+
+    static void writeLegacyJson(File file, int version, String pkgVersion, String osVersion,
+                                Map<String, String[]> entries) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"version\":").append(version)
+            .append(",\"pkgVersion\":\"").append(pkgVersion)
+            .append("\",\"osVersion\":\"").append(osVersion)
+            .append("\",\"cache\":{");
+        boolean first = true;
+        for (Map.Entry<String, String[]> entry : entries.entrySet()) {
+            if (!first) json.append(',');
+            first = false;
+            json.append('"').append(entry.getKey()).append("\":{\"type\":\"").append(entry.getValue()[0])
+                .append("\",\"data\":[\"").append(entry.getValue()[1]).append("\"]}");
+        }
+        json.append("}}");
+        Files.write(file.toPath(), json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
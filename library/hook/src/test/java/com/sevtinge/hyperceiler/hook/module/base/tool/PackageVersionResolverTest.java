@@ -0,0 +1,221 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.module.base.tool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 使用测试中生成的二进制清单验证 {@link PackageVersionResolver#parseManifest}，覆盖 UTF-8 与 UTF-16 字符串池
+ */
+public class PackageVersionResolverTest {
+    private static final int ATTR_VERSION_CODE = 0x0101021b;
+    private static final int ATTR_VERSION_NAME = 0x0101021c;
+
+    private static final int TYPE_REFERENCE = 0x01;
+    private static final int TYPE_STRING = 0x03;
+    private static final int TYPE_INT_DEC = 0x10;
+    private static final int TYPE_INT_HEX = 0x11;
+
+    /**
+     * 清单根节点的一个属性
+     */
+    private record Attribute(int name, int rawValue, int dataType, int data) {
+    }
+
+    @Test
+    public void readsUtf16StringPool() {
+        List<String> strings = List.of("versionCode", "versionName", "manifest", "15.0.8.1-测试");
+        byte[] manifest = manifest(strings, false, new int[]{ATTR_VERSION_CODE, ATTR_VERSION_NAME},
+            new Attribute(0, -1, TYPE_INT_DEC, 150008001),
+            new Attribute(1, 3, TYPE_STRING, 3));
+
+        Object[] values = PackageVersionResolver.parseManifest(manifest);
+        assertEquals(150008001, values[0]);
+        assertEquals("15.0.8.1-测试", values[1]);
+    }
+
+    @Test
+    public void readsUtf8StringPool() {
+        List<String> strings = List.of("versionCode", "versionName", "manifest", "2.0 测试版");
+        byte[] manifest = manifest(strings, true, new int[]{ATTR_VERSION_CODE, ATTR_VERSION_NAME},
+            new Attribute(0, -1, TYPE_INT_HEX, 0x200),
+            new Attribute(1, 3, TYPE_STRING, 3));
+
+        Object[] values = PackageVersionResolver.parseManifest(manifest);
+        assertEquals(0x200, values[0]);
+        assertEquals("2.0 测试版", values[1]);
+    }
+
+    @Test
+    public void readsLongStrings() {
+        // UTF-8 长度超过 0x7f、UTF-16 长度超过 0x7fff 时使用两段长度
+        String utf8Name = "1.0-" + "a".repeat(300) + "测";
+        byte[] utf8 = manifest(List.of("versionCode", "versionName", "manifest", utf8Name), true,
+            new int[]{ATTR_VERSION_CODE, ATTR_VERSION_NAME}, new Attribute(1, 3, TYPE_STRING, 3));
+        assertEquals(utf8Name, PackageVersionResolver.parseManifest(utf8)[1]);
+
+        String utf16Name = "1.0-" + "b".repeat(0x8000);
+        byte[] utf16 = manifest(List.of("versionCode", "versionName", "manifest", utf16Name), false,
+            new int[]{ATTR_VERSION_CODE, ATTR_VERSION_NAME}, new Attribute(1, 3, TYPE_STRING, 3));
+        assertEquals(utf16Name, PackageVersionResolver.parseManifest(utf16)[1]);
+    }
+
+    @Test
+    public void matchesAttributeNamesWithoutResourceMap() {
+        // 没有资源映射时按属性名字符串匹配
+        List<String> strings = List.of("manifest", "versionCode", "versionName", "3.1");
+        byte[] manifest = manifest(strings, true, new int[0],
+            new Attribute(1, -1, TYPE_INT_DEC, 31),
+            new Attribute(2, 3, TYPE_STRING, 3));
+
+        Object[] values = PackageVersionResolver.parseManifest(manifest);
+        assertEquals(31, values[0]);
+        assertEquals("3.1", values[1]);
+    }
+
+    @Test
+    public void leavesReferencedVersionNameUnresolved() {
+        // 引用资源的 versionName 需要交给 PackageParser
+        List<String> strings = List.of("versionCode", "versionName", "manifest");
+        byte[] manifest = manifest(strings, false, new int[]{ATTR_VERSION_CODE, ATTR_VERSION_NAME},
+            new Attribute(0, -1, TYPE_INT_DEC, 7),
+            new Attribute(1, -1, TYPE_REFERENCE, 0x7f120001));
+
+        Object[] values = PackageVersionResolver.parseManifest(manifest);
+        assertEquals(7, values[0]);
+        assertNull(values[1]);
+    }
+
+    @Test
+    public void ignoresNonIntegerVersionCode() {
+        List<String> strings = List.of("versionCode", "versionName", "manifest", "12");
+        byte[] manifest = manifest(strings, true, new int[]{ATTR_VERSION_CODE, ATTR_VERSION_NAME},
+            new Attribute(0, 3, TYPE_STRING, 3));
+
+        Object[] values = PackageVersionResolver.parseManifest(manifest);
+        assertNull(values[0]);
+        assertNull(values[1]);
+    }
+
+    @Test
+    public void rejectsInvalidData() {
+        assertThrows(IllegalArgumentException.class,
+            () -> PackageVersionResolver.parseManifest("<manifest/>".getBytes(StandardCharsets.UTF_8)));
+
+        // 只有字符串池，没有任何元素
+        byte[] noElement = xml(stringPool(List.of("manifest"), true));
+        assertThrows(IllegalArgumentException.class, () -> PackageVersionResolver.parseManifest(noElement));
+    }
+
+    /*
+     * 按 ResXMLTree 的布局生成只含 <manifest> 根节点的二进制清单，字符串池中 "manifest" 之前的项与资源映射一一对应
+     */
+    private static byte[] manifest(List<String> strings, boolean utf8, int[] resourceIds, Attribute... attributes) {
+        return xml(stringPool(strings, utf8), resourceMap(resourceIds),
+            startElement(strings.indexOf("manifest"), attributes));
+    }
+
+    private static byte[] xml(byte[]... chunks) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (byte[] chunk : chunks) body.writeBytes(chunk);
+        return chunk(0x0003, new byte[0], body.toByteArray());
+    }
+
+    private static byte[] stringPool(List<String> strings, boolean utf8) {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        int[] offsets = new int[strings.size()];
+        for (int i = 0; i < strings.size(); i++) {
+            offsets[i] = data.size();
+            String s = strings.get(i);
+            if (utf8) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                writeUtf8Length(data, s.length());
+                writeUtf8Length(data, bytes.length);
+                data.writeBytes(bytes);
+                data.write(0);
+            } else {
+                ByteBuffer chars = buffer(4 + s.length() * 2 + 2);
+                if (s.length() > 0x7fff) {
+                    chars.putShort((short) (0x8000 | (s.length() >>> 16)));
+                }
+                chars.putShort((short) s.length());
+                for (int j = 0; j < s.length(); j++) chars.putChar(s.charAt(j));
+                chars.putShort((short) 0);
+                data.write(chars.array(), 0, chars.position());
+            }
+        }
+        while (data.size() % 4 != 0) data.write(0);
+
+        // stringCount, styleCount, flags, stringsStart, stylesStart
+        ByteBuffer header = buffer(20).putInt(strings.size()).putInt(0).putInt(utf8 ? 1 << 8 : 0)
+            .putInt(28 + offsets.length * 4).putInt(0);
+        ByteBuffer body = buffer(offsets.length * 4 + data.size());
+        for (int offset : offsets) body.putInt(offset);
+        body.put(data.toByteArray());
+        return chunk(0x0001, header.array(), body.array());
+    }
+
+    private static void writeUtf8Length(ByteArrayOutputStream out, int length) {
+        if (length > 0x7f) out.write(0x80 | (length >>> 8));
+        out.write(length & 0xff);
+    }
+
+    private static byte[] resourceMap(int[] resourceIds) {
+        ByteBuffer body = buffer(resourceIds.length * 4);
+        for (int id : resourceIds) body.putInt(id);
+        return chunk(0x0180, new byte[0], body.array());
+    }
+
+    private static byte[] startElement(int name, Attribute... attributes) {
+        // lineNumber, comment
+        ByteBuffer header = buffer(8).putInt(1).putInt(-1);
+        // ns, name, attributeStart, attributeSize, attributeCount, idIndex, classIndex, styleIndex
+        ByteBuffer body = buffer(20 + attributes.length * 20);
+        body.putInt(-1).putInt(name).putShort((short) 20).putShort((short) 20).putShort((short) attributes.length)
+            .putShort((short) 0).putShort((short) 0).putShort((short) 0);
+        for (Attribute attribute : attributes) {
+            body.putInt(-1).putInt(attribute.name()).putInt(attribute.rawValue())
+                .putShort((short) 8).put((byte) 0).put((byte) attribute.dataType()).putInt(attribute.data());
+        }
+        return chunk(0x0102, header.array(), body.array());
+    }
+
+    // ResChunk_header：type、headerSize、size，之后是类型特定的头部与内容
+    private static byte[] chunk(int type, byte[] extraHeader, byte[] body) {
+        int headerSize = 8 + extraHeader.length;
+        ByteBuffer chunk = buffer(headerSize + body.length);
+        chunk.putShort((short) type).putShort((short) headerSize).putInt(headerSize + body.length);
+        chunk.put(extraHeader).put(body);
+        return chunk.array();
+    }
+
+    private static ByteBuffer buffer(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.module.rules.systemframework.corepatch;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.cert.Certificate;
+
+/**
+ * 对比签名块读取与旧路径（打开 jar 并校验 v1 签名）取得证书的耗时，结果输出到标准输出
+ */
+public class ApkSigningBlockReaderBenchmark {
+    private static final int ROUNDS = 50;
+
+    private File mDir;
+
+    @Before
+    public void setUp() throws IOException {
+        mDir = Files.createTempDirectory("apk-signing-bench").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = mDir.listFiles();
+        if (files != null) for (File file : files) file.delete();
+        mDir.delete();
+    }
+
+    @Test
+    public void signingBlockVsV1Jar() throws Exception {
+        byte[] sample = SampleApk.resource(SampleApk.SAMPLE);
+        Certificate certificate = SampleApk.loadV1Certificates(SampleApk.write(mDir, "v1.apk", sample))[0];
+        File v2 = SampleApk.write(mDir, "v2.apk", SampleApk.withSigningBlock(sample, SampleApk.signingBlock(
+            ApkSigningBlockReader.V2_BLOCK_ID, SampleApk.v2Scheme(certificate))));
+        File v3 = SampleApk.write(mDir, "v3.apk", SampleApk.withSigningBlock(sample, SampleApk.signingBlock(
+            ApkSigningBlockReader.V3_BLOCK_ID, SampleApk.v3Scheme(certificate, 24, Integer.MAX_VALUE))));
+
+        // 预热
+        for (int i = 0; i < 10; i++) {
+            ApkSigningBlockReader.readSignerCertificates(v2, 34);
+            ApkSigningBlockReader.readSignerCertificates(v3, 34);
+            SampleApk.loadV1Certificates(v2);
+        }
+
+        long v2Nanos = 0;
+        long v3Nanos = 0;
+        long v1Nanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            assertEquals(certificate, ApkSigningBlockReader.readSignerCertificates(v2, 34)[0][0]);
+            v2Nanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            assertEquals(certificate, ApkSigningBlockReader.readSignerCertificates(v3, 34)[0][0]);
+            v3Nanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            assertEquals(certificate, SampleApk.loadV1Certificates(v2)[0]);
+            v1Nanos += System.nanoTime() - start;
+        }
+        System.out.printf("Signer certificates (%d KB apk): v2 block %.3f ms, v3 block %.3f ms, v1 jar %.3f ms%n",
+            v2.length() / 1024, v2Nanos / 1e6 / ROUNDS, v3Nanos / 1e6 / ROUNDS, v1Nanos / 1e6 / ROUNDS);
+    }
+}
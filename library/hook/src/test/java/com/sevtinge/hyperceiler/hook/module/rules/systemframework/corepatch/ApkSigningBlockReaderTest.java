@@ -0,0 +1,125 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.module.rules.systemframework.corepatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+
+/**
+ * 只有 v1 签名来自 jarsigner，v2/v3 签名块由 {@link SampleApk} 手工构造，
+ * 仅包含解析器读取的证书与 SDK 范围字段，摘要与签名均为空，不能代替 apksigner 签名的 APK。
+ */
+public class ApkSigningBlockReaderTest {
+    private File mDir;
+    private byte[] mSample;
+    private Certificate mV1Certificate;
+    private X509Certificate mRotated;
+
+    @Before
+    public void setUp() throws Exception {
+        mDir = Files.createTempDirectory("apk-signing-block").toFile();
+        mSample = SampleApk.resource(SampleApk.SAMPLE);
+        mV1Certificate = SampleApk.loadV1Certificates(SampleApk.write(mDir, "v1.apk", mSample))[0];
+        mRotated = SampleApk.rotatedCertificate();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = mDir.listFiles();
+        if (files != null) for (File file : files) file.delete();
+        mDir.delete();
+    }
+
+    private File apkWith(byte[] block) throws IOException {
+        return SampleApk.write(mDir, "signed.apk", SampleApk.withSigningBlock(mSample, block));
+    }
+
+    @Test
+    public void returnsNullWithoutSigningBlock() throws IOException {
+        assertNull(ApkSigningBlockReader.readSignerCertificates(new File(mDir, "v1.apk"), 34));
+    }
+
+    @Test
+    public void readsV2Signer() throws Exception {
+        File apk = apkWith(SampleApk.signingBlock(
+            ApkSigningBlockReader.V2_BLOCK_ID, SampleApk.v2Scheme(mV1Certificate)));
+
+        X509Certificate[][] signers = ApkSigningBlockReader.readSignerCertificates(apk, 34);
+        assertEquals(1, signers.length);
+        assertEquals(mV1Certificate, signers[0][0]);
+    }
+
+    @Test
+    public void prefersV2OverV3() throws Exception {
+        File apk = apkWith(SampleApk.signingBlock(
+            0x42726577, new byte[16], // 填充块
+            ApkSigningBlockReader.V3_BLOCK_ID, SampleApk.v3Scheme(mRotated, 24, Integer.MAX_VALUE),
+            ApkSigningBlockReader.V2_BLOCK_ID, SampleApk.v2Scheme(mV1Certificate)));
+
+        assertEquals(mV1Certificate, ApkSigningBlockReader.readSignerCertificates(apk, 34)[0][0]);
+    }
+
+    @Test
+    public void selectsV3SignerForSdkVersion() throws Exception {
+        File apk = apkWith(SampleApk.signingBlock(
+            ApkSigningBlockReader.V3_BLOCK_ID, SampleApk.v3Scheme(
+                mV1Certificate, 24, 32,
+                mRotated, 33, Integer.MAX_VALUE)));
+
+        X509Certificate[][] signers = ApkSigningBlockReader.readSignerCertificates(apk, 30);
+        assertEquals(1, signers.length);
+        assertEquals(mV1Certificate, signers[0][0]);
+
+        signers = ApkSigningBlockReader.readSignerCertificates(apk, 35);
+        assertEquals(1, signers.length);
+        assertEquals(mRotated, signers[0][0]);
+
+        assertNull(ApkSigningBlockReader.readSignerCertificates(apk, 23));
+    }
+
+    @Test
+    public void rejectsBlockSizeMismatch() throws Exception {
+        byte[] block = SampleApk.signingBlock(
+            ApkSigningBlockReader.V2_BLOCK_ID, SampleApk.v2Scheme(mV1Certificate));
+        block[0]++;
+        File apk = apkWith(block);
+
+        assertThrows(IOException.class, () -> ApkSigningBlockReader.readSignerCertificates(apk, 34));
+    }
+
+    @Test
+    public void rejectsTruncatedScheme() throws Exception {
+        byte[] scheme = SampleApk.v2Scheme(mV1Certificate);
+        scheme[0] = (byte) 0xff; // signers 长度超出数据
+        File apk = apkWith(SampleApk.signingBlock(ApkSigningBlockReader.V2_BLOCK_ID, scheme));
+
+        assertThrows(IOException.class, () -> ApkSigningBlockReader.readSignerCertificates(apk, 34));
+    }
+}
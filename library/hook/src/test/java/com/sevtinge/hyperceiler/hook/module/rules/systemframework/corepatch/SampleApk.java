@@ -0,0 +1,155 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.module.rules.systemframework.corepatch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * 以 jarsigner 生成的 v1 签名样本为基础，在中央目录前插入手工构造的 APK Signing Block
+ */
+final class SampleApk {
+    static final String SAMPLE = "sample-v1.apk";
+    static final String ROTATED_CERT = "rotated.pem";
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+
+    private SampleApk() {
+    }
+
+    static byte[] resource(String name) throws IOException {
+        try (InputStream input = SampleApk.class.getResourceAsStream(name)) {
+            if (input == null) throw new IOException("Missing test resource: " + name);
+            return input.readAllBytes();
+        }
+    }
+
+    static X509Certificate rotatedCertificate() throws IOException, CertificateException {
+        return (X509Certificate) CertificateFactory.getInstance("X.509")
+            .generateCertificate(SampleApk.class.getResourceAsStream(ROTATED_CERT));
+    }
+
+    static File write(File dir, String name, byte[] bytes) throws IOException {
+        File file = new File(dir, name);
+        Files.write(file.toPath(), bytes);
+        return file;
+    }
+
+    /**
+     * 旧路径：打开 jar 并校验 AndroidManifest.xml，从 v1 签名中取得证书
+     */
+    static Certificate[] loadV1Certificates(File apk) throws IOException {
+        try (JarFile jar = new JarFile(apk, true)) {
+            JarEntry entry = jar.getJarEntry("AndroidManifest.xml");
+            try (InputStream input = jar.getInputStream(entry)) {
+                input.transferTo(ByteArrayOutputStream.nullOutputStream());
+            }
+            return entry.getCertificates();
+        }
+    }
+
+    /**
+     * 在中央目录前插入签名块，并修正 EOCD 中的中央目录偏移
+     */
+    static byte[] withSigningBlock(byte[] apk, byte[] block) {
+        ByteBuffer buffer = ByteBuffer.wrap(apk).order(ByteOrder.LITTLE_ENDIAN);
+        int eocd = apk.length - 22;
+        while (buffer.getInt(eocd) != EOCD_SIGNATURE) eocd--;
+        int cdOffset = buffer.getInt(eocd + 16);
+
+        ByteBuffer out = ByteBuffer.allocate(apk.length + block.length).order(ByteOrder.LITTLE_ENDIAN);
+        out.put(apk, 0, cdOffset);
+        out.put(block);
+        out.put(apk, cdOffset, apk.length - cdOffset);
+        out.putInt(block.length + eocd + 16, cdOffset + block.length);
+        return out.array();
+    }
+
+    /**
+     * 构造 APK Signing Block，pairs 依次为 id 与对应的数据
+     */
+    static byte[] signingBlock(Object... pairs) {
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        for (int i = 0; i < pairs.length; i += 2) {
+            byte[] value = (byte[]) pairs[i + 1];
+            entries.writeBytes(le64(4 + value.length));
+            entries.writeBytes(le32((Integer) pairs[i]));
+            entries.writeBytes(value);
+        }
+        long size = entries.size() + 24L;
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        block.writeBytes(le64(size));
+        block.writeBytes(entries.toByteArray());
+        block.writeBytes(le64(size));
+        block.writeBytes("APK Sig Block 42".getBytes());
+        return block.toByteArray();
+    }
+
+    static byte[] v2Scheme(Certificate... signers) throws CertificateException {
+        ByteArrayOutputStream list = new ByteArrayOutputStream();
+        for (Certificate certificate : signers) {
+            byte[] signedData = concat(lp(new byte[0]), lp(lp(certificate.getEncoded())), lp(new byte[0]));
+            list.writeBytes(lp(concat(lp(signedData), lp(new byte[0]), lp(new byte[0]))));
+        }
+        return lp(list.toByteArray());
+    }
+
+    /**
+     * @param signers 依次为证书、minSdk、maxSdk
+     */
+    static byte[] v3Scheme(Object... signers) throws CertificateException {
+        ByteArrayOutputStream list = new ByteArrayOutputStream();
+        for (int i = 0; i < signers.length; i += 3) {
+            byte[] certificate = ((Certificate) signers[i]).getEncoded();
+            byte[] sdk = concat(le32((Integer) signers[i + 1]), le32((Integer) signers[i + 2]));
+            byte[] signedData = concat(lp(new byte[0]), lp(lp(certificate)), sdk, lp(new byte[0]));
+            list.writeBytes(lp(concat(lp(signedData), sdk, lp(new byte[0]), lp(new byte[0]))));
+        }
+        return lp(list.toByteArray());
+    }
+
+    private static byte[] lp(byte[] value) {
+        return concat(le32(value.length), value);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) out.writeBytes(part);
+        return out.toByteArray();
+    }
+
+    private static byte[] le32(int value) {
+        return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array();
+    }
+
+    private static byte[] le64(long value) {
+        return ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array();
+    }
+}
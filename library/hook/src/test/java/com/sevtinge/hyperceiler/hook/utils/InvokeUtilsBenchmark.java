@@ -0,0 +1,83 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * 对比 InvokeUtils 缓存查找与每次重新反射查找的耗时，结果输出到标准输出
+ */
+public class InvokeUtilsBenchmark {
+    private static final int CALLS = 200_000;
+    private static final int ROUNDS = 5;
+
+    @SuppressWarnings("unused")
+    private static final class Target {
+        private int mValue = 1;
+
+        private int add(int a, int b) {
+            return a + b + mValue;
+        }
+    }
+
+    private static final Class<?>[] PARAMS = {int.class, int.class};
+
+    @Test
+    public void cachedVsUncachedReflection() throws Exception {
+        Target target = new Target();
+
+        long cachedNanos = 0;
+        long uncachedNanos = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            long sum = 0;
+            for (int i = 0; i < CALLS; i++) {
+                int value = InvokeUtils.callMethod(Target.class, target, "add", PARAMS, i, 1);
+                int field = InvokeUtils.getField(Target.class, target, "mValue");
+                sum += value + field;
+            }
+            long cached = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long expected = 0;
+            for (int i = 0; i < CALLS; i++) {
+                // 旧实现：每次调用都重新查找并设置访问权限
+                Method method = Target.class.getDeclaredMethod("add", PARAMS);
+                method.setAccessible(true);
+                Field field = Target.class.getDeclaredField("mValue");
+                field.setAccessible(true);
+                expected += (int) method.invoke(target, i, 1) + (int) field.get(target);
+            }
+            long uncached = System.nanoTime() - start;
+            assertEquals(expected, sum);
+
+            // 第 0 轮作为预热
+            if (round == 0) continue;
+            cachedNanos += cached;
+            uncachedNanos += uncached;
+        }
+        System.out.printf("Reflection (%d x method + field): InvokeUtils %.1f ns, uncached %.1f ns%n",
+            CALLS, (double) cachedNanos / ROUNDS / CALLS, (double) uncachedNanos / ROUNDS / CALLS);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class InvokeUtilsTest {
+
+    @SuppressWarnings("unused")
+    private static final class Target {
+        private int mValue = 1;
+
+        private int add(int a, int b) {
+            return a + b + mValue;
+        }
+
+        private int add(long a, long b) {
+            return (int) (a + b);
+        }
+    }
+
+    @Test
+    public void distinguishesOverloads() {
+        Target target = new Target();
+
+        assertEquals(4, (int) InvokeUtils.callMethod(Target.class, target, "add",
+            new Class<?>[]{int.class, int.class}, 1, 2));
+        assertEquals(3, (int) InvokeUtils.callMethod(Target.class, target, "add",
+            new Class<?>[]{long.class, long.class}, 1L, 2L));
+    }
+
+    @Test
+    public void readsAndWritesFields() {
+        Target target = new Target();
+
+        assertEquals(1, (int) InvokeUtils.getField(Target.class, target, "mValue"));
+        InvokeUtils.setField(Target.class, target, "mValue", 5);
+        assertEquals(5, (int) InvokeUtils.getField(Target.class, target, "mValue"));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+/**
+ * 使用模拟 464XLAT 网络的 /proc/net/dev 样本验证 {@link TrafficSampler}
+ */
+public class TrafficSamplerTest {
+    private static final long SECOND_NANOS = 1_000_000_000L;
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream input = TrafficSamplerTest.class.getResourceAsStream(name)) {
+            return input.readAllBytes();
+        }
+    }
+
+    private static void update(TrafficSampler sampler, String fixture, long nowNanos) throws IOException {
+        byte[] bytes = fixture(fixture);
+        sampler.update(bytes, bytes.length, nowNanos);
+    }
+
+    @Test
+    public void countsOnlyPhysicalInterfaces() throws IOException {
+        TrafficSampler sampler = new TrafficSampler();
+        update(sampler, "proc_net_dev_464xlat_1.txt", SECOND_NANOS);
+
+        // rmnet_data0 + wlan0，clat 的 v4-rmnet_data0 已包含在 rmnet_data0 中
+        assertEquals(8_000_000L + 2_000_000L, sampler.getTotalRxBytes());
+        assertEquals(1_800_000L + 400_000L, sampler.getTotalTxBytes());
+        assertEquals(7, sampler.getInterfaceCount());
+    }
+
+    @Test
+    public void excludesStackedAndVirtualInterfaces() throws IOException {
+        TrafficSampler sampler = new TrafficSampler();
+        update(sampler, "proc_net_dev_464xlat_1.txt", SECOND_NANOS);
+
+        for (int slot = 0; slot < sampler.getInterfaceCount(); slot++) {
+            String name = sampler.getInterfaceName(slot);
+            boolean counted = name.equals("rmnet_data0") || name.equals("wlan0");
+            assertEquals(name, counted, sampler.isInterfaceCounted(slot));
+        }
+    }
+
+    @Test
+    public void ratesExcludeClatTraffic() throws IOException {
+        TrafficSampler sampler = new TrafficSampler();
+        update(sampler, "proc_net_dev_464xlat_1.txt", SECOND_NANOS);
+        assertEquals(0, sampler.getRxRate());
+
+        update(sampler, "proc_net_dev_464xlat_2.txt", 2 * SECOND_NANOS);
+        // 1 秒内 rmnet_data0 与 wlan0 共接收 1200000、发送 120000，平滑系数为 0.5
+        assertEquals(600_000L, sampler.getRxRate());
+        assertEquals(60_000L, sampler.getTxRate());
+    }
+
+    @Test
+    public void rereadsOpenFileOnEverySample() throws IOException {
+        File file = File.createTempFile("proc_net_dev", ".txt");
+        try (TrafficSampler sampler = new TrafficSampler(file.getPath())) {
+            Files.write(file.toPath(), fixture("proc_net_dev_464xlat_1.txt"));
+            assertTrue(sampler.sample());
+            assertEquals(8_000_000L + 2_000_000L, sampler.getTotalRxBytes());
+
+            // 原地覆写并截断，模拟 procfs 内容变化且长度变短
+            byte[] second = fixture("proc_net_dev_464xlat_2.txt");
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.write(second);
+                raf.setLength(second.length);
+            }
+            assertTrue(sampler.sample());
+            assertEquals(9_000_000L + 2_200_000L, sampler.getTotalRxBytes());
+            assertEquals(1_900_000L + 420_000L, sampler.getTotalTxBytes());
+
+            assertTrue(file.delete());
+            // 已打开的文件仍可读取，关闭后重新打开失败
+            assertTrue(sampler.sample());
+            sampler.close();
+            assertFalse(sampler.sample());
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void matchesInterfaceNamesByPrefix() {
+        assertTrue(TrafficSampler.isExcludedInterface("v4-wlan0"));
+        assertTrue(TrafficSampler.isExcludedInterface("clat4"));
+        assertTrue(TrafficSampler.isExcludedInterface("ipsec1"));
+        assertTrue(TrafficSampler.isExcludedInterface("rmnet_mhi0"));
+        assertFalse(TrafficSampler.isExcludedInterface("rmnet_data0"));
+        assertFalse(TrafficSampler.isExcludedInterface("wlan0"));
+        assertFalse(TrafficSampler.isExcludedInterface("ccmni0"));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.devicesdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 使用模拟的系统属性与 miui.os.Build 字段验证 {@link DeviceProfile#create}
+ */
+public class DeviceProfileTest {
+
+    // 与 PropUtils.getProp 一致，属性不存在时返回空字符串
+    private static DeviceProfile create(int sdkInt, Map<String, String> props, Set<String> trueFlags) {
+        return DeviceProfile.create(sdkInt, key -> props.getOrDefault(key, ""),
+            trueFlags == null ? null : trueFlags::contains);
+    }
+
+    @Test
+    public void readsHyperOSDevice() {
+        DeviceProfile profile = create(35, Map.of(
+            "ro.mi.os.version.incremental", "OS2.0.203.0.VOCCNXM",
+            "ro.system.build.version.incremental", "V816.0.25.0.VOCCNXM",
+            "ro.mi.os.version.code", "2"
+        ), Set.of("IS_PAD", "IS_TABLET"));
+
+        assertEquals(35, profile.getAndroidSdk());
+        assertEquals(2f, profile.getHyperOSVersion(), 0f);
+        assertEquals("OS2.0.203.0.VOCCNXM", profile.getSystemVersionIncremental());
+        assertEquals(203, profile.getSmallVersion());
+        assertTrue(profile.getHasMiuiBuild());
+        assertTrue(profile.isPad());
+        assertTrue(profile.isTablet());
+        assertFalse(profile.isFold());
+        assertFalse(profile.isInternationalBuild());
+    }
+
+    @Test
+    public void fallsBackToSystemIncremental() {
+        DeviceProfile profile = create(34, Map.of(
+            "ro.system.build.version.incremental", "V14.0.23.0.UMCCNXM",
+            "ro.mi.os.version.code", "1.1"
+        ), Set.of("IS_INTERNATIONAL_BUILD"));
+
+        assertEquals("V14.0.23.0.UMCCNXM", profile.getSystemVersionIncremental());
+        assertEquals(23, profile.getSmallVersion());
+        assertEquals(1.1f, profile.getHyperOSVersion(), 0f);
+        assertTrue(profile.isInternationalBuild());
+    }
+
+    @Test
+    public void defaultsForNonXiaomiDevice() {
+        DeviceProfile profile = create(36, Map.of(
+            "ro.system.build.version.incremental", "eng.builder"
+        ), null);
+
+        assertEquals(36, profile.getAndroidSdk());
+        assertEquals(0f, profile.getHyperOSVersion(), 0f);
+        assertEquals(0, profile.getSmallVersion());
+        assertFalse(profile.getHasMiuiBuild());
+        assertFalse(profile.isTablet());
+        assertFalse(profile.isPad());
+        assertFalse(profile.isFold());
+        assertFalse(profile.isInternationalBuild());
+    }
+
+    @Test
+    public void toleratesMalformedVersions() {
+        DeviceProfile profile = create(35, Map.of(
+            "ro.mi.os.version.incremental", "OS2.0.dev.0",
+            "ro.mi.os.version.code", "unknown"
+        ), Set.of());
+
+        assertEquals(0, profile.getSmallVersion());
+        assertEquals(0f, profile.getHyperOSVersion(), 0f);
+        assertTrue(profile.getHasMiuiBuild());
+        assertFalse(profile.isPad());
+
+        assertEquals(0, create(35, Map.of(), Set.of()).getSmallVersion());
+        assertEquals("", create(35, Map.of(), Set.of()).getSystemVersionIncremental());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.prefs;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * 对比 PrefKey 与 PrefsMap 按字符串读取的耗时，结果输出到标准输出
+ */
+public class PrefKeyBenchmark {
+    private static final int KEYS = 200;
+    private static final int READS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    @After
+    public void tearDown() {
+        PrefsUtils.mPrefsMap.clear();
+    }
+
+    @Test
+    public void readPrefKeyVsPrefsMap() {
+        PrefsMap<String, Object> prefs = PrefsUtils.mPrefsMap;
+        for (int i = 0; i < KEYS; i++) {
+            prefs.put("prefs_key_bench_bool_" + i, i % 2 == 0);
+            prefs.put("prefs_key_bench_int_" + i, i);
+        }
+        prefs.put("prefs_key_bench_bool", true);
+        prefs.put("prefs_key_bench_int", 42);
+        PrefKey bool = PrefKey.bool("bench_bool");
+        PrefKey integer = PrefKey.integer("bench_int", 0);
+
+        long mapNanos = 0;
+        long keyNanos = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            long sum = 0;
+            for (int i = 0; i < READS; i++) {
+                if (prefs.getBoolean("bench_bool")) sum += prefs.getInt("bench_int", 0);
+            }
+            long map = System.nanoTime() - start;
+            assertEquals(42L * READS, sum);
+
+            start = System.nanoTime();
+            sum = 0;
+            for (int i = 0; i < READS; i++) {
+                if (bool.getBoolean()) sum += integer.getInt();
+            }
+            long key = System.nanoTime() - start;
+            assertEquals(42L * READS, sum);
+
+            // 第 0 轮作为预热
+            if (round == 0) continue;
+            mapNanos += map;
+            keyNanos += key;
+        }
+        System.out.printf("Pref read (%d x boolean + int): PrefsMap %.2f ns, PrefKey %.2f ns%n",
+            READS, (double) mapNanos / ROUNDS / READS, (double) keyNanos / ROUNDS / READS);
+    }
+}
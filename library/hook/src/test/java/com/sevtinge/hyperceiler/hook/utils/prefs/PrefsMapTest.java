@@ -0,0 +1,102 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.prefs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class PrefsMapTest {
+    private static final PrefsMap<String, Object> sPrefs = PrefsUtils.mPrefsMap;
+
+    @After
+    public void tearDown() {
+        sPrefs.clear();
+    }
+
+    @Test
+    public void handleFallsBackToDefault() {
+        PrefKey bool = PrefKey.bool("test_default_bool");
+        PrefKey integer = PrefKey.integer("test_default_int", 7);
+        PrefKey string = PrefKey.string("test_default_string", "def");
+
+        assertFalse(bool.getBoolean());
+        assertEquals(7, integer.getInt());
+        assertEquals("def", string.getString());
+    }
+
+    @Test
+    public void putAndRemoveRefreshSlots() {
+        PrefKey bool = PrefKey.bool("test_put_bool");
+
+        sPrefs.put("prefs_key_test_put_bool", true);
+        assertTrue(bool.getBoolean());
+        sPrefs.remove("prefs_key_test_put_bool");
+        assertFalse(bool.getBoolean());
+    }
+
+    @Test
+    public void defaultMethodsRefreshSlots() {
+        PrefKey integer = PrefKey.integer("test_mutate_int", 0);
+        String key = integer.getKey();
+
+        sPrefs.putIfAbsent(key, 1);
+        assertEquals(1, integer.getInt());
+        sPrefs.replace(key, 2);
+        assertEquals(2, integer.getInt());
+        sPrefs.replace(key, 2, 3);
+        assertEquals(3, integer.getInt());
+        sPrefs.compute(key, (k, v) -> (Integer) v + 1);
+        assertEquals(4, integer.getInt());
+        sPrefs.computeIfPresent(key, (k, v) -> (Integer) v + 1);
+        assertEquals(5, integer.getInt());
+        sPrefs.merge(key, 10, (a, b) -> (Integer) a + (Integer) b);
+        assertEquals(15, integer.getInt());
+        sPrefs.replaceAll((k, v) -> k.equals(key) ? 20 : v);
+        assertEquals(20, integer.getInt());
+        sPrefs.remove(key, 20);
+        assertEquals(0, integer.getInt());
+        sPrefs.computeIfAbsent(key, k -> 30);
+        assertEquals(30, integer.getInt());
+    }
+
+    @Test
+    public void stringAsIntFallsBackOnBadValue() {
+        PrefKey style = PrefKey.stringAsInt("test_style", 2);
+
+        sPrefs.put(style.getKey(), "1");
+        assertEquals(1, style.getInt());
+        sPrefs.put(style.getKey(), "bad");
+        assertEquals(2, style.getInt());
+    }
+
+    @Test
+    public void putAllFromAnotherMapRefreshesSlots() {
+        PrefKey flag = PrefKey.bool("test_copy_flag");
+        PrefsMap<String, Object> other = new PrefsMap<>();
+        other.put(flag.getKey(), true);
+
+        sPrefs.putAll(other);
+        assertTrue(flag.getBoolean());
+        assertEquals(other, sPrefs);
+    }
+}
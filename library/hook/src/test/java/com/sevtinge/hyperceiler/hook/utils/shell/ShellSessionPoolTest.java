@@ -0,0 +1,119 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.shell;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ShellSessionPoolTest {
+    private ShellSessionPool mPool;
+
+    @Before
+    public void setUp() {
+        assumeTrue(new File("/bin/sh").canExecute());
+        mPool = new ShellSessionPool(2, 10_000, "sh");
+    }
+
+    @After
+    public void tearDown() {
+        if (mPool != null) mPool.closeIdle();
+    }
+
+    @Test
+    public void reusesIdleSession() {
+        String pid = mPool.exec("echo $$", false, 5000).successMsg;
+
+        assertEquals(pid, mPool.exec("echo $$", false, 5000).successMsg);
+        assertEquals(1, mPool.getIdleCount());
+    }
+
+    @Test
+    public void closesSessionsAfterIdleTimeout() throws InterruptedException {
+        mPool = new ShellSessionPool(2, 100, "sh");
+        mPool.exec("true", false, 5000);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (mPool.getIdleCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(0, mPool.getIdleCount());
+
+        // 关闭后仍可继续使用
+        assertEquals("ok", mPool.exec("echo ok", false, 5000).successMsg);
+    }
+
+    @Test
+    public void limitsConcurrentSessions() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> mPool.exec("sleep 0.2; echo $$", false, 5000).successMsg));
+            }
+            ArrayList<String> pids = new ArrayList<>();
+            for (Future<String> future : futures) {
+                String pid = future.get();
+                if (!pids.contains(pid)) pids.add(pid);
+            }
+            assertEquals(2, pids.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void idleSessionsDoNotBlockStreaming() throws Exception {
+        // 与 root()、shell() 相同，两个池各自占满会话后仍可以流式执行命令
+        ShellSessionPool other = new ShellSessionPool(2, 10_000, "sh");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ShellSessionPool pool : List.of(mPool, other)) {
+                for (int i = 0; i < 2; i++) {
+                    futures.add(executor.submit(() -> pool.exec("sleep 0.2", false, 5000)));
+                }
+            }
+            for (Future<?> future : futures) future.get();
+            assertEquals(2, mPool.getIdleCount());
+            assertEquals(2, other.getIdleCount());
+
+            List<String> lines = new ArrayList<>();
+            int result = ShellUtils.execCommandStreaming(new String[]{"echo out", "echo err >&2"}, false, 5000, 0,
+                (line, isError) -> lines.add(line));
+            assertEquals(0, result);
+            assertEquals(2, lines.size());
+            assertTrue(lines.containsAll(List.of("out", "err")));
+        } finally {
+            executor.shutdownNow();
+            other.closeIdle();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.shell;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * 使用本机 /bin/sh 验证会话的输出分隔、返回值、超时与重建
+ */
+public class ShellSessionTest {
+    private ShellSession mSession;
+
+    @Before
+    public void setUp() {
+        assumeTrue(new File("/bin/sh").canExecute());
+        mSession = new ShellSession("sh");
+    }
+
+    @After
+    public void tearDown() {
+        if (mSession != null) mSession.close();
+    }
+
+    @Test
+    public void framesOutputOfEachCommand() {
+        List<ShellUtils.CommandResult> results = mSession.execAll(List.of(
+            "echo first; echo second",
+            "printf 'no newline'",
+            "echo out; echo err >&2",
+            "true"
+        ), false, 5000);
+
+        assertEquals(4, results.size());
+        assertEquals("first\nsecond", results.get(0).successMsg);
+        assertEquals("no newline", results.get(1).successMsg);
+        assertEquals("out", results.get(2).successMsg);
+        assertEquals("err", results.get(2).errorMsg);
+        assertEquals("", results.get(3).successMsg);
+        assertEquals("", results.get(3).errorMsg);
+    }
+
+    @Test
+    public void mergesErrorIntoOutput() {
+        ShellUtils.CommandResult result = mSession.exec("echo out; echo err >&2", true, 5000);
+
+        assertEquals(0, result.result);
+        assertEquals("out\nerr", result.successMsg);
+    }
+
+    @Test
+    public void returnsExitCodeOfEachCommand() {
+        List<ShellUtils.CommandResult> results = mSession.execAll(List.of(
+            "exit 3", "false", "echo ok"
+        ), false, 5000);
+
+        assertEquals(3, results.get(0).result);
+        assertEquals(1, results.get(1).result);
+        assertEquals(0, results.get(2).result);
+        assertEquals("ok", results.get(2).successMsg);
+        assertTrue(mSession.isAlive());
+    }
+
+    @Test
+    public void commandDoesNotReadFollowingInput() {
+        List<ShellUtils.CommandResult> results = mSession.execAll(List.of(
+            "cat", "echo after"
+        ), false, 5000);
+
+        assertEquals(0, results.get(0).result);
+        assertEquals("after", results.get(1).successMsg);
+    }
+
+    @Test
+    public void respawnsAfterTimeout() {
+        long start = System.nanoTime();
+        ShellUtils.CommandResult result = mSession.exec("sleep 10", false, 300);
+
+        assertEquals(-1, result.result);
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 5000);
+        assertFalse(mSession.isAlive());
+
+        result = mSession.exec("echo again", false, 5000);
+        assertEquals(0, result.result);
+        assertEquals("again", result.successMsg);
+    }
+
+    @Test
+    public void respawnsAfterShellExits() {
+        // 子 shell 中的 $$ 仍为会话 shell 本身
+        List<ShellUtils.CommandResult> results = mSession.execAll(List.of(
+            "kill -9 $$", "echo skipped"
+        ), false, 5000);
+
+        assertEquals(-1, results.get(0).result);
+        assertEquals(-1, results.get(1).result);
+
+        ShellUtils.CommandResult result = mSession.exec("echo again", false, 5000);
+        assertEquals(0, result.result);
+        assertEquals("again", result.successMsg);
+    }
+
+    private static int countReaderThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && thread.getName().startsWith("HyperCeiler-shell-")) count++;
+        }
+        return count;
+    }
+
+    @Test
+    public void releasesReadersAfterTimeout() throws InterruptedException {
+        int before = countReaderThreads();
+        // 后台的 sleep 在 shell 被销毁后仍持有管道
+        ShellUtils.CommandResult result = mSession.exec("sleep 10 & sleep 10", false, 300);
+        assertEquals(-1, result.result);
+
+        long deadline = System.currentTimeMillis() + 3000;
+        while (countReaderThreads() > before && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(before, countReaderThreads());
+    }
+}
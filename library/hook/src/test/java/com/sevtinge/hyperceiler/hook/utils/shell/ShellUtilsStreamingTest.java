@@ -0,0 +1,110 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.sevtinge.hyperceiler.hook.utils.shell;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 使用本机 /bin/sh 验证 {@link ShellUtils#execCommandStreaming}
+ */
+public class ShellUtilsStreamingTest {
+    private final List<String> mOut = new ArrayList<>();
+    private final List<String> mErr = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        assumeTrue(new File("/bin/sh").canExecute());
+    }
+
+    private boolean collect(String line, boolean isError) {
+        (isError ? mErr : mOut).add(line);
+        return true;
+    }
+
+    @Test
+    public void streamsStdoutAndStderr() {
+        int result = ShellUtils.execCommandStreaming(new String[]{
+            "echo first", "echo oops >&2", "echo second"
+        }, false, 5000, 0, this::collect);
+
+        assertEquals(0, result);
+        assertEquals(List.of("first", "second"), mOut);
+        assertEquals(List.of("oops"), mErr);
+    }
+
+    @Test
+    public void returnsExitCodeOfShell() {
+        assertEquals(3, ShellUtils.execCommandStreaming(new String[]{"exit 3"}, false, 5000, 0, this::collect));
+    }
+
+    @Test
+    public void drainsLargeOutputOnBothStreams() {
+        int result = ShellUtils.execCommandStreaming(new String[]{
+            "i=0; while [ $i -lt 20000 ]; do echo line$i; echo err$i >&2; i=$((i+1)); done"
+        }, false, 30_000, 0, this::collect);
+
+        assertEquals(0, result);
+        assertEquals(20000, mOut.size());
+        assertEquals(20000, mErr.size());
+        assertEquals("line19999", mOut.get(19999));
+    }
+
+    @Test
+    public void stopsWhenListenerReturnsFalse() {
+        int result = ShellUtils.execCommandStreaming(new String[]{
+            "echo one; echo two; sleep 10; echo three"
+        }, false, 1000, 0, (line, isError) -> {
+            mOut.add(line);
+            return mOut.size() < 2;
+        });
+
+        assertEquals(-1, result);
+        assertEquals(List.of("one", "two"), mOut);
+    }
+
+    @Test
+    public void stopsWhenOutputExceedsLimit() {
+        long start = System.currentTimeMillis();
+        int result = ShellUtils.execCommandStreaming(new String[]{
+            "while true; do echo 0123456789; done"
+        }, false, 10_000, 1024, this::collect);
+
+        assertEquals(-1, result);
+        assertTrue(mOut.size() <= 1024 / 11 + 1);
+        assertTrue(System.currentTimeMillis() - start < 10_000);
+    }
+
+    @Test
+    public void killsCommandAfterTimeout() {
+        long start = System.currentTimeMillis();
+        int result = ShellUtils.execCommandStreaming(new String[]{"sleep 10"}, false, 300, 0, this::collect);
+
+        assertEquals(-1, result);
+        assertTrue(System.currentTimeMillis() - start < 5000);
+    }
+}
@@ -11,4 +11,6 @@ java {
 dependencies {
     implementation(libs.auto.service)
     annotationProcessor(libs.auto.service)
+
+    testImplementation(libs.junit)
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.hchen.database;
+
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.source.util.Trees;
+
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * 检查 initHook(new SomeHook(), isInit) 与 initHook(SomeHook.INSTANCE, isInit) 形式的调用
+ * <p>
+ * 该写法无论开关是否启用都会构造 Hook（或读取 Kotlin object 的 INSTANCE 触发类初始化），
+ * 应改为 initHook(SomeHook::new, isInit) 或 initHook(() -> SomeHook.INSTANCE, isInit)
+ */
+final class EagerInitHookChecker {
+    private final Trees mTrees;
+
+    private EagerInitHookChecker(Trees trees) {
+        mTrees = trees;
+    }
+
+    static EagerInitHookChecker create(ProcessingEnvironment processingEnv) {
+        try {
+            return new EagerInitHookChecker(Trees.instance(processingEnv));
+        } catch (Throwable e) {
+            // 非 javac 编译环境，无法获取语法树
+            return null;
+        }
+    }
+
+    void check(TypeElement element) {
+        TreePath path = mTrees.getPath(element);
+        if (path == null) return;
+
+        new TreePathScanner<Void, Void>() {
+            @Override
+            public Void visitMethodInvocation(MethodInvocationTree node, Void unused) {
+                if (isEagerInitHook(node)) {
+                    ExpressionTree hook = node.getArguments().get(0);
+                    String fix = hook.getKind() == Tree.Kind.NEW_CLASS ? "a constructor reference" : "() -> " + hook;
+                    mTrees.printMessage(Diagnostic.Kind.WARNING,
+                        "Eager initHook: " + hook + " is initialized even when disabled, use " + fix + " instead.",
+                        node, getCurrentPath().getCompilationUnit());
+                }
+                return super.visitMethodInvocation(node, unused);
+            }
+        }.scan(path, null);
+    }
+
+    private static boolean isEagerInitHook(MethodInvocationTree node) {
+        if (!"initHook".equals(methodName(node.getMethodSelect()))) return false;
+
+        List<? extends ExpressionTree> args = node.getArguments();
+        if (args.size() < 2) return false;
+        if (!isEagerHook(args.get(0))) return false;
+
+        // 始终启用的 Hook 无需延迟构造
+        ExpressionTree isInit = args.get(1);
+        return !(isInit.getKind() == Tree.Kind.BOOLEAN_LITERAL && Boolean.TRUE.equals(((LiteralTree) isInit).getValue()));
+    }
+
+    private static boolean isEagerHook(ExpressionTree hook) {
+        if (hook.getKind() == Tree.Kind.NEW_CLASS) {
+            return ((NewClassTree) hook).getClassBody() == null;
+        }
+        // Kotlin object 的单例字段
+        return hook.getKind() == Tree.Kind.MEMBER_SELECT
+            && "INSTANCE".contentEquals(((MemberSelectTree) hook).getIdentifier());
+    }
+
+    private static String methodName(ExpressionTree select) {
+        if (select instanceof IdentifierTree identifier) return identifier.getName().toString();
+        if (select instanceof MemberSelectTree memberSelect) return memberSelect.getIdentifier().toString();
+        return null;
+    }
+}
@@ -22,7 +22,12 @@ import com.google.auto.service.AutoService;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 
 import javax.annotation.processing.AbstractProcessor;
@@ -47,6 +52,30 @@ public class HookBaseProcessor extends AbstractProcessor {
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         ++count;
         if (count > 1) return true;
+
+        // 按作用域分组，组内按类名排序，保证生成结果稳定
+        TreeMap<String, List<Entry>> packageMap = new TreeMap<>();
+        List<Entry> entries = new ArrayList<>();
+        EagerInitHookChecker checker = EagerInitHookChecker.create(processingEnv);
+        roundEnv.getElementsAnnotatedWith(HookBase.class).forEach(new Consumer<Element>() {
+            @Override
+            public void accept(Element element) {
+                if (!(element instanceof TypeElement typeElement)) {
+                    System.out.println("W: Full class name is null!!!");
+                    return;
+                }
+                HookBase hookBase = element.getAnnotation(HookBase.class);
+                Entry entry = new Entry(typeElement.getQualifiedName().toString(), hookBase.targetPackage(),
+                    hookBase.targetSdk(), hookBase.targetOSVersion(), hookBase.isPad());
+                entries.add(entry);
+                if (checker != null) checker.check(typeElement);
+                packageMap.computeIfAbsent(entry.targetPackage, k -> new ArrayList<>()).add(entry);
+            }
+        });
+        entries.sort(Comparator.comparing((Entry e) -> e.targetPackage).thenComparing(e -> e.className));
+        for (int i = 0; i < entries.size(); i++) entries.get(i).index = i;
+        packageMap.values().forEach(list -> list.sort(Comparator.comparingInt(e -> e.index)));
+
         try (Writer writer = processingEnv.getFiler().createSourceFile("com.sevtinge.hyperceiler.module.base.DataBase").openWriter()) {
             writer.write("""
                     /*
@@ -69,56 +98,76 @@ public class HookBaseProcessor extends AbstractProcessor {
                     */
                     package com.sevtinge.hyperceiler.module.base;
 
-                    import java.util.HashMap;
+                    import com.sevtinge.hyperceiler.hook.module.base.BaseModule;
+
+                    import java.util.List;
+                    import java.util.Map;
 
                     /**
-                     * 注解处理器自动生成的 Map 图
+                     * 注解处理器自动生成的作用域索引
+                     * <p>
+                     * 以目标作用域为键，每个进程只需查找一次；模块通过 {@link #newInstance()} 直接构造，无需反射
                      *
                      * @author 焕晨HChen
                      */
-                    public class DataBase {
-                        public String mTargetPackage;
-                        public int mTargetSdk;
-                        public float mTargetOSVersion;
-                        public int isPad;
-
-                        public DataBase(String targetPackage, int targetSdk, float targetOSVersion, int isPad){
+                    public final class DataBase {
+                        public final String mClassName;
+                        public final String mTargetPackage;
+                        public final int mTargetSdk;
+                        public final float mTargetOSVersion;
+                        public final int isPad;
+                        private final int mIndex;
+
+                        private DataBase(int index, String className, String targetPackage, int targetSdk, float targetOSVersion, int isPad) {
+                            this.mIndex = index;
+                            this.mClassName = className;
                             this.mTargetPackage = targetPackage;
                             this.mTargetSdk = targetSdk;
                             this.mTargetOSVersion = targetOSVersion;
                             this.isPad = isPad;
                         }
 
-                        public static HashMap<String, DataBase> get() {
-                            HashMap<String, DataBase> dataMap = new HashMap<>();
                     """);
-            roundEnv.getElementsAnnotatedWith(HookBase.class).forEach(new Consumer<Element>() {
-                @Override
-                public void accept(Element element) {
-                    String fullClassName = null;
-                    if (element instanceof TypeElement typeElement) {
-                        fullClassName = typeElement.getQualifiedName().toString();
-                        // System.out.println("Full class name: " + fullClassName);
-                    }
-                    if (fullClassName == null) {
-                        System.out.println("W: Full class name is null!!!");
-                    }
-                    HookBase hookBase = element.getAnnotation(HookBase.class);
-                    String targetPackage = hookBase.targetPackage();
-                    int targetSdk = hookBase.targetSdk();
-                    float targetOSVersion = hookBase.targetOSVersion();
-                    int isPad = hookBase.isPad();
-                    try {
-                        writer.write("        ");
-                        writer.write("dataMap.put(\"" + fullClassName + "\", new DataBase(\"" + targetPackage + "\", "
-                                + targetSdk + ", " + targetOSVersion + "F, " + isPad + "));\n");
-                    } catch (IOException e) {
-                        e.printStackTrace();
-                    }
+            writer.write("    private static final Map<String, List<DataBase>> INDEX = Map.ofEntries(\n");
+            int pkgCount = 0;
+            for (Map.Entry<String, List<Entry>> pkgEntry : packageMap.entrySet()) {
+                writer.write("        Map.entry(\"" + pkgEntry.getKey() + "\", List.of(\n");
+                List<Entry> list = pkgEntry.getValue();
+                for (int i = 0; i < list.size(); i++) {
+                    Entry entry = list.get(i);
+                    writer.write("            new DataBase(" + entry.index + ", \"" + entry.className + "\", \""
+                        + entry.targetPackage + "\", " + entry.targetSdk + ", " + entry.targetOSVersion + "F, "
+                        + entry.isPad + ")" + (i == list.size() - 1 ? "" : ",") + "\n");
                 }
-            });
+                writer.write("        ))" + (++pkgCount == packageMap.size() ? "" : ",") + "\n");
+            }
             writer.write("""
-                            return dataMap;
+                        );
+
+                        /**
+                         * 获取目标作用域下的全部模块，不存在时返回空列表
+                         */
+                        public static List<DataBase> get(String targetPackage) {
+                            List<DataBase> list = INDEX.get(targetPackage);
+                            return list == null ? List.of() : list;
+                        }
+
+                        /**
+                         * 获取全部作用域索引（不可变）
+                         */
+                        public static Map<String, List<DataBase>> getAll() {
+                            return INDEX;
+                        }
+
+                        public BaseModule newInstance() {
+                            return switch (mIndex) {
+                    """);
+            for (Entry entry : entries) {
+                writer.write("            case " + entry.index + " -> new " + entry.className + "();\n");
+            }
+            writer.write("""
+                                default -> throw new IllegalStateException("Unknown module: " + mClassName);
+                            };
                         }
                     }
                     """);
@@ -128,6 +177,23 @@ public class HookBaseProcessor extends AbstractProcessor {
         return true;
     }
 
+    private static final class Entry {
+        final String className;
+        final String targetPackage;
+        final int targetSdk;
+        final float targetOSVersion;
+        final int isPad;
+        int index;
+
+        Entry(String className, String targetPackage, int targetSdk, float targetOSVersion, int isPad) {
+            this.className = className;
+            this.targetPackage = targetPackage;
+            this.targetSdk = targetSdk;
+            this.targetOSVersion = targetOSVersion;
+            this.isPad = isPad;
+        }
+    }
+
     /*
      ________  ___  ___   ________   ________       ___    ___
     |\  _____\|\  \|\  \ |\   __  \ |\   __  \     |\  \  /  /|
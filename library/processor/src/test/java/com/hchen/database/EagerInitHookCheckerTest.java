@@ -0,0 +1,89 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.hchen.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+public class EagerInitHookCheckerTest {
+    private TestCompilation mCompilation;
+
+    @Before
+    public void setUp() throws IOException {
+        mCompilation = new TestCompilation();
+        mCompilation
+            .source(TestCompilation.BASE_MODULE, """
+                public abstract class BaseModule {
+                    public void initHook(Object hook, boolean isInit) {}
+                    public void initHook(java.util.function.Supplier<?> hook, boolean isInit) {}
+                }""")
+            .source("com.example.SomeHook", "public class SomeHook {}")
+            .source("com.example.SomeObject", """
+                public final class SomeObject {
+                    public static final SomeObject INSTANCE = new SomeObject();
+                }""");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mCompilation.close();
+    }
+
+    @Test
+    public void flagsConditionalConstruction() throws Exception {
+        List<String> warnings = compileModule("initHook(new SomeHook(), isInit());");
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.get(0), warnings.get(0).contains("new SomeHook()"));
+        assertTrue(warnings.get(0), warnings.get(0).contains("constructor reference"));
+    }
+
+    @Test
+    public void flagsConditionalObjectInstance() throws Exception {
+        List<String> warnings = compileModule("initHook(SomeObject.INSTANCE, isInit());");
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.get(0), warnings.get(0).contains("() -> SomeObject.INSTANCE"));
+    }
+
+    @Test
+    public void ignoresLazyAndAlwaysEnabledHooks() throws Exception {
+        List<String> warnings = compileModule("""
+            initHook(SomeHook::new, isInit());
+            initHook(() -> SomeObject.INSTANCE, isInit());
+            initHook(new SomeHook(), true);
+            initHook(SomeObject.INSTANCE, true);
+            initHook(new Object() {}, isInit());""");
+        assertTrue(warnings.toString(), warnings.isEmpty());
+    }
+
+    private List<String> compileModule(String body) throws IOException {
+        mCompilation.module("com.example.Module", "@HookBase(targetPackage = \"com.example\")", """
+            private boolean isInit() { return false; }
+            public void handleLoadPackage() {
+            """ + body + "\n}");
+        mCompilation.compile();
+        return mCompilation.warnings().stream().filter(w -> w.startsWith("Eager initHook")).toList();
+    }
+}
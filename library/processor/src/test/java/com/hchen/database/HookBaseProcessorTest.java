@@ -0,0 +1,91 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.hchen.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 以示例模块运行 {@link HookBaseProcessor}，检查生成的作用域索引
+ */
+public class HookBaseProcessorTest {
+    private TestCompilation mCompilation;
+
+    @Before
+    public void setUp() throws IOException {
+        mCompilation = new TestCompilation();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mCompilation.close();
+    }
+
+    @Test
+    public void groupsModulesByTargetPackage() throws Exception {
+        ClassLoader loader = mCompilation
+            .source(TestCompilation.BASE_MODULE, "public abstract class BaseModule {}")
+            .module("com.example.ModuleB", "@HookBase(targetPackage = \"com.example.a\", targetSdk = 35)", "")
+            .module("com.example.ModuleA", "@HookBase(targetPackage = \"com.example.a\", targetOSVersion = 2.0F, isPad = 2)", "")
+            .module("com.example.ModuleC", "@HookBase(targetPackage = \"com.example.b\", isPad = 1)", "")
+            .compile();
+        Class<?> dataBase = loader.loadClass("com.sevtinge.hyperceiler.module.base.DataBase");
+        Method get = dataBase.getMethod("get", String.class);
+        Method newInstance = dataBase.getMethod("newInstance");
+
+        List<?> a = (List<?>) get.invoke(null, "com.example.a");
+        assertEquals(2, a.size());
+        assertEquals("com.example.ModuleA", field(dataBase, a.get(0), "mClassName"));
+        assertEquals("com.example.ModuleB", field(dataBase, a.get(1), "mClassName"));
+        assertEquals(-1, field(dataBase, a.get(0), "mTargetSdk"));
+        assertEquals(2.0F, field(dataBase, a.get(0), "mTargetOSVersion"));
+        assertEquals(2, field(dataBase, a.get(0), "isPad"));
+        assertEquals(35, field(dataBase, a.get(1), "mTargetSdk"));
+        assertEquals(-1F, field(dataBase, a.get(1), "mTargetOSVersion"));
+
+        List<?> b = (List<?>) get.invoke(null, "com.example.b");
+        assertEquals(1, b.size());
+        assertEquals(1, field(dataBase, b.get(0), "isPad"));
+
+        // 每个条目都构造出对应的模块
+        for (Object entry : List.of(a.get(0), a.get(1), b.get(0))) {
+            Object module = newInstance.invoke(entry);
+            assertEquals(field(dataBase, entry, "mClassName"), module.getClass().getName());
+        }
+
+        assertTrue(((List<?>) get.invoke(null, "com.example.none")).isEmpty());
+        Map<?, ?> all = (Map<?, ?>) dataBase.getMethod("getAll").invoke(null);
+        assertEquals(2, all.size());
+        assertSame(a, all.get("com.example.a"));
+    }
+
+    private static Object field(Class<?> clazz, Object target, String name) throws ReflectiveOperationException {
+        return clazz.getField(name).get(target);
+    }
+}
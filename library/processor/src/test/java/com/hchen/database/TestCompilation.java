@@ -0,0 +1,114 @@
+/*
+ * This file is part of HyperCeiler.
+
+ * HyperCeiler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License.
+
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+ * Copyright (C) 2023-2026 HyperCeiler Contributions
+ */
+package com.hchen.database;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * 在临时目录中编译示例源码并运行 {@link HookBaseProcessor}
+ */
+final class TestCompilation implements Closeable {
+    static final String BASE_MODULE = "com.sevtinge.hyperceiler.hook.module.base.BaseModule";
+
+    private final Path mRoot;
+    private final List<Path> mSources = new ArrayList<>();
+    private final List<Diagnostic<? extends JavaFileObject>> mDiagnostics = new ArrayList<>();
+
+    TestCompilation() throws IOException {
+        mRoot = Files.createTempDirectory("hookbase");
+    }
+
+    TestCompilation source(String className, String body) throws IOException {
+        int dot = className.lastIndexOf('.');
+        Path file = mRoot.resolve("src").resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "package " + className.substring(0, dot) + ";\n" + body + "\n");
+        mSources.add(file);
+        return this;
+    }
+
+    TestCompilation module(String className, String annotation, String body) throws IOException {
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        return source(className, "import com.hchen.database.HookBase;\n"
+            + annotation + "\npublic class " + simpleName + " extends " + BASE_MODULE + " {\n" + body + "\n}");
+    }
+
+    /**
+     * 编译全部源码，失败时抛出包含错误信息的 AssertionError
+     */
+    ClassLoader compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path classes = Files.createDirectories(mRoot.resolve("classes"));
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = List.of(
+                "-d", classes.toString(),
+                "-s", Files.createDirectories(mRoot.resolve("generated")).toString(),
+                "-classpath", System.getProperty("java.class.path")
+            );
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                fileManager.getJavaFileObjects(mSources.toArray(new Path[0])));
+            task.setProcessors(List.of(new HookBaseProcessor()));
+            boolean success = task.call();
+            mDiagnostics.addAll(diagnostics.getDiagnostics());
+            if (!success) {
+                StringBuilder errors = new StringBuilder("Compilation failed:\n");
+                for (Diagnostic<? extends JavaFileObject> diagnostic : mDiagnostics) {
+                    if (diagnostic.getKind() == Diagnostic.Kind.ERROR) errors.append(diagnostic).append('\n');
+                }
+                throw new AssertionError(errors.toString());
+            }
+        }
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, TestCompilation.class.getClassLoader());
+    }
+
+    /**
+     * 编译期间产生的全部警告信息
+     */
+    List<String> warnings() {
+        List<String> warnings = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : mDiagnostics) {
+            if (diagnostic.getKind() == Diagnostic.Kind.WARNING) warnings.add(diagnostic.getMessage(null));
+        }
+        return warnings;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (Stream<Path> walk = Files.walk(mRoot)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}